@@ -140,6 +140,36 @@ tasks.register<Test>("integrationTestFlaky") {
     systemProperty("junit.jupiter.execution.timeout.default", "5m")
 }
 
+// JMH related tasks
+
+val jmh by sourceSets.creating {
+    java.srcDir("src/jmh/java")
+    resources.srcDir("src/jmh/resources")
+    compileClasspath += sourceSets["main"].runtimeClasspath
+    runtimeClasspath += sourceSets["main"].runtimeClasspath
+    java.destinationDirectory.set(layout.buildDirectory.dir("jmhClasses"))
+}
+
+dependencies {
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:1.27")
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:1.27")
+    "jmhImplementation"("org.openjdk.jmh:jmh-generator-annprocess:1.27")
+}
+
+tasks.register<JavaExec>("jmh") {
+    dependsOn(tasks.getByPath(":extractNatives"), tasks.named("jmhClasses"))
+    mainClass.set("org.openjdk.jmh.Main")
+    classpath = jmh.compileClasspath + jmh.runtimeClasspath
+}
+
+tasks.register<JavaExec>("serverBenchmark") {
+    dependsOn(tasks.getByPath(":extractNatives"), tasks.named("jmhClasses"))
+    group = "Verification"
+    description = "Runs a headless server with host-scripted clients and reports tick times, chunk generation, GC and network"
+    mainClass.set("org.terasology.benchmark.server.ServerTickHarness")
+    classpath = jmh.compileClasspath + jmh.runtimeClasspath
+}
+
 idea {
     module {
         // Change around the output a bit
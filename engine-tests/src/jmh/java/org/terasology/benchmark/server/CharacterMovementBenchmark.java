@@ -0,0 +1,138 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.benchmark.server;
+
+import org.joml.Vector3f;
+import org.joml.Vector3i;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.terasology.engine.context.Context;
+import org.terasology.engine.core.TerasologyEngine;
+import org.terasology.engine.core.Time;
+import org.terasology.engine.entitySystem.entity.EntityManager;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.integrationenvironment.Engines;
+import org.terasology.engine.integrationenvironment.MainLoop;
+import org.terasology.engine.logic.characters.AliveCharacterComponent;
+import org.terasology.engine.logic.characters.CharacterMoveInputEvent;
+import org.terasology.engine.logic.characters.CharacterMovementComponent;
+import org.terasology.engine.logic.characters.PredictionSystem;
+import org.terasology.engine.logic.characters.ServerCharacterPredictionSystem;
+import org.terasology.engine.logic.location.LocationComponent;
+import org.terasology.engine.network.NetworkMode;
+import org.terasology.engine.world.WorldProvider;
+import org.terasology.engine.world.block.Block;
+import org.terasology.engine.world.block.BlockManager;
+import org.terasology.engine.world.block.BlockRegion;
+import org.terasology.unittest.worlds.DummyWorldGenerator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples the tick time of a server moving 200 characters, each of which sends input every tick, with the input applied
+ * as it arrives or batched per tick.
+ * <p>
+ * The characters stand in a grid on a floor of solid blocks, far enough apart that they cannot reach each other during a
+ * tick, and walk back and forth along the floor. Nothing but the floor is near them, so their sweeps are answered from
+ * the block data.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 1, time = 10)
+@Measurement(iterations = 3, time = 10)
+@State(Scope.Benchmark)
+public class CharacterMovementBenchmark {
+    private static final int MOVERS = 200;
+    private static final int COLUMNS = 20;
+    private static final int SPACING = 12;
+    private static final int BORDER = 8;
+    /** How long the characters walk in one direction before turning, in milliseconds. */
+    private static final long TURN_INTERVAL = 1000;
+    private static final int SETTLE_TICKS = 20;
+
+    @Param({"false", "true"})
+    private boolean batched;
+
+    private Engines engines;
+    private TerasologyEngine host;
+    private Time time;
+    private final List<EntityRef> movers = new ArrayList<>();
+    private int sequence;
+    private long lastInputTime;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        engines = new Engines(Collections.emptyList(), Engines.DEFAULT_WORLD_GENERATOR, NetworkMode.NONE,
+                Collections.emptyList());
+        engines.setup();
+        host = engines.getEngines().get(0);
+        Context context = engines.getHostContext();
+        time = context.get(Time.class);
+
+        int floorY = DummyWorldGenerator.SURFACE_HEIGHT;
+        int rows = (MOVERS + COLUMNS - 1) / COLUMNS;
+        BlockRegion floor = new BlockRegion(0, floorY, 0,
+                (COLUMNS - 1) * SPACING + 2 * BORDER, floorY, (rows - 1) * SPACING + 2 * BORDER);
+        MainLoop mainLoop = new MainLoop(engines);
+        mainLoop.runUntil(mainLoop.makeBlocksRelevant(new BlockRegion(floor).expand(0, 4, 0)));
+
+        WorldProvider worldProvider = context.get(WorldProvider.class);
+        Block solid = context.get(BlockManager.class).getBlock("unittest:solid");
+        for (int x = floor.minX(); x <= floor.maxX(); x++) {
+            for (int z = floor.minZ(); z <= floor.maxZ(); z++) {
+                worldProvider.setBlock(new Vector3i(x, floorY, z), solid);
+            }
+        }
+
+        EntityManager entityManager = context.get(EntityManager.class);
+        for (int i = 0; i < MOVERS; i++) {
+            CharacterMovementComponent movement = new CharacterMovementComponent();
+            Vector3f position = new Vector3f(BORDER + (i % COLUMNS) * SPACING, floorY + 0.5f + movement.height / 2,
+                    BORDER + (i / COLUMNS) * SPACING);
+            movers.add(entityManager.create(new LocationComponent(position), movement, new AliveCharacterComponent()));
+        }
+        ((ServerCharacterPredictionSystem) context.get(PredictionSystem.class)).setBatchedMovement(batched);
+
+        // Lets the colliders of the characters be established and the characters land
+        lastInputTime = time.getGameTimeInMs();
+        for (int i = 0; i < SETTLE_TICKS; i++) {
+            serverTick();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        engines.tearDown();
+        movers.clear();
+    }
+
+    @Benchmark
+    public void serverTick() {
+        long now = time.getGameTimeInMs();
+        long delta = Math.max(1, now - lastInputTime);
+        lastInputTime = now;
+        Vector3f direction = new Vector3f((now / TURN_INTERVAL) % 2 == 0 ? 1 : -1, 0, 0);
+        for (EntityRef mover : movers) {
+            mover.send(new CharacterMoveInputEvent(sequence++, 0, 0, direction, false, false, delta));
+        }
+        if (!host.tick()) {
+            throw new IllegalStateException("Host has shut down: " + host.getStatus());
+        }
+    }
+}
@@ -0,0 +1,58 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.benchmark.server;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples the tick time of a headless server with connected clients whose characters are scripted on the server, see
+ * {@link ServerTickHarness}.
+ * <p>
+ * JMH reports the tick time percentiles; the harness' own report with chunk generation, garbage collection and network
+ * figures is printed at the end of every trial.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 1, time = 10)
+@Measurement(iterations = 3, time = 10)
+@State(Scope.Benchmark)
+public class ServerTickBenchmark {
+
+    @Param({"1", "4"})
+    private int clients;
+
+    private ServerTickHarness harness;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        harness = new ServerTickHarness(clients);
+        harness.start();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.out.println(harness.report());
+        harness.stop();
+    }
+
+    @Benchmark
+    public long serverTick() {
+        return harness.tick();
+    }
+}
@@ -0,0 +1,267 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.benchmark.server;
+
+import com.sun.management.ThreadMXBean;
+import org.joml.Vector3f;
+import org.joml.Vector3i;
+import org.terasology.engine.context.Context;
+import org.terasology.engine.core.TerasologyEngine;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.event.internal.EventReceiver;
+import org.terasology.engine.entitySystem.event.internal.EventSystem;
+import org.terasology.engine.integrationenvironment.Engines;
+import org.terasology.engine.integrationenvironment.MainLoop;
+import org.terasology.engine.logic.characters.CharacterTeleportEvent;
+import org.terasology.engine.monitoring.impl.LatencyHistogram;
+import org.terasology.engine.network.Client;
+import org.terasology.engine.network.ClientComponent;
+import org.terasology.engine.network.NetworkMode;
+import org.terasology.engine.network.NetworkSystem;
+import org.terasology.engine.world.WorldComponent;
+import org.terasology.engine.world.WorldProvider;
+import org.terasology.engine.world.block.Block;
+import org.terasology.engine.world.block.BlockManager;
+import org.terasology.engine.world.chunks.event.OnChunkGenerated;
+import org.terasology.unittest.worlds.DummyWorldGenerator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs a headless server with a number of connected clients whose characters are scripted on the server, and measures
+ * the server's ticks.
+ * <p>
+ * The server runs the {@code unittest:dummy} world with the fixed seed of the integration environment. Every character
+ * moves away from the spawn in its own direction, which keeps the server generating and sending chunks, and regularly
+ * toggles a block next to it, which exercises block changes, their entities and their replication. Only the server's
+ * ticks are timed; the clients run in the same thread between them.
+ * <p>
+ * This is a host-only simulation: the harness does not drive any input on the clients. The host teleports their
+ * characters and sets the blocks directly, so the cost of receiving and validating client input, such as movement
+ * prediction and activation requests, is not part of the measured ticks. What is measured is chunk generation, world and
+ * entity updates, and replication to the clients.
+ * <p>
+ * Besides tick time percentiles, the report covers the chunk generation rate, the garbage collector's work, the bytes
+ * allocated by all threads and the bytes the server sent. Nothing needs a GPU.
+ * <p>
+ * Run standalone with {@code gradlew :engine-tests:serverBenchmark --args="<clients> <ticks>"}, or through JMH with
+ * {@link ServerTickBenchmark}.
+ */
+public class ServerTickHarness {
+    private static final int DEFAULT_CLIENTS = 4;
+    private static final int DEFAULT_TICKS = 2000;
+    private static final int WARMUP_TICKS = 200;
+
+    /** How far each client walks per tick, in blocks. */
+    private static final float CLIENT_SPEED = 0.5f;
+    private static final int EDIT_INTERVAL = 10;
+
+    private final int clientCount;
+    private final Engines engines;
+    private final List<TerasologyEngine> clientEngines = new ArrayList<>();
+
+    private TerasologyEngine host;
+    private NetworkSystem networkSystem;
+    private WorldProvider worldProvider;
+    private Block air;
+    private Block solid;
+    private EventSystem eventSystem;
+    private final EventReceiver<OnChunkGenerated> chunkCounter = (event, entity) -> chunksGenerated++;
+
+    private final LatencyHistogram tickTimes = new LatencyHistogram();
+    private long tick;
+    private long chunksGenerated;
+    private long bytesSent;
+    private long blockEdits;
+    private long startNanos;
+    private long startGcCount;
+    private long startGcMillis;
+    private long startAllocatedBytes;
+
+    public ServerTickHarness(int clientCount) {
+        this.clientCount = clientCount;
+        this.engines = new Engines(Collections.emptyList(), Engines.DEFAULT_WORLD_GENERATOR, NetworkMode.LISTEN_SERVER,
+                Collections.emptyList());
+    }
+
+    /**
+     * Starts the server, connects the clients and runs a few ticks so that start-up work is not measured.
+     */
+    public void start() {
+        engines.setup();
+        host = engines.getEngines().get(0);
+        MainLoop mainLoop = new MainLoop(engines);
+        try {
+            for (int i = 0; i < clientCount; i++) {
+                engines.createClient(mainLoop);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        clientEngines.addAll(engines.getEngines().subList(1, engines.getEngines().size()));
+
+        Context hostContext = engines.getHostContext();
+        networkSystem = hostContext.get(NetworkSystem.class);
+        worldProvider = hostContext.get(WorldProvider.class);
+        BlockManager blockManager = hostContext.get(BlockManager.class);
+        air = blockManager.getBlock(BlockManager.AIR_ID);
+        solid = blockManager.getBlock("unittest:solid");
+        eventSystem = hostContext.get(EventSystem.class);
+        eventSystem.registerEventReceiver(chunkCounter, OnChunkGenerated.class, WorldComponent.class);
+
+        for (int i = 0; i < WARMUP_TICKS; i++) {
+            tick();
+        }
+        resetStatistics();
+    }
+
+    /**
+     * Moves the scripted characters on the host and runs one server tick, followed by one tick of every client.
+     *
+     * @return the time the server's tick took, in nanoseconds
+     */
+    public long tick() {
+        tick++;
+        scriptCharacters();
+
+        long start = System.nanoTime();
+        if (!host.tick()) {
+            throw new IllegalStateException("Host has shut down: " + host.getStatus());
+        }
+        long duration = System.nanoTime() - start;
+        tickTimes.record(duration);
+        bytesSent += networkSystem.getOutgoingBytesDelta();
+
+        for (TerasologyEngine client : clientEngines) {
+            client.tick();
+        }
+        return duration;
+    }
+
+    public void stop() {
+        eventSystem.unregisterEventReceiver(chunkCounter, OnChunkGenerated.class, WorldComponent.class);
+        engines.tearDown();
+        clientEngines.clear();
+    }
+
+    public void resetStatistics() {
+        tickTimes.reset();
+        chunksGenerated = 0;
+        bytesSent = 0;
+        blockEdits = 0;
+        startNanos = System.nanoTime();
+        startGcCount = gcCount();
+        startGcMillis = gcMillis();
+        startAllocatedBytes = allocatedBytes();
+    }
+
+    public String report() {
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        long allocated = allocatedBytes() - startAllocatedBytes;
+        return String.format(Locale.ROOT,
+                "%d clients, %d server ticks in %.1f s%n"
+                        + "  tick time: p50 %.2f ms, p90 %.2f ms, p99 %.2f ms, max %.2f ms%n"
+                        + "  chunks generated: %d (%.1f/s)%n"
+                        + "  block edits: %d%n"
+                        + "  gc: %d collections, %d ms%n"
+                        + "  allocated: %s%n"
+                        + "  sent: %d KiB (%.1f KiB/s)",
+                clientCount, tickTimes.getCount(), seconds,
+                toMillis(tickTimes.getPercentile(50)), toMillis(tickTimes.getPercentile(90)),
+                toMillis(tickTimes.getPercentile(99)), toMillis(tickTimes.getMax()),
+                chunksGenerated, chunksGenerated / seconds,
+                blockEdits,
+                gcCount() - startGcCount, gcMillis() - startGcMillis,
+                allocated < 0 ? "unavailable" : String.format(Locale.ROOT, "%d MiB", allocated >> 20),
+                bytesSent >> 10, (bytesSent >> 10) / seconds);
+    }
+
+    private void scriptCharacters() {
+        int index = 0;
+        for (Client client : networkSystem.getPlayers()) {
+            ClientComponent clientComponent = client.getEntity().getComponent(ClientComponent.class);
+            EntityRef character = clientComponent != null ? clientComponent.character : EntityRef.NULL;
+            if (character.exists()) {
+                double angle = 2 * Math.PI * index / Math.max(1, clientCount);
+                float distance = CLIENT_SPEED * tick;
+                Vector3f target = new Vector3f((float) Math.cos(angle) * distance, DummyWorldGenerator.SURFACE_HEIGHT + 2,
+                        (float) Math.sin(angle) * distance);
+                character.send(new CharacterTeleportEvent(target));
+                if (tick % EDIT_INTERVAL == 0) {
+                    toggleBlock(new Vector3i((int) target.x + 2, DummyWorldGenerator.SURFACE_HEIGHT, (int) target.z));
+                }
+            }
+            index++;
+        }
+    }
+
+    /**
+     * Toggles a block on the host, as the world would after a client's request.
+     */
+    private void toggleBlock(Vector3i pos) {
+        if (worldProvider.isBlockRelevant(pos)) {
+            worldProvider.setBlock(pos, worldProvider.getBlock(pos) == air ? solid : air);
+            blockEdits++;
+        }
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    private static long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, gc.getCollectionCount());
+        }
+        return count;
+    }
+
+    private static long gcMillis() {
+        long millis = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            millis += Math.max(0, gc.getCollectionTime());
+        }
+        return millis;
+    }
+
+    /**
+     * @return the bytes allocated so far by all live threads, or -1 if the JVM cannot tell
+     */
+    private static long allocatedBytes() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof ThreadMXBean) || !((ThreadMXBean) bean).isThreadAllocatedMemoryEnabled()) {
+            return -1;
+        }
+        long total = 0;
+        for (long allocated : ((ThreadMXBean) bean).getThreadAllocatedBytes(bean.getAllThreadIds())) {
+            total += Math.max(0, allocated);
+        }
+        return total;
+    }
+
+    public static void main(String[] args) {
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_CLIENTS;
+        int ticks = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_TICKS;
+
+        ServerTickHarness harness = new ServerTickHarness(clients);
+        harness.start();
+        try {
+            for (int i = 0; i < ticks; i++) {
+                harness.tick();
+            }
+            System.out.println(harness.report());
+        } finally {
+            harness.stop();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.benchmark.server;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.terasology.engine.core.ComponentSystemManager;
+import org.terasology.engine.entitySystem.systems.BaseComponentSystem;
+import org.terasology.engine.entitySystem.systems.ComponentAccess;
+import org.terasology.engine.entitySystem.systems.UpdateSubscriberSystem;
+import org.terasology.engine.integrationenvironment.Engines;
+import org.terasology.engine.network.NetworkMode;
+import org.terasology.unittest.stubs.DummyComponent;
+import org.terasology.unittest.stubs.IntegerComponent;
+import org.terasology.unittest.stubs.StringComponent;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples the time it takes to update the systems of a dedicated server once, with every system on the main thread and
+ * with non-conflicting systems in parallel.
+ * <p>
+ * Next to the engine's own systems, it registers a few gameplay-like systems that declare their component access.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 1, time = 10)
+@Measurement(iterations = 3, time = 10)
+@State(Scope.Benchmark)
+public class SystemUpdateBenchmark {
+    private static final float TICK = 1 / 60f;
+
+    @Param({"false", "true"})
+    private boolean parallel;
+
+    private Engines engines;
+    private ComponentSystemManager componentSystemManager;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        engines = new Engines(Collections.emptyList(), Engines.DEFAULT_WORLD_GENERATOR, NetworkMode.DEDICATED_SERVER,
+                Collections.emptyList());
+        engines.setup();
+        componentSystemManager = engines.getHostContext().get(ComponentSystemManager.class);
+        componentSystemManager.register(new IntegerWorkload());
+        componentSystemManager.register(new StringWorkload());
+        componentSystemManager.register(new DummyWorkload());
+        componentSystemManager.setParallelUpdates(parallel);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        engines.tearDown();
+    }
+
+    @Benchmark
+    public void updateSystems() {
+        componentSystemManager.updateSystems(TICK);
+    }
+
+    /**
+     * Stands in for gameplay logic that only works on its own components.
+     */
+    private abstract static class WorkloadSystem extends BaseComponentSystem implements UpdateSubscriberSystem {
+        private double state;
+
+        @Override
+        public void update(float delta) {
+            double value = state;
+            for (int i = 0; i < 200_000; i++) {
+                value = Math.sin(value + delta * i);
+            }
+            state = value;
+        }
+    }
+
+    @ComponentAccess(writes = IntegerComponent.class)
+    private static class IntegerWorkload extends WorkloadSystem {
+    }
+
+    @ComponentAccess(writes = StringComponent.class)
+    private static class StringWorkload extends WorkloadSystem {
+    }
+
+    @ComponentAccess(reads = IntegerComponent.class, writes = DummyComponent.class)
+    private static class DummyWorkload extends WorkloadSystem {
+    }
+}
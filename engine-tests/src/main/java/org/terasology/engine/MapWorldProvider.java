@@ -47,7 +47,7 @@ public MapWorldProvider(WorldGenerator worldGenerator, BlockManager blockManager
 
     @Override
     public EntityRef getWorldEntity() {
-        return null;
+        return EntityRef.NULL;
     }
 
     @Override
@@ -77,6 +77,29 @@ public Block setBlock(Vector3ic pos, Block type) {
         return blocks.put(new Vector3i(pos), type);
     }
 
+    @Override
+    public int setBlockIds(BlockRegionc region, short[] blockIds, short[] previousIds) {
+        Vector3i pos = new Vector3i();
+        int changed = 0;
+        int index = 0;
+        for (int x = region.minX(); x <= region.maxX(); x++) {
+            for (int y = region.minY(); y <= region.maxY(); y++) {
+                for (int z = region.minZ(); z <= region.maxZ(); z++, index++) {
+                    Block block = blockManager.getBlock(blockIds[index]);
+                    Block previous = getBlock(x, y, z);
+                    setBlock(pos.set(x, y, z), block);
+                    if (previous != block) {
+                        changed++;
+                    }
+                    if (previousIds != null) {
+                        previousIds[index] = previous.getId();
+                    }
+                }
+            }
+        }
+        return changed;
+    }
+
     @Override
     public Block getBlock(int x, int y, int z) {
         Vector3i pos = new Vector3i(x, y, z);
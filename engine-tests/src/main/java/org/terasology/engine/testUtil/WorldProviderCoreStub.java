@@ -9,6 +9,7 @@
 import org.terasology.engine.entitySystem.entity.EntityRef;
 import org.terasology.engine.world.WorldChangeListener;
 import org.terasology.engine.world.block.Block;
+import org.terasology.engine.world.block.BlockManager;
 import org.terasology.engine.world.block.BlockRegionc;
 import org.terasology.engine.world.internal.ChunkViewCore;
 import org.terasology.engine.world.internal.WorldInfo;
@@ -26,14 +27,21 @@ public class WorldProviderCoreStub implements WorldProviderCore {
     private Map<Vector3ic, Block> blocks = Maps.newHashMap();
     private ArrayList<Map<Vector3ic, Integer>> extraData = new ArrayList<>();
     private Block air;
+    private BlockManager blockManager;
+    private EntityRef worldEntity = EntityRef.NULL;
 
-    public WorldProviderCoreStub(Block air) {
+    public WorldProviderCoreStub(Block air, BlockManager blockManager) {
         this.air = air;
+        this.blockManager = blockManager;
     }
 
     @Override
     public EntityRef getWorldEntity() {
-        return EntityRef.NULL;
+        return worldEntity;
+    }
+
+    public void setWorldEntity(EntityRef worldEntity) {
+        this.worldEntity = worldEntity;
     }
 
     @Override
@@ -99,6 +107,29 @@ public Block setBlock(Vector3ic pos, Block type) {
         return old;
     }
 
+    @Override
+    public int setBlockIds(BlockRegionc region, short[] blockIds, short[] previousIds) {
+        Vector3i pos = new Vector3i();
+        int changed = 0;
+        int index = 0;
+        for (int x = region.minX(); x <= region.maxX(); x++) {
+            for (int y = region.minY(); y <= region.maxY(); y++) {
+                for (int z = region.minZ(); z <= region.maxZ(); z++, index++) {
+                    Block block = blockManager.getBlock(blockIds[index]);
+                    Block previous = getBlock(x, y, z);
+                    setBlock(pos.set(x, y, z), block);
+                    if (previous != block) {
+                        changed++;
+                    }
+                    if (previousIds != null) {
+                        previousIds[index] = previous.getId();
+                    }
+                }
+            }
+        }
+        return changed;
+    }
+
     @Override
     public Block getBlock(int x, int y, int z) {
         Block result = blocks.get(new Vector3i(x, y, z));
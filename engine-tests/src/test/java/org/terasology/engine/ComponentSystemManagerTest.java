@@ -33,6 +33,7 @@
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -71,6 +72,20 @@ public void testShutdownRemovesUpdateSubscribers() {
         assertEquals(Iterables.size(systemUnderTest.iterateUpdateSubscribers()), 0);
     }
 
+    @Test
+    public void testUpdateSystemsUpdatesSubscribersRegisteredLater() {
+        UpdateSubscriberSystem first = mock(UpdateSubscriberSystem.class);
+        UpdateSubscriberSystem second = mock(UpdateSubscriberSystem.class);
+
+        systemUnderTest.register(first);
+        systemUnderTest.updateSystems(0.5f);
+        systemUnderTest.register(second);
+        systemUnderTest.updateSystems(0.5f);
+
+        verify(first, times(2)).update(0.5f);
+        verify(second).update(0.5f);
+    }
+
     @Test
     public void testRegisterRenderSystemAddsRenderSubscriber() {
         RenderSystem system = mock(RenderSystem.class);
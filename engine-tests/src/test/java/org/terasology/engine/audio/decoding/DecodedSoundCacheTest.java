@@ -0,0 +1,58 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.audio.decoding;
+
+import com.google.common.hash.HashCode;
+import org.junit.jupiter.api.Test;
+import org.terasology.engine.audio.StaticSoundData;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class DecodedSoundCacheTest {
+
+    @Test
+    public void testLeastRecentlyUsedIsEvicted() {
+        DecodedSoundCache cache = new DecodedSoundCache(100, 250);
+        cache.put(HashCode.fromInt(1), sound(100));
+        cache.put(HashCode.fromInt(2), sound(100));
+        cache.get(HashCode.fromInt(1));
+
+        cache.put(HashCode.fromInt(3), sound(100));
+
+        assertNotNull(cache.get(HashCode.fromInt(1)));
+        assertNull(cache.get(HashCode.fromInt(2)));
+        assertNotNull(cache.get(HashCode.fromInt(3)));
+        assertEquals(200, cache.getTotalBytes());
+    }
+
+    @Test
+    public void testLongSoundsAreNotCached() {
+        DecodedSoundCache cache = new DecodedSoundCache(100, 1000);
+
+        cache.put(HashCode.fromInt(1), sound(101));
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testHitsDoNotShareBufferPositions() {
+        DecodedSoundCache cache = new DecodedSoundCache(100, 1000);
+        cache.put(HashCode.fromInt(1), sound(10));
+
+        StaticSoundData first = cache.get(HashCode.fromInt(1));
+        first.getData().position(10);
+        StaticSoundData second = cache.get(HashCode.fromInt(1));
+
+        assertEquals(10, second.getData().remaining());
+        assertEquals(2, second.getChannels());
+        assertEquals(22050, second.getSampleRate());
+    }
+
+    private static StaticSoundData sound(int bytes) {
+        return new StaticSoundData(ByteBuffer.allocateDirect(bytes), 2, 22050, 16);
+    }
+}
@@ -0,0 +1,156 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.audio.decoding;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.terasology.engine.audio.StaticSoundData;
+import org.terasology.engine.audio.StreamingSoundData;
+import org.terasology.engine.audio.formats.OggSoundFormat;
+import org.terasology.engine.audio.formats.OggStreamingSoundData;
+import org.terasology.gestalt.assets.ResourceUrn;
+import org.terasology.gestalt.assets.format.AssetDataFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class PrefetchingStreamTest {
+    private static final int BUFFER_SIZE = 64;
+    private static final String SOUND = "/org/terasology/engine/assets/sounds/camera.ogg";
+
+    private final AudioDecoder decoder = new AudioDecoder(BUFFER_SIZE, 8);
+
+    @AfterEach
+    public void shutdown() {
+        decoder.shutdown();
+    }
+
+    @Test
+    public void testChunksArriveInOrder() {
+        PrefetchingStream stream = decoder.open(new CountingStream(10), 3);
+        stream.prefetch();
+
+        for (int i = 0; i < 10; i++) {
+            ByteBuffer data = stream.next();
+            assertNotNull(data, "chunk " + i);
+            assertEquals(i, data.get(0));
+            stream.release(data);
+        }
+        assertNull(stream.next());
+    }
+
+    @Test
+    public void testWorkerDecodesAhead() throws InterruptedException {
+        PrefetchingStream stream = decoder.open(new CountingStream(10), 3);
+
+        stream.prefetch();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (stream.getReadyCount() < 3 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+
+        assertEquals(3, stream.getReadyCount());
+    }
+
+    @Test
+    public void testDecodesOnCallerWithoutWorker() {
+        decoder.shutdown();
+        PrefetchingStream stream = decoder.open(new CountingStream(10), 3);
+        stream.release(stream.next());
+        stream.release(stream.next());
+
+        stream.reset();
+
+        ByteBuffer data = stream.next();
+        assertEquals(0, data.get(0));
+        assertEquals(0, decoder.getBufferPool().getPooledCount());
+        stream.release(data);
+        assertEquals(1, decoder.getBufferPool().getPooledCount());
+    }
+
+    @Test
+    public void testPrefetchedOggMatchesFullDecode() throws IOException {
+        AssetDataFile file = mock(AssetDataFile.class);
+        when(file.openStream()).thenAnswer(invocation -> open());
+        StaticSoundData full = new OggSoundFormat().load(new ResourceUrn("engine:camera"), Collections.singletonList(file));
+        OggStreamingSoundData streaming = new OggStreamingSoundData(file);
+        AudioDecoder oggDecoder = new AudioDecoder(AudioDecoder.DEFAULT_BUFFER_SIZE, 4);
+        PrefetchingStream stream = oggDecoder.open(streaming, 4);
+
+        try {
+            ByteBuffer expected = full.getData().duplicate();
+            ByteBuffer data;
+            while ((data = stream.next()) != null) {
+                while (data.hasRemaining()) {
+                    assertEquals(expected.get(), data.get());
+                }
+                stream.release(data);
+            }
+            assertEquals(0, expected.remaining());
+        } finally {
+            oggDecoder.shutdown();
+            streaming.dispose();
+        }
+    }
+
+    private InputStream open() {
+        return getClass().getResourceAsStream(SOUND);
+    }
+
+    /**
+     * Produces full chunks whose bytes are the index of the chunk.
+     */
+    private static final class CountingStream implements StreamingSoundData {
+        private final int chunks;
+        private int next;
+
+        CountingStream(int chunks) {
+            this.chunks = chunks;
+        }
+
+        @Override
+        public ByteBuffer readNextInto(ByteBuffer dataBuffer) {
+            dataBuffer.clear();
+            if (next < chunks) {
+                while (dataBuffer.hasRemaining()) {
+                    dataBuffer.put((byte) next);
+                }
+                next++;
+            }
+            dataBuffer.flip();
+            return dataBuffer;
+        }
+
+        @Override
+        public int getChannels() {
+            return 1;
+        }
+
+        @Override
+        public int getBufferBits() {
+            return 16;
+        }
+
+        @Override
+        public int getSamplingRate() {
+            return 44100;
+        }
+
+        @Override
+        public void reset() {
+            next = 0;
+        }
+
+        @Override
+        public void dispose() {
+        }
+    }
+}
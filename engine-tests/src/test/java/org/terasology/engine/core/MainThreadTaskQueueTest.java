@@ -0,0 +1,75 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class MainThreadTaskQueueTest {
+
+    private final MainThreadTaskQueue queue = new MainThreadTaskQueue();
+    private final List<String> ran = new ArrayList<>();
+
+    @Test
+    public void testHigherPrioritiesRunFirst() {
+        queue.submit(TaskPriority.CHUNK_ACTIVATION, () -> ran.add("chunk"));
+        queue.submit(TaskPriority.GL_UPLOAD, () -> ran.add("upload"));
+        queue.submit(TaskPriority.UI, () -> ran.add("ui"));
+        queue.submit(TaskPriority.DEFAULT, () -> ran.add("default"));
+
+        assertEquals(4, queue.runAll());
+        assertEquals(List.of("ui", "default", "upload", "chunk"), ran);
+    }
+
+    @Test
+    public void testTasksOfAPriorityRunInSubmissionOrder() {
+        queue.submit(TaskPriority.DEFAULT, () -> ran.add("first"));
+        queue.submit(TaskPriority.DEFAULT, () -> ran.add("second"));
+
+        queue.runAll();
+
+        assertEquals(List.of("first", "second"), ran);
+    }
+
+    @Test
+    public void testWorkOverBudgetIsCarriedOver() {
+        for (int i = 0; i < 3; i++) {
+            queue.submit(TaskPriority.GL_UPLOAD, () -> ran.add("upload"));
+        }
+        queue.submit(TaskPriority.UI, () -> ran.add("ui"));
+
+        // without budget, only one task of every priority runs
+        assertEquals(2, queue.run(0));
+        assertEquals(List.of("ui", "upload"), ran);
+        assertEquals(2, queue.getPendingCount(TaskPriority.GL_UPLOAD));
+
+        assertEquals(2, queue.runAll());
+        assertEquals(0, queue.getPendingCount(TaskPriority.GL_UPLOAD));
+    }
+
+    @Test
+    public void testQueueLatencyRecorded() {
+        queue.submit(TaskPriority.UI, () -> { });
+        queue.submit(TaskPriority.UI, () -> { });
+
+        queue.runAll();
+
+        assertEquals(2, queue.getQueueLatency(TaskPriority.UI).getCount());
+        assertEquals(0, queue.getQueueLatency(TaskPriority.DEFAULT).getCount());
+    }
+
+    @Test
+    public void testClearDropsTasks() {
+        queue.submit(TaskPriority.DEFAULT, () -> ran.add("dropped"));
+
+        queue.clear();
+
+        assertEquals(0, queue.runAll());
+        assertEquals(0, queue.getPendingCount(TaskPriority.DEFAULT));
+        assertEquals(List.of(), ran);
+    }
+}
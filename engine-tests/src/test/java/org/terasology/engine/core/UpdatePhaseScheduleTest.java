@@ -0,0 +1,147 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.core;
+
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.terasology.engine.entitySystem.systems.BaseComponentSystem;
+import org.terasology.engine.entitySystem.systems.ComponentAccess;
+import org.terasology.engine.entitySystem.systems.UpdateSubscriberSystem;
+import org.terasology.unittest.stubs.IntegerComponent;
+import org.terasology.unittest.stubs.StringComponent;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class UpdatePhaseScheduleTest {
+
+    private final ExecutorService workers = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    @Test
+    public void testUndeclaredSystemsRunAlone() {
+        UndeclaredSystem first = new UndeclaredSystem();
+        UndeclaredSystem second = new UndeclaredSystem();
+        UpdatePhaseSchedule schedule = new UpdatePhaseSchedule(Lists.newArrayList(first, second));
+
+        assertThat(schedule.getPhases()).containsExactly(Lists.newArrayList(first), Lists.newArrayList(second)).inOrder();
+        assertFalse(schedule.isParallel());
+    }
+
+    @Test
+    public void testNonConflictingSystemsShareAPhase() {
+        StringWriter stringWriter = new StringWriter();
+        IntegerWriter integerWriter = new IntegerWriter();
+        StringReader stringReader = new StringReader();
+        UpdatePhaseSchedule schedule = new UpdatePhaseSchedule(Lists.newArrayList(stringWriter, integerWriter, stringReader));
+
+        assertThat(schedule.getPhases()).containsExactly(
+                Lists.newArrayList(stringWriter, integerWriter),
+                Lists.newArrayList(stringReader)).inOrder();
+        assertTrue(schedule.isParallel());
+    }
+
+    @Test
+    public void testReadersShareAPhase() {
+        StringReader first = new StringReader();
+        StringReader second = new StringReader();
+        UpdatePhaseSchedule schedule = new UpdatePhaseSchedule(Lists.newArrayList(first, second));
+
+        assertThat(schedule.getPhases()).containsExactly(Lists.newArrayList(first, second));
+    }
+
+    @Test
+    public void testUndeclaredSystemIsABarrier() {
+        StringReader before = new StringReader();
+        UndeclaredSystem barrier = new UndeclaredSystem();
+        IntegerWriter after = new IntegerWriter();
+        UpdatePhaseSchedule schedule = new UpdatePhaseSchedule(Lists.newArrayList(before, barrier, after));
+
+        assertThat(schedule.getPhases()).containsExactly(
+                Lists.newArrayList(before), Lists.newArrayList(barrier), Lists.newArrayList(after)).inOrder();
+    }
+
+    @Test
+    public void testEverySystemIsUpdated() {
+        StringWriter stringWriter = new StringWriter();
+        IntegerWriter integerWriter = new IntegerWriter();
+        StringReader stringReader = new StringReader();
+        UndeclaredSystem undeclared = new UndeclaredSystem();
+        UpdatePhaseSchedule schedule = new UpdatePhaseSchedule(
+                Lists.newArrayList(stringWriter, integerWriter, stringReader, undeclared));
+
+        schedule.update(0.5f, workers);
+        schedule.update(0.5f, null);
+
+        for (CountingSystem system : Lists.newArrayList(stringWriter, integerWriter, stringReader, undeclared)) {
+            assertEquals(2, system.updates);
+        }
+    }
+
+    @Test
+    public void testParallelPhaseRunsOnWorkers() {
+        StringWriter stringWriter = new StringWriter();
+        IntegerWriter integerWriter = new IntegerWriter();
+        UpdatePhaseSchedule schedule = new UpdatePhaseSchedule(Lists.newArrayList(stringWriter, integerWriter));
+
+        schedule.update(0.5f, workers);
+
+        assertNotSame(Thread.currentThread(), stringWriter.thread);
+        assertNotSame(Thread.currentThread(), integerWriter.thread);
+    }
+
+    @Test
+    public void testWorkerFailureIsRethrown() {
+        StringWriter stringWriter = new StringWriter();
+        UpdatePhaseSchedule schedule = new UpdatePhaseSchedule(Lists.newArrayList(stringWriter, new FailingIntegerWriter()));
+
+        assertThrows(IllegalArgumentException.class, () -> schedule.update(0.5f, workers));
+        assertEquals(1, stringWriter.updates);
+    }
+
+    private static class CountingSystem extends BaseComponentSystem implements UpdateSubscriberSystem {
+        private volatile int updates;
+        private volatile Thread thread;
+
+        @Override
+        public void update(float delta) {
+            updates++;
+            thread = Thread.currentThread();
+        }
+    }
+
+    private static class UndeclaredSystem extends CountingSystem {
+    }
+
+    @ComponentAccess(writes = StringComponent.class)
+    private static class StringWriter extends CountingSystem {
+    }
+
+    @ComponentAccess(reads = StringComponent.class)
+    private static class StringReader extends CountingSystem {
+    }
+
+    @ComponentAccess(writes = IntegerComponent.class)
+    private static class IntegerWriter extends CountingSystem {
+    }
+
+    @ComponentAccess(writes = IntegerComponent.class)
+    private static class FailingIntegerWriter extends CountingSystem {
+        @Override
+        public void update(float delta) {
+            throw new IllegalArgumentException("test failure");
+        }
+    }
+}
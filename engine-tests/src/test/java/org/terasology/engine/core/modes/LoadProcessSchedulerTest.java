@@ -0,0 +1,143 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.engine.core.modes;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.MoreExecutors;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LoadProcessSchedulerTest {
+
+    private final List<String> log = Lists.newArrayList();
+
+    private static void runToCompletion(LoadProcessScheduler scheduler) throws ExecutionException {
+        while (!scheduler.isFinished()) {
+            scheduler.step();
+        }
+    }
+
+    @Test
+    public void undeclaredProcessesRunInOrder() throws ExecutionException {
+        LoadProcessScheduler scheduler = new LoadProcessScheduler(Lists.newArrayList(
+                new RecordingProcess("a", null, null, true),
+                new RecordingProcess("b", null, null, true),
+                new RecordingProcess("c", null, null, true)), MoreExecutors.newDirectExecutorService());
+
+        runToCompletion(scheduler);
+
+        assertThat(log).containsExactly("a", "b", "c").inOrder();
+    }
+
+    @Test
+    public void independentWorkerProcessStartsBeforeEarlierMainThreadProcess() throws ExecutionException {
+        LoadProcessScheduler scheduler = new LoadProcessScheduler(Lists.newArrayList(
+                new RecordingProcess("main", ImmutableSet.of(), ImmutableSet.of(String.class), true),
+                new RecordingProcess("worker", ImmutableSet.of(), ImmutableSet.of(Integer.class), false)),
+                MoreExecutors.newDirectExecutorService());
+
+        runToCompletion(scheduler);
+
+        assertThat(log).containsExactly("worker", "main").inOrder();
+    }
+
+    @Test
+    public void processWaitsForProviderOfRequiredType() throws ExecutionException {
+        LoadProcessScheduler scheduler = new LoadProcessScheduler(Lists.newArrayList(
+                new RecordingProcess("provider", ImmutableSet.of(), ImmutableSet.of(String.class), true),
+                new RecordingProcess("consumer", ImmutableSet.of(String.class), ImmutableSet.of(), false)),
+                MoreExecutors.newDirectExecutorService());
+
+        // the consumer is submitted as soon as the provider finishes
+        assertTrue(scheduler.step());
+        assertThat(log).containsExactly("provider", "consumer").inOrder();
+        assertFalse(scheduler.isFinished());
+
+        assertFalse(scheduler.step());
+        assertTrue(scheduler.isFinished());
+    }
+
+    @Test
+    public void workerFailureIsReported() {
+        LoadProcessScheduler scheduler = new LoadProcessScheduler(Lists.newArrayList(
+                new RecordingProcess("failing", ImmutableSet.of(), ImmutableSet.of(), false) {
+                    @Override
+                    public boolean step() {
+                        throw new IllegalStateException("test failure");
+                    }
+                }), MoreExecutors.newDirectExecutorService());
+
+        assertThrows(ExecutionException.class, () -> runToCompletion(scheduler));
+    }
+
+    @Test
+    public void interruptedWorkerIsReportedAsFailure() {
+        LoadProcessScheduler scheduler = new LoadProcessScheduler(Lists.newArrayList(
+                new RecordingProcess("interrupted", ImmutableSet.of(), ImmutableSet.of(), false) {
+                    @Override
+                    public boolean step() {
+                        Thread.currentThread().interrupt();
+                        return false;
+                    }
+                }), MoreExecutors.newDirectExecutorService());
+
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> runToCompletion(scheduler));
+        assertThat(failure).hasCauseThat().isInstanceOf(InterruptedException.class);
+        assertFalse(scheduler.isFinished());
+    }
+
+    private class RecordingProcess extends SingleStepLoadProcess {
+        private final String name;
+        private final Set<Class<?>> required;
+        private final Set<Class<?>> provided;
+        private final boolean mainThreadOnly;
+
+        RecordingProcess(String name, Set<Class<?>> required, Set<Class<?>> provided, boolean mainThreadOnly) {
+            this.name = name;
+            this.required = required;
+            this.provided = provided;
+            this.mainThreadOnly = mainThreadOnly;
+        }
+
+        @Override
+        public String getMessage() {
+            return name;
+        }
+
+        @Override
+        public boolean step() {
+            log.add(name);
+            return true;
+        }
+
+        @Override
+        public int getExpectedCost() {
+            return 1;
+        }
+
+        @Override
+        public Set<Class<?>> getRequiredTypes() {
+            return required;
+        }
+
+        @Override
+        public Set<Class<?>> getProvidedTypes() {
+            return provided;
+        }
+
+        @Override
+        public boolean isMainThreadOnly() {
+            return mainThreadOnly;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.engine.core.module;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.reflections.Reflections;
+import org.reflections.scanners.SubTypesScanner;
+import org.reflections.scanners.TypeAnnotationsScanner;
+import org.reflections.util.ClasspathHelper;
+import org.reflections.util.ConfigurationBuilder;
+import org.terasology.engine.core.subsystem.EngineSubsystem;
+import org.terasology.unittest.stubs.StubSubsystem;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ReflectionsCacheTest {
+
+    private static ConfigurationBuilder stubSubsystemScan() {
+        return new ConfigurationBuilder()
+                .setScanners(new TypeAnnotationsScanner(), new SubTypesScanner(false))
+                .addUrls(ClasspathHelper.forClass(StubSubsystem.class));
+    }
+
+    private static long countCacheFiles(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    @Test
+    public void cachedScanMatchesFreshScan(@TempDir Path cacheDirectory) throws IOException {
+        ReflectionsCache cache = new ReflectionsCache(cacheDirectory);
+
+        Reflections fresh = cache.scan(stubSubsystemScan(), "stub", "1.0.0");
+        assertThat(countCacheFiles(cacheDirectory)).isEqualTo(1);
+
+        Reflections cached = cache.scan(stubSubsystemScan(), "stub", "1.0.0");
+        assertThat(countCacheFiles(cacheDirectory)).isEqualTo(1);
+        assertThat(cached.getSubTypesOf(EngineSubsystem.class))
+                .containsExactlyElementsIn(fresh.getSubTypesOf(EngineSubsystem.class));
+        assertThat(cached.getSubTypesOf(EngineSubsystem.class)).contains(StubSubsystem.class);
+    }
+
+    @Test
+    public void versionChangeReplacesCache(@TempDir Path cacheDirectory) throws Exception {
+        assertNotEquals(ReflectionsCache.cacheKey(stubSubsystemScan(), "1.0.0"),
+                ReflectionsCache.cacheKey(stubSubsystemScan(), "1.0.1"));
+
+        ReflectionsCache cache = new ReflectionsCache(cacheDirectory);
+        cache.scan(stubSubsystemScan(), "stub", "1.0.0");
+        cache.scan(stubSubsystemScan(), "stub_with_suffix", "1.0.0");
+        cache.scan(stubSubsystemScan(), "stub", "1.0.1");
+        assertThat(countCacheFiles(cacheDirectory)).isEqualTo(2);
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            assertThat(files.map(file -> file.getFileName().toString()).filter(name -> name.startsWith("stub-"))
+                    .collect(Collectors.toList()))
+                    .containsExactly("stub-" + ReflectionsCache.cacheKey(stubSubsystemScan(), "1.0.1").get() + ".json");
+        }
+    }
+
+    @Test
+    public void archiveFingerprintFollowsSizeAndTime(@TempDir Path directory) throws Exception {
+        Path archive = directory.resolve("library.jar");
+        Files.write(archive, new byte[]{1, 2, 3});
+        Files.setLastModifiedTime(archive, FileTime.fromMillis(1000));
+        ConfigurationBuilder config = new ConfigurationBuilder().addUrls(archive.toUri().toURL());
+
+        Optional<String> key = ReflectionsCache.cacheKey(config, "1.0.0");
+        assertTrue(key.isPresent());
+        assertEquals(key, ReflectionsCache.cacheKey(config, "1.0.0"));
+        assertTrue(ReflectionsCache.cacheKey(new ConfigurationBuilder()
+                .addUrls(new URL("jar:" + archive.toUri() + "!/")), "1.0.0").isPresent());
+
+        Files.setLastModifiedTime(archive, FileTime.fromMillis(2000));
+        assertNotEquals(key, ReflectionsCache.cacheKey(config, "1.0.0"));
+    }
+
+    @Test
+    public void remoteUrlsAreNotCached() throws Exception {
+        ConfigurationBuilder config = new ConfigurationBuilder().addUrls(new URL("http://example.com/library.jar"));
+        assertFalse(ReflectionsCache.cacheKey(config, "1.0.0").isPresent());
+    }
+
+    @Test
+    public void unusedEntriesAreRemoved(@TempDir Path cacheDirectory) throws IOException {
+        ReflectionsCache cache = new ReflectionsCache(cacheDirectory);
+        cache.scan(stubSubsystemScan(), "stub", "1.0.0");
+        cache.removeUnusedEntries();
+        assertThat(countCacheFiles(cacheDirectory)).isEqualTo(1);
+
+        Instant unused = Instant.now().minus(Duration.ofDays(ReflectionsCache.MAX_UNUSED_DAYS + 1));
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            for (Path file : files.collect(Collectors.toList())) {
+                Files.setLastModifiedTime(file, FileTime.from(unused));
+            }
+        }
+        cache.removeUnusedEntries();
+        assertThat(countCacheFiles(cacheDirectory)).isEqualTo(0);
+    }
+}
@@ -5,13 +5,16 @@
 import com.google.common.collect.Lists;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
+import org.joml.Vector3f;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.terasology.engine.context.Context;
 import org.terasology.engine.context.internal.ContextImpl;
 import org.terasology.engine.core.bootstrap.EntitySystemSetupUtil;
 import org.terasology.engine.core.module.ModuleManager;
 import org.terasology.engine.entitySystem.entity.EntityManager;
 import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.entity.internal.EngineEntityPool;
 import org.terasology.engine.entitySystem.entity.internal.PojoEntityManager;
 import org.terasology.engine.entitySystem.entity.internal.PojoEntityPool;
 import org.terasology.engine.entitySystem.entity.lifecycleEvents.BeforeDeactivateComponent;
@@ -23,6 +26,7 @@
 import org.terasology.engine.entitySystem.prefab.Prefab;
 import org.terasology.engine.entitySystem.prefab.PrefabData;
 import org.terasology.engine.entitySystem.prefab.internal.PojoPrefab;
+import org.terasology.engine.logic.location.LocationComponent;
 import org.terasology.engine.network.NetworkMode;
 import org.terasology.engine.network.NetworkSystem;
 import org.terasology.engine.recording.RecordAndReplayCurrentStatus;
@@ -46,7 +50,9 @@
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -327,6 +333,46 @@ public void testPrefabCopiedCorrectly2() {
         assertFalse(test1.getComponent(StringComponent.class) == (test2.getComponent(StringComponent.class)));
     }
 
+    @Test
+    public void testCreateManyFromPrefab() {
+        List<Vector3f> positions = List.of(new Vector3f(1, 2, 3), new Vector3f(4, 5, 6));
+        List<EntityRef> entities = entityManager.createMany(prefab, positions);
+
+        assertEquals(2, entities.size());
+        for (int i = 0; i < positions.size(); i++) {
+            EntityRef entity = entities.get(i);
+            assertEquals("Test", entity.getComponent(StringComponent.class).value);
+            assertEquals(positions.get(i), entity.getComponent(LocationComponent.class).getWorldPosition(new Vector3f()));
+            assertEquals(prefab, entity.getParentPrefab());
+        }
+        assertFalse(entities.get(0).getComponent(StringComponent.class) == entities.get(1).getComponent(StringComponent.class));
+        assertEquals(2, entityManager.getCountOfEntitiesWith(StringComponent.class));
+    }
+
+    @Test
+    public void testCreateManySendsAddedEventsBeforeActivatedEvents() {
+        EventSystem eventSystem = mock(EventSystem.class);
+        entityManager.setEventSystem(eventSystem);
+        List<EntityRef> entities = entityManager.createMany(prefab, List.of(new Vector3f(), new Vector3f()));
+
+        InOrder inOrder = inOrder(eventSystem);
+        inOrder.verify(eventSystem).send(entities.get(0), OnAddedComponent.newInstance());
+        inOrder.verify(eventSystem).send(entities.get(1), OnAddedComponent.newInstance());
+        inOrder.verify(eventSystem).send(entities.get(0), OnActivatedComponent.newInstance());
+        inOrder.verify(eventSystem).send(entities.get(1), OnActivatedComponent.newInstance());
+    }
+
+    @Test
+    public void testPrefabTemplateFollowsReloadedPrefab() {
+        entityManager.create(prefab);
+        PrefabData changed = new PrefabData();
+        changed.addComponent(new StringComponent("Changed"));
+        prefab.reload(changed);
+
+        EntityRef entity = entityManager.create(prefab);
+        assertEquals("Changed", entity.getComponent(StringComponent.class).value);
+    }
+
     @Test
     public void testPrefabPersistedRetainedCorrectly() {
         PrefabData protoPrefab = new PrefabData();
@@ -337,6 +383,29 @@ public void testPrefabPersistedRetainedCorrectly() {
         assertFalse(entity1.isPersistent());
     }
 
+    @Test
+    public void testStoredEntityReleasesItsRef() {
+        EntityRef entity = entityManager.create(new StringComponent("Test"));
+        long id = entity.getId();
+        EngineEntityPool pool = entityManager.getPool(id).get();
+        int activeCount = entityManager.getActiveEntityCount();
+        assertSame(entity, entityManager.getEntity(id));
+
+        entityManager.deactivateForStorage(entity);
+        assertEquals(activeCount - 1, entityManager.getActiveEntityCount());
+        assertFalse(pool.contains(id));
+        entityManager.getEntity(id);
+        assertFalse(pool.contains(id));
+
+        EntityRef restored = entityManager.createEntityWithId(id, Lists.newArrayList(new StringComponent("Test")));
+        assertEquals(id, restored.getId());
+        assertTrue(pool.contains(id));
+        assertEquals(activeCount, entityManager.getActiveEntityCount());
+        assertSame(restored, entityManager.getEntity(id));
+        restored.destroy();
+        assertFalse(entity.exists());
+    }
+
     @Test
     public void testIsLoadedTrueOnCreate() {
         EntityRef entity = entityManager.create();
@@ -2,12 +2,117 @@
 // SPDX-License-Identifier: Apache-2.0
 package org.terasology.engine.logic.characters;
 
+import org.joml.Quaternionf;
+import org.joml.Vector3f;
+import org.joml.Vector3fc;
+import org.joml.Vector3ic;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.physics.engine.CharacterCollider;
+import org.terasology.engine.physics.engine.PhysicsEngine;
+import org.terasology.engine.physics.engine.SweepCallback;
+import org.terasology.engine.physics.events.MovedEvent;
+import org.terasology.engine.world.WorldProvider;
+import org.terasology.engine.world.block.Block;
+import org.terasology.gestalt.entitysystem.event.Event;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public class KinematicCharacterMoverTest {
 
+    private KinematicCharacterMover mover;
+    private EntityRef character;
+    private CharacterMovementComponent movementComp;
+
+    @BeforeEach
+    public void setup() {
+        Block air = new Block();
+        air.setPenetrable(true);
+        WorldProvider worldProvider = mock(WorldProvider.class);
+        when(worldProvider.isBlockRelevant(any(Vector3fc.class))).thenReturn(true);
+        when(worldProvider.getBlock(any(Vector3fc.class))).thenReturn(air);
+        when(worldProvider.getBlock(any(Vector3ic.class))).thenReturn(air);
+        when(worldProvider.getBlock(anyInt(), anyInt(), anyInt())).thenReturn(air);
+
+        SweepCallback noHit = mock(SweepCallback.class);
+        when(noHit.getClosestHitFraction()).thenReturn(1.0f);
+        CharacterCollider collider = mock(CharacterCollider.class);
+        when(collider.sweep(any(), any(), anyFloat(), anyFloat())).thenReturn(noHit);
+        PhysicsEngine physics = mock(PhysicsEngine.class);
+        when(physics.getCharacterCollider(any())).thenReturn(collider);
+        when(physics.getEpsilon()).thenReturn(0.0001f);
+
+        mover = new KinematicCharacterMover(worldProvider, physics);
+        character = mock(EntityRef.class);
+        movementComp = new CharacterMovementComponent();
+    }
+
+    @Test
+    public void testDetachedStepKeepsEventsForCaller() {
+        CharacterStateEvent initial = createState(false);
+        CharacterMoveInputEvent input = new CharacterMoveInputEvent(1, 0, 0, new Vector3f(1, 0, 0), false, false, 50);
+        List<Event> events = new ArrayList<>();
+
+        CharacterStateEvent result = mover.stepDetached(initial, input, character, movementComp,
+                MovementMode.WALKING, MovementMode.WALKING.maxSpeed, events);
+
+        assertNotNull(result);
+        assertEquals(50, result.getTime());
+        assertTrue(result.getPosition().x > 0);
+        assertTrue(events.stream().anyMatch(event -> event instanceof MovedEvent));
+        assertTrue(input.isFirstRun());
+        verify(character, never()).send(any());
+    }
+
+    @Test
+    public void testDetachedStepGivesUpOnJump() {
+        movementComp.numberOfJumpsLeft = 1;
+        CharacterStateEvent initial = createState(false);
+        CharacterMoveInputEvent input = new CharacterMoveInputEvent(1, 0, 0, new Vector3f(), false, true, 50);
+
+        assertNull(mover.stepDetached(initial, input, character, movementComp, MovementMode.WALKING,
+                MovementMode.WALKING.maxSpeed, new ArrayList<>()));
+        verify(character, never()).send(any());
+    }
+
+    @Test
+    public void testDetachedStepGivesUpInOtherMode() {
+        CharacterStateEvent initial = createState(false);
+        CharacterMoveInputEvent input = new CharacterMoveInputEvent(1, 0, 0, new Vector3f(1, 0, 0), false, false, 50);
+        List<Event> events = new ArrayList<>();
+
+        CharacterStateEvent first = mover.stepDetached(initial, input, character, movementComp,
+                MovementMode.WALKING, MovementMode.WALKING.maxSpeed, events);
+        movementComp.mode = MovementMode.SWIMMING;
+        CharacterStateEvent second = mover.stepDetached(first, input, character, movementComp,
+                MovementMode.WALKING, MovementMode.WALKING.maxSpeed, events);
+
+        assertNotNull(first);
+        assertNull(second);
+        assertFalse(events.isEmpty());
+    }
+
+    private static CharacterStateEvent createState(boolean grounded) {
+        return new CharacterStateEvent(0, 0, new Vector3f(), new Quaternionf(), new Vector3f(), 0, 0,
+                MovementMode.WALKING, grounded);
+    }
+
     @Test
     public void testUpdateMode() {
         CharacterStateEvent state = new CharacterStateEvent();
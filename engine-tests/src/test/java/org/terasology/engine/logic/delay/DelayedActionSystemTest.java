@@ -8,6 +8,7 @@
 import org.terasology.engine.TerasologyTestingEnvironment;
 import org.terasology.engine.core.Time;
 import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.OnActivatedComponent;
 import org.terasology.gestalt.entitysystem.event.ReceiveEvent;
 
 import java.util.ArrayList;
@@ -15,7 +16,12 @@
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @Tag("TteTest")
@@ -150,6 +156,47 @@ public void testMultipleDelayedActionsInRandomOrder() {
                 "Fourth", (time.getGameTimeInMs() + 2500) - time.getGameTimeInMs());
     }
 
+    @Test
+    public void testDueActionIsTriggeredAndComponentRemoved() {
+        DelayedActionComponent component = new DelayedActionComponent();
+        component.addActionId("Due", 1000);
+        EntityRef entity = mock(EntityRef.class);
+        when(entity.getId()).thenReturn(nextFakeEntityId++);
+        when(entity.exists()).thenReturn(true);
+        when(entity.getComponent(DelayedActionComponent.class)).thenReturn(component);
+        delayedActionSystem.delayedComponentActivated(OnActivatedComponent.newInstance(), entity, component);
+
+        when(time.getGameTimeInMs()).thenReturn(999L);
+        delayedActionSystem.update(0);
+        verify(entity, never()).send(any(DelayedActionTriggeredEvent.class));
+
+        when(time.getGameTimeInMs()).thenReturn(1000L);
+        delayedActionSystem.update(0);
+        verify(entity).send(argThat((DelayedActionTriggeredEvent event) -> event.getActionId().equals("Due")));
+        verify(entity).removeComponent(DelayedActionComponent.class);
+    }
+
+    @Test
+    public void testPeriodicActionIsSavedLazily() {
+        PeriodicActionComponent component = new PeriodicActionComponent();
+        component.addScheduledActionId("Tick", 100, 100);
+        EntityRef entity = mock(EntityRef.class);
+        when(entity.getId()).thenReturn(nextFakeEntityId++);
+        when(entity.exists()).thenReturn(true);
+        when(entity.getComponent(PeriodicActionComponent.class)).thenReturn(component);
+        delayedActionSystem.periodicComponentActivated(OnActivatedComponent.newInstance(), entity, component);
+
+        for (long now = 100; now < DelayedActionSystem.SAVE_INTERVAL_MS; now += 100) {
+            when(time.getGameTimeInMs()).thenReturn(now);
+            delayedActionSystem.update(0);
+        }
+        verify(entity, times(9)).send(any(PeriodicActionTriggeredEvent.class));
+        verify(entity, never()).saveComponent(component);
+
+        delayedActionSystem.saveChangedComponents();
+        verify(entity).saveComponent(component);
+    }
+
     @ReceiveEvent
     public void finishWaiting(DelayedActionTriggeredEvent event, EntityRef entity, ArbritaryDelayActionComponent arbritaryDelayActionComp) {
         assertEquals(vals.get(lookingForId).intValue(), arbritaryDelayActionComp.value);
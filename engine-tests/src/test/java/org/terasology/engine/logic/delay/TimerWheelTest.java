@@ -0,0 +1,118 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.logic.delay;
+
+import gnu.trove.list.TLongList;
+import gnu.trove.list.array.TLongArrayList;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TimerWheelTest {
+
+    private final TimerWheel wheel = new TimerWheel();
+    private final TLongList due = new TLongArrayList();
+
+    @Test
+    public void testFiresInDeadlineOrder() {
+        wheel.schedule(1, 300);
+        wheel.schedule(2, 100);
+        wheel.schedule(3, 70_000);
+        wheel.schedule(4, 200);
+
+        wheel.advance(250, due);
+        assertEquals(new TLongArrayList(new long[]{2, 4}), due);
+
+        due.clear();
+        wheel.advance(100_000, due);
+        assertEquals(new TLongArrayList(new long[]{1, 3}), due);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void testDoesNotFireEarly() {
+        wheel.schedule(1, 1000);
+
+        wheel.advance(999, due);
+        assertTrue(due.isEmpty());
+        assertTrue(wheel.isScheduled(1));
+
+        wheel.advance(1000, due);
+        assertEquals(new TLongArrayList(new long[]{1}), due);
+        assertFalse(wheel.isScheduled(1));
+    }
+
+    @Test
+    public void testCancel() {
+        wheel.schedule(1, 100);
+        wheel.schedule(2, 100);
+        wheel.cancel(1);
+
+        wheel.advance(100, due);
+        assertEquals(new TLongArrayList(new long[]{2}), due);
+    }
+
+    @Test
+    public void testRescheduleReplacesDeadline() {
+        wheel.schedule(1, 100);
+        wheel.schedule(1, 5000);
+
+        wheel.advance(4999, due);
+        assertTrue(due.isEmpty());
+        assertEquals(5000, wheel.getDeadline(1));
+
+        wheel.advance(5000, due);
+        assertEquals(new TLongArrayList(new long[]{1}), due);
+    }
+
+    @Test
+    public void testPastDeadlineFiresOnNextAdvance() {
+        wheel.advance(10_000, due);
+        wheel.schedule(1, 500);
+
+        wheel.advance(10_001, due);
+        assertEquals(new TLongArrayList(new long[]{1}), due);
+    }
+
+    @Test
+    public void testDeadlineBeyondWheelRange() {
+        long farAway = (1L << 32) * 3 + 12_345;
+        wheel.schedule(1, farAway);
+
+        wheel.advance(farAway - 1, due);
+        assertTrue(due.isEmpty());
+
+        wheel.advance(farAway, due);
+        assertEquals(new TLongArrayList(new long[]{1}), due);
+    }
+
+    @Test
+    public void testRandomDeadlinesFireOnTime() {
+        Random random = new Random(42);
+        long[] deadlines = new long[10_000];
+        for (int id = 0; id < deadlines.length; id++) {
+            deadlines[id] = random.nextInt(10_000_000);
+            wheel.schedule(id + 1, deadlines[id]);
+        }
+
+        long now = 0;
+        int fired = 0;
+        while (fired < deadlines.length) {
+            long previous = now;
+            now += 1 + random.nextInt(50_000);
+            due.clear();
+            wheel.advance(now, due);
+            for (int i = 0; i < due.size(); i++) {
+                long deadline = deadlines[(int) due.get(i) - 1];
+                assertTrue(deadline <= now, "fired early");
+                assertTrue(deadline > previous, "fired late");
+            }
+            fired += due.size();
+        }
+        assertEquals(0, wheel.size());
+    }
+}
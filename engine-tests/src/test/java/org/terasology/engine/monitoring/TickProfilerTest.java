@@ -0,0 +1,87 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.monitoring;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.terasology.engine.monitoring.impl.ProfiledSection;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TickProfilerTest {
+
+    @BeforeEach
+    public void setup() {
+        TickProfiler.setMode(TickProfilerMode.OFF);
+        TickProfiler.reset();
+    }
+
+    @AfterEach
+    public void cleanup() {
+        TickProfiler.setMode(TickProfilerMode.OFF);
+        TickProfiler.reset();
+    }
+
+    @Test
+    public void testNothingIsRecordedWhenOff() {
+        TickProfiler.begin("test:off");
+        TickProfiler.end();
+
+        assertFalse(find("test:off").isPresent());
+    }
+
+    @Test
+    public void testNestedSectionsAreTimed() {
+        TickProfiler.setMode(TickProfilerMode.TIMING);
+        for (int i = 0; i < 3; i++) {
+            TickProfiler.begin("test:outer");
+            TickProfiler.begin("test:inner");
+            TickProfiler.end();
+            TickProfiler.end();
+        }
+
+        assertEquals(3, find("test:outer").get().getDurations().getCount());
+        assertEquals(3, find("test:inner").get().getDurations().getCount());
+        assertTrue(find("test:outer").get().getDurations().getMax() >= find("test:inner").get().getDurations().getMax());
+    }
+
+    @Test
+    public void testSectionRunningDuringModeChangeIsDropped() {
+        TickProfiler.setMode(TickProfilerMode.TIMING);
+        TickProfiler.begin("test:dropped");
+        TickProfiler.setMode(TickProfilerMode.ALLOCATIONS);
+        TickProfiler.end();
+
+        assertFalse(find("test:dropped").isPresent());
+    }
+
+    @Test
+    public void testExport(@TempDir Path tempDir) throws IOException {
+        TickProfiler.setMode(TickProfilerMode.TIMING);
+        TickProfiler.begin("test:export");
+        TickProfiler.end();
+
+        Path file = tempDir.resolve("profile.tsv");
+        TickProfiler.export(file);
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals("section\tcount\tp50_us\tp99_us\tmax_us\tmean_alloc_bytes\tmax_alloc_bytes", lines.get(0));
+        assertTrue(lines.stream().anyMatch(line -> line.startsWith("test:export\t1\t")));
+    }
+
+    private static Optional<ProfiledSection> find(String name) {
+        return TickProfiler.getSections().stream()
+                .filter(section -> section.getName().equals(name) && section.getDurations().getCount() > 0)
+                .findFirst();
+    }
+}
@@ -0,0 +1,55 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.monitoring.impl;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void testSmallValuesAreExact() {
+        for (int value = 0; value < 16; value++) {
+            assertEquals(value, LatencyHistogram.upperBoundOf(LatencyHistogram.bucketOf(value)));
+        }
+    }
+
+    @Test
+    public void testBucketBoundsContainTheirValues() {
+        for (long value = 16; value < 1_000_000; value = value * 5 / 4 + 1) {
+            long upperBound = LatencyHistogram.upperBoundOf(LatencyHistogram.bucketOf(value));
+            assertTrue(upperBound >= value, "bucket of " + value + " ends at " + upperBound);
+            assertTrue(upperBound <= value * 9 / 8 + 1, "bucket of " + value + " ends at " + upperBound);
+        }
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.upperBoundOf(LatencyHistogram.bucketOf(Long.MAX_VALUE)));
+    }
+
+    @Test
+    public void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int value = 1; value <= 100; value++) {
+            histogram.record(value * 1000L);
+        }
+
+        assertEquals(100, histogram.getCount());
+        assertEquals(100_000, histogram.getMax());
+        long median = histogram.getPercentile(50);
+        assertTrue(median >= 50_000 && median <= 50_000 * 9 / 8, "median " + median);
+        long p99 = histogram.getPercentile(99);
+        assertTrue(p99 >= 99_000 && p99 <= 100_000, "p99 " + p99);
+        assertEquals(100_000, histogram.getPercentile(100));
+    }
+
+    @Test
+    public void testReset() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(42);
+        histogram.reset();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getPercentile(99));
+    }
+}
@@ -83,6 +83,28 @@ public void testGetterSetterUtilization() throws Exception {
         assertTrue(newComp.setterUsed);
     }
 
+    @Test
+    public void testDirectFieldEncodingMatchesTypeHandlers() throws Exception {
+        GetterSetterComponent vectorComp = new GetterSetterComponent();
+        vectorComp.value = new Vector3f(1.5f, -2f, 3f);
+        IntegerComponent intComp = new IntegerComponent(42);
+        StringComponent stringComp = new StringComponent("Direct");
+
+        EntityData.Component vectorData = componentSerializer.serialize(vectorComp);
+        EntityData.Component intData = componentSerializer.serialize(intComp);
+        EntityData.Component stringData = componentSerializer.serialize(stringComp);
+        EntityData.Component deltaData = componentSerializer.serialize(new StringComponent("Original"), stringComp);
+
+        componentSerializer.setDirectFieldEncoding(true);
+        assertEquals(vectorData, componentSerializer.serialize(vectorComp));
+        assertEquals(intData, componentSerializer.serialize(intComp));
+        assertEquals(stringData, componentSerializer.serialize(stringComp));
+        assertEquals(deltaData, componentSerializer.serialize(new StringComponent("Original"), stringComp));
+
+        GetterSetterComponent newVectorComp = (GetterSetterComponent) componentSerializer.deserialize(vectorData);
+        assertEquals(vectorComp.value, newVectorComp.value);
+    }
+
     @Test
     public void testSerializeComponentDeltas() throws Exception {
         EntityData.Component componentData = componentSerializer.serialize(new StringComponent("Original"), new StringComponent("Delta"));
@@ -0,0 +1,82 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.recording;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.reflections.Reflections;
+import org.terasology.engine.persistence.typeHandling.TypeHandlerLibraryImpl;
+import org.terasology.unittest.stubs.DummyEvent;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RecordedEventLogTest {
+
+    private RecordedEventSerializer serializer;
+
+    @BeforeEach
+    public void setup() {
+        serializer = new RecordedEventSerializer(
+                TypeHandlerLibraryImpl.withReflections(new Reflections(getClass().getClassLoader())));
+    }
+
+    @Test
+    public void testEventsAreStreamedBackInBatches(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("events.bin");
+        // more events than the ring buffer holds, so appending has to wait for the writer
+        try (RecordedEventLogWriter writer = new RecordedEventLogWriter(file, serializer, 4)) {
+            for (int i = 0; i < 10; i++) {
+                writer.append(new RecordedEvent(100 + i, new DummyEvent(), i * 10, i));
+            }
+        }
+
+        try (RecordedEventLogReader reader = new RecordedEventLogReader(file, serializer)) {
+            List<RecordedEvent> first = reader.readBatch(6);
+            assertTrue(reader.hasNext());
+            List<RecordedEvent> second = reader.readBatch(6);
+            assertFalse(reader.hasNext());
+
+            assertThat(first).hasSize(6);
+            assertThat(second).hasSize(4);
+            for (int i = 0; i < 10; i++) {
+                RecordedEvent event = i < 6 ? first.get(i) : second.get(i - 6);
+                assertEquals(i, event.getIndex());
+                assertEquals(i * 10, event.getTimestamp());
+                assertEquals(100 + i, event.getEntityId());
+                assertThat(event.getEvent()).isInstanceOf(DummyEvent.class);
+            }
+        }
+    }
+
+    @Test
+    public void testFlushedEventsAreReadableWhileRecording(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("events.bin");
+        try (RecordedEventLogWriter writer = new RecordedEventLogWriter(file, serializer, 16)) {
+            writer.append(new RecordedEvent(1, new DummyEvent(), 5, 0));
+            writer.append(new RecordedEvent(1, new DummyEvent(), 6, 1));
+            writer.flush();
+
+            try (RecordedEventLogReader reader = new RecordedEventLogReader(file, serializer)) {
+                assertThat(reader.readBatch(10)).hasSize(2);
+            }
+        }
+    }
+
+    @Test
+    public void testOtherFilesAreRejected(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("events.json");
+        Files.write(file, "[{\"index\":0}]".getBytes());
+
+        assertThrows(IOException.class, () -> new RecordedEventLogReader(file, serializer));
+    }
+}
@@ -0,0 +1,148 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.rendering.assets.font;
+
+import com.google.common.collect.Iterables;
+import org.joml.Vector3f;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.terasology.engine.context.Context;
+import org.terasology.engine.context.internal.ContextImpl;
+import org.terasology.engine.registry.CoreRegistry;
+import org.terasology.engine.rendering.assets.material.Material;
+import org.terasology.engine.rendering.assets.mesh.StandardMeshData;
+import org.terasology.engine.rendering.assets.texture.Texture;
+import org.terasology.gestalt.assets.AssetType;
+import org.terasology.gestalt.assets.ResourceUrn;
+import org.terasology.nui.Color;
+import org.terasology.nui.FontColor;
+import org.terasology.nui.HorizontalAlign;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class FontMeshBuilderTest {
+    private static final int LINE_HEIGHT = 10;
+    private static final Color NO_SHADOW = new Color(0);
+
+    private Font font;
+    private Material underlineMaterial;
+    private Context previousContext;
+
+    @BeforeEach
+    public void setup() {
+        previousContext = CoreRegistry.get(Context.class);
+        Material pageMaterial = mock(Material.class);
+        FontCharacter character = new FontCharacter(0, 0, 8, 10, 0, 0, 8, mock(Texture.class), pageMaterial);
+        font = mock(Font.class);
+        when(font.getCharacterData(any())).thenReturn(character);
+        when(font.getWidth(anyString())).thenAnswer(invocation -> invocation.<String>getArgument(0).length() * 8);
+        when(font.getLineHeight()).thenReturn(LINE_HEIGHT);
+        when(font.getBaseHeight()).thenReturn(8);
+        underlineMaterial = mock(Material.class);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        CoreRegistry.setContext(previousContext);
+    }
+
+    @Test
+    public void testCachedLayoutMatchesUncachedLayout() {
+        List<String> lines = Arrays.asList("first", "second line", "first");
+        TextLayoutCache cache = new TextLayoutCache();
+        FontMeshBuilder cached = new FontMeshBuilder(underlineMaterial, cache);
+
+        cached.layoutText(font, lines, 100, HorizontalAlign.CENTER, Color.WHITE, Color.BLACK, false);
+        StandardMeshData expected = single(new FontMeshBuilder(underlineMaterial)
+                .layoutText(font, lines, 100, HorizontalAlign.CENTER, Color.WHITE, Color.BLACK, false));
+        StandardMeshData actual = single(cached
+                .layoutText(font, lines, 100, HorizontalAlign.CENTER, Color.WHITE, Color.BLACK, false));
+
+        assertEquals(expected.position.getPosition(), actual.position.getPosition());
+        assertEquals(expected.indices.indices(), actual.indices.indices());
+        for (int i = 0; i < expected.position.getPosition(); i++) {
+            assertEquals(expected.position.get(i, new Vector3f()), actual.position.get(i, new Vector3f()));
+        }
+        // The repeated line is laid out once and moved down to its own position
+        Vector3f lastLineTop = actual.position.get((5 + 11) * 2 * 4, new Vector3f());
+        assertEquals(2 * LINE_HEIGHT + 1, lastLineTop.y, 0.0001f);
+    }
+
+    @Test
+    public void testOnlyChangedLinesAreLaidOut() {
+        TextLayoutCache cache = new TextLayoutCache();
+        FontMeshBuilder builder = new FontMeshBuilder(underlineMaterial, cache);
+
+        builder.layoutText(font, Arrays.asList("health 100", "ammo 30", "score 5"), 200, HorizontalAlign.LEFT,
+                Color.WHITE, Color.BLACK, false);
+        builder.layoutText(font, Arrays.asList("health 100", "ammo 29", "score 5"), 200, HorizontalAlign.LEFT,
+                Color.WHITE, Color.BLACK, false);
+
+        assertEquals(4, cache.getMissCount());
+        assertEquals(2, cache.getHitCount());
+    }
+
+    @Test
+    public void testColorCarriedOverFromPreviousLineIsRespected() {
+        TextLayoutCache cache = new TextLayoutCache();
+        FontMeshBuilder builder = new FontMeshBuilder(underlineMaterial, cache);
+        char red = FontColor.getColored("a", Color.RED).charAt(0);
+
+        builder.layoutText(font, Arrays.asList("a", "b"), 100, HorizontalAlign.LEFT, Color.WHITE,
+                NO_SHADOW, false);
+        StandardMeshData data = single(builder.layoutText(font, Arrays.asList(red + "a", "b"), 100,
+                HorizontalAlign.LEFT, Color.WHITE, NO_SHADOW, false));
+
+        assertEquals(Color.RED, data.color0.get(4, new Color()));
+        assertEquals(4, cache.getMissCount());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedLinesAreEvicted() {
+        TextLayoutCache cache = new TextLayoutCache(8);
+        FontMeshBuilder builder = new FontMeshBuilder(underlineMaterial, cache);
+
+        builder.layoutText(font, Arrays.asList("abc"), 100, HorizontalAlign.LEFT, Color.WHITE, NO_SHADOW, false);
+        builder.layoutText(font, Arrays.asList("def"), 100, HorizontalAlign.LEFT, Color.WHITE, NO_SHADOW, false);
+        builder.layoutText(font, Arrays.asList("abc"), 100, HorizontalAlign.LEFT, Color.WHITE, NO_SHADOW, false);
+        builder.layoutText(font, Arrays.asList("ghi"), 100, HorizontalAlign.LEFT, Color.WHITE, NO_SHADOW, false);
+
+        assertEquals(2, cache.size());
+        assertEquals(6, cache.getQuadCount());
+        builder.layoutText(font, Arrays.asList("abc"), 100, HorizontalAlign.LEFT, Color.WHITE, NO_SHADOW, false);
+        assertEquals(2, cache.getHitCount());
+    }
+
+    @Test
+    public void testReloadingAFontClearsTheCache() {
+        TextLayoutCache cache = new TextLayoutCache();
+        Context context = new ContextImpl();
+        context.put(TextLayoutCache.class, cache);
+        CoreRegistry.setContext(context);
+        FontCharacter character = new FontCharacter(0, 0, 8, 10, 0, 0, 8, mock(Texture.class), mock(Material.class));
+        FontData data = new FontData(LINE_HEIGHT, 8, Collections.singletonMap((int) 'a', character));
+        FontImpl fontImpl = new FontImpl(new ResourceUrn("engine:test"), new AssetType<>(Font.class, FontImpl::new),
+                data);
+        FontMeshBuilder builder = new FontMeshBuilder(underlineMaterial, cache);
+
+        builder.layoutText(fontImpl, Arrays.asList("a"), 100, HorizontalAlign.LEFT, Color.WHITE, NO_SHADOW, false);
+        assertEquals(1, cache.size());
+
+        fontImpl.reload(new FontData(data));
+        assertEquals(0, cache.size());
+    }
+
+    private static StandardMeshData single(Map<Material, StandardMeshData> layout) {
+        return Iterables.getOnlyElement(layout.values());
+    }
+}
@@ -0,0 +1,129 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.rendering.gltf;
+
+import com.google.common.io.BaseEncoding;
+import org.joml.Vector2f;
+import org.joml.Vector3f;
+import org.junit.jupiter.api.Test;
+import org.terasology.engine.rendering.assets.mesh.StandardMeshData;
+import org.terasology.gestalt.assets.ResourceUrn;
+import org.terasology.gestalt.assets.format.AssetDataFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class GLTFMeshFormatTest {
+    private static final ResourceUrn URN = new ResourceUrn("engine:triangle");
+
+    /**
+     * One triangle: positions tightly packed, normals and uvs interleaved with each other, and 16 bit indices.
+     */
+    private static final String JSON = "{\"asset\":{\"version\":\"2.0\"},"
+            + "\"buffers\":[{%s\"byteLength\":102}],"
+            + "\"bufferViews\":[{\"buffer\":0,\"byteOffset\":0,\"byteLength\":36},"
+            + "{\"buffer\":0,\"byteOffset\":36,\"byteLength\":60,\"byteStride\":20},"
+            + "{\"buffer\":0,\"byteOffset\":96,\"byteLength\":6,\"target\":34963}],"
+            + "\"accessors\":[{\"bufferView\":0,\"componentType\":5126,\"count\":3,\"type\":\"VEC3\"},"
+            + "{\"bufferView\":1,\"componentType\":5126,\"count\":3,\"type\":\"VEC3\"},"
+            + "{\"bufferView\":1,\"byteOffset\":12,\"componentType\":5126,\"count\":3,\"type\":\"VEC2\"},"
+            + "{\"bufferView\":2,\"componentType\":5123,\"count\":3,\"type\":\"SCALAR\"}],"
+            + "\"meshes\":[{\"primitives\":[{\"attributes\":{\"POSITION\":0,\"NORMAL\":1,\"TEXCOORD_0\":2},\"indices\":3}]}]}";
+
+    private final GLTFMeshFormat format = new GLTFMeshFormat(null);
+
+    @Test
+    public void testLoadGlb() throws IOException {
+        StandardMeshData mesh = (StandardMeshData) format.load(URN,
+                Collections.singletonList(mockAssetDataFile(glb(String.format(JSON, ""), binary()))));
+
+        assertTriangle(mesh);
+    }
+
+    @Test
+    public void testLoadEmbeddedGltf() throws IOException {
+        String uri = "\"uri\":\"data:application/octet-stream;base64,"
+                + BaseEncoding.base64().encode(binary().array(), 0, 102) + "\",";
+        StandardMeshData mesh = (StandardMeshData) format.load(URN,
+                Collections.singletonList(mockAssetDataFile(String.format(JSON, uri).getBytes(StandardCharsets.UTF_8))));
+
+        assertTriangle(mesh);
+    }
+
+    @Test
+    public void testTruncatedBinaryChunkIsRejected() throws IOException {
+        ByteBuffer binary = binary();
+        binary.limit(96);
+        AssetDataFile file = mockAssetDataFile(glb(String.format(JSON, ""), binary.slice()));
+
+        assertThrows(IOException.class, () -> format.load(URN, Collections.singletonList(file)));
+    }
+
+    private static void assertTriangle(StandardMeshData mesh) {
+        assertEquals(3, mesh.position.elements());
+        assertEquals(new Vector3f(0, 0, 0), mesh.position.get(0, new Vector3f()));
+        assertEquals(new Vector3f(1, 0, 0), mesh.position.get(1, new Vector3f()));
+        assertEquals(new Vector3f(0, 1, 0), mesh.position.get(2, new Vector3f()));
+        assertEquals(3, mesh.normal.elements());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(new Vector3f(0, 0, 1), mesh.normal.get(i, new Vector3f()));
+        }
+        assertEquals(3, mesh.uv0.elements());
+        assertEquals(new Vector2f(0, 0), mesh.uv0.get(0, new Vector2f()));
+        assertEquals(new Vector2f(1, 0), mesh.uv0.get(1, new Vector2f()));
+        assertEquals(new Vector2f(0, 1), mesh.uv0.get(2, new Vector2f()));
+        assertEquals(3, mesh.indices.indices());
+        mesh.indices.writeBuffer(buffer -> {
+            assertEquals(0, buffer.getInt(0));
+            assertEquals(2, buffer.getInt(Integer.BYTES));
+            assertEquals(1, buffer.getInt(2 * Integer.BYTES));
+        });
+    }
+
+    /**
+     * @return the binary buffer of the triangle, padded to 104 bytes
+     */
+    private static ByteBuffer binary() {
+        ByteBuffer buffer = ByteBuffer.allocate(104).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putFloat(0).putFloat(0).putFloat(0);
+        buffer.putFloat(1).putFloat(0).putFloat(0);
+        buffer.putFloat(0).putFloat(1).putFloat(0);
+        float[][] uvs = {{0, 0}, {1, 0}, {0, 1}};
+        for (float[] uv : uvs) {
+            buffer.putFloat(0).putFloat(0).putFloat(1);
+            buffer.putFloat(uv[0]).putFloat(uv[1]);
+        }
+        buffer.putShort((short) 0).putShort((short) 2).putShort((short) 1);
+        buffer.rewind();
+        return buffer;
+    }
+
+    private static byte[] glb(String json, ByteBuffer binary) {
+        byte[] jsonBytes = json.getBytes(StandardCharsets.UTF_8);
+        int jsonLength = (jsonBytes.length + 3) & ~3;
+        int length = 12 + 8 + jsonLength + 8 + binary.remaining();
+        ByteBuffer glb = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+        glb.putInt(0x46546C67).putInt(2).putInt(length);
+        glb.putInt(jsonLength).putInt(0x4E4F534A).put(jsonBytes);
+        while (glb.position() % 4 != 0) {
+            glb.put((byte) ' ');
+        }
+        glb.putInt(binary.remaining()).putInt(0x004E4942).put(binary);
+        return glb.array();
+    }
+
+    private static AssetDataFile mockAssetDataFile(byte[] resource) throws IOException {
+        AssetDataFile assetDataFile = mock(AssetDataFile.class);
+        when(assetDataFile.openStream()).thenReturn(new ByteArrayInputStream(resource));
+        return assetDataFile;
+    }
+}
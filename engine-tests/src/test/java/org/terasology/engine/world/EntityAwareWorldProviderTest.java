@@ -5,6 +5,7 @@
 import com.google.common.base.Objects;
 import com.google.common.collect.Lists;
 import org.joml.Vector3i;
+import org.joml.Vector3ic;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Tag;
@@ -28,11 +29,15 @@
 import org.terasology.engine.world.block.Block;
 import org.terasology.engine.world.block.BlockComponent;
 import org.terasology.engine.world.block.BlockManager;
+import org.terasology.engine.world.block.BlockRegion;
 import org.terasology.engine.world.block.family.BlockFamily;
 import org.terasology.engine.world.block.family.HorizontalFamily;
 import org.terasology.engine.world.block.family.SymmetricFamily;
 import org.terasology.engine.world.block.loader.BlockFamilyDefinition;
 import org.terasology.engine.world.block.loader.BlockFamilyDefinitionData;
+import org.terasology.engine.world.block.regions.BlockRegionComponent;
+import org.terasology.engine.world.chunks.event.BeforeChunkUnload;
+import org.terasology.engine.world.chunks.event.OnChunkLoaded;
 import org.terasology.engine.world.internal.EntityAwareWorldProvider;
 import org.terasology.gestalt.assets.ResourceUrn;
 import org.terasology.gestalt.assets.management.AssetManager;
@@ -47,6 +52,7 @@
 import java.util.Iterator;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -82,7 +88,7 @@ public void setup() throws Exception {
 
         airBlock = blockManager.getBlock(BlockManager.AIR_ID);
 
-        worldStub = new WorldProviderCoreStub(airBlock);
+        worldStub = new WorldProviderCoreStub(airBlock, blockManager);
         worldProvider = new EntityAwareWorldProvider(worldStub, context);
 
         plainBlock = createBlock("test:plainblock", assetManager, blockManager);
@@ -163,6 +169,55 @@ public void testTemporaryCleanedUpWithNoEvent() {
         assertFalse(checker.removedReceived);
     }
 
+    @Test
+    public void testTemporaryRemovedFromLookupWhenCleanedUp() {
+        EntityRef blockEntity = worldProvider.getBlockEntityAt(new Vector3i(1, 2, 3));
+        assertEquals(blockEntity, worldProvider.getExistingBlockEntityAt(new Vector3i(1, 2, 3)));
+        assertFalse(worldProvider.hasPermanentBlockEntity(new Vector3i(1, 2, 3)));
+
+        worldProvider.update(1.0f);
+        assertEquals(EntityRef.NULL, worldProvider.getExistingBlockEntityAt(new Vector3i(1, 2, 3)));
+        assertFalse(worldProvider.hasPermanentBlockEntity(new Vector3i(1, 2, 3)));
+    }
+
+    @Test
+    public void testBlockEntityKeptInLookupUntilUpdateAfterChunkUnload() {
+        worldProvider.setBlock(new Vector3i(1, 2, 3), keepActiveBlock);
+        EntityRef blockEntity = worldProvider.getBlockEntityAt(new Vector3i(1, 2, 3));
+
+        worldProvider.onChunkUnload(new BeforeChunkUnload(new Vector3i()), EntityRef.NULL);
+        assertEquals(blockEntity, worldProvider.getBlockEntityAt(new Vector3i(1, 2, 3)));
+
+        worldProvider.update(1.0f);
+        assertEquals(EntityRef.NULL, worldProvider.getExistingBlockEntityAt(new Vector3i(1, 2, 3)));
+    }
+
+    @Test
+    public void testBlockEntityKeptInLookupIfChunkLoadedAgain() {
+        worldProvider.setBlock(new Vector3i(1, 2, 3), keepActiveBlock);
+        EntityRef blockEntity = worldProvider.getBlockEntityAt(new Vector3i(1, 2, 3));
+
+        worldProvider.onChunkUnload(new BeforeChunkUnload(new Vector3i()), EntityRef.NULL);
+        worldProvider.onChunkLoaded(new OnChunkLoaded(new Vector3i()), EntityRef.NULL);
+        worldProvider.update(1.0f);
+        assertEquals(blockEntity, worldProvider.getExistingBlockEntityAt(new Vector3i(1, 2, 3)));
+    }
+
+    @Test
+    public void testBlockRegionDroppedFromUnloadedChunkAndRestoredOnLoad() {
+        EntityRef regionEntity = entityManager.create(new BlockRegionComponent(new BlockRegion(30, 0, 0, 33, 0, 0)));
+        worldProvider.onBlockRegionActivated(OnActivatedComponent.newInstance(), regionEntity);
+
+        worldProvider.onChunkUnload(new BeforeChunkUnload(new Vector3i(1, 0, 0)), EntityRef.NULL);
+        worldProvider.update(1.0f);
+        assertEquals(regionEntity, worldProvider.getExistingEntityAt(new Vector3i(31, 0, 0)));
+        assertEquals(EntityRef.NULL, worldProvider.getExistingEntityAt(new Vector3i(32, 0, 0)));
+
+        worldProvider.onChunkLoaded(new OnChunkLoaded(new Vector3i(1, 0, 0)), EntityRef.NULL);
+        assertEquals(regionEntity, worldProvider.getExistingEntityAt(new Vector3i(32, 0, 0)));
+        assertEquals(regionEntity, worldProvider.getExistingEntityAt(new Vector3i(33, 0, 0)));
+    }
+
     @Test
     public void testActiveBlockNotCleanedUp() {
         Block testBlock = new Block();
@@ -233,6 +288,53 @@ public void testPrefabUpdatedWhenBlockChanged() {
                 worldProvider.getBlockEntityAt(new Vector3i()).getParentPrefab().getName());
     }
 
+    @Test
+    public void testBulkSetUpdatesExistingBlockEntities() {
+        worldProvider.setBlock(new Vector3i(), keepActiveBlock);
+        EntityRef blockEntity = worldProvider.getBlockEntityAt(new Vector3i());
+        BlockRegion region = new BlockRegion(0, 0, 0, 1, 0, 0);
+        short[] previousIds = new short[region.volume()];
+
+        int changed = worldProvider.setBlockIds(region, new short[]{blockWithDifferentString.getId(),
+                plainBlock.getId()}, previousIds);
+
+        assertEquals(2, changed);
+        assertEquals(keepActiveBlock.getId(), previousIds[0]);
+        assertEquals(airBlock.getId(), previousIds[1]);
+        assertEquals(blockWithDifferentString.getPrefab().get().getName(), blockEntity.getParentPrefab().getName());
+        assertFalse(worldProvider.getExistingBlockEntityAt(new Vector3i(1, 0, 0)).exists());
+        assertEquals(plainBlock, worldProvider.getBlock(1, 0, 0));
+    }
+
+    @Test
+    public void testBulkSetCreatesEntitiesForKeepActiveBlocks() {
+        BlockRegion region = new BlockRegion(0, 0, 0, 0, 0, 1);
+
+        worldProvider.setBlockIds(region, new short[]{keepActiveBlock.getId(), plainBlock.getId()}, null);
+        worldProvider.update(1.0f);
+
+        EntityRef blockEntity = worldProvider.getExistingBlockEntityAt(new Vector3i());
+        assertTrue(blockEntity.isActive());
+        assertEquals(keepActiveBlock.getPrefab().get().getName(), blockEntity.getParentPrefab().getName());
+        assertFalse(worldProvider.getExistingBlockEntityAt(new Vector3i(0, 0, 1)).exists());
+        assertArrayEquals(new short[]{keepActiveBlock.getId(), plainBlock.getId()},
+                worldProvider.getBlockIds(region, new short[region.volume()]));
+    }
+
+    @Test
+    public void testBulkSetReportsBlocksWithoutEntityToTheWorld() {
+        worldStub.setWorldEntity(entityManager.create(new WorldComponent()));
+        BulkChangeChecker checker = new BulkChangeChecker();
+        entityManager.getEventSystem().registerEventHandler(checker);
+        worldProvider.setBlock(new Vector3i(), keepActiveBlock);
+        worldProvider.getBlockEntityAt(new Vector3i());
+        BlockRegion region = new BlockRegion(0, 0, 0, 0, 0, 2);
+
+        worldProvider.setBlockIds(region, new short[]{plainBlock.getId(), plainBlock.getId(), airBlock.getId()}, null);
+
+        assertEquals(Lists.newArrayList(new Vector3i(0, 0, 1)), checker.changedPositions);
+    }
+
     @Test
     public void testEntityNotRemovedIfForceBlockActiveComponentAdded() {
         EntityRef blockEntity = worldProvider.getBlockEntityAt(new Vector3i());
@@ -456,6 +558,18 @@ public void onEvent(T event, EntityRef entity) {
         }
     }
 
+    public static class BulkChangeChecker extends BaseComponentSystem {
+
+        public List<Vector3i> changedPositions = Lists.newArrayList();
+
+        @ReceiveEvent(components = WorldComponent.class)
+        public void onChangedBlocks(OnChangedBlocks event, EntityRef entity) {
+            for (Vector3ic pos : event) {
+                changedPositions.add(new Vector3i(pos));
+            }
+        }
+    }
+
     public static class BlockEventChecker extends BaseComponentSystem {
 
         public boolean addedReceived;
@@ -0,0 +1,119 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.world.block.entity.neighbourUpdate;
+
+import gnu.trove.list.array.TIntArrayList;
+import org.joml.Vector3i;
+import org.joml.Vector3ic;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.terasology.engine.context.Context;
+import org.terasology.engine.context.internal.ContextImpl;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.math.Side;
+import org.terasology.engine.registry.InjectionHelper;
+import org.terasology.engine.world.BlockEntityRegistry;
+import org.terasology.engine.world.OnChangedBlock;
+import org.terasology.engine.world.OnChangedBlocks;
+import org.terasology.engine.world.WorldProvider;
+import org.terasology.engine.world.block.Block;
+import org.terasology.engine.world.block.family.UpdatesWithNeighboursFamily;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link NeighbourBlockFamilyUpdateSystem}
+ */
+public class NeighbourBlockFamilyUpdateSystemTest {
+    private NeighbourBlockFamilyUpdateSystem system;
+    private Block updatedBlock;
+    private List<Vector3i> updatedPositions;
+    private long updateNanos;
+
+    @BeforeEach
+    public void setup() {
+        system = new NeighbourBlockFamilyUpdateSystem();
+        Context context = new ContextImpl();
+
+        Block block = new Block();
+        updatedBlock = new Block();
+        UpdatesWithNeighboursFamily family = Mockito.mock(UpdatesWithNeighboursFamily.class);
+        Mockito.when(family.getBlockForNeighborUpdate(Mockito.any(Vector3ic.class), Mockito.eq(block))).then(answer -> {
+            long end = System.nanoTime() + updateNanos;
+            while (System.nanoTime() < end) {
+                Thread.onSpinWait();
+            }
+            return updatedBlock;
+        });
+        block.setBlockFamily(family);
+
+        updatedPositions = new ArrayList<>();
+        WorldProvider worldProvider = Mockito.mock(WorldProvider.class);
+        Mockito.when(worldProvider.isBlockRelevant(Mockito.any(Vector3ic.class))).thenReturn(true);
+        Mockito.when(worldProvider.getBlock(Mockito.any(Vector3ic.class))).thenReturn(block);
+        Mockito.when(worldProvider.setBlock(Mockito.any(Vector3ic.class), Mockito.eq(updatedBlock))).then(answer -> {
+            updatedPositions.add(new Vector3i(answer.<Vector3ic>getArgument(0)));
+            return block;
+        });
+        context.put(WorldProvider.class, worldProvider);
+        context.put(BlockEntityRegistry.class, Mockito.mock(BlockEntityRegistry.class));
+        InjectionHelper.inject(system, context);
+    }
+
+    @Test
+    public void testNeighboursUpdatedImmediatelyOutsideLargeBlockUpdate() {
+        system.blockUpdate(new OnChangedBlock(new Vector3i(), new Block(), new Block()), EntityRef.NULL);
+
+        assertEquals(Side.values().length, updatedPositions.size());
+    }
+
+    @Test
+    public void testNeighboursUpdatedOnUpdateAfterLargeBlockUpdate() {
+        system.largeBlockUpdateStarting(new LargeBlockUpdateStarting(), EntityRef.NULL);
+        system.blockUpdate(new OnChangedBlock(new Vector3i(), new Block(), new Block()), EntityRef.NULL);
+        system.blockUpdate(new OnChangedBlock(new Vector3i(0, 0, 2), new Block(), new Block()), EntityRef.NULL);
+        system.largeBlockUpdateFinished(new LargeBlockUpdateFinished(), EntityRef.NULL);
+        assertTrue(updatedPositions.isEmpty());
+
+        system.update(0.1f);
+        // (0, 0, 1) is next to both changed blocks, but only updated once
+        assertEquals(2 * Side.values().length - 1, updatedPositions.size());
+        assertTrue(updatedPositions.contains(new Vector3i(0, 0, 1)));
+    }
+
+    @Test
+    public void testNeighboursOfBulkChangeUpdatedOnUpdate() {
+        system.blocksUpdate(new OnChangedBlocks(new TIntArrayList(new int[]{0, 0, 0})), EntityRef.NULL);
+        assertTrue(updatedPositions.isEmpty());
+
+        system.update(0.1f);
+        assertEquals(Side.values().length, updatedPositions.size());
+        assertTrue(updatedPositions.contains(new Vector3i(0, 1, 0)));
+    }
+
+    @Test
+    public void testUpdatesSpreadOverUpdatesWhenOverBudget() {
+        // a neighbour takes at least 40 microseconds to update, so the 2 ms budget is used up by the 64th neighbour,
+        // where the clock is first looked at
+        updateNanos = 40_000;
+        int changedBlocks = 40;
+        int[] positions = new int[3 * changedBlocks];
+        for (int i = 0; i < changedBlocks; i++) {
+            positions[3 * i] = 3 * i;
+        }
+        system.blocksUpdate(new OnChangedBlocks(new TIntArrayList(positions)), EntityRef.NULL);
+
+        system.update(0.1f);
+        assertEquals(64, updatedPositions.size());
+
+        for (int i = 0; i < 3; i++) {
+            system.update(0.1f);
+        }
+        assertEquals(changedBlocks * Side.values().length, updatedPositions.size());
+    }
+}
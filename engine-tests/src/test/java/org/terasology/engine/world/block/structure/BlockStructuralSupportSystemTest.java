@@ -0,0 +1,153 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.world.block.structure;
+
+import gnu.trove.list.array.TIntArrayList;
+import org.joml.Vector3i;
+import org.joml.Vector3ic;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.terasology.engine.context.Context;
+import org.terasology.engine.context.internal.ContextImpl;
+import org.terasology.engine.entitySystem.entity.EntityManager;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.prefab.PrefabManager;
+import org.terasology.engine.logic.health.DestroyEvent;
+import org.terasology.engine.math.Side;
+import org.terasology.engine.registry.InjectionHelper;
+import org.terasology.engine.world.BlockEntityRegistry;
+import org.terasology.engine.world.OnChangedBlock;
+import org.terasology.engine.world.OnChangedBlocks;
+import org.terasology.engine.world.WorldProvider;
+import org.terasology.engine.world.block.Block;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link BlockStructuralSupportSystem}
+ */
+public class BlockStructuralSupportSystemTest {
+    private BlockStructuralSupportSystem system;
+    private RecordingSupport support;
+    private List<Vector3i> destroyedBlocks;
+
+    @BeforeEach
+    public void setup() {
+        system = new BlockStructuralSupportSystem();
+        Context context = new ContextImpl();
+
+        WorldProvider worldProvider = Mockito.mock(WorldProvider.class);
+        Mockito.when(worldProvider.isBlockRelevant(Mockito.any(Vector3ic.class))).thenReturn(true);
+        context.put(WorldProvider.class, worldProvider);
+
+        destroyedBlocks = new ArrayList<>();
+        BlockEntityRegistry blockEntityRegistry = Mockito.mock(BlockEntityRegistry.class);
+        Mockito.when(blockEntityRegistry.getBlockEntityAt(Mockito.any(Vector3ic.class))).then(invocation -> {
+            Vector3i position = new Vector3i(invocation.<Vector3ic>getArgument(0));
+            EntityRef blockEntity = Mockito.mock(EntityRef.class);
+            Mockito.when(blockEntity.send(Mockito.any(DestroyEvent.class))).then(sent -> {
+                destroyedBlocks.add(position);
+                return sent.getArgument(0);
+            });
+            return blockEntity;
+        });
+        context.put(BlockEntityRegistry.class, blockEntityRegistry);
+        context.put(EntityManager.class, Mockito.mock(EntityManager.class));
+        context.put(PrefabManager.class, Mockito.mock(PrefabManager.class));
+        InjectionHelper.inject(system, context);
+
+        support = new RecordingSupport();
+        system.registerBlockStructuralSupport(support);
+    }
+
+    @Test
+    public void testSupportCheckedOnUpdate() {
+        support.unsupported.add(new Vector3i(0, 1, 0));
+
+        system.checkForSupportRemoved(new OnChangedBlock(new Vector3i(), new Block(), new Block()), EntityRef.NULL);
+        assertEquals(0, support.checkCount);
+        assertTrue(destroyedBlocks.isEmpty());
+
+        system.update(0.1f);
+        assertEquals(Side.values().length, support.checkCount);
+        assertEquals(List.of(new Vector3i(0, 1, 0)), destroyedBlocks);
+    }
+
+    @Test
+    public void testBlockChangedTwiceCheckedOnce() {
+        OnChangedBlock event = new OnChangedBlock(new Vector3i(), new Block(), new Block());
+        system.checkForSupportRemoved(event, EntityRef.NULL);
+        system.checkForSupportRemoved(event, EntityRef.NULL);
+
+        system.update(0.1f);
+        assertEquals(Side.values().length, support.checkCount);
+    }
+
+    @Test
+    public void testBulkChangeCheckedOnUpdate() {
+        support.unsupported.add(new Vector3i(0, 0, 2));
+
+        system.checkForSupportRemovedInBulk(new OnChangedBlocks(new TIntArrayList(new int[]{0, 0, 0, 0, 0, 1})),
+                EntityRef.NULL);
+        assertEquals(0, support.checkCount);
+
+        system.update(0.1f);
+        assertEquals(2 * Side.values().length, support.checkCount);
+        assertEquals(List.of(new Vector3i(0, 0, 2)), destroyedBlocks);
+    }
+
+    @Test
+    public void testChecksSpreadOverUpdatesWhenOverBudget() {
+        // a changed block takes at least 60 microseconds to check, so the 2 ms budget is used up by the 64th block,
+        // where the clock is first looked at
+        support.checkNanos = 10_000;
+        int changedBlocks = 200;
+        for (int x = 0; x < changedBlocks; x++) {
+            system.checkForSupportRemoved(new OnChangedBlock(new Vector3i(2 * x, 0, 0), new Block(), new Block()),
+                    EntityRef.NULL);
+        }
+
+        system.update(0.1f);
+        assertEquals(64 * Side.values().length, support.checkCount);
+
+        for (int i = 0; i < 3; i++) {
+            system.update(0.1f);
+        }
+        assertEquals(changedBlocks * Side.values().length, support.checkCount);
+    }
+
+    /**
+     * Considers the blocks at the given positions unsupported, and counts how often it was asked.
+     */
+    private static class RecordingSupport implements BlockStructuralSupport {
+        private final List<Vector3i> unsupported = new ArrayList<>();
+        private long checkNanos;
+        private int checkCount;
+
+        @Override
+        public int getPriority() {
+            return 0;
+        }
+
+        @Override
+        public boolean shouldBeRemovedDueToChange(Vector3i location, Side sideChanged) {
+            checkCount++;
+            long end = System.nanoTime() + checkNanos;
+            while (System.nanoTime() < end) {
+                Thread.onSpinWait();
+            }
+            return unsupported.contains(location);
+        }
+
+        @Override
+        public boolean isSufficientlySupported(Vector3ic location, Map<? extends Vector3ic, Block> blockOverrides) {
+            return true;
+        }
+    }
+}
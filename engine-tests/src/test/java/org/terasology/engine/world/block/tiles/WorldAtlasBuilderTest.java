@@ -0,0 +1,74 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.world.block.tiles;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+public class WorldAtlasBuilderTest {
+    private static final int RED = 0xFFFF0000;
+    private static final int BLUE = 0xFF0000FF;
+    private static final int CLEAR = 0xFF808080;
+
+    private final WorldAtlasBuilder builder = new WorldAtlasBuilder(MoreExecutors.newDirectExecutorService(), 4, 2, 2);
+
+    @Test
+    public void testFramesAreAveragedIntoSmallerMipmaps() {
+        WorldAtlasBuilder.Layer layer = new WorldAtlasBuilder.Layer(
+                new int[][]{{RED, BLUE, BLUE, RED}, null, {BLUE}}, new int[]{2, 0, 1});
+
+        int[] level0 = builder.composite(layer, CLEAR, null, 0);
+        int[] level1 = builder.composite(layer, CLEAR, null, 1);
+
+        assertArrayEquals(new int[]{
+                RED, BLUE, CLEAR, CLEAR,
+                BLUE, RED, CLEAR, CLEAR,
+                BLUE, BLUE, CLEAR, CLEAR,
+                BLUE, BLUE, CLEAR, CLEAR}, level0);
+        assertArrayEquals(new int[]{0xFF800080, CLEAR, BLUE, CLEAR}, level1);
+    }
+
+    @Test
+    public void testTranslucentFramesAreDrawnOverTheClearColor() {
+        assertEquals(0xFF800000, WorldAtlasBuilder.blend(0x80FF0000, 0xFF000000));
+        assertEquals(0x80FF0000, WorldAtlasBuilder.blend(0x80FF0000, 0x00000000));
+        assertEquals(CLEAR, WorldAtlasBuilder.blend(0x00FFFFFF, CLEAR));
+    }
+
+    @Test
+    public void testAlphaMaskReplacesAlpha() {
+        WorldAtlasBuilder.Layer layer = new WorldAtlasBuilder.Layer(new int[][]{{RED}}, new int[]{1});
+        WorldAtlasBuilder.Layer mask = new WorldAtlasBuilder.Layer(new int[][]{{0xFF000040}}, new int[]{1});
+
+        int[] pixels = builder.composite(layer, CLEAR, mask, 1);
+
+        assertEquals(0x40FF0000, pixels[0]);
+        assertEquals(0x00808080, pixels[1]);
+    }
+
+    @Test
+    public void testRgbaConversionRoundTrips() {
+        int[] argb = {0x11223344, 0xFF000080};
+
+        ByteBuffer rgba = WorldAtlasBuilder.toRgba(argb);
+
+        assertEquals(0x22, rgba.get(0));
+        assertEquals(0x11, rgba.get(3));
+        assertArrayEquals(argb, WorldAtlasBuilder.toArgb(rgba));
+    }
+
+    @Test
+    public void testHashFollowsContent() {
+        WorldAtlasBuilder.Layer layer = new WorldAtlasBuilder.Layer(new int[][]{{RED}, null}, new int[]{1, 0});
+
+        assertEquals(layer.getHash(), new WorldAtlasBuilder.Layer(new int[][]{{RED}, null}, new int[]{1, 0}).getHash());
+        assertNotEquals(layer.getHash(), new WorldAtlasBuilder.Layer(new int[][]{{BLUE}, null}, new int[]{1, 0}).getHash());
+        assertNotEquals(layer.getHash(), new WorldAtlasBuilder.Layer(new int[][]{null, {RED}}, new int[]{0, 1}).getHash());
+    }
+}
@@ -0,0 +1,74 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.world.block.tiles;
+
+import gnu.trove.map.TObjectIntMap;
+import gnu.trove.map.hash.TObjectIntHashMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.terasology.gestalt.assets.ResourceUrn;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class WorldAtlasCacheTest {
+    private static final int SIZE = 4;
+
+    private WorldAtlasCache cache;
+    private TObjectIntMap<ResourceUrn> tileIndexes;
+    private ByteBuffer[][] atlases;
+
+    @BeforeEach
+    public void setup(@TempDir Path directory) {
+        cache = new WorldAtlasCache(directory);
+        tileIndexes = new TObjectIntHashMap<>();
+        tileIndexes.put(new ResourceUrn("engine:stone"), 0);
+        tileIndexes.put(new ResourceUrn("engine:dirt"), 3);
+        atlases = new ByteBuffer[2][];
+        for (int i = 0; i < atlases.length; i++) {
+            atlases[i] = new ByteBuffer[]{
+                    WorldAtlasBuilder.toRgba(filled(SIZE * SIZE, 0xFF000000 | i)),
+                    WorldAtlasBuilder.toRgba(filled(SIZE * SIZE / 4, 0x80000010 | i))};
+        }
+    }
+
+    @Test
+    public void testSavedAtlasesCanBeLoaded() {
+        cache.save("abc", tileIndexes, SIZE, atlases);
+
+        ByteBuffer[][] loaded = cache.load("abc", tileIndexes, SIZE, 2, 2);
+
+        assertNotNull(loaded);
+        for (int i = 0; i < atlases.length; i++) {
+            for (int level = 0; level < 2; level++) {
+                assertEquals(atlases[i][level].limit(), loaded[i][level].limit());
+                assertArrayEquals(WorldAtlasBuilder.toArgb(atlases[i][level]),
+                        WorldAtlasBuilder.toArgb(loaded[i][level]));
+            }
+        }
+    }
+
+    @Test
+    public void testMismatchedEntriesAreNotLoaded() {
+        cache.save("abc", tileIndexes, SIZE, atlases);
+        TObjectIntMap<ResourceUrn> otherIndexes = new TObjectIntHashMap<>(tileIndexes);
+        otherIndexes.put(new ResourceUrn("engine:dirt"), 2);
+
+        assertNull(cache.load("abd", tileIndexes, SIZE, 2, 2));
+        assertNull(cache.load("abc", otherIndexes, SIZE, 2, 2));
+        assertNull(cache.load("abc", tileIndexes, SIZE * 2, 2, 2));
+    }
+
+    private static int[] filled(int length, int color) {
+        int[] pixels = new int[length];
+        Arrays.fill(pixels, color);
+        return pixels;
+    }
+}
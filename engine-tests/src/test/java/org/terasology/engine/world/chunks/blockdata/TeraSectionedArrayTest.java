@@ -0,0 +1,160 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.world.chunks.blockdata;
+
+import org.junit.jupiter.api.Test;
+import org.terasology.engine.world.chunks.deflate.TeraStandardDeflator;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TeraSectionedArrayTest {
+
+    private static final int SIZE_X = 8;
+    private static final int SIZE_Y = 64;
+    private static final int SIZE_Z = 8;
+
+    @Test
+    public void testUniformSectionsAreNotAllocated() {
+        TeraSectionedArray array = new TeraSectionedArray(SIZE_X, SIZE_Y, SIZE_Z, 16);
+        int empty = array.getEstimatedMemoryConsumptionInBytes();
+        assertEquals(4, array.getUniformSectionCount());
+
+        array.set(1, 20, 1, 0);
+        assertEquals(4, array.getUniformSectionCount());
+        assertEquals(empty, array.getEstimatedMemoryConsumptionInBytes());
+
+        assertEquals(0, array.set(1, 20, 1, 7));
+        assertEquals(3, array.getUniformSectionCount());
+        assertTrue(array.isUniform(0, 15));
+        assertFalse(array.isUniform(0, 31));
+        assertEquals(7, array.get(1, 20, 1));
+        assertEquals(0, array.get(2, 20, 1));
+    }
+
+    @Test
+    public void testValuesAreStoredWithElementSize() {
+        TeraSectionedArray array = new TeraSectionedArray(SIZE_X, SIZE_Y, SIZE_Z, 8);
+        array.set(0, 0, 0, 200);
+        assertEquals((byte) 200, array.get(0, 0, 0));
+        assertEquals(4 - 1, array.getUniformSectionCount());
+
+        assertFalse(array.set(1, 40, 1, 5, 3));
+        assertTrue(array.set(1, 40, 1, 0, 0));
+        assertEquals(3, array.getUniformSectionCount());
+        assertTrue(array.set(1, 40, 1, 5, 0));
+        assertEquals(5, array.get(1, 40, 1));
+    }
+
+    @Test
+    public void testCopiesDoNotSeeEachOthersChanges() {
+        TeraSectionedArray array = new TeraSectionedArray(SIZE_X, SIZE_Y, SIZE_Z, 16);
+        array.set(3, 3, 3, 1);
+        TeraArray copy = array.copy();
+
+        array.set(3, 3, 3, 2);
+        copy.set(4, 4, 4, 3);
+        copy.set(5, 50, 5, 4);
+
+        assertEquals(2, array.get(3, 3, 3));
+        assertEquals(0, array.get(4, 4, 4));
+        assertEquals(0, array.get(5, 50, 5));
+        assertEquals(1, copy.get(3, 3, 3));
+        assertEquals(3, copy.get(4, 4, 4));
+        assertEquals(4, copy.get(5, 50, 5));
+    }
+
+    @Test
+    public void testConvertsFromDenseArray() {
+        TeraDenseArray16Bit dense = new TeraDenseArray16Bit(SIZE_X, SIZE_Y, SIZE_Z);
+        for (int y = 16; y < 32; y++) {
+            for (int z = 0; z < SIZE_Z; z++) {
+                for (int x = 0; x < SIZE_X; x++) {
+                    dense.set(x, y, z, 9);
+                }
+            }
+        }
+        dense.set(2, 40, 3, 11);
+
+        TeraSectionedArray array = new TeraSectionedArray(dense, 16);
+
+        assertEquals(3, array.getUniformSectionCount());
+        assertTrue(array.isUniform(16, 31));
+        assertEquals(9, array.get(0, 20, 0));
+        assertEquals(11, array.get(2, 40, 3));
+    }
+
+    @Test
+    public void testDeflateElidesSectionsThatBecameUniform() {
+        TeraSectionedArray array = new TeraSectionedArray(SIZE_X, SIZE_Y, SIZE_Z, 16);
+        array.set(1, 1, 1, 5);
+        array.set(1, 1, 1, 0);
+        array.set(1, 40, 1, 5);
+        assertEquals(2, array.getUniformSectionCount());
+
+        TeraArray deflated = new TeraStandardDeflator().deflate(array);
+
+        assertNotSame(array, deflated);
+        assertEquals(3, ((TeraSectionedArray) deflated).getUniformSectionCount());
+        assertEquals(5, deflated.get(1, 40, 1));
+        assertSame(deflated, new TeraStandardDeflator().deflate(deflated));
+    }
+
+    @Test
+    public void testDeflateCompactsSectionsThatAreNotUniform() {
+        TeraSectionedArray array = new TeraSectionedArray(SIZE_X, SIZE_Y, SIZE_Z, 16);
+        for (int z = 0; z < SIZE_Z; z++) {
+            for (int x = 0; x < SIZE_X; x++) {
+                array.set(x, 20, z, 3);
+            }
+        }
+        array.set(2, 21, 2, 4);
+        int before = array.getEstimatedMemoryConsumptionInBytes();
+
+        TeraArray deflated = new TeraStandardDeflator().deflate(array);
+
+        assertTrue(deflated.getEstimatedMemoryConsumptionInBytes() < before);
+        assertEquals(3, ((TeraSectionedArray) deflated).getUniformSectionCount());
+        assertEquals(3, deflated.get(5, 20, 5));
+        assertEquals(4, deflated.get(2, 21, 2));
+        assertEquals(0, deflated.get(2, 22, 2));
+
+        deflated.set(6, 30, 6, 8);
+        assertEquals(8, deflated.get(6, 30, 6));
+        assertEquals(0, array.get(6, 30, 6));
+
+        TeraSectionedArray.SerializationHandler handler = new TeraSectionedArray.SerializationHandler();
+        ByteBuffer buffer = handler.serialize((TeraSectionedArray) deflated);
+        buffer.rewind();
+        TeraSectionedArray result = handler.deserialize(buffer);
+        assertEquals(4, result.get(2, 21, 2));
+        assertEquals(8, result.get(6, 30, 6));
+    }
+
+    @Test
+    public void testSerializationRoundTrip() {
+        TeraSectionedArray array = new TeraSectionedArray(SIZE_X, SIZE_Y, SIZE_Z, 8);
+        array.set(1, 2, 3, 4);
+        array.set(7, 63, 7, -1);
+        TeraSectionedArray.SerializationHandler handler = new TeraSectionedArray.SerializationHandler();
+
+        ByteBuffer buffer = handler.serialize(array);
+        buffer.rewind();
+        TeraSectionedArray result = handler.deserialize(buffer);
+
+        assertEquals(array.getUniformSectionCount(), result.getUniformSectionCount());
+        assertEquals(8, result.getElementSizeInBits());
+        for (int y = 0; y < SIZE_Y; y++) {
+            for (int z = 0; z < SIZE_Z; z++) {
+                for (int x = 0; x < SIZE_X; x++) {
+                    assertEquals(array.get(x, y, z), result.get(x, y, z));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,159 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.world.chunks.internal;
+
+import org.joml.Vector3i;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.terasology.engine.world.block.Block;
+import org.terasology.engine.world.block.BlockManager;
+import org.terasology.engine.world.chunks.Chunk;
+import org.terasology.engine.world.chunks.Chunks;
+import org.terasology.engine.world.chunks.blockdata.ExtraBlockDataManager;
+import org.terasology.engine.world.chunks.blockdata.TeraArray;
+import org.terasology.engine.world.chunks.blockdata.TeraSectionedArray;
+import org.terasology.protobuf.EntityData;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class ChunkSnapshotTest {
+
+    private static final int BLOCK_TYPES = 8;
+
+    private final Block[] blocks = new Block[BLOCK_TYPES];
+    private ChunkImpl chunk;
+
+    @BeforeEach
+    public void setup() {
+        for (int i = 0; i < BLOCK_TYPES; i++) {
+            blocks[i] = new Block();
+            blocks[i].setId((short) i);
+        }
+        chunk = new ChunkImpl(new Vector3i(), Mockito.mock(BlockManager.class), new ExtraBlockDataManager());
+    }
+
+    @Test
+    public void testSnapshotUnaffectedByLaterChanges() {
+        chunk.setBlock(1, 2, 3, blocks[1]);
+        ChunkSnapshot snapshot = chunk.createSnapshot();
+
+        chunk.setBlock(1, 2, 3, blocks[2]);
+        chunk.setBlock(4, 5, 6, blocks[3]);
+
+        assertEquals(1, snapshot.getBlockId(1, 2, 3));
+        assertEquals(0, snapshot.getBlockId(4, 5, 6));
+        assertEquals(2, chunk.getBlockId(1, 2, 3));
+        assertEquals(2, chunk.createSnapshot().getBlockId(1, 2, 3));
+    }
+
+    @Test
+    public void testSnapshotReusedWhileUnchanged() {
+        ChunkSnapshot snapshot = chunk.createSnapshot();
+        chunk.setBlock(0, 0, 0, blocks[0]);
+        assertSame(snapshot, chunk.createSnapshot());
+
+        chunk.setBlock(0, 0, 0, blocks[1]);
+        ChunkSnapshot next = chunk.createSnapshot();
+        assertNotSame(snapshot, next);
+        assertEquals(snapshot.getVersion() + 1, next.getVersion());
+    }
+
+    @Test
+    public void testEncodesSnapshotVersion() {
+        chunk.setBlock(7, 8, 9, blocks[5]);
+        ChunkSnapshot snapshot = chunk.createSnapshot();
+        chunk.setBlock(7, 8, 9, blocks[6]);
+
+        EntityData.ChunkStore encoded = snapshot.encode().build();
+        Chunk decoded = ChunkSerializer.decode(encoded, Mockito.mock(BlockManager.class), new ExtraBlockDataManager());
+
+        assertEquals(5, decoded.getBlockId(7, 8, 9));
+        assertEquals(encoded, snapshot.encode().build());
+    }
+
+    /**
+     * A newer snapshot that shares the block data with an older one, and is dropped before the next block change, must
+     * not let that change leak into the older snapshot.
+     */
+    @Test
+    public void testOlderSnapshotUnaffectedAfterNewerOneIsDropped() {
+        ChunkImpl extraChunk = new ChunkImpl(new Vector3i(),
+                new TeraSectionedArray(Chunks.SIZE_X, Chunks.SIZE_Y, Chunks.SIZE_Z, 16),
+                new TeraArray[]{new TeraSectionedArray(Chunks.SIZE_X, Chunks.SIZE_Y, Chunks.SIZE_Z, 8)},
+                Mockito.mock(BlockManager.class));
+        extraChunk.setBlock(1, 2, 3, blocks[1]);
+        ChunkSnapshot older = extraChunk.createSnapshot();
+
+        extraChunk.setExtraData(0, 4, 5, 6, 7);
+        WeakReference<ChunkSnapshot> newer = new WeakReference<>(extraChunk.createSnapshot());
+        assertEquals(older.getVersion() + 1, newer.get().getVersion());
+        for (int i = 0; i < 10 && newer.get() != null; i++) {
+            System.gc();
+        }
+
+        extraChunk.setBlock(1, 2, 3, blocks[2]);
+        extraChunk.setExtraData(0, 4, 5, 6, 3);
+
+        assertEquals(1, older.getBlockId(1, 2, 3));
+        assertEquals(0, older.getExtraData(0, 4, 5, 6));
+        assertEquals(2, extraChunk.getBlockId(1, 2, 3));
+        assertEquals(3, extraChunk.getExtraData(0, 4, 5, 6));
+    }
+
+    /**
+     * Changes blocks on one thread while other threads read snapshots of the chunk. Every snapshot must keep the
+     * content the chunk had when it was taken.
+     */
+    @Test
+    public void testConcurrentReadsDuringChanges() throws Exception {
+        ExecutorService readers = Executors.newFixedThreadPool(4);
+        try {
+            Random random = new Random(42);
+            List<Future<?>> checks = new ArrayList<>();
+            long sum = 0;
+            for (int change = 1; change <= 100_000; change++) {
+                int x = random.nextInt(Chunks.SIZE_X);
+                int y = random.nextInt(Chunks.SIZE_Y);
+                int z = random.nextInt(Chunks.SIZE_Z);
+                int id = random.nextInt(BLOCK_TYPES);
+                sum += id - chunk.getBlockId(x, y, z);
+                chunk.setBlock(x, y, z, blocks[id]);
+
+                if (change % 1000 == 0) {
+                    ChunkSnapshot snapshot = chunk.createSnapshot();
+                    long expectedSum = sum;
+                    checks.add(readers.submit(() -> assertEquals(expectedSum, sumOf(snapshot))));
+                    checks.add(readers.submit(() -> snapshot.encode()));
+                }
+            }
+            for (Future<?> check : checks) {
+                check.get();
+            }
+        } finally {
+            readers.shutdownNow();
+        }
+    }
+
+    private static long sumOf(ChunkSnapshot snapshot) {
+        long sum = 0;
+        for (int x = 0; x < Chunks.SIZE_X; x++) {
+            for (int y = 0; y < Chunks.SIZE_Y; y++) {
+                for (int z = 0; z < Chunks.SIZE_Z; z++) {
+                    sum += snapshot.getBlockId(x, y, z);
+                }
+            }
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,111 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.world.chunks.internal;
+
+import org.joml.Vector3i;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.terasology.engine.world.block.Block;
+import org.terasology.engine.world.block.BlockManager;
+import org.terasology.engine.world.chunks.blockdata.ExtraBlockDataManager;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LodChunkStoreTest {
+
+    private final Block stone = new Block();
+    private LodChunkStore store;
+    private ChunkImpl chunk;
+
+    @BeforeEach
+    public void setup(@TempDir Path directory) {
+        stone.setId((short) 3);
+        store = new LodChunkStore(directory);
+        chunk = new PreLodChunk(new Vector3i(), Mockito.mock(BlockManager.class), new ExtraBlockDataManager());
+        chunk.setBlock(5, 6, 7, stone);
+    }
+
+    @Test
+    public void testStoredChunkCanBeLoaded() {
+        Vector3i pos = new Vector3i(4, 0, -2);
+        store.store(pos, 1, chunk, true, store.getInvalidationCount());
+
+        LodChunkStore.Entry entry = store.load(pos, 1);
+
+        assertNotNull(entry);
+        assertTrue(entry.isDerived());
+        assertEquals(3, entry.getBlocks().get(5, 6, 7));
+        assertEquals(0, entry.getBlocks().get(5, 7, 7));
+        assertNull(store.load(pos, 2));
+        assertNull(store.load(new Vector3i(6, 0, -2), 1));
+    }
+
+    @Test
+    public void testSavingRealChunksInvalidatesCoveringChunks() {
+        Vector3i covering = new Vector3i(4, 0, -2);
+        Vector3i neighbour = new Vector3i(6, 0, -2);
+        Vector3i distant = new Vector3i(10, 0, -2);
+        for (Vector3i pos : List.of(covering, neighbour, distant)) {
+            store.store(pos, 1, chunk, false, store.getInvalidationCount());
+        }
+
+        store.invalidate(List.of(new Vector3i(5, 1, -1)));
+
+        assertNull(store.load(covering, 1));
+        assertNull(store.load(neighbour, 1));
+        assertNotNull(store.load(distant, 1));
+        assertFalse(store.load(distant, 1).isDerived());
+    }
+
+    @Test
+    public void testChunksReadBeforeInvalidationAreNotStored() {
+        Vector3i pos = new Vector3i(0, 0, 0);
+        long readAt = store.getInvalidationCount();
+
+        store.invalidate(List.of(new Vector3i(100, 0, 0)));
+        store.store(pos, 0, chunk, true, readAt);
+
+        assertNull(store.load(pos, 0));
+    }
+
+    @Test
+    public void testOnlyChangedChunksInvalidateOnSave() {
+        Vector3i unchangedPos = new Vector3i(0, 0, 0);
+        Vector3i changedPos = new Vector3i(20, 0, 0);
+        Vector3i unloadedPos = new Vector3i(40, 0, 0);
+        store.invalidateChanged(Map.of(unchangedPos, 3L, changedPos, 3L, unloadedPos, 3L), Map.of());
+        for (Vector3i pos : List.of(unchangedPos, changedPos, unloadedPos)) {
+            store.store(pos, 1, chunk, true, store.getInvalidationCount());
+        }
+
+        store.invalidateChanged(Map.of(unchangedPos, 3L, changedPos, 4L), Map.of(unloadedPos, 3L));
+
+        assertNotNull(store.load(unchangedPos, 1));
+        assertNull(store.load(changedPos, 1));
+        assertNotNull(store.load(unloadedPos, 1));
+    }
+
+    @Test
+    public void testReloadedChunkInvalidatesOnSave() {
+        Vector3i pos = new Vector3i(0, 0, 0);
+        store.invalidateChanged(Map.of(), Map.of(pos, 3L));
+        store.store(pos, 1, chunk, true, store.getInvalidationCount());
+        store.invalidateChanged(Map.of(pos, 3L), Map.of());
+        assertNull(store.load(pos, 1));
+
+        store.store(pos, 1, chunk, true, store.getInvalidationCount());
+        store.forgetSavedVersion(pos);
+        store.invalidateChanged(Map.of(pos, 3L), Map.of());
+        assertNull(store.load(pos, 1));
+    }
+}
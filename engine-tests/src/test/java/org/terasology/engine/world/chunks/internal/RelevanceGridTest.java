@@ -0,0 +1,153 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.world.chunks.internal;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import org.joml.Vector3f;
+import org.joml.Vector3i;
+import org.joml.Vector3ic;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.logic.location.LocationComponent;
+import org.terasology.engine.world.block.BlockRegion;
+import org.terasology.engine.world.block.BlockRegionc;
+import org.terasology.engine.world.chunks.Chunk;
+import org.terasology.engine.world.chunks.ChunkRegionListener;
+import org.terasology.engine.world.chunks.Chunks;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+public class RelevanceGridTest {
+
+    @Test
+    public void testDifferenceCoversExactlyTheMissingPositions() {
+        BlockRegion a = new BlockRegion(0, 0, 0, 4, 3, 5);
+        List<BlockRegion> others = List.of(
+                new BlockRegion(1, 0, 0, 5, 3, 5),
+                new BlockRegion(-1, 1, 2, 2, 5, 3),
+                new BlockRegion(1, 1, 1, 2, 2, 2),
+                new BlockRegion(10, 10, 10, 11, 11, 11),
+                new BlockRegion(BlockRegion.INVALID));
+        for (BlockRegion b : others) {
+            Set<Vector3i> expected = Sets.newHashSet();
+            for (Vector3ic pos : a) {
+                if (!b.isValid() || !b.contains(pos)) {
+                    expected.add(new Vector3i(pos));
+                }
+            }
+            List<Vector3i> actual = Lists.newArrayList();
+            RelevanceGrid.forEachDifference(a, b, slab -> {
+                for (Vector3ic pos : slab) {
+                    actual.add(new Vector3i(pos));
+                }
+            });
+            assertEquals(expected.size(), actual.size(), "slabs overlap for " + b);
+            assertEquals(expected, Sets.newHashSet(actual), "wrong positions for " + b);
+        }
+    }
+
+    @Test
+    public void testOneChunkShiftIsOneSlab() {
+        BlockRegion from = new BlockRegion(0, 0, 0, 8, 4, 8);
+        List<BlockRegionc> slabs = Lists.newArrayList();
+
+        RelevanceGrid.forEachDifference(new BlockRegion(from).translate(1, 0, 0), from, slabs::add);
+
+        assertEquals(List.of(new BlockRegion(9, 0, 0, 9, 4, 8)), slabs);
+    }
+
+    @Test
+    public void testSharedChunksStayCoveredUntilTheLastRegionLeaves() {
+        RelevanceGrid grid = new RelevanceGrid(new Vector3i(1, 1, 1));
+        BlockRegion first = new BlockRegion(0, 0, 0, 2, 2, 2);
+        BlockRegion second = new BlockRegion(2, 0, 0, 4, 2, 2);
+        grid.updateCoverage(BlockRegion.INVALID, first);
+        grid.updateCoverage(BlockRegion.INVALID, second);
+
+        grid.updateCoverage(first, BlockRegion.INVALID);
+
+        assertTrue(grid.isCovered(new Vector3i(2, 0, 0)));
+        assertTrue(grid.isCovered(new Vector3i(1, 0, 0)));
+        assertFalse(grid.isCovered(new Vector3i(0, 0, 0)));
+        assertEquals(5 * 5 * 5, grid.getCoveredCount());
+
+        grid.updateCoverage(second, BlockRegion.INVALID);
+
+        assertEquals(0, grid.getCoveredCount());
+    }
+
+    @Test
+    public void testMovingRegionOnlyDiffsTheChangedSlabs() {
+        RelevanceGrid grid = new RelevanceGrid(new Vector3i());
+        LocationComponent location = new LocationComponent(new Vector3f(16, 32, 16));
+        EntityRef entity = Mockito.mock(EntityRef.class);
+        when(entity.getComponent(LocationComponent.class)).thenReturn(location);
+        when(entity.hasComponent(LocationComponent.class)).thenReturn(true);
+        ChunkRegionListener listener = Mockito.mock(ChunkRegionListener.class);
+        ChunkRelevanceRegion region = new ChunkRelevanceRegion(entity, new Vector3i(3, 3, 3), grid);
+        region.setListener(listener);
+        for (Vector3i pos : region.getNeededChunks()) {
+            region.checkIfChunkIsRelevant(chunkAt(pos));
+        }
+        region.setUpToDate();
+        int version = grid.getCenters().getVersion();
+
+        location.setWorldPosition(new Vector3f(16 + Chunks.SIZE_X, 32, 16));
+        region.update();
+
+        assertTrue(region.isDirty());
+        assertEquals(new BlockRegion(0, -1, -1, 2, 1, 1), region.getCurrentRegion());
+        Mockito.verify(listener, Mockito.times(9)).onChunkIrrelevant(Mockito.argThat(pos -> pos.x() == -1));
+        Mockito.verify(listener, Mockito.times(9)).onChunkIrrelevant(Mockito.any());
+        List<Vector3i> needed = Lists.newArrayList(region.getNeededChunks());
+        assertEquals(9, needed.size());
+        assertTrue(needed.stream().allMatch(pos -> pos.x() == 2));
+        assertTrue(grid.isCovered(new Vector3i(2, 0, 0)));
+        assertFalse(grid.isCovered(new Vector3i(-1, 0, 0)));
+        assertTrue(grid.getCenters().getVersion() != version);
+        assertEquals(0, grid.getCenters().score(new Vector3i(1, 0, 0)));
+    }
+
+    @Test
+    public void testNeededChunksAskedForUntilTheyArrive() {
+        RelevanceGrid grid = new RelevanceGrid(new Vector3i());
+        LocationComponent location = new LocationComponent(new Vector3f(16, 32, 16));
+        EntityRef entity = Mockito.mock(EntityRef.class);
+        when(entity.getComponent(LocationComponent.class)).thenReturn(location);
+        when(entity.hasComponent(LocationComponent.class)).thenReturn(true);
+        ChunkRelevanceRegion region = new ChunkRelevanceRegion(entity, new Vector3i(3, 3, 3), grid);
+        region.setListener(Mockito.mock(ChunkRegionListener.class));
+        Vector3i missing = new Vector3i(1, 1, 1);
+        for (Vector3i pos : region.getNeededChunks()) {
+            if (!pos.equals(missing)) {
+                region.checkIfChunkIsRelevant(chunkAt(pos));
+            }
+        }
+        region.setUpToDate();
+
+        region.update();
+        assertFalse(region.isDirty());
+        assertTrue(region.hasPendingChunks());
+        assertEquals(List.of(missing), region.getNeededChunks());
+
+        region.checkIfChunkIsRelevant(chunkAt(missing));
+        assertFalse(region.hasPendingChunks());
+
+        region.chunkUnloaded(new Vector3i(0, 0, 0));
+        assertEquals(List.of(new Vector3i(0, 0, 0)), region.getNeededChunks());
+    }
+
+    private static Chunk chunkAt(Vector3ic pos) {
+        Chunk chunk = Mockito.mock(Chunk.class);
+        when(chunk.getPosition()).thenReturn(new Vector3i(pos));
+        return chunk;
+    }
+}
@@ -0,0 +1,108 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.world.chunks.localChunkProvider;
+
+import gnu.trove.list.TIntList;
+import gnu.trove.list.array.TIntArrayList;
+import gnu.trove.map.TShortObjectMap;
+import gnu.trove.map.hash.TShortObjectHashMap;
+import org.junit.jupiter.api.Test;
+import org.terasology.engine.world.chunks.Chunk;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public class ChunkUnloadPipelineTest {
+
+    @Test
+    public void testUnloadLimitFollowsMemoryPressure() {
+        double[] pressure = {0.3};
+        ChunkUnloadPipeline pipeline = new ChunkUnloadPipeline(1, chunk -> new TShortObjectHashMap<>(), chunk -> { },
+                () -> pressure[0]);
+        try {
+            assertEquals(ChunkUnloadPipeline.BASE_UNLOADS_PER_FRAME, pipeline.getUnloadLimit());
+            pressure[0] = (ChunkUnloadPipeline.LOW_PRESSURE + ChunkUnloadPipeline.HIGH_PRESSURE) / 2;
+            int limit = pipeline.getUnloadLimit();
+            assertTrue(limit > ChunkUnloadPipeline.BASE_UNLOADS_PER_FRAME
+                    && limit < ChunkUnloadPipeline.MAX_UNLOADS_PER_FRAME, "Limit must rise with the pressure: " + limit);
+            pressure[0] = 0.99;
+            assertEquals(ChunkUnloadPipeline.MAX_UNLOADS_PER_FRAME, pipeline.getUnloadLimit());
+        } finally {
+            pipeline.shutdown();
+        }
+    }
+
+    @Test
+    public void testPendingChunksLowerUnloadLimit() {
+        CountDownLatch release = new CountDownLatch(1);
+        ChunkUnloadPipeline pipeline = new ChunkUnloadPipeline(2, chunk -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new TShortObjectHashMap<>();
+        }, chunk -> { }, () -> 0.0);
+
+        for (int i = 0; i < 10; i++) {
+            pipeline.submit(mock(Chunk.class));
+        }
+        assertEquals(10, pipeline.getPendingCount());
+        assertEquals(ChunkUnloadPipeline.BASE_UNLOADS_PER_FRAME - 10, pipeline.getUnloadLimit());
+
+        release.countDown();
+        pipeline.shutdown();
+        assertEquals(0, pipeline.getPendingCount());
+        assertEquals(ChunkUnloadPipeline.BASE_UNLOADS_PER_FRAME, pipeline.getUnloadLimit());
+    }
+
+    @Test
+    public void testChunksAreScannedAndSerializedOnWorkers() {
+        Set<Chunk> serialized = ConcurrentHashMap.newKeySet();
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        ChunkUnloadPipeline pipeline = new ChunkUnloadPipeline(4, chunk -> {
+            threads.add(Thread.currentThread());
+            TShortObjectMap<TIntList> blocks = new TShortObjectHashMap<>();
+            blocks.put((short) 1, new TIntArrayList(new int[]{1, 2, 3}));
+            return blocks;
+        }, serialized::add, () -> 0.0);
+
+        List<Chunk> chunks = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Chunk chunk = mock(Chunk.class);
+            chunks.add(chunk);
+            pipeline.submit(chunk);
+        }
+        pipeline.shutdown();
+
+        List<TShortObjectMap<TIntList>> scanned = new ArrayList<>();
+        pipeline.drainScannedBlocks(scanned::add);
+        assertEquals(20, scanned.size());
+        assertEquals(20, serialized.size());
+        assertTrue(serialized.containsAll(chunks));
+        assertTrue(threads.stream().noneMatch(thread -> thread == Thread.currentThread()));
+    }
+
+    @Test
+    public void testRestartAfterShutdown() {
+        Set<Chunk> serialized = ConcurrentHashMap.newKeySet();
+        ChunkUnloadPipeline pipeline = new ChunkUnloadPipeline(1, chunk -> new TShortObjectHashMap<>(),
+                serialized::add, () -> 0.0);
+        pipeline.shutdown();
+
+        pipeline.submit(mock(Chunk.class));
+        assertEquals(0, pipeline.getPendingCount());
+
+        pipeline.restart();
+        pipeline.submit(mock(Chunk.class));
+        pipeline.shutdown();
+        assertEquals(1, serialized.size());
+    }
+}
@@ -0,0 +1,73 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.world.internal;
+
+import org.junit.jupiter.api.Test;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.world.chunks.Chunks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public class BlockEntityIndexTest {
+
+    private final BlockEntityIndex index = new BlockEntityIndex();
+
+    @Test
+    public void testPutAndGet() {
+        EntityRef first = mock(EntityRef.class);
+        EntityRef second = mock(EntityRef.class);
+
+        assertNull(index.put(1, 2, 3, first));
+        assertNull(index.put(-1, -2, -3, second));
+
+        assertSame(first, index.get(1, 2, 3));
+        assertSame(second, index.get(-1, -2, -3));
+        assertNull(index.get(1, 2, 4));
+        assertNull(index.get(1 + Chunks.SIZE_X, 2, 3));
+        assertEquals(2, index.size());
+        assertEquals(2, index.chunkCount());
+    }
+
+    @Test
+    public void testPutReplaces() {
+        EntityRef first = mock(EntityRef.class);
+        EntityRef second = mock(EntityRef.class);
+        index.put(5, 5, 5, first);
+
+        assertSame(first, index.put(5, 5, 5, second));
+        assertSame(second, index.get(5, 5, 5));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    public void testRemoveOnlyExpectedEntity() {
+        EntityRef entity = mock(EntityRef.class);
+        index.put(7, 8, 9, entity);
+
+        assertFalse(index.remove(7, 8, 9, mock(EntityRef.class)));
+        assertSame(entity, index.get(7, 8, 9));
+
+        assertTrue(index.remove(7, 8, 9, entity));
+        assertNull(index.get(7, 8, 9));
+        assertEquals(0, index.size());
+        assertEquals(0, index.chunkCount());
+    }
+
+    @Test
+    public void testRemoveChunk() {
+        EntityRef entity = mock(EntityRef.class);
+        index.put(0, 0, 0, entity);
+        index.put(Chunks.SIZE_X - 1, Chunks.SIZE_Y - 1, Chunks.SIZE_Z - 1, entity);
+        index.put(Chunks.SIZE_X, 0, 0, entity);
+
+        assertEquals(2, index.removeChunk(0, 0, 0));
+        assertNull(index.get(0, 0, 0));
+        assertSame(entity, index.get(Chunks.SIZE_X, 0, 0));
+        assertEquals(1, index.size());
+    }
+}
@@ -0,0 +1,106 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.world.propagation;
+
+import org.joml.Vector3i;
+import org.joml.Vector3ic;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BlockUpdateQueueTest {
+
+    private final BlockUpdateQueue queue = new BlockUpdateQueue();
+
+    @Test
+    public void testPositionQueuedOnce() {
+        assertTrue(queue.add(1, 2, 3));
+        assertFalse(queue.add(1, 2, 3));
+        assertTrue(queue.contains(1, 2, 3));
+        assertEquals(1, queue.size());
+
+        Vector3i pos = new Vector3i();
+        assertTrue(queue.poll(pos));
+        assertEquals(new Vector3i(1, 2, 3), pos);
+        assertFalse(queue.poll(pos));
+        assertTrue(queue.isEmpty());
+        assertFalse(queue.contains(1, 2, 3));
+    }
+
+    @Test
+    public void testNegativePositionsRoundTrip() {
+        queue.add(-1, -65, -33);
+        queue.add(-32, 63, 31);
+
+        Vector3i pos = new Vector3i();
+        List<Vector3i> polled = new ArrayList<>();
+        while (queue.poll(pos)) {
+            polled.add(new Vector3i(pos));
+        }
+        assertEquals(2, polled.size());
+        assertTrue(polled.contains(new Vector3i(-1, -65, -33)));
+        assertTrue(polled.contains(new Vector3i(-32, 63, 31)));
+        assertEquals(0, queue.chunkCount());
+    }
+
+    @Test
+    public void testChunksProcessedInQueueOrder() {
+        queue.add(100, 0, 0);
+        queue.add(0, 0, 0);
+        queue.add(101, 0, 0);
+
+        Vector3i pos = new Vector3i();
+        queue.poll(pos);
+        assertEquals(100, pos.x());
+        queue.poll(pos);
+        assertEquals(101, pos.x());
+        queue.poll(pos);
+        assertEquals(0, pos.x());
+    }
+
+    @Test
+    public void testPositionsQueuedWhileProcessingAreProcessed() {
+        queue.add(0, 0, 0);
+        List<Vector3i> processed = new ArrayList<>();
+
+        int count = queue.process((Vector3ic pos) -> {
+            processed.add(new Vector3i(pos));
+            if (pos.x() < 40) {
+                queue.add(pos.x() + 10, 0, 0);
+            }
+        }, Long.MAX_VALUE);
+
+        assertEquals(5, count);
+        assertEquals(new Vector3i(40, 0, 0), processed.get(4));
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testProcessStopsWhenBudgetUsedUp() {
+        for (int i = 0; i < 1000; i++) {
+            queue.add(i, 0, 0);
+        }
+
+        int count = queue.process(pos -> {
+        }, 0);
+
+        assertTrue(count >= 1 && count < 1000);
+        assertEquals(1000 - count, queue.size());
+    }
+
+    @Test
+    public void testClear() {
+        queue.add(0, 0, 0);
+        queue.add(100, 0, 0);
+        queue.clear();
+
+        assertTrue(queue.isEmpty());
+        assertEquals(0, queue.chunkCount());
+        assertTrue(queue.add(0, 0, 0));
+    }
+}
@@ -0,0 +1,100 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.benchmark.chunks.arrays;
+
+import org.joml.Vector3ic;
+import org.terasology.engine.rendering.world.viewDistance.ViewDistance;
+import org.terasology.engine.world.chunks.Chunks;
+import org.terasology.engine.world.chunks.blockdata.TeraArray;
+import org.terasology.engine.world.chunks.blockdata.TeraDenseArray16Bit;
+import org.terasology.engine.world.chunks.blockdata.TeraDenseArray8Bit;
+import org.terasology.engine.world.chunks.blockdata.TeraSectionedArray;
+import org.terasology.engine.world.chunks.deflate.TeraDeflator;
+import org.terasology.engine.world.chunks.deflate.TeraStandardDeflator;
+
+import java.util.Locale;
+
+/**
+ * Prints the memory taken by the blocks and light of the chunks loaded around a player, stored in dense arrays and in
+ * sectioned arrays, for the usual view distances. Both are deflated with {@link TeraStandardDeflator} as loaded chunks
+ * are, so the dense arrays are the baseline chunks were stored in before they were split into sections.
+ * <p>
+ * The chunks hold a rolling terrain: stone up to a surface height between -24 and 24, and air with full sunlight above.
+ */
+public final class ChunkMemoryReport {
+
+    private static final ViewDistance[] VIEW_DISTANCES = {
+        ViewDistance.NEAR, ViewDistance.MODERATE, ViewDistance.FAR, ViewDistance.ULTRA
+    };
+
+    private ChunkMemoryReport() {
+    }
+
+    public static void main(String[] args) {
+        TeraDeflator deflator = new TeraStandardDeflator();
+        for (ViewDistance viewDistance : VIEW_DISTANCES) {
+            Vector3ic distance = viewDistance.getChunkDistance();
+            long dense = 0;
+            long sectioned = 0;
+            int sections = 0;
+            int uniformSections = 0;
+            for (int cy = -distance.y() / 2; cy <= distance.y() / 2; cy++) {
+                for (int cz = -distance.z() / 2; cz <= distance.z() / 2; cz++) {
+                    for (int cx = -distance.x() / 2; cx <= distance.x() / 2; cx++) {
+                        TeraArray[] denseChunk = {
+                            new TeraDenseArray16Bit(Chunks.SIZE_X, Chunks.SIZE_Y, Chunks.SIZE_Z),
+                            new TeraDenseArray8Bit(Chunks.SIZE_X, Chunks.SIZE_Y, Chunks.SIZE_Z),
+                            new TeraDenseArray8Bit(Chunks.SIZE_X, Chunks.SIZE_Y, Chunks.SIZE_Z),
+                            new TeraDenseArray8Bit(Chunks.SIZE_X, Chunks.SIZE_Y, Chunks.SIZE_Z)
+                        };
+                        TeraArray[] sectionedChunk = {
+                            new TeraSectionedArray(Chunks.SIZE_X, Chunks.SIZE_Y, Chunks.SIZE_Z, 16),
+                            new TeraSectionedArray(Chunks.SIZE_X, Chunks.SIZE_Y, Chunks.SIZE_Z, 8),
+                            new TeraSectionedArray(Chunks.SIZE_X, Chunks.SIZE_Y, Chunks.SIZE_Z, 8),
+                            new TeraSectionedArray(Chunks.SIZE_X, Chunks.SIZE_Y, Chunks.SIZE_Z, 8)
+                        };
+                        fill(denseChunk, cx, cy, cz);
+                        fill(sectionedChunk, cx, cy, cz);
+                        for (int i = 0; i < denseChunk.length; i++) {
+                            denseChunk[i] = deflator.deflate(denseChunk[i]);
+                            sectionedChunk[i] = deflator.deflate(sectionedChunk[i]);
+                            dense += denseChunk[i].getEstimatedMemoryConsumptionInBytes();
+                            sectioned += sectionedChunk[i].getEstimatedMemoryConsumptionInBytes();
+                        }
+                        TeraSectionedArray blocks = (TeraSectionedArray) sectionedChunk[0];
+                        sections += blocks.getSectionCount();
+                        uniformSections += blocks.getUniformSectionCount();
+                    }
+                }
+            }
+            System.out.println(String.format(Locale.ROOT,
+                    "%-9s %s chunks: deflated dense %7.1f MiB, sectioned %7.1f MiB (%+.0f%%), %d of %d block sections uniform",
+                    viewDistance.name(), distance.x() + "x" + distance.y() + "x" + distance.z(),
+                    dense / 1048576.0, sectioned / 1048576.0, 100.0 * sectioned / dense - 100.0,
+                    uniformSections, sections));
+        }
+    }
+
+    /**
+     * Fills blocks, sunlight, sunlight regeneration and light of a chunk.
+     */
+    private static void fill(TeraArray[] chunk, int cx, int cy, int cz) {
+        for (int z = 0; z < Chunks.SIZE_Z; z++) {
+            for (int x = 0; x < Chunks.SIZE_X; x++) {
+                int worldX = cx * Chunks.SIZE_X + x;
+                int worldZ = cz * Chunks.SIZE_Z + z;
+                int surface = (int) (12 * Math.sin(worldX / 23.0) + 12 * Math.cos(worldZ / 31.0));
+                for (int y = 0; y < Chunks.SIZE_Y; y++) {
+                    int worldY = cy * Chunks.SIZE_Y + y;
+                    if (worldY <= surface) {
+                        chunk[0].set(x, y, z, 1);
+                    } else {
+                        chunk[1].set(x, y, z, Chunks.MAX_SUNLIGHT);
+                        chunk[2].set(x, y, z, Chunks.MAX_SUNLIGHT_REGEN);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -20,6 +20,7 @@
 import org.terasology.engine.world.chunks.blockdata.TeraDenseArray16Bit;
 import org.terasology.engine.world.chunks.blockdata.TeraDenseArray4Bit;
 import org.terasology.engine.world.chunks.blockdata.TeraDenseArray8Bit;
+import org.terasology.engine.world.chunks.blockdata.TeraSectionedArray;
 import org.terasology.engine.world.chunks.blockdata.TeraSparseArray4Bit;
 import org.terasology.engine.world.chunks.blockdata.TeraSparseArray8Bit;
 
@@ -94,7 +95,9 @@ public enum TeraArrayType {
         SPARCE_4BIT(() -> new TeraSparseArray4Bit(16, 256, 16, INFLATED_4_BIT, DEFLATED_4_BIT),
                 TeraSparseArray4Bit.SerializationHandler::new),
         SPARCE_8BIT(() -> new TeraSparseArray8Bit(16, 256, 16, INFLATED_8_BIT, DEFLATED_8_BIT),
-                TeraSparseArray8Bit.SerializationHandler::new);
+                TeraSparseArray8Bit.SerializationHandler::new),
+        SECTIONED_8BIT(() -> new TeraSectionedArray(16, 256, 16, 8), TeraSectionedArray.SerializationHandler::new),
+        SECTIONED_16BIT(() -> new TeraSectionedArray(16, 256, 16, 16), TeraSectionedArray.SerializationHandler::new);
 
         private final Supplier<TeraArray> creator;
         private final Supplier<SerializationHandler> handler;
@@ -140,7 +143,8 @@ public void setup(ArrayState arrayState) {
 
     @State(Scope.Thread)
     public static class ArrayState {
-        @Param({"DENCE_4BIT", "DENCE_8BIT", "DENCE_16BIT", "SPARCE_4BIT", "SPARCE_8BIT"})
+        @Param({"DENCE_4BIT", "DENCE_8BIT", "DENCE_16BIT", "SPARCE_4BIT", "SPARCE_8BIT", "SECTIONED_8BIT",
+                "SECTIONED_16BIT"})
         private static TeraArrayType arrayType;
 
         private SerializationHandler handler;
@@ -4,23 +4,35 @@
 package org.terasology.benchmark.entitySystem;
 
 import com.google.common.collect.Lists;
+import org.joml.Vector3f;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 import org.terasology.engine.entitySystem.entity.EntityRef;
 import org.terasology.engine.entitySystem.entity.internal.PojoEntityManager;
+import org.terasology.engine.entitySystem.metadata.ComponentLibrary;
+import org.terasology.engine.entitySystem.prefab.Prefab;
+import org.terasology.engine.entitySystem.prefab.PrefabData;
+import org.terasology.engine.entitySystem.prefab.internal.PojoPrefab;
 import org.terasology.engine.logic.location.LocationComponent;
 import org.terasology.engine.rendering.logic.MeshComponent;
 import org.terasology.engine.utilities.random.FastRandom;
 import org.terasology.engine.world.block.BlockComponent;
+import org.terasology.gestalt.assets.AssetType;
+import org.terasology.gestalt.assets.ResourceUrn;
+import org.terasology.gestalt.assets.module.ModuleAwareAssetTypeManagerImpl;
 import org.terasology.gestalt.entitysystem.component.Component;
+import org.terasology.reflection.copy.CopyStrategyLibrary;
+import org.terasology.reflection.reflect.ReflectFactory;
+import org.terasology.reflection.reflect.ReflectionReflectFactory;
 
 import java.util.List;
 import java.util.concurrent.TimeUnit;
@@ -36,6 +48,20 @@ public EntityRef createEntity(StateObject state) {
         return state.entityManager.create(state.entityData);
     }
 
+    @Benchmark
+    public EntityRef createFromPrefabOneByOne(PrefabStateObject state) {
+        EntityRef last = EntityRef.NULL;
+        for (Vector3f position : state.positions) {
+            last = state.entityManager.create(state.prefab, position);
+        }
+        return last;
+    }
+
+    @Benchmark
+    public List<EntityRef> createFromPrefabMany(PrefabStateObject state) {
+        return state.entityManager.createMany(state.prefab, state.positions);
+    }
+
     @State(Scope.Thread)
     public static class StateObject {
 
@@ -58,4 +84,47 @@ public void setup() {
             }
         }
     }
+
+    /**
+     * Spawns a batch of entities from one prefab, as when a wave of mobs or the drops of an explosion appear.
+     */
+    @State(Scope.Thread)
+    public static class PrefabStateObject {
+        @Param({"10", "100", "1000"})
+        private int count;
+
+        private ComponentLibrary componentLibrary;
+        private Prefab prefab;
+        private List<Vector3f> positions;
+        private PojoEntityManager entityManager;
+
+        @Setup(Level.Trial)
+        public void setupPrefab() {
+            ReflectFactory reflectFactory = new ReflectionReflectFactory();
+            componentLibrary = new ComponentLibrary(null, reflectFactory, new CopyStrategyLibrary(reflectFactory));
+            componentLibrary.register(new ResourceUrn("engine:location"), LocationComponent.class);
+            componentLibrary.register(new ResourceUrn("engine:mesh"), MeshComponent.class);
+            componentLibrary.register(new ResourceUrn("engine:block"), BlockComponent.class);
+
+            PrefabData data = new PrefabData();
+            data.addComponent(new LocationComponent());
+            data.addComponent(new MeshComponent());
+            data.addComponent(new BlockComponent());
+            AssetType<Prefab, PrefabData> assetType = new ModuleAwareAssetTypeManagerImpl()
+                    .createAssetType(Prefab.class, PojoPrefab::new, "prefabs");
+            prefab = assetType.loadAsset(new ResourceUrn("benchmark:mob"), data);
+
+            FastRandom rand = new FastRandom(0L);
+            positions = Lists.newArrayList();
+            for (int i = 0; i < count; i++) {
+                positions.add(new Vector3f(rand.nextFloat(-64, 64), rand.nextFloat(0, 32), rand.nextFloat(-64, 64)));
+            }
+        }
+
+        @Setup(Level.Invocation)
+        public void setup() {
+            entityManager = new PojoEntityManager();
+            entityManager.setComponentLibrary(componentLibrary);
+        }
+    }
 }
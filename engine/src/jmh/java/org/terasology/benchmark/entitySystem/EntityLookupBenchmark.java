@@ -0,0 +1,94 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.benchmark.entitySystem;
+
+import com.google.common.collect.MapMaker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.entity.internal.PojoEntityManager;
+import org.terasology.engine.utilities.random.FastRandom;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Looks up entities by id among a million live entities, and measures a full garbage collection with them alive.
+ * <p>
+ * The entity manager holds its refs in primitive maps. The {@code WEAK} store holds the same refs in a weak-valued map
+ * keyed by boxed ids, as the entity pools used to, for comparison; the {@code NONE} store adds nothing, so
+ * {@code lookupWeakMap} only means something with {@code WEAK}. Run with {@code -prof gc} to also see the allocation
+ * per lookup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class EntityLookupBenchmark {
+
+    private static final int ENTITY_COUNT = 1_000_000;
+    private static final int LOOKUPS = 1024;
+
+    @Benchmark
+    public void lookupEntityManager(StateObject state, Blackhole blackhole) {
+        for (long id : state.lookupIds) {
+            blackhole.consume(state.entityManager.getEntity(id));
+        }
+    }
+
+    @Benchmark
+    public void lookupWeakMap(StateObject state, Blackhole blackhole) {
+        for (long id : state.lookupIds) {
+            blackhole.consume(state.weakStore.get(id));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 10)
+    public void fullGc(StateObject state) {
+        System.gc();
+    }
+
+    @State(Scope.Benchmark)
+    public static class StateObject {
+        @Param({"NONE", "WEAK"})
+        private String comparisonStore;
+
+        private PojoEntityManager entityManager;
+        private Map<Long, EntityRef> weakStore;
+        private long[] lookupIds;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            entityManager = new PojoEntityManager();
+            weakStore = new MapMaker().weakValues().concurrencyLevel(4).initialCapacity(1000).makeMap();
+            EntityRef[] refs = new EntityRef[ENTITY_COUNT];
+            for (int i = 0; i < ENTITY_COUNT; i++) {
+                refs[i] = entityManager.create();
+                if (comparisonStore.equals("WEAK")) {
+                    weakStore.put(refs[i].getId(), refs[i]);
+                }
+            }
+            FastRandom rand = new FastRandom(0L);
+            lookupIds = new long[LOOKUPS];
+            for (int i = 0; i < LOOKUPS; i++) {
+                lookupIds[i] = refs[rand.nextInt(ENTITY_COUNT)].getId();
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.benchmark.logic;
+
+import com.google.common.collect.Ordering;
+import com.google.common.collect.SortedSetMultimap;
+import com.google.common.collect.TreeMultimap;
+import gnu.trove.list.TLongList;
+import gnu.trove.list.array.TLongArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.terasology.engine.logic.delay.DelayedActionSystem;
+import org.terasology.engine.logic.delay.TimerWheel;
+import org.terasology.engine.utilities.random.FastRandom;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Schedules 100k timers with deadlines spread over a minute of game time and fires all of them at 60 ticks per second,
+ * once with the timer wheel of the {@link DelayedActionSystem} and once with the sorted multimap it replaced.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 1)
+public class TimerWheelBenchmark {
+
+    private static final int TIMER_COUNT = 100_000;
+    private static final long TIMESPAN_MS = 60_000;
+    private static final long TICK_MS = 16;
+
+    @Benchmark
+    @OperationsPerInvocation(TIMER_COUNT)
+    public long scheduleAndFireWheel(StateObject state) {
+        TimerWheel wheel = new TimerWheel();
+        for (int i = 0; i < TIMER_COUNT; i++) {
+            wheel.schedule(i + 1, state.deadlines[i]);
+        }
+        TLongList due = new TLongArrayList();
+        long fired = 0;
+        for (long now = 0; now <= TIMESPAN_MS; now += TICK_MS) {
+            due.clear();
+            wheel.advance(now, due);
+            fired += due.size();
+        }
+        return fired;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TIMER_COUNT)
+    public long scheduleAndFireSortedMultimap(StateObject state) {
+        SortedSetMultimap<Long, Long> timers = TreeMultimap.create(Ordering.natural(), Ordering.arbitrary());
+        for (int i = 0; i < TIMER_COUNT; i++) {
+            timers.put(state.deadlines[i], (long) i + 1);
+        }
+        long fired = 0;
+        for (long now = 0; now <= TIMESPAN_MS; now += TICK_MS) {
+            Iterator<Long> iterator = timers.keySet().iterator();
+            while (iterator.hasNext()) {
+                long deadline = iterator.next();
+                if (deadline > now) {
+                    break;
+                }
+                fired += timers.get(deadline).size();
+                iterator.remove();
+            }
+        }
+        return fired;
+    }
+
+    @State(Scope.Thread)
+    public static class StateObject {
+        private final long[] deadlines = new long[TIMER_COUNT];
+
+        @Setup(Level.Trial)
+        public void setup() {
+            FastRandom random = new FastRandom(0L);
+            for (int i = 0; i < TIMER_COUNT; i++) {
+                deadlines[i] = random.nextInt((int) TIMESPAN_MS);
+            }
+        }
+    }
+}
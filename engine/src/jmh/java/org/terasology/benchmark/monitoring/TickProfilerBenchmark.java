@@ -0,0 +1,61 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.benchmark.monitoring;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.terasology.engine.monitoring.TickProfiler;
+import org.terasology.engine.monitoring.TickProfilerMode;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of a profiled section in every profiler mode, which is what every system update and event handler
+ * pays on top of its own work.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 1)
+@State(Scope.Benchmark)
+public class TickProfilerBenchmark {
+
+    @Param({"OFF", "TIMING", "ALLOCATIONS"})
+    private TickProfilerMode mode;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        TickProfiler.setMode(mode);
+        TickProfiler.reset();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        TickProfiler.setMode(TickProfilerMode.OFF);
+    }
+
+    @Benchmark
+    public void section() {
+        TickProfiler.begin("benchmark:section");
+        TickProfiler.end();
+    }
+
+    @Benchmark
+    public void nestedSections() {
+        TickProfiler.begin("benchmark:outer");
+        TickProfiler.begin("benchmark:inner");
+        TickProfiler.end();
+        TickProfiler.end();
+    }
+}
@@ -0,0 +1,164 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.benchmark.persistence;
+
+import com.google.common.collect.Lists;
+import org.joml.Quaternionf;
+import org.joml.Vector3f;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.reflections.Reflections;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.entity.internal.PojoEntityManager;
+import org.terasology.engine.entitySystem.metadata.ComponentLibrary;
+import org.terasology.engine.logic.location.LocationComponent;
+import org.terasology.engine.persistence.serializers.ComponentSerializer;
+import org.terasology.engine.persistence.typeHandling.TypeHandlerLibraryImpl;
+import org.terasology.engine.persistence.typeHandling.extensionTypes.EntityRefTypeHandler;
+import org.terasology.gestalt.assets.ResourceUrn;
+import org.terasology.gestalt.entitysystem.component.Component;
+import org.terasology.persistence.typeHandling.TypeHandler;
+import org.terasology.persistence.typeHandling.TypeHandlerLibrary;
+import org.terasology.protobuf.EntityData;
+import org.terasology.reflection.copy.CopyStrategyLibrary;
+import org.terasology.reflection.reflect.ReflectFactory;
+import org.terasology.reflection.reflect.ReflectionReflectFactory;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializes components through {@link ComponentSerializer} and the protobuf persisted data format from several
+ * threads at once, as chunk saving, networking and recording do. The {@code Direct} variants encode supported fields
+ * straight to protobuf values instead of going through the type handlers.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 1)
+@Threads(4)
+public class ComponentSerializationBenchmark {
+
+    @Benchmark
+    public EntityData.Component serializeLocation(StateObject state) {
+        return state.componentSerializer.serialize(state.location);
+    }
+
+    @Benchmark
+    public EntityData.Component serializeLocationDelta(StateObject state) {
+        return state.componentSerializer.serialize(state.location, state.movedLocation);
+    }
+
+    @Benchmark
+    public EntityData.Component serializeLocationDirect(StateObject state) {
+        return state.directSerializer.serialize(state.location);
+    }
+
+    @Benchmark
+    public EntityData.Component serializeLocationDeltaDirect(StateObject state) {
+        return state.directSerializer.serialize(state.location, state.movedLocation);
+    }
+
+    @Benchmark
+    public EntityData.Component serializeLarge(StateObject state) {
+        return state.componentSerializer.serialize(state.large);
+    }
+
+    @Benchmark
+    public EntityData.Component serializeLargeDirect(StateObject state) {
+        return state.directSerializer.serialize(state.large);
+    }
+
+    @Benchmark
+    public Optional<TypeHandler<Vector3f>> lookupVectorHandler(StateObject state) {
+        return state.typeHandlerLibrary.getTypeHandler(Vector3f.class);
+    }
+
+    @Benchmark
+    public Optional<TypeHandler<EntityRef>> lookupEntityRefHandler(StateObject state) {
+        return state.typeHandlerLibrary.getTypeHandler(EntityRef.class);
+    }
+
+    @State(Scope.Benchmark)
+    public static class StateObject {
+        private TypeHandlerLibrary typeHandlerLibrary;
+        private ComponentSerializer componentSerializer;
+        private ComponentSerializer directSerializer;
+        private LocationComponent location;
+        private LocationComponent movedLocation;
+        private LargeComponent large;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            ReflectFactory reflectFactory = new ReflectionReflectFactory();
+            ComponentLibrary componentLibrary = new ComponentLibrary(null, reflectFactory,
+                    new CopyStrategyLibrary(reflectFactory));
+            componentLibrary.register(new ResourceUrn("engine:location"), LocationComponent.class);
+            componentLibrary.register(new ResourceUrn("engine:large"), LargeComponent.class);
+
+            PojoEntityManager entityManager = new PojoEntityManager();
+            typeHandlerLibrary = TypeHandlerLibraryImpl.withReflections(new Reflections(getClass().getClassLoader()));
+            typeHandlerLibrary.addTypeHandler(EntityRef.class, new EntityRefTypeHandler(entityManager));
+            componentSerializer = new ComponentSerializer(componentLibrary, typeHandlerLibrary);
+            directSerializer = new ComponentSerializer(componentLibrary, typeHandlerLibrary);
+            directSerializer.setDirectFieldEncoding(true);
+
+            location = new LocationComponent(new Vector3f(12.5f, 40f, -3.25f));
+            location.setLocalRotation(new Quaternionf().rotateY(0.5f));
+            movedLocation = new LocationComponent(new Vector3f(13f, 40f, -3.25f));
+            movedLocation.setLocalRotation(new Quaternionf().rotateY(0.75f));
+            large = new LargeComponent();
+        }
+    }
+
+    /**
+     * Stands in for inventory-like components, which carry many small fields next to a few collections.
+     */
+    public static class LargeComponent implements Component<LargeComponent> {
+        public int slot0 = 1;
+        public int slot1 = 2;
+        public int slot2 = 3;
+        public int slot3 = 4;
+        public int slot4 = 5;
+        public int slot5 = 6;
+        public int slot6 = 7;
+        public int slot7 = 8;
+        public float weight = 12.5f;
+        public float capacity = 40f;
+        public long lastUpdated = 123456789L;
+        public boolean privateToOwner = true;
+        public String name = "backpack";
+        public Vector3f offset = new Vector3f(0.5f, 1f, 0.25f);
+        public List<String> tags = Lists.newArrayList("container", "portable");
+
+        @Override
+        public void copyFrom(LargeComponent other) {
+            this.slot0 = other.slot0;
+            this.slot1 = other.slot1;
+            this.slot2 = other.slot2;
+            this.slot3 = other.slot3;
+            this.slot4 = other.slot4;
+            this.slot5 = other.slot5;
+            this.slot6 = other.slot6;
+            this.slot7 = other.slot7;
+            this.weight = other.weight;
+            this.capacity = other.capacity;
+            this.lastUpdated = other.lastUpdated;
+            this.privateToOwner = other.privateToOwner;
+            this.name = other.name;
+            this.offset = new Vector3f(other.offset);
+            this.tags = Lists.newArrayList(other.tags);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.benchmark.recording;
+
+import org.joml.Vector3f;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.reflections.Reflections;
+import org.terasology.engine.logic.characters.CharacterMoveInputEvent;
+import org.terasology.engine.persistence.typeHandling.TypeHandlerLibraryImpl;
+import org.terasology.engine.recording.RecordedEvent;
+import org.terasology.engine.recording.RecordedEventLogReader;
+import org.terasology.engine.recording.RecordedEventLogWriter;
+import org.terasology.engine.recording.RecordedEventSerializer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Compares the binary event log with the JSON event files: events recorded per second, and the time until a replay
+ * has its first events. The file sizes of both formats are printed once per trial.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 1)
+public class RecordingFormatBenchmark {
+
+    private static final int EVENT_COUNT = 10_000;
+    private static final int REPLAY_BATCH_SIZE = 1024;
+
+    @Benchmark
+    @OperationsPerInvocation(EVENT_COUNT)
+    public void recordBinary(StateObject state) throws IOException {
+        try (RecordedEventLogWriter writer = new RecordedEventLogWriter(state.directory.resolve("record.bin"),
+                state.serializer, 4096)) {
+            for (RecordedEvent event : state.events) {
+                writer.append(event);
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENT_COUNT)
+    public void recordJson(StateObject state) {
+        state.serializer.serializeRecordedEvents(state.events, state.directory.resolve("record.json").toString());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<RecordedEvent> replayStartBinary(StateObject state) throws IOException {
+        try (RecordedEventLogReader reader = new RecordedEventLogReader(state.binaryRecording, state.serializer)) {
+            return reader.readBatch(REPLAY_BATCH_SIZE);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<RecordedEvent> replayStartJson(StateObject state) {
+        return state.serializer.deserializeRecordedEvents(state.jsonRecording.toString());
+    }
+
+    @State(Scope.Thread)
+    public static class StateObject {
+        private RecordedEventSerializer serializer;
+        private List<RecordedEvent> events;
+        private Path directory;
+        private Path binaryRecording;
+        private Path jsonRecording;
+
+        @Setup(Level.Trial)
+        public void setup() throws IOException {
+            serializer = new RecordedEventSerializer(
+                    TypeHandlerLibraryImpl.withReflections(new Reflections(getClass().getClassLoader())));
+            events = new ArrayList<>(EVENT_COUNT);
+            for (int i = 0; i < EVENT_COUNT; i++) {
+                CharacterMoveInputEvent event = new CharacterMoveInputEvent(i, i * 0.1f, i * 0.2f,
+                        new Vector3f(0, 0, 1), i % 2 == 0, i % 7 == 0, 16);
+                events.add(new RecordedEvent(1, event, i * 16L, i));
+            }
+
+            directory = Files.createTempDirectory("recording-benchmark");
+            binaryRecording = directory.resolve("events.bin");
+            try (RecordedEventLogWriter writer = new RecordedEventLogWriter(binaryRecording, serializer, 4096)) {
+                for (RecordedEvent event : events) {
+                    writer.append(event);
+                }
+            }
+            jsonRecording = directory.resolve("events1.json");
+            serializer.serializeRecordedEvents(events, jsonRecording.toString());
+
+            System.out.printf("%n%d events: binary %d bytes, json %d bytes%n", EVENT_COUNT,
+                    Files.size(binaryRecording), Files.size(jsonRecording));
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    Files.delete(file);
+                }
+            }
+            Files.delete(directory);
+        }
+    }
+}
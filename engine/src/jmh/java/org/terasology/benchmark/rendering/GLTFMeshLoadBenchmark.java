@@ -0,0 +1,147 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.benchmark.rendering;
+
+import com.google.common.io.BaseEncoding;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.terasology.engine.rendering.assets.mesh.MeshData;
+import org.terasology.engine.rendering.gltf.GLTFMeshFormat;
+import org.terasology.gestalt.assets.ResourceUrn;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads a generated grid mesh of 512 x 512 vertices, about 14 MB of vertex and index data, through
+ * {@link GLTFMeshFormat}.
+ * <p>
+ * {@code glb} keeps every attribute tightly packed in a GLB container, so each one is copied into the mesh in bulk.
+ * {@code interleaved} interleaves the attributes, which are then converted one element at a time, and
+ * {@code embedded} stores the buffer as a base64 data uri in a .gltf file. Run with {@code -prof gc} to compare the
+ * memory each layout allocates per load alongside the load time.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@State(Scope.Thread)
+public class GLTFMeshLoadBenchmark {
+    private static final int SIZE = 512;
+    private static final int VERTICES = SIZE * SIZE;
+    private static final int INDICES = (SIZE - 1) * (SIZE - 1) * 6;
+    private static final int VERTEX_BYTES = 8 * Float.BYTES;
+    private static final ResourceUrn URN = new ResourceUrn("engine:grid");
+
+    @Param({"glb", "interleaved", "embedded"})
+    private String layout;
+
+    private final GLTFMeshFormat format = new GLTFMeshFormat(null);
+    private byte[] file;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        boolean interleaved = layout.equals("interleaved");
+        ByteBuffer binary = binary(interleaved);
+        String json = json(interleaved, layout.equals("embedded") ? BaseEncoding.base64().encode(binary.array()) : null);
+        file = layout.equals("embedded") ? json.getBytes(StandardCharsets.UTF_8) : glb(json, binary);
+    }
+
+    @Benchmark
+    public MeshData load() throws IOException {
+        return format.load(URN, format.readFile(new ByteArrayInputStream(file)));
+    }
+
+    private static ByteBuffer binary(boolean interleaved) {
+        ByteBuffer buffer = ByteBuffer.allocate(VERTICES * VERTEX_BYTES + INDICES * Integer.BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < VERTICES; i++) {
+            float x = i % SIZE;
+            float z = i / SIZE;
+            if (interleaved) {
+                buffer.putFloat(x).putFloat(0).putFloat(z);
+                buffer.putFloat(0).putFloat(1).putFloat(0);
+                buffer.putFloat(x / SIZE).putFloat(z / SIZE);
+            } else {
+                buffer.putFloat(i * 3 * Float.BYTES, x).putFloat((i * 3 + 1) * Float.BYTES, 0)
+                        .putFloat((i * 3 + 2) * Float.BYTES, z);
+                int normals = VERTICES * 3 * Float.BYTES;
+                buffer.putFloat(normals + i * 3 * Float.BYTES, 0).putFloat(normals + (i * 3 + 1) * Float.BYTES, 1)
+                        .putFloat(normals + (i * 3 + 2) * Float.BYTES, 0);
+                int uvs = VERTICES * 6 * Float.BYTES;
+                buffer.putFloat(uvs + i * 2 * Float.BYTES, x / SIZE).putFloat(uvs + (i * 2 + 1) * Float.BYTES, z / SIZE);
+            }
+        }
+        buffer.position(VERTICES * VERTEX_BYTES);
+        for (int z = 0; z < SIZE - 1; z++) {
+            for (int x = 0; x < SIZE - 1; x++) {
+                int corner = z * SIZE + x;
+                buffer.putInt(corner).putInt(corner + SIZE).putInt(corner + 1);
+                buffer.putInt(corner + 1).putInt(corner + SIZE).putInt(corner + SIZE + 1);
+            }
+        }
+        buffer.rewind();
+        return buffer;
+    }
+
+    /**
+     * @param base64 the buffer as base64 to embed in the document, or null to refer to the binary chunk of a GLB
+     */
+    private static String json(boolean interleaved, String base64) {
+        int vertexBytes = VERTICES * VERTEX_BYTES;
+        String uri = base64 != null ? "\"uri\":\"data:application/octet-stream;base64," + base64 + "\"," : "";
+        String vertexViews;
+        String accessors;
+        if (interleaved) {
+            vertexViews = String.format("{\"buffer\":0,\"byteLength\":%d,\"byteStride\":%d}", vertexBytes, VERTEX_BYTES);
+            accessors = String.format("{\"bufferView\":0,\"componentType\":5126,\"count\":%1$d,\"type\":\"VEC3\"},"
+                    + "{\"bufferView\":0,\"byteOffset\":12,\"componentType\":5126,\"count\":%1$d,\"type\":\"VEC3\"},"
+                    + "{\"bufferView\":0,\"byteOffset\":24,\"componentType\":5126,\"count\":%1$d,\"type\":\"VEC2\"},"
+                    + "{\"bufferView\":1,\"componentType\":5125,\"count\":%2$d,\"type\":\"SCALAR\"}", VERTICES, INDICES);
+        } else {
+            vertexViews = String.format("{\"buffer\":0,\"byteLength\":%1$d},"
+                    + "{\"buffer\":0,\"byteOffset\":%1$d,\"byteLength\":%1$d},"
+                    + "{\"buffer\":0,\"byteOffset\":%2$d,\"byteLength\":%3$d}",
+                    VERTICES * 3 * Float.BYTES, VERTICES * 6 * Float.BYTES, VERTICES * 2 * Float.BYTES);
+            accessors = String.format("{\"bufferView\":0,\"componentType\":5126,\"count\":%1$d,\"type\":\"VEC3\"},"
+                    + "{\"bufferView\":1,\"componentType\":5126,\"count\":%1$d,\"type\":\"VEC3\"},"
+                    + "{\"bufferView\":2,\"componentType\":5126,\"count\":%1$d,\"type\":\"VEC2\"},"
+                    + "{\"bufferView\":3,\"componentType\":5125,\"count\":%2$d,\"type\":\"SCALAR\"}", VERTICES, INDICES);
+        }
+        return String.format("{\"asset\":{\"version\":\"2.0\"},\"buffers\":[{%s\"byteLength\":%d}],"
+                        + "\"bufferViews\":[%s,{\"buffer\":0,\"byteOffset\":%d,\"byteLength\":%d,\"target\":34963}],"
+                        + "\"accessors\":[%s],\"meshes\":[{\"primitives\":[{\"attributes\":"
+                        + "{\"POSITION\":0,\"NORMAL\":1,\"TEXCOORD_0\":2},\"indices\":3}]}]}",
+                uri, vertexBytes + INDICES * Integer.BYTES, vertexViews, vertexBytes, INDICES * Integer.BYTES, accessors);
+    }
+
+    private static byte[] glb(String json, ByteBuffer binary) {
+        byte[] jsonBytes = json.getBytes(StandardCharsets.UTF_8);
+        int jsonLength = (jsonBytes.length + 3) & ~3;
+        int length = 12 + 8 + jsonLength + 8 + binary.remaining();
+        ByteBuffer glb = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+        glb.putInt(0x46546C67).putInt(2).putInt(length);
+        glb.putInt(jsonLength).putInt(0x4E4F534A).put(jsonBytes);
+        while (glb.position() % 4 != 0) {
+            glb.put((byte) ' ');
+        }
+        glb.putInt(binary.remaining()).putInt(0x004E4942).put(binary);
+        return glb.array();
+    }
+}
@@ -0,0 +1,111 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.benchmark.rendering;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.terasology.engine.core.subsystem.headless.assets.HeadlessMaterial;
+import org.terasology.engine.core.subsystem.headless.assets.HeadlessShader;
+import org.terasology.engine.core.subsystem.headless.assets.HeadlessTexture;
+import org.terasology.engine.core.subsystem.headless.renderer.HeadlessCanvasRenderer;
+import org.terasology.engine.rendering.assets.font.Font;
+import org.terasology.engine.rendering.assets.font.FontCharacter;
+import org.terasology.engine.rendering.assets.font.FontData;
+import org.terasology.engine.rendering.assets.font.FontImpl;
+import org.terasology.engine.rendering.assets.font.FontMeshBuilder;
+import org.terasology.engine.rendering.assets.font.TextLayoutCache;
+import org.terasology.engine.rendering.assets.material.Material;
+import org.terasology.engine.rendering.assets.material.MaterialData;
+import org.terasology.engine.rendering.assets.shader.Shader;
+import org.terasology.engine.rendering.assets.shader.ShaderData;
+import org.terasology.engine.rendering.assets.texture.Texture;
+import org.terasology.engine.rendering.assets.texture.TextureData;
+import org.terasology.gestalt.assets.AssetType;
+import org.terasology.gestalt.assets.ResourceUrn;
+import org.terasology.joml.geom.Rectanglei;
+import org.terasology.nui.Color;
+import org.terasology.nui.HorizontalAlign;
+import org.terasology.nui.VerticalAlign;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Draws one frame of a busy HUD through {@link HeadlessCanvasRenderer}, which lays out all text without a display:
+ * 40 labels of three lines each, with a counter line in a quarter of them changing every frame, as health, ammo and
+ * ping readouts do.
+ * <p>
+ * {@code uncached} lays out every line of every label each frame, as the renderer did before, while {@code cached}
+ * shares a {@link TextLayoutCache}, so only the changed counter lines are laid out again and the others are copied
+ * from their cached layout.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Thread)
+public class TextLayoutBenchmark {
+    private static final int LABELS = 40;
+    private static final int CHANGING_EVERY = 4;
+    private static final Rectanglei REGION = new Rectanglei(0, 0, 400, 60);
+
+    @Param({"uncached", "cached"})
+    private String mode;
+
+    private HeadlessCanvasRenderer renderer;
+    private Font font;
+    private int frame;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        AssetType<Shader, ShaderData> shaderType = new AssetType<>(Shader.class, HeadlessShader::new);
+        AssetType<Material, MaterialData> materialType = new AssetType<>(Material.class, HeadlessMaterial::new);
+        AssetType<Texture, TextureData> textureType = new AssetType<>(Texture.class, HeadlessTexture::create);
+        AssetType<Font, FontData> fontType = new AssetType<>(Font.class, FontImpl::new);
+
+        Shader shader = new HeadlessShader(new ResourceUrn("engine:font"), shaderType,
+                new ShaderData("", "", Collections.emptyList()));
+        Material pageMaterial = new HeadlessMaterial(new ResourceUrn("engine:fontPage"), materialType,
+                new MaterialData(shader));
+        Material underlineMaterial = new HeadlessMaterial(new ResourceUrn("engine:UIUnderline"), materialType,
+                new MaterialData(shader));
+        Texture page = HeadlessTexture.create(new ResourceUrn("engine:fontPage"), textureType,
+                new TextureData(256, 256, Texture.WrapMode.CLAMP, Texture.FilterMode.NEAREST));
+
+        Map<Integer, FontCharacter> characters = new HashMap<>();
+        for (int c = ' '; c <= '~'; c++) {
+            float u = ((c - ' ') % 16) / 16f;
+            float v = ((c - ' ') / 16) / 8f;
+            characters.put(c, new FontCharacter(u, v, 8, 14, 0, 2, 9, page, pageMaterial));
+        }
+        font = new FontImpl(new ResourceUrn("engine:default"), fontType, new FontData(16, 12, characters));
+
+        TextLayoutCache cache = mode.equals("cached") ? new TextLayoutCache() : null;
+        renderer = new HeadlessCanvasRenderer(new FontMeshBuilder(underlineMaterial, cache));
+    }
+
+    @Benchmark
+    public void drawHud() {
+        frame++;
+        for (int label = 0; label < LABELS; label++) {
+            int counter = label % CHANGING_EVERY == 0 ? frame : 0;
+            String text = "Label " + label + " of the status display\nvalue: " + counter + " units\nlast line of text";
+            renderer.drawText(text, font, HorizontalAlign.LEFT, VerticalAlign.TOP, REGION, Color.WHITE, Color.BLACK,
+                    1f, false);
+        }
+    }
+}
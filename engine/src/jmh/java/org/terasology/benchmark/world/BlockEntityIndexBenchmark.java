@@ -0,0 +1,126 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.benchmark.world;
+
+import com.google.common.collect.Maps;
+import org.joml.Vector3i;
+import org.joml.Vector3ic;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.entity.internal.PojoEntityManager;
+import org.terasology.engine.utilities.random.FastRandom;
+import org.terasology.engine.world.internal.BlockEntityIndex;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the chunk-partitioned block entity index with the vector-keyed map it replaced, for lookups of existing
+ * block entities and for the churn of temporary block entities being added and removed every tick.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 1)
+public class BlockEntityIndexBenchmark {
+
+    private static final int ENTITY_COUNT = 50_000;
+    private static final int LOOKUP_COUNT = 10_000;
+    private static final int WORLD_EXTENT = 256;
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUP_COUNT)
+    public int lookupIndex(StateObject state) {
+        int found = 0;
+        for (int i = 0; i < LOOKUP_COUNT; i++) {
+            if (state.index.get(state.lookupX[i], state.lookupY[i], state.lookupZ[i]) != null) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUP_COUNT)
+    public int lookupVectorMap(StateObject state) {
+        int found = 0;
+        for (int i = 0; i < LOOKUP_COUNT; i++) {
+            if (state.map.get(new Vector3i(state.lookupX[i], state.lookupY[i], state.lookupZ[i])) != null) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUP_COUNT)
+    public int churnIndex(StateObject state) {
+        BlockEntityIndex index = state.index;
+        for (int i = 0; i < LOOKUP_COUNT; i++) {
+            index.put(state.lookupX[i], state.lookupY[i] + WORLD_EXTENT, state.lookupZ[i], state.entity);
+        }
+        for (int i = 0; i < LOOKUP_COUNT; i++) {
+            index.remove(state.lookupX[i], state.lookupY[i] + WORLD_EXTENT, state.lookupZ[i], state.entity);
+        }
+        return index.size();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUP_COUNT)
+    public int churnVectorMap(StateObject state) {
+        Map<Vector3ic, EntityRef> map = state.map;
+        for (int i = 0; i < LOOKUP_COUNT; i++) {
+            map.put(new Vector3i(state.lookupX[i], state.lookupY[i] + WORLD_EXTENT, state.lookupZ[i]), state.entity);
+        }
+        for (int i = 0; i < LOOKUP_COUNT; i++) {
+            Vector3i key = new Vector3i(state.lookupX[i], state.lookupY[i] + WORLD_EXTENT, state.lookupZ[i]);
+            if (map.get(key) == state.entity) {
+                map.remove(key);
+            }
+        }
+        return map.size();
+    }
+
+    @State(Scope.Thread)
+    public static class StateObject {
+        private final BlockEntityIndex index = new BlockEntityIndex();
+        private final Map<Vector3ic, EntityRef> map = Maps.newHashMap();
+        private final int[] lookupX = new int[LOOKUP_COUNT];
+        private final int[] lookupY = new int[LOOKUP_COUNT];
+        private final int[] lookupZ = new int[LOOKUP_COUNT];
+        private EntityRef entity;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            PojoEntityManager entityManager = new PojoEntityManager();
+            entity = entityManager.create();
+            FastRandom random = new FastRandom(0L);
+            for (int i = 0; i < ENTITY_COUNT; i++) {
+                int x = random.nextInt(WORLD_EXTENT);
+                int y = random.nextInt(WORLD_EXTENT);
+                int z = random.nextInt(WORLD_EXTENT);
+                EntityRef blockEntity = entityManager.create();
+                index.put(x, y, z, blockEntity);
+                map.put(new Vector3i(x, y, z), blockEntity);
+            }
+            // lookups cluster around interaction points, like machines next to each other
+            for (int i = 0; i < LOOKUP_COUNT; i++) {
+                int cluster = random.nextInt(WORLD_EXTENT - 8);
+                lookupX[i] = cluster + random.nextInt(8);
+                lookupY[i] = cluster + random.nextInt(8);
+                lookupZ[i] = cluster + random.nextInt(8);
+            }
+        }
+    }
+}
@@ -0,0 +1,281 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.benchmark.world;
+
+import com.google.common.collect.Maps;
+import org.joml.Vector3i;
+import org.joml.Vector3ic;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.terasology.engine.context.internal.ContextImpl;
+import org.terasology.engine.core.SimpleUri;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.world.block.Block;
+import org.terasology.engine.world.block.BlockManager;
+import org.terasology.engine.world.block.BlockRegion;
+import org.terasology.engine.world.block.BlockRegionc;
+import org.terasology.engine.world.block.BlockUri;
+import org.terasology.engine.world.block.family.BlockFamily;
+import org.terasology.engine.world.chunks.Chunk;
+import org.terasology.engine.world.chunks.ChunkProvider;
+import org.terasology.engine.world.chunks.Chunks;
+import org.terasology.engine.world.chunks.blockdata.ExtraBlockDataManager;
+import org.terasology.engine.world.chunks.internal.ChunkImpl;
+import org.terasology.engine.world.internal.ChunkViewCore;
+import org.terasology.engine.world.internal.WorldProviderCoreImpl;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares filling and copying a 64³ region through the bulk block id API with doing the same block by block, and
+ * with {@link WorldProviderCoreImpl#setBlocks(Map)}.
+ * <p>
+ * Every invocation alternates between two block types, so that every block actually changes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 1)
+public class BulkBlockBenchmark {
+
+    private static final int EXTENT = 64;
+
+    @Benchmark
+    public int fillBulk(StateObject state) {
+        return state.world.setBlockIds(state.target, state.next().fillIds, null);
+    }
+
+    @Benchmark
+    public int fillPerBlock(StateObject state) {
+        Block block = state.next().block;
+        Vector3i pos = new Vector3i();
+        int changed = 0;
+        for (Vector3ic p : state.target) {
+            if (state.world.setBlock(pos.set(p), block) != block) {
+                changed++;
+            }
+        }
+        return changed;
+    }
+
+    @Benchmark
+    public int fillMap(StateObject state) {
+        return state.world.setBlocks(state.next().fillMap).size();
+    }
+
+    @Benchmark
+    public int copyBulk(StateObject state) {
+        short[] ids = state.world.getBlockIds(state.next().source, state.buffer);
+        return state.world.setBlockIds(state.target, ids, null);
+    }
+
+    @Benchmark
+    public int copyPerBlock(StateObject state) {
+        BlockRegionc source = state.next().source;
+        Vector3i offset = state.target.getMin(new Vector3i()).sub(source.getMin(new Vector3i()));
+        Vector3i pos = new Vector3i();
+        int changed = 0;
+        for (Vector3ic p : source) {
+            Block block = state.world.getBlock(p.x(), p.y(), p.z());
+            if (state.world.setBlock(pos.set(p).add(offset), block) != block) {
+                changed++;
+            }
+        }
+        return changed;
+    }
+
+    @State(Scope.Thread)
+    public static class StateObject {
+        private final BlockRegion target = new BlockRegion(0, 0, 0, EXTENT - 1, EXTENT - 1, EXTENT - 1);
+        private final short[] buffer = new short[target.volume()];
+        private final Variant[] variants = new Variant[2];
+        private WorldProviderCoreImpl world;
+        private int invocation;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            TableBlockManager blockManager = new TableBlockManager(3);
+            MapChunkProvider chunkProvider = new MapChunkProvider();
+            ExtraBlockDataManager extraDataManager = new ExtraBlockDataManager();
+            // the target region and the two copy sources next to it
+            BlockRegion area = new BlockRegion(target).union(3 * EXTENT - 1, EXTENT - 1, EXTENT - 1);
+            for (Vector3ic chunkPos : Chunks.toChunkRegion(area, new BlockRegion(BlockRegion.INVALID))) {
+                chunkProvider.chunks.put(new Vector3i(chunkPos), new ChunkImpl(chunkPos, blockManager,
+                        extraDataManager));
+            }
+
+            ContextImpl context = new ContextImpl();
+            context.put(BlockManager.class, blockManager);
+            world = new WorldProviderCoreImpl("benchmark", "", 0, new SimpleUri("engine:benchmark"), chunkProvider,
+                    blockManager.getBlock((short) 0), context);
+
+            for (int i = 0; i < variants.length; i++) {
+                Block block = blockManager.getBlock((short) (i + 1));
+                BlockRegion source = new BlockRegion(target).translate((i + 1) * EXTENT, 0, 0);
+                short[] ids = new short[target.volume()];
+                Arrays.fill(ids, block.getId());
+                world.setBlockIds(source, ids, null);
+                Map<Vector3ic, Block> fillMap = Maps.newHashMapWithExpectedSize(target.volume());
+                for (Vector3ic pos : target) {
+                    fillMap.put(new Vector3i(pos), block);
+                }
+                variants[i] = new Variant(block, ids, fillMap, source);
+            }
+        }
+
+        Variant next() {
+            return variants[invocation++ & 1];
+        }
+    }
+
+    private static final class Variant {
+        private final Block block;
+        private final short[] fillIds;
+        private final Map<Vector3ic, Block> fillMap;
+        private final BlockRegionc source;
+
+        Variant(Block block, short[] fillIds, Map<Vector3ic, Block> fillMap, BlockRegionc source) {
+            this.block = block;
+            this.fillIds = fillIds;
+            this.fillMap = fillMap;
+            this.source = source;
+        }
+    }
+
+    /**
+     * Just enough of a block manager for chunks to resolve block ids.
+     */
+    private static final class TableBlockManager extends BlockManager {
+        private final Block[] blocks;
+
+        TableBlockManager(int blockCount) {
+            blocks = new Block[blockCount];
+            for (int i = 0; i < blockCount; i++) {
+                blocks[i] = new Block();
+                blocks[i].setId((short) i);
+                blocks[i].setUri(new BlockUri("benchmark:block" + i));
+            }
+        }
+
+        @Override
+        public Map<String, Short> getBlockIdMap() {
+            return Collections.emptyMap();
+        }
+
+        @Override
+        public BlockFamily getBlockFamily(String uri) {
+            return null;
+        }
+
+        @Override
+        public BlockFamily getBlockFamily(BlockUri uri) {
+            return null;
+        }
+
+        @Override
+        public Block getBlock(String uri) {
+            return blocks[0];
+        }
+
+        @Override
+        public Block getBlock(BlockUri uri) {
+            return blocks[0];
+        }
+
+        @Override
+        public Block getBlock(short id) {
+            return id >= 0 && id < blocks.length ? blocks[id] : blocks[0];
+        }
+
+        @Override
+        public Collection<BlockUri> listRegisteredBlockUris() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public Collection<BlockFamily> listRegisteredBlockFamilies() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public int getBlockFamilyCount() {
+            return 0;
+        }
+
+        @Override
+        public Collection<Block> listRegisteredBlocks() {
+            return Arrays.asList(blocks);
+        }
+    }
+
+    private static final class MapChunkProvider implements ChunkProvider {
+        private final Map<Vector3ic, Chunk> chunks = Maps.newHashMap();
+
+        @Override
+        public ChunkViewCore getSubview(BlockRegionc region, Vector3ic offset) {
+            return null;
+        }
+
+        @Override
+        public void setWorldEntity(EntityRef entity) {
+        }
+
+        @Override
+        public void update() {
+        }
+
+        @Override
+        public boolean reloadChunk(Vector3ic pos) {
+            return false;
+        }
+
+        @Override
+        public void purgeWorld() {
+        }
+
+        @Override
+        public boolean isChunkReady(Vector3ic pos) {
+            return chunks.containsKey(pos);
+        }
+
+        @Override
+        public Chunk getChunk(int x, int y, int z) {
+            return getChunk(new Vector3i(x, y, z));
+        }
+
+        @Override
+        public Chunk getChunk(Vector3ic chunkPos) {
+            return chunks.get(chunkPos);
+        }
+
+        @Override
+        public void dispose() {
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public Collection<Chunk> getAllChunks() {
+            return chunks.values();
+        }
+
+        @Override
+        public void restart() {
+        }
+    }
+}
@@ -0,0 +1,144 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.benchmark.world;
+
+import com.google.common.collect.Lists;
+import org.joml.Vector3f;
+import org.joml.Vector3i;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.entity.internal.PojoEntityManager;
+import org.terasology.engine.logic.location.LocationComponent;
+import org.terasology.engine.utilities.random.FastRandom;
+import org.terasology.engine.world.chunks.Chunks;
+import org.terasology.engine.world.chunks.internal.ChunkRelevanceRegion;
+import org.terasology.engine.world.chunks.internal.RelevanceGrid;
+import org.terasology.engine.world.chunks.pipeline.PositionFuture;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Moves 100 relevance regions by one chunk each, as when 100 players cross a chunk border in the same tick, and orders
+ * a queue of chunk tasks by the distance to the nearest region.
+ * <p>
+ * {@code moveRegions} updates the regions, their shared grid and the chunks they newly need. {@code orderTasksCached}
+ * orders the tasks the way the chunk pipeline does, with each task scored once per move of a region, while
+ * {@code orderTasksUncached} scores both tasks on every comparison for comparison.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@State(Scope.Thread)
+public class RelevanceRegionBenchmark {
+    private static final int REGIONS = 100;
+    private static final int COLUMNS = 10;
+    /** The distance between neighbouring regions, in chunks; less than their size, so that they overlap. */
+    private static final int SPACING = 8;
+    private static final Vector3i DISTANCE = new Vector3i(13, 5, 13);
+    private static final int TASKS = 4096;
+
+    private final List<LocationComponent> locations = Lists.newArrayList();
+    private final List<ChunkRelevanceRegion> regions = Lists.newArrayList();
+    private final List<PositionFuture<?>> tasks = Lists.newArrayList();
+    private RelevanceGrid grid;
+    private int step;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        PojoEntityManager entityManager = new PojoEntityManager();
+        grid = new RelevanceGrid(new Vector3i(1, 1, 1));
+        for (int i = 0; i < REGIONS; i++) {
+            LocationComponent location = new LocationComponent(new Vector3f(
+                    ((i % COLUMNS) * SPACING + 0.5f) * Chunks.SIZE_X, 0.5f * Chunks.SIZE_Y,
+                    ((i / COLUMNS) * SPACING + 0.5f) * Chunks.SIZE_Z));
+            EntityRef entity = entityManager.create(location);
+            ChunkRelevanceRegion region = new ChunkRelevanceRegion(entity, DISTANCE, grid);
+            region.setUpToDate();
+            locations.add(location);
+            regions.add(region);
+        }
+        FastRandom random = new FastRandom(0L);
+        int extent = COLUMNS * SPACING;
+        for (int i = 0; i < TASKS; i++) {
+            Vector3i pos = new Vector3i(random.nextInt(extent), random.nextInt(-2, 2), random.nextInt(extent));
+            tasks.add(new PositionFuture<>(() -> { }, null, pos));
+        }
+    }
+
+    @Benchmark
+    public void moveRegions(Blackhole blackhole) {
+        // Every region walks back and forth, half of them along x and the other half along z
+        float offset = (step++ / SPACING) % 2 == 0 ? 1 : -1;
+        for (int i = 0; i < REGIONS; i++) {
+            LocationComponent location = locations.get(i);
+            Vector3f position = location.getWorldPosition(new Vector3f());
+            if (i % 2 == 0) {
+                position.x += offset * Chunks.SIZE_X;
+            } else {
+                position.z += offset * Chunks.SIZE_Z;
+            }
+            location.setWorldPosition(position);
+
+            ChunkRelevanceRegion region = regions.get(i);
+            region.update();
+            if (region.isDirty()) {
+                for (Vector3i pos : region.getNeededChunks()) {
+                    blackhole.consume(pos);
+                }
+                region.setUpToDate();
+            }
+        }
+        blackhole.consume(grid.getCoveredCount());
+    }
+
+    @Benchmark
+    public PositionFuture<?> orderTasksCached() {
+        RelevanceGrid.Centers centers = nextCenters();
+        return drain(Comparator.comparingInt(task -> task.getPriority(centers.getVersion(), centers::score)));
+    }
+
+    @Benchmark
+    public PositionFuture<?> orderTasksUncached() {
+        RelevanceGrid.Centers centers = nextCenters();
+        return drain(Comparator.comparingInt(task -> centers.score(task.getPosition())));
+    }
+
+    /**
+     * Moves one region, so that every ordering starts without cached priorities.
+     */
+    private RelevanceGrid.Centers nextCenters() {
+        LocationComponent location = locations.get(0);
+        Vector3f position = location.getWorldPosition(new Vector3f());
+        position.y += (step++ % 2 == 0 ? 1 : -1) * Chunks.SIZE_Y;
+        location.setWorldPosition(position);
+        regions.get(0).update();
+        return grid.getCenters();
+    }
+
+    private PositionFuture<?> drain(Comparator<PositionFuture<?>> comparator) {
+        PriorityQueue<PositionFuture<?>> queue = new PriorityQueue<>(TASKS, comparator);
+        queue.addAll(tasks);
+        PositionFuture<?> last = null;
+        while (!queue.isEmpty()) {
+            last = queue.poll();
+        }
+        return last;
+    }
+}
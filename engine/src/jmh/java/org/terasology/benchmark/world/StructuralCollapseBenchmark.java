@@ -0,0 +1,129 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.benchmark.world;
+
+import com.google.common.collect.Sets;
+import org.joml.Vector3i;
+import org.joml.Vector3ic;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.terasology.engine.math.Side;
+import org.terasology.engine.world.propagation.BlockUpdateQueue;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Breaks the ground under a structure of about 10k blocks that each need the block below them for support, and lets
+ * the collapse propagate until nothing is left standing.
+ * <p>
+ * Compares the {@link BlockUpdateQueue} with the pass-based {@code HashSet<Vector3i>} propagation the neighbour and
+ * support systems used before. Like those systems, every changed block re-checks all six of its neighbours.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 1)
+public class StructuralCollapseBenchmark {
+
+    private static final int SIZE_X = 22;
+    private static final int SIZE_Y = 22;
+    private static final int SIZE_Z = 22;
+
+    @Benchmark
+    public int collapseWithQueue(StateObject state) {
+        BlockUpdateQueue changed = new BlockUpdateQueue();
+        for (int x = 0; x < SIZE_X; x++) {
+            for (int z = 0; z < SIZE_Z; z++) {
+                state.solid[state.index(x, 0, z)] = false;
+                changed.add(x, 0, z);
+            }
+        }
+        Vector3i neighbour = new Vector3i();
+        changed.process(pos -> {
+            for (Side side : Side.values()) {
+                side.getAdjacentPos(pos, neighbour);
+                if (state.breaksWithoutSupport(neighbour)) {
+                    changed.add(neighbour);
+                }
+            }
+        }, Long.MAX_VALUE);
+        return state.remaining();
+    }
+
+    @Benchmark
+    public int collapseWithHashSet(StateObject state) {
+        Set<Vector3i> changed = Sets.newHashSet();
+        for (int x = 0; x < SIZE_X; x++) {
+            for (int z = 0; z < SIZE_Z; z++) {
+                state.solid[state.index(x, 0, z)] = false;
+                changed.add(new Vector3i(x, 0, z));
+            }
+        }
+        while (!changed.isEmpty()) {
+            Set<Vector3i> toProcess = changed;
+            changed = Sets.newHashSet();
+            for (Vector3i pos : toProcess) {
+                for (Side side : Side.values()) {
+                    Vector3i neighbour = side.getAdjacentPos(pos, new Vector3i());
+                    if (state.breaksWithoutSupport(neighbour)) {
+                        changed.add(neighbour);
+                    }
+                }
+            }
+        }
+        return state.remaining();
+    }
+
+    @State(Scope.Thread)
+    public static class StateObject {
+        private final boolean[] solid = new boolean[SIZE_X * SIZE_Y * SIZE_Z];
+
+        @Setup(Level.Invocation)
+        public void setup() {
+            Arrays.fill(solid, true);
+        }
+
+        int index(int x, int y, int z) {
+            return (x * SIZE_Y + y) * SIZE_Z + z;
+        }
+
+        /**
+         * Removes the block at the given position if it has lost the block below it.
+         *
+         * @return whether the block was removed
+         */
+        boolean breaksWithoutSupport(Vector3ic pos) {
+            if (pos.x() < 0 || pos.x() >= SIZE_X || pos.y() <= 0 || pos.y() >= SIZE_Y
+                    || pos.z() < 0 || pos.z() >= SIZE_Z) {
+                return false;
+            }
+            int index = index(pos.x(), pos.y(), pos.z());
+            if (!solid[index] || solid[index(pos.x(), pos.y() - 1, pos.z())]) {
+                return false;
+            }
+            solid[index] = false;
+            return true;
+        }
+
+        int remaining() {
+            int count = 0;
+            for (boolean block : solid) {
+                if (block) {
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+}
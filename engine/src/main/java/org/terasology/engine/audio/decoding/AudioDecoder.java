@@ -0,0 +1,67 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.audio.decoding;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.terasology.engine.audio.StreamingSoundData;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Decodes streaming sounds ahead of playback on a dedicated worker thread, into buffers from a shared
+ * {@link PcmBufferPool}.
+ * <p>
+ * The decoder does not depend on any audio backend; the backend opens a {@link PrefetchingStream} for each streaming
+ * sound and uploads the chunks it hands out.
+ */
+public class AudioDecoder {
+    /** The size of each decoded chunk, in bytes. */
+    public static final int DEFAULT_BUFFER_SIZE = 4096 * 8;
+
+    private final PcmBufferPool bufferPool;
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder().setNameFormat("Audio-Decode-%d").setDaemon(true).build());
+
+    /**
+     * @param bufferSize the size of each decoded chunk, in bytes
+     * @param maxPooledBuffers how many released chunks to keep for reuse
+     */
+    public AudioDecoder(int bufferSize, int maxPooledBuffers) {
+        this.bufferPool = new PcmBufferPool(bufferSize, maxPooledBuffers);
+    }
+
+    public PcmBufferPool getBufferPool() {
+        return bufferPool;
+    }
+
+    /**
+     * @param stream the stream to decode; its owner stays responsible for disposing it
+     * @param depth how many chunks to keep decoded ahead of playback
+     */
+    public PrefetchingStream open(StreamingSoundData stream, int depth) {
+        return new PrefetchingStream(stream, this, depth);
+    }
+
+    /**
+     * Runs a decode task on the worker.
+     *
+     * @return false if the decoder has been shut down, in which case the task did not run
+     */
+    boolean execute(Runnable task) {
+        try {
+            worker.execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Stops the worker. Streams opened from this decoder keep working, but decode on the thread that reads them.
+     */
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+}
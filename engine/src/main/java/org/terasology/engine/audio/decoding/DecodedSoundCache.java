@@ -0,0 +1,78 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.audio.decoding;
+
+import com.google.common.hash.HashCode;
+import org.terasology.engine.audio.StaticSoundData;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps the decoded samples of short sounds, least recently used first out, so that sounds loaded again, e.g. when the
+ * module environment is switched, are not decoded again.
+ * <p>
+ * Entries are keyed by a hash of the encoded file, so a changed file never hits a stale entry. Sounds whose samples
+ * are larger than {@code maxEntryBytes} are not cached, and entries are evicted once all samples together exceed
+ * {@code maxTotalBytes}. The cache may be used from several threads.
+ */
+public class DecodedSoundCache {
+    private final int maxEntryBytes;
+    private final long maxTotalBytes;
+    private final Map<HashCode, StaticSoundData> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    public DecodedSoundCache(int maxEntryBytes, long maxTotalBytes) {
+        this.maxEntryBytes = maxEntryBytes;
+        this.maxTotalBytes = maxTotalBytes;
+    }
+
+    /**
+     * @param key the hash of the encoded file
+     * @return sound data sharing the cached samples, or null if the file has not been cached
+     */
+    public synchronized StaticSoundData get(HashCode key) {
+        StaticSoundData data = entries.get(key);
+        if (data == null) {
+            return null;
+        }
+        return new StaticSoundData(data.getData().duplicate(), data.getChannels(), data.getSampleRate(),
+                data.getBufferBits());
+    }
+
+    /**
+     * Caches the samples of a sound, if it is short enough. The samples must not be modified afterwards.
+     */
+    public synchronized void put(HashCode key, StaticSoundData data) {
+        int size = data.getData().remaining();
+        if (size > maxEntryBytes) {
+            return;
+        }
+        StaticSoundData previous = entries.put(key, new StaticSoundData(data.getData().duplicate(), data.getChannels(),
+                data.getSampleRate(), data.getBufferBits()));
+        if (previous != null) {
+            totalBytes -= previous.getData().remaining();
+        }
+        totalBytes += size;
+        Iterator<StaticSoundData> iterator = entries.values().iterator();
+        while (totalBytes > maxTotalBytes && iterator.hasNext()) {
+            totalBytes -= iterator.next().getData().remaining();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * @return the number of cached sounds
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return the size of all cached samples, in bytes
+     */
+    public synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+}
@@ -0,0 +1,70 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.audio.decoding;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Reusable direct buffers of a fixed size for decoded PCM samples, so that streaming does not allocate a native buffer
+ * for every chunk it decodes.
+ * <p>
+ * Buffers may be acquired and released from any thread. At most {@code maxPooled} released buffers are kept; further
+ * ones are left to the garbage collector.
+ */
+public class PcmBufferPool {
+    private final int bufferSize;
+    private final int maxPooled;
+    private final Deque<ByteBuffer> free = new ArrayDeque<>();
+
+    public PcmBufferPool(int bufferSize, int maxPooled) {
+        this.bufferSize = bufferSize;
+        this.maxPooled = maxPooled;
+    }
+
+    /**
+     * @return the capacity of every buffer of the pool
+     */
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * @return a cleared buffer, either a released one or a new one
+     */
+    public ByteBuffer acquire() {
+        ByteBuffer buffer;
+        synchronized (free) {
+            buffer = free.poll();
+        }
+        if (buffer == null) {
+            return ByteBuffer.allocateDirect(bufferSize);
+        }
+        buffer.clear();
+        return buffer;
+    }
+
+    /**
+     * Returns a buffer to the pool. The buffer must not be used by the caller afterwards.
+     */
+    public void release(ByteBuffer buffer) {
+        if (buffer.capacity() != bufferSize || !buffer.isDirect()) {
+            return;
+        }
+        synchronized (free) {
+            if (free.size() < maxPooled) {
+                free.push(buffer);
+            }
+        }
+    }
+
+    /**
+     * @return the number of released buffers waiting to be reused
+     */
+    public int getPooledCount() {
+        synchronized (free) {
+            return free.size();
+        }
+    }
+}
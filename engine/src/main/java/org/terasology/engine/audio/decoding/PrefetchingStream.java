@@ -0,0 +1,146 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.audio.decoding;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.engine.audio.StreamingSoundData;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Keeps a number of chunks of a streaming sound decoded ahead of playback, decoding them on the worker of an
+ * {@link AudioDecoder}.
+ * <p>
+ * {@link #next()} hands out the oldest decoded chunk, and only decodes on the calling thread if the worker has fallen
+ * behind. All access to the underlying stream is synchronized on the stream, so streams shared by copies of an asset
+ * are never read from two threads at once.
+ */
+public class PrefetchingStream {
+    private static final Logger logger = LoggerFactory.getLogger(PrefetchingStream.class);
+
+    private final StreamingSoundData stream;
+    private final AudioDecoder decoder;
+    private final int depth;
+    private final Queue<ByteBuffer> ready = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private volatile boolean ended;
+
+    PrefetchingStream(StreamingSoundData stream, AudioDecoder decoder, int depth) {
+        this.stream = stream;
+        this.decoder = decoder;
+        this.depth = depth;
+    }
+
+    /**
+     * Starts decoding ahead on the worker, unless enough chunks are decoded already.
+     */
+    public void prefetch() {
+        if (!ended && ready.size() < depth && scheduled.compareAndSet(false, true)) {
+            if (!decoder.execute(this::fill)) {
+                scheduled.set(false);
+            }
+        }
+    }
+
+    /**
+     * @return the next chunk of samples, to be passed to {@link #release(ByteBuffer)} once it has been uploaded, or
+     *         null at the end of the stream
+     */
+    public ByteBuffer next() {
+        ByteBuffer data = ready.poll();
+        if (data == null) {
+            synchronized (stream) {
+                data = ready.poll();
+                if (data == null && !ended) {
+                    data = decode();
+                }
+            }
+        }
+        prefetch();
+        return data;
+    }
+
+    /**
+     * Returns a chunk handed out by {@link #next()} to the buffer pool.
+     */
+    public void release(ByteBuffer data) {
+        decoder.getBufferPool().release(data);
+    }
+
+    /**
+     * @return the number of chunks decoded and waiting to be handed out
+     */
+    public int getReadyCount() {
+        return ready.size();
+    }
+
+    /**
+     * Drops the chunks decoded so far and restarts the stream from the beginning.
+     */
+    public void reset() {
+        synchronized (stream) {
+            drain();
+            stream.reset();
+            ended = false;
+        }
+        prefetch();
+    }
+
+    /**
+     * Drops the chunks decoded so far and stops decoding. The stream itself is left to its owner.
+     */
+    public void dispose() {
+        synchronized (stream) {
+            ended = true;
+            drain();
+        }
+    }
+
+    private void drain() {
+        ByteBuffer data;
+        while ((data = ready.poll()) != null) {
+            release(data);
+        }
+    }
+
+    private void fill() {
+        scheduled.set(false);
+        // The lock is taken per chunk, so that a reset on the main thread waits for one chunk at most
+        while (true) {
+            synchronized (stream) {
+                if (ended || ready.size() >= depth) {
+                    return;
+                }
+                ByteBuffer data = decode();
+                if (data != null) {
+                    ready.add(data);
+                }
+            }
+        }
+    }
+
+    /**
+     * Decodes one chunk; the caller must hold the lock of the stream.
+     *
+     * @return the chunk, or null if the stream has ended
+     */
+    private ByteBuffer decode() {
+        ByteBuffer buffer = decoder.getBufferPool().acquire();
+        try {
+            stream.readNextInto(buffer);
+        } catch (RuntimeException e) {
+            logger.error("Failed to decode sound stream", e);
+            buffer.clear().limit(0);
+        }
+        if (buffer.limit() == 0) {
+            ended = true;
+            release(buffer);
+            return null;
+        }
+        return buffer;
+    }
+}
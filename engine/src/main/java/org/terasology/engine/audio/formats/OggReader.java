@@ -45,10 +45,13 @@ public class OggReader extends FilterInputStream {
     private static final int FORMAT_STEREO16 = 2;
 
     /// Conversion buffer size
-    private static int convsize = 4096 * 2;
+    private static final int CONVBUFFER_SIZE = 4096 * 2;
 
-    // Conversion buffer
-    private static final byte[] CONVBUFFER = new byte[convsize];
+    // Conversion buffer, per reader so that several streams can be decoded on different threads
+    private final byte[] convbuffer = new byte[CONVBUFFER_SIZE];
+
+    // Maximum number of samples per channel converted at once
+    private int convsize = CONVBUFFER_SIZE;
 
     // temp vars
     private final float[][][] pcm = new float[1][][];
@@ -154,7 +157,7 @@ public int read(byte[] b, int off, int len) throws IOException {
             fillConvbuffer();
             if (!eos) {
                 int bytesToCopy = Math.min(bytesRemaining, convbufferSize - convbufferOff);
-                System.arraycopy(CONVBUFFER, convbufferOff, b, offset, bytesToCopy);
+                System.arraycopy(convbuffer, convbufferOff, b, offset, bytesToCopy);
                 convbufferOff += bytesToCopy;
                 bytesRead += bytesToCopy;
                 bytesRemaining -= bytesToCopy;
@@ -184,7 +187,7 @@ public int read(ByteBuffer b, int off, int len) throws IOException {
             fillConvbuffer();
             if (!eos) {
                 int bytesToCopy = Math.min(bytesRemaining, convbufferSize - convbufferOff);
-                b.put(CONVBUFFER, convbufferOff, bytesToCopy);
+                b.put(convbuffer, convbufferOff, bytesToCopy);
                 convbufferOff += bytesToCopy;
                 bytesRead += bytesToCopy;
                 bytesRemaining -= bytesToCopy;
@@ -416,8 +419,8 @@ private int decodePacket() {
                     val = Math.max(-32768, Math.min(32767, val));
                     val |= (val < 0 ? 0x8000 : 0);
 
-                    CONVBUFFER[ptr + 0] = (byte) (bigEndian ? val >>> 8 : val);
-                    CONVBUFFER[ptr + 1] = (byte) (bigEndian ? val : val >>> 8);
+                    convbuffer[ptr + 0] = (byte) (bigEndian ? val >>> 8 : val);
+                    convbuffer[ptr + 1] = (byte) (bigEndian ? val : val >>> 8);
 
                     ptr += (info.channels) << 1;
                 }
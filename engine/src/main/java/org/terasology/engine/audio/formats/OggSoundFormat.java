@@ -3,35 +3,69 @@
 
 package org.terasology.engine.audio.formats;
 
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
 import com.google.common.io.ByteStreams;
 import org.lwjgl.BufferUtils;
 import org.terasology.engine.audio.StaticSoundData;
+import org.terasology.engine.audio.decoding.DecodedSoundCache;
 import org.terasology.gestalt.assets.ResourceUrn;
 import org.terasology.gestalt.assets.format.AbstractAssetFileFormat;
 import org.terasology.gestalt.assets.format.AssetDataFile;
 import org.terasology.gestalt.assets.module.annotations.RegisterAssetFileFormat;
 
-import java.io.ByteArrayOutputStream;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.util.List;
 
 @RegisterAssetFileFormat
 public class OggSoundFormat extends AbstractAssetFileFormat<StaticSoundData> {
 
+    /** Decoded samples of short effects, up to about 6 seconds of 44.1 kHz stereo each, shared by all loads. */
+    private static final DecodedSoundCache CACHE = new DecodedSoundCache(1 << 20, 32L << 20);
+
+    private static final int INITIAL_BUFFER_SIZE = 1 << 16;
+
     public OggSoundFormat() {
         super("ogg");
     }
 
     @Override
     public StaticSoundData load(ResourceUrn urn, List<AssetDataFile> inputs) throws IOException {
-        try (OggReader reader = new OggReader(inputs.get(0).openStream())) {
-            ByteArrayOutputStream bos = new ByteArrayOutputStream();
-            ByteStreams.copy(reader, bos);
+        byte[] encoded;
+        try (InputStream in = inputs.get(0).openStream()) {
+            encoded = ByteStreams.toByteArray(in);
+        }
+        HashCode key = Hashing.murmur3_128().hashBytes(encoded);
+        StaticSoundData cached = CACHE.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        StaticSoundData data = decode(encoded);
+        CACHE.put(key, data);
+        return data;
+    }
 
-            ByteBuffer data = BufferUtils.createByteBuffer(bos.size()).put(bos.toByteArray());
+    /**
+     * Decodes a whole Ogg Vorbis file straight into a direct buffer, growing it as needed.
+     */
+    static StaticSoundData decode(byte[] encoded) throws IOException {
+        try (OggReader reader = new OggReader(new ByteArrayInputStream(encoded))) {
+            ByteBuffer data = BufferUtils.createByteBuffer(INITIAL_BUFFER_SIZE);
+            int read;
+            while ((read = reader.read(data, data.position(), data.remaining())) >= 0) {
+                if (!data.hasRemaining()) {
+                    ByteBuffer larger = BufferUtils.createByteBuffer(data.capacity() * 2);
+                    data.flip();
+                    larger.put(data);
+                    data = larger;
+                } else if (read == 0) {
+                    break;
+                }
+            }
             data.flip();
-
             return new StaticSoundData(data, reader.getChannels(), reader.getRate(), 16);
         } catch (IOException e) {
             throw new IOException("Failed to load sound: " + e.getMessage(), e);
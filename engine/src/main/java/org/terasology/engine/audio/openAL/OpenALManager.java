@@ -22,6 +22,7 @@
 import org.terasology.engine.audio.StaticSoundData;
 import org.terasology.engine.audio.StreamingSound;
 import org.terasology.engine.audio.StreamingSoundData;
+import org.terasology.engine.audio.decoding.AudioDecoder;
 import org.terasology.engine.audio.openAL.staticSound.OpenALSound;
 import org.terasology.engine.audio.openAL.staticSound.OpenALSoundPool;
 import org.terasology.engine.audio.openAL.streamingSound.OpenALStreamingSound;
@@ -52,6 +53,9 @@ public class OpenALManager implements AudioManager {
 
     private final Map<SoundSource<?>, AudioEndListener> endListeners = Maps.newHashMap();
 
+    /** Decodes music ahead of playback, with enough pooled chunks for both music sources to prefetch. */
+    private final AudioDecoder decoder = new AudioDecoder(AudioDecoder.DEFAULT_BUFFER_SIZE, 16);
+
     public OpenALManager(AudioConfig config) throws OpenALException {
         logger.info("Initializing OpenAL audio manager");
 
@@ -85,6 +89,7 @@ public OpenALManager(AudioConfig config) throws OpenALException {
 
     @Override
     public void dispose() {
+        decoder.shutdown();
         ALC10.alcCloseDevice(ALC10.alcGetContextsDevice(ALC10.alcGetCurrentContext()));
         ALC.destroy();
     }
@@ -285,6 +290,10 @@ public AssetFactory<StreamingSound, StreamingSoundData> getStreamingSoundFactory
                 OpenALManager.this, new OpenALStreamingSound.DisposalAction(urn));
     }
 
+    public AudioDecoder getDecoder() {
+        return decoder;
+    }
+
     public void purgeSound(Sound<?> sound) {
         for (SoundPool<?, ?> pool : pools.values()) {
             pool.purge(sound);
@@ -7,6 +7,7 @@
 import org.slf4j.LoggerFactory;
 import org.terasology.engine.audio.StreamingSound;
 import org.terasology.engine.audio.StreamingSoundData;
+import org.terasology.engine.audio.decoding.PrefetchingStream;
 import org.terasology.engine.audio.openAL.OpenALException;
 import org.terasology.engine.audio.openAL.OpenALManager;
 import org.terasology.engine.core.GameThread;
@@ -24,13 +25,14 @@
 
 public final class OpenALStreamingSound extends StreamingSound {
     private static final int BUFFER_POOL_SIZE = 8;
-    private static final int BUFFER_SIZE = 4096 * 8;
+    /** How many chunks are decoded ahead, beyond those queued on the source. */
+    private static final int PREFETCH_DEPTH = 4;
 
     private static final Logger logger = LoggerFactory.getLogger(OpenALStreamingSound.class);
 
     private final OpenALManager audioManager;
     private StreamingSoundData stream;
-    private ByteBuffer dataBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private PrefetchingStream prefetcher;
 
     private OpenALStreamingSound.DisposalAction internalResources;
     private int lastUpdatedBuffer;
@@ -49,17 +51,19 @@ public int[] getBuffers() {
     }
 
     public boolean updateBuffer(int buffer) {
-        stream.readNextInto(dataBuffer);
-
-        if (dataBuffer.limit() == 0) {
-            // rewind to ensure that limit is reset to capacity
-            dataBuffer.clear();
+        ByteBuffer data = prefetcher.next();
+        if (data == null) {
             return false;
         }
 
-        int format = stream.getChannels() == 1 ? AL10.AL_FORMAT_MONO16 : AL10.AL_FORMAT_STEREO16;
-        AL10.alBufferData(buffer, format, dataBuffer, stream.getSamplingRate());
-        OpenALException.checkState("Uploading buffer data");
+        try {
+            int format = stream.getChannels() == 1 ? AL10.AL_FORMAT_MONO16 : AL10.AL_FORMAT_STEREO16;
+            AL10.alBufferData(buffer, format, data, stream.getSamplingRate());
+            OpenALException.checkState("Uploading buffer data");
+        } finally {
+            // OpenAL has copied the samples, so the chunk can be decoded into again
+            prefetcher.release(data);
+        }
 
         this.lastUpdatedBuffer = buffer;
 
@@ -114,12 +118,16 @@ public int getBufferBits() {
 
     @Override
     public void reset() {
-        stream.reset();
+        prefetcher.reset();
     }
 
     @Override
     protected void doReload(StreamingSoundData data) {
+        if (prefetcher != null) {
+            prefetcher.dispose();
+        }
         stream = data;
+        prefetcher = audioManager.getDecoder().open(data, PREFETCH_DEPTH);
         try {
             GameThread.synch(this::initializeBuffers);
         } catch (InterruptedException e) {
@@ -157,6 +165,7 @@ public void close() {
                     OpenALStreamingSound sound = asset.get();
                     if (sound != null) {
                         sound.audioManager.purgeSound(sound);
+                        sound.prefetcher.dispose();
                     }
 
                     // TODO: Fix this - probably failing if sound is playing
@@ -27,6 +27,7 @@ public class RenderingConfig extends AbstractSubscribable {
     public static final String VIEW_DISTANCE = "viewDistance";
     public static final String CHUNK_LODS = "chunkLods";
     public static final String CHUNK_THREADS = "chunkThreads";
+    public static final String LOD_CHUNK_THREADS = "lodChunkThreads";
     public static final String BILLBOARD_LIMIT = "billboardLimit";
     public static final String FLICKERING_LIGHT = "FlickeringLight";
     public static final String ANIMATE_GRASS = "AnimateGrass";
@@ -78,6 +79,7 @@ public class RenderingConfig extends AbstractSubscribable {
     private ViewDistance viewDistance;
     private float chunkLods;
     private int chunkThreads;
+    private int lodChunkThreads;
     private float billboardLimit;
     private boolean flickeringLight;
     private boolean animateGrass;
@@ -282,6 +284,19 @@ public void setChunkThreads(int chunkThreads) {
         propertyChangeSupport.firePropertyChange(CHUNK_THREADS, oldChunkThreads, chunkThreads);
     }
 
+    /**
+     * @return the number of threads creating LOD chunks, or 0 for the default; takes effect when a game is started
+     */
+    public int getLodChunkThreads() {
+        return lodChunkThreads;
+    }
+
+    public void setLodChunkThreads(int lodChunkThreads) {
+        int oldLodChunkThreads = this.lodChunkThreads;
+        this.lodChunkThreads = lodChunkThreads;
+        propertyChangeSupport.firePropertyChange(LOD_CHUNK_THREADS, oldLodChunkThreads, lodChunkThreads);
+    }
+
     public float getBillboardLimit() {
         return billboardLimit;
     }
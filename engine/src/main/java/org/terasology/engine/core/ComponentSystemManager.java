@@ -6,6 +6,7 @@
 import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.terasology.engine.context.Context;
@@ -26,6 +27,8 @@
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Simple manager for component systems.
@@ -38,6 +41,9 @@
  * </ul>
  * It starts inactive and becomes active when initialise() is called.
  *
+ * Update subscribers are updated through {@link #updateSystems(float)}, which runs systems that declare their
+ * {@link org.terasology.engine.entitySystem.systems.ComponentAccess} in parallel where they do not conflict.
+ *
  * After a call of shutdown it should not be used anymore.
  *
  */
@@ -51,6 +57,9 @@ public class ComponentSystemManager {
     private List<UpdateSubscriberSystem> updateSubscribers = Lists.newArrayList();
     private List<RenderSystem> renderSubscribers = Lists.newArrayList();
     private List<ComponentSystem> store = Lists.newArrayList();
+    private UpdatePhaseSchedule updateSchedule;
+    private ExecutorService updateWorkers;
+    private boolean parallelUpdates = true;
 
     private Console console;
     private Context context;
@@ -125,6 +134,7 @@ private void rollbackLoading(ComponentSystem system, String id) {
             // rollback this#register
             if (system instanceof UpdateSubscriberSystem) {
                 updateSubscribers.remove((UpdateSubscriberSystem) system);
+                updateSchedule = null;
             }
             if (system instanceof RenderSystem) {
                 renderSubscribers.remove((RenderSystem) system);
@@ -170,6 +180,7 @@ public void register(ComponentSystem object) {
         store.add(object);
         if (object instanceof UpdateSubscriberSystem) {
             updateSubscribers.add((UpdateSubscriberSystem) object);
+            updateSchedule = null;
         }
         if (object instanceof RenderSystem) {
             renderSubscribers.add((RenderSystem) object);
@@ -230,6 +241,32 @@ public Iterable<UpdateSubscriberSystem> iterateUpdateSubscribers() {
         return updateSubscribers;
     }
 
+    /**
+     * Updates every update subscriber once, in phases built from the components they declare to access.
+     *
+     * @param delta The time (in seconds) since the last engine update.
+     */
+    public void updateSystems(float delta) {
+        if (updateSchedule == null) {
+            updateSchedule = new UpdatePhaseSchedule(updateSubscribers);
+            logger.debug("Updating {} systems in {} phases", updateSubscribers.size(), updateSchedule.getPhases().size());
+        }
+        if (parallelUpdates && updateWorkers == null && updateSchedule.isParallel()) {
+            int workerCount = Runtime.getRuntime().availableProcessors();
+            updateWorkers = Executors.newFixedThreadPool(workerCount,
+                    new ThreadFactoryBuilder().setNameFormat("System-Update-%d").setDaemon(true).build());
+        }
+        updateSchedule.update(delta, parallelUpdates ? updateWorkers : null);
+    }
+
+    /**
+     * Enables or disables updating non-conflicting systems in parallel. When disabled, all systems are updated on the
+     * calling thread, in the order of their phases.
+     */
+    public void setParallelUpdates(boolean parallelUpdates) {
+        this.parallelUpdates = parallelUpdates;
+    }
+
     public Iterable<RenderSystem> iterateRenderSubscribers() {
         return renderSubscribers;
     }
@@ -240,5 +277,10 @@ public void shutdown() {
         }
         updateSubscribers.clear();
         renderSubscribers.clear();
+        updateSchedule = null;
+        if (updateWorkers != null) {
+            updateWorkers.shutdownNow();
+            updateWorkers = null;
+        }
     }
 }
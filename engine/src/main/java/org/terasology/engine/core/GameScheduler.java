@@ -14,12 +14,14 @@
 
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.util.EnumMap;
+import java.util.Map;
 
 /** Schedulers to asynchronously run tasks on other threads. */
 @API
 public final class GameScheduler {
 
-    private static final Scheduler MAIN;
+    private static final Map<TaskPriority, Scheduler> MAIN = new EnumMap<>(TaskPriority.class);
 
     static {
         // doPriviledged in case this class isn't initialized before the security policy is installed.
@@ -31,7 +33,9 @@ public final class GameScheduler {
             return null;
         });
 
-        MAIN = Schedulers.fromExecutor(GameThread::asynch);
+        for (TaskPriority priority : TaskPriority.values()) {
+            MAIN.put(priority, Schedulers.fromExecutor(task -> GameThread.asynch(priority, task)));
+        }
     }
 
     private GameScheduler() {
@@ -43,7 +47,19 @@ private GameScheduler() {
      * <b>⚠</b> Use this only when necessary, as anything executed on the main thread will delay the core game loop.
      */
     public static Scheduler gameMain() {
-        return MAIN;
+        return gameMain(TaskPriority.DEFAULT);
+    }
+
+    /**
+     * A Scheduler to run tasks on the main thread with the given priority.
+     * <p>
+     * The main thread only spends a limited time per frame on these tasks, so a burst of them is spread over several
+     * frames, higher priorities first.
+     *
+     * @see #gameMain()
+     */
+    public static Scheduler gameMain(TaskPriority priority) {
+        return MAIN.get(priority);
     }
 
     /**
@@ -2,11 +2,8 @@
 // SPDX-License-Identifier: Apache-2.0
 package org.terasology.engine.core;
 
-import com.google.common.collect.Lists;
-import com.google.common.collect.Queues;
+import org.terasology.engine.monitoring.impl.LatencyHistogram;
 
-import java.util.List;
-import java.util.concurrent.BlockingDeque;
 import java.util.concurrent.Semaphore;
 
 /**
@@ -16,12 +13,13 @@
  * <li>Entity changes</li>
  * <li>Some asset acquisition (if it involves a Display or Audio context)</li>
  * </ul>
- *
+ * Work handed to the game thread by other threads is queued by {@link TaskPriority} and run within a time budget per
+ * frame; work that does not fit is carried over to the next frame.
  */
 public final class GameThread {
 
     private static volatile Thread gameThread;
-    private static BlockingDeque<Runnable> pendingRunnables = Queues.newLinkedBlockingDeque();
+    private static final MainThreadTaskQueue pendingTasks = new MainThreadTaskQueue();
 
     private GameThread() {
     }
@@ -41,8 +39,20 @@ public static boolean isCurrentThread() {
      * @param process
      */
     public static void asynch(Runnable process) {
+        asynch(TaskPriority.DEFAULT, process);
+    }
+
+    /**
+     * Runs a process on the game thread with the given priority, not waiting for it to run.
+     * <br><br>
+     * If the current thread is the game thread, then the process runs immediately
+     *
+     * @param priority decides which waiting processes run first when they do not all fit in a frame
+     * @param process
+     */
+    public static void asynch(TaskPriority priority, Runnable process) {
         if (!Thread.currentThread().equals(gameThread)) {
-            pendingRunnables.push(process);
+            pendingTasks.submit(priority, process);
         } else {
             process.run();
         }
@@ -58,7 +68,7 @@ public static void asynch(Runnable process) {
     public static void synch(Runnable process) throws InterruptedException {
         if (!Thread.currentThread().equals(gameThread)) {
             BlockingProcess blockingProcess = new BlockingProcess(process);
-            pendingRunnables.push(blockingProcess);
+            pendingTasks.submit(TaskPriority.DEFAULT, blockingProcess);
             blockingProcess.waitForCompletion();
         } else {
             process.run();
@@ -70,9 +80,19 @@ public static void synch(Runnable process) throws InterruptedException {
      */
     public static void processWaitingProcesses() {
         if (Thread.currentThread().equals(gameThread)) {
-            List<Runnable> processes = Lists.newArrayList();
-            pendingRunnables.drainTo(processes);
-            processes.forEach(Runnable::run);
+            pendingTasks.runAll();
+        }
+    }
+
+    /**
+     * Runs pending processes submitted from other threads, highest priority first, until the time budget is used up.
+     * At least one process of every priority runs, if there is one; the rest waits for the next call.
+     *
+     * @param budgetNanos the time to spend running processes
+     */
+    public static void processWaitingProcesses(long budgetNanos) {
+        if (Thread.currentThread().equals(gameThread)) {
+            pendingTasks.run(budgetNanos);
         }
     }
 
@@ -81,10 +101,24 @@ public static void processWaitingProcesses() {
      */
     public static void clearWaitingProcesses() {
         if (gameThread.equals(Thread.currentThread())) {
-            pendingRunnables.clear();
+            pendingTasks.clear();
         }
     }
 
+    /**
+     * @return the number of processes of the given priority waiting to run
+     */
+    public static int getPendingCount(TaskPriority priority) {
+        return pendingTasks.getPendingCount(priority);
+    }
+
+    /**
+     * @return how long processes of the given priority waited before they ran, in nanoseconds
+     */
+    public static LatencyHistogram getQueueLatency(TaskPriority priority) {
+        return pendingTasks.getQueueLatency(priority);
+    }
+
     /**
      * Sets the game thread. This can only be done once.
      */
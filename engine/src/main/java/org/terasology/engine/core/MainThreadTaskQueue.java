@@ -0,0 +1,110 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.core;
+
+import org.terasology.engine.monitoring.impl.LatencyHistogram;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The work other threads have handed to the game thread, with a queue per {@link TaskPriority}.
+ * <p>
+ * Each frame, the queues are run in priority order until a time budget is used up; what is left runs in later frames.
+ * So that no priority starves, at least one waiting task of every priority runs per frame, even over budget. Within a
+ * priority, tasks run in the order they were submitted.
+ * <p>
+ * The time each task waited in its queue is recorded per priority.
+ */
+final class MainThreadTaskQueue {
+    private static final TaskPriority[] PRIORITIES = TaskPriority.values();
+
+    private final Queue<QueuedTask>[] queues;
+    private final AtomicInteger[] pendingCounts = new AtomicInteger[PRIORITIES.length];
+    private final LatencyHistogram[] latencies = new LatencyHistogram[PRIORITIES.length];
+
+    @SuppressWarnings("unchecked")
+    MainThreadTaskQueue() {
+        queues = new Queue[PRIORITIES.length];
+        for (int i = 0; i < PRIORITIES.length; i++) {
+            queues[i] = new ConcurrentLinkedQueue<>();
+            pendingCounts[i] = new AtomicInteger();
+            latencies[i] = new LatencyHistogram();
+        }
+    }
+
+    /**
+     * Can be called from any thread.
+     */
+    void submit(TaskPriority priority, Runnable task) {
+        int index = priority.ordinal();
+        queues[index].add(new QueuedTask(task, System.nanoTime()));
+        pendingCounts[index].incrementAndGet();
+    }
+
+    /**
+     * Runs waiting tasks, highest priority first, until the budget is used up.
+     *
+     * @param budgetNanos the time to spend, checked between tasks
+     * @return the number of tasks run
+     */
+    int run(long budgetNanos) {
+        long deadline = System.nanoTime() + budgetNanos;
+        int run = 0;
+        for (TaskPriority priority : PRIORITIES) {
+            int index = priority.ordinal();
+            boolean ranAny = false;
+            QueuedTask task;
+            while ((!ranAny || System.nanoTime() - deadline < 0) && (task = queues[index].poll()) != null) {
+                pendingCounts[index].decrementAndGet();
+                latencies[index].record(System.nanoTime() - task.submitTime);
+                task.runnable.run();
+                ranAny = true;
+                run++;
+            }
+        }
+        return run;
+    }
+
+    /**
+     * Runs every waiting task, regardless of the time it takes.
+     *
+     * @return the number of tasks run
+     */
+    int runAll() {
+        return run(Long.MAX_VALUE);
+    }
+
+    /**
+     * Drops every waiting task without running it.
+     */
+    void clear() {
+        for (int i = 0; i < PRIORITIES.length; i++) {
+            while (queues[i].poll() != null) {
+                pendingCounts[i].decrementAndGet();
+            }
+        }
+    }
+
+    int getPendingCount(TaskPriority priority) {
+        return pendingCounts[priority.ordinal()].get();
+    }
+
+    /**
+     * @return the time tasks of the given priority waited before they ran, in nanoseconds
+     */
+    LatencyHistogram getQueueLatency(TaskPriority priority) {
+        return latencies[priority.ordinal()];
+    }
+
+    private static final class QueuedTask {
+        private final Runnable runnable;
+        private final long submitTime;
+
+        QueuedTask(Runnable runnable, long submitTime) {
+            this.runnable = runnable;
+            this.submitTime = submitTime;
+        }
+    }
+}
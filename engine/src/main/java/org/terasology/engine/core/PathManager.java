@@ -46,6 +46,8 @@ public final class PathManager {
     private static final String NATIVES_DIR = "natives";
     private static final String CONFIGS_DIR = "configs";
     private static final String SANDBOX_DIR = "sandbox";
+    private static final String CACHE_DIR = "cache";
+    private static final String REFLECTIONS_CACHE_DIR = "reflections";
     private static final String REGEX = "[^A-Za-z0-9-_ ]";
 
     private static PathManager instance;
@@ -64,6 +66,8 @@ public final class PathManager {
     private Path screenshotPath;
     private Path nativesPath;
     private Path configsPath;
+    private Path cachePath;
+    private Path reflectionsCachePath;
 
     private PathManager() {
         installPath = findInstallPath();
@@ -309,6 +313,22 @@ public Path getSandboxPath() {
         return sandboxPath;
     }
 
+    /**
+     *
+     * @return Path in which derived data is cached between executions. Anything in here may be deleted at any time.
+     */
+    public Path getCachePath() {
+        return cachePath;
+    }
+
+    /**
+     *
+     * @return Path in which the results of classpath scans are cached.
+     */
+    public Path getReflectionsCachePath() {
+        return reflectionsCachePath;
+    }
+
     /**
      * Updates all of the path manager's file/directory references to match the path settings. Creates directories if they don't already exist.
      * @throws IOException Thrown when required directories cannot be accessed.
@@ -325,6 +345,8 @@ private void updateDirs() throws IOException {
             currentWorldPath = homePath;
         }
         sandboxPath = homePath.resolve(SANDBOX_DIR);
+        cachePath = homePath.resolve(CACHE_DIR);
+        reflectionsCachePath = cachePath.resolve(REFLECTIONS_CACHE_DIR);
 
         modPaths = defaultModPaths();
 
@@ -0,0 +1,22 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.core;
+
+import org.terasology.gestalt.module.sandbox.API;
+
+/**
+ * The classes of work run on the game thread on behalf of other threads, in the order they are run each frame.
+ *
+ * @see GameThread#asynch(TaskPriority, Runnable)
+ */
+@API
+public enum TaskPriority {
+    /** Small updates the player is waiting to see, such as UI text. */
+    UI,
+    /** Everything that does not state a priority. */
+    DEFAULT,
+    /** Uploads of meshes and textures to the GPU. */
+    GL_UPLOAD,
+    /** Making generated or loaded chunks part of the world. */
+    CHUNK_ACTIVATION
+}
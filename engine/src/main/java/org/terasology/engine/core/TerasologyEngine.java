@@ -105,6 +105,9 @@ public class TerasologyEngine implements GameEngine {
 
     private static final int ONE_MEBIBYTE = 1024 * 1024;
 
+    /** The time per frame the game thread spends on work handed to it by other threads. */
+    private static final long WAITING_PROCESSES_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(4);
+
     /**
      * Subsystem classes that automatically make their classpath part of the engine module.
      * <p>
@@ -514,7 +517,7 @@ public boolean tick() {
         }
 
         // Waiting processes are set by modules via GameThread.a/synch() methods.
-        GameThread.processWaitingProcesses();
+        GameThread.processWaitingProcesses(WAITING_PROCESSES_BUDGET_NANOS);
 
         for (EngineSubsystem subsystem : getSubsystems()) {
             try (Activity ignored = PerformanceMonitor.startActivity(subsystem.getName() + " Subsystem postUpdate")) {
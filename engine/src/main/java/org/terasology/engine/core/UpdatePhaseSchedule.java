@@ -0,0 +1,176 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.core;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import org.terasology.engine.entitySystem.systems.ComponentAccess;
+import org.terasology.engine.entitySystem.systems.UpdateSubscriberSystem;
+import org.terasology.engine.monitoring.PerformanceMonitor;
+import org.terasology.engine.monitoring.TickProfiler;
+import org.terasology.gestalt.entitysystem.component.Component;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Groups update subscribers into phases that are run one after another.
+ * <p>
+ * The systems of a phase do not conflict with each other according to their {@link ComponentAccess}, and are updated in
+ * parallel on the workers, while the calling thread waits for them. As none of them runs on the main thread, the events
+ * they send are all queued until the main thread processes events, instead of being handled in parallel with the other
+ * systems of the phase. A system is placed in the phase after the last earlier system it conflicts with, so conflicting
+ * systems keep their registration order. Systems without a declaration conflict with everything and always get a phase
+ * of their own.
+ * <p>
+ * Every system update is a {@link TickProfiler} section, on whichever thread it runs. The {@link PerformanceMonitor}
+ * only records activities of the main thread, so it records a parallel phase as a single activity.
+ */
+final class UpdatePhaseSchedule {
+    private static final String PARALLEL_PHASE_ACTIVITY = "Parallel Update Phase";
+
+    private final List<List<UpdateSubscriberSystem>> phases;
+    private final Map<UpdateSubscriberSystem, String> sectionNames = new IdentityHashMap<>();
+
+    UpdatePhaseSchedule(List<UpdateSubscriberSystem> systems) {
+        List<Access> accesses = Lists.newArrayListWithCapacity(systems.size());
+        List<List<UpdateSubscriberSystem>> phaseBuilder = Lists.newArrayList();
+        List<Integer> phaseOf = Lists.newArrayListWithCapacity(systems.size());
+        for (UpdateSubscriberSystem system : systems) {
+            Access access = Access.of(system.getClass().getAnnotation(ComponentAccess.class));
+            int phase = 0;
+            for (int i = 0; i < accesses.size(); i++) {
+                if (access.conflictsWith(accesses.get(i))) {
+                    phase = Math.max(phase, phaseOf.get(i) + 1);
+                }
+            }
+            if (phase == phaseBuilder.size()) {
+                phaseBuilder.add(Lists.newArrayList());
+            }
+            phaseBuilder.get(phase).add(system);
+            accesses.add(access);
+            phaseOf.add(phase);
+            sectionNames.put(system, "system:" + system.getClass().getSimpleName());
+        }
+        ImmutableList.Builder<List<UpdateSubscriberSystem>> builder = ImmutableList.builder();
+        for (List<UpdateSubscriberSystem> phase : phaseBuilder) {
+            builder.add(ImmutableList.copyOf(phase));
+        }
+        this.phases = builder.build();
+    }
+
+    List<List<UpdateSubscriberSystem>> getPhases() {
+        return phases;
+    }
+
+    /**
+     * @return Whether any phase has more than one system, and would benefit from workers
+     */
+    boolean isParallel() {
+        return phases.stream().anyMatch(phase -> phase.size() > 1);
+    }
+
+    /**
+     * Updates every system, phase by phase.
+     *
+     * @param delta The time (in seconds) since the last engine update
+     * @param workers runs the systems of a phase with more than one system, or null to update every system on the
+     *     calling thread
+     */
+    void update(float delta, ExecutorService workers) {
+        for (List<UpdateSubscriberSystem> phase : phases) {
+            if (workers == null || phase.size() == 1) {
+                for (UpdateSubscriberSystem system : phase) {
+                    PerformanceMonitor.startActivity(system.getClass().getSimpleName());
+                    try {
+                        update(system, delta, sectionNames.get(system));
+                    } finally {
+                        PerformanceMonitor.endActivity();
+                    }
+                }
+            } else {
+                // the performance monitor only records the main thread, so the phase is recorded as a whole
+                PerformanceMonitor.startActivity(PARALLEL_PHASE_ACTIVITY);
+                try {
+                    updateInParallel(phase, delta, workers);
+                } finally {
+                    PerformanceMonitor.endActivity();
+                }
+            }
+        }
+    }
+
+    private void updateInParallel(List<UpdateSubscriberSystem> phase, float delta, ExecutorService workers) {
+        List<Future<?>> futures = Lists.newArrayListWithCapacity(phase.size());
+        for (UpdateSubscriberSystem system : phase) {
+            String sectionName = sectionNames.get(system);
+            futures.add(workers.submit(() -> update(system, delta, sectionName)));
+        }
+        Throwable failure = null;
+        // the next phase may conflict with any of these systems, so all of them have to finish first
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = e.getCause();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(f -> f.cancel(true));
+                throw new IllegalStateException("Interrupted while updating systems", e);
+            }
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        } else if (failure instanceof Error) {
+            throw (Error) failure;
+        } else if (failure != null) {
+            throw new IllegalStateException("Failed to update systems", failure);
+        }
+    }
+
+    private static void update(UpdateSubscriberSystem system, float delta, String sectionName) {
+        TickProfiler.begin(sectionName);
+        try {
+            system.update(delta);
+        } finally {
+            TickProfiler.end();
+        }
+    }
+
+    private static final class Access {
+        private static final Access UNDECLARED = new Access(null, null);
+
+        private final Set<Class<? extends Component>> reads;
+        private final Set<Class<? extends Component>> writes;
+
+        private Access(Set<Class<? extends Component>> reads, Set<Class<? extends Component>> writes) {
+            this.reads = reads;
+            this.writes = writes;
+        }
+
+        static Access of(ComponentAccess declaration) {
+            if (declaration == null) {
+                return UNDECLARED;
+            }
+            return new Access(ImmutableSet.copyOf(declaration.reads()), ImmutableSet.copyOf(declaration.writes()));
+        }
+
+        boolean conflictsWith(Access other) {
+            if (this == UNDECLARED || other == UNDECLARED) {
+                return true;
+            }
+            return !Collections.disjoint(writes, other.writes)
+                    || !Collections.disjoint(writes, other.reads)
+                    || !Collections.disjoint(reads, other.writes);
+        }
+    }
+}
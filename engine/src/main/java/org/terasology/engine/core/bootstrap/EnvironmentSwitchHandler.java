@@ -30,6 +30,7 @@
 import org.terasology.engine.physics.CollisionGroup;
 import org.terasology.engine.physics.CollisionGroupManager;
 import org.terasology.engine.registry.InjectionHelper;
+import org.terasology.engine.rendering.assets.font.TextLayoutCache;
 import org.terasology.gestalt.assets.ResourceUrn;
 import org.terasology.gestalt.assets.module.ModuleAwareAssetTypeManager;
 import org.terasology.gestalt.entitysystem.component.Component;
@@ -135,7 +136,7 @@ public void handleSwitchToGameEnvironment(Context context) {
 
         assetTypeManager.switchEnvironment(environment);
         assetTypeManager.reloadAssets();
-
+        clearTextLayoutCache(context);
     }
 
     /**
@@ -150,6 +151,17 @@ private void cheapAssetManagerUpdate(Context context, ModuleEnvironment environm
         ModuleAwareAssetTypeManager moduleAwareAssetTypeManager = context.get(ModuleAwareAssetTypeManager.class);
         unregisterPrefabFormats(moduleAwareAssetTypeManager);
         moduleAwareAssetTypeManager.switchEnvironment(environment);
+        clearTextLayoutCache(context);
+    }
+
+    /**
+     * Drops the cached text layouts, which refer to the fonts of the previous environment.
+     */
+    private static void clearTextLayoutCache(Context context) {
+        TextLayoutCache layoutCache = context.get(TextLayoutCache.class);
+        if (layoutCache != null) {
+            layoutCache.clear();
+        }
     }
 
 
@@ -3,6 +3,15 @@
 
 package org.terasology.engine.core.modes;
 
+import java.util.Set;
+
+/**
+ * A step of loading a game, run by {@link StateLoading}.
+ * <p>
+ * By default a load process runs on the main thread, after every process added before it has finished. A process that
+ * declares both what it requires and what it provides may instead run concurrently with other declared processes it
+ * does not share any types with; see {@link LoadProcessScheduler}.
+ */
 public interface LoadProcess {
 
     /**
@@ -31,4 +40,27 @@ public interface LoadProcess {
      * @return A relative cost for this process. A small process would have a cost of 1, a large process a bigger cost.
      */
     int getExpectedCost();
+
+    /**
+     * @return The context types this process reads, or null if unknown. A process with unknown requirements or
+     *         provisions waits for every process added before it, and every process added after it waits for it.
+     */
+    default Set<Class<?>> getRequiredTypes() {
+        return null;
+    }
+
+    /**
+     * @return The context types this process puts into the context or modifies, or null if unknown.
+     */
+    default Set<Class<?>> getProvidedTypes() {
+        return null;
+    }
+
+    /**
+     * @return Whether {@link #begin()} and {@link #step()} must be called on the main thread. Only processes declaring
+     *         their required and provided types are ever moved off the main thread.
+     */
+    default boolean isMainThreadOnly() {
+        return true;
+    }
 }
@@ -0,0 +1,255 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.core.modes;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import org.slf4j.Logger;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs {@link LoadProcess}es in dependency order, moving those that allow it onto a worker pool.
+ * <p>
+ * A process depends on every earlier process it conflicts with: it waits for a process that provides a type it
+ * requires or provides itself, for a process that requires a type it provides, and for any earlier process that does
+ * not declare its types at all. Processes without declarations therefore keep the strictly sequential behaviour.
+ * <p>
+ * Main-thread processes are stepped one at a time from {@link #step()}, in the order they were added. Processes that
+ * are not main-thread-only are submitted to the executor as soon as their dependencies have finished, and run there to
+ * completion. A worker process that is interrupted or cancelled fails the loading, like one that throws.
+ * <p>
+ * Only processes with declarations can overlap, so undeclared ones act as barriers between them. Most of the
+ * expensive processes, such as initialising the world generator, loading entities and initialising systems, run module
+ * code that may use anything in the context, and cannot declare their types. Initialising physics builds the native
+ * physics engine, which has to happen on the main thread. Overlap is therefore limited to the declared processes
+ * between two such barriers.
+ */
+public class LoadProcessScheduler {
+
+    private final List<Node> nodes = Lists.newArrayList();
+    private final ExecutorService workers;
+    private Node currentMainNode;
+    private int finishedCount;
+
+    /**
+     * @param processes the processes to run, in the order they would run sequentially
+     * @param workers runs the processes that need not run on the main thread
+     */
+    public LoadProcessScheduler(List<LoadProcess> processes, ExecutorService workers) {
+        this.workers = workers;
+        for (LoadProcess process : processes) {
+            Node node = new Node(process);
+            for (Node earlier : nodes) {
+                if (conflicts(earlier.process, process)) {
+                    node.dependencies.add(earlier);
+                }
+            }
+            nodes.add(node);
+        }
+    }
+
+    private static boolean conflicts(LoadProcess earlier, LoadProcess later) {
+        Set<Class<?>> earlierRequires = earlier.getRequiredTypes();
+        Set<Class<?>> earlierProvides = earlier.getProvidedTypes();
+        Set<Class<?>> laterRequires = later.getRequiredTypes();
+        Set<Class<?>> laterProvides = later.getProvidedTypes();
+        if (earlierRequires == null || earlierProvides == null || laterRequires == null || laterProvides == null) {
+            return true;
+        }
+        return !Collections.disjoint(earlierProvides, laterRequires)
+                || !Collections.disjoint(earlierProvides, laterProvides)
+                || !Collections.disjoint(earlierRequires, laterProvides);
+    }
+
+    /**
+     * @return Whether every process has finished
+     */
+    public boolean isFinished() {
+        return finishedCount == nodes.size();
+    }
+
+    /**
+     * Collects finished worker processes, starts any that became ready, and runs a single step of the current
+     * main-thread process.
+     *
+     * @return Whether a main-thread step was run. If false, all runnable work is on the workers.
+     * @throws ExecutionException if a process failed on a worker thread
+     */
+    public boolean step() throws ExecutionException {
+        collectWorkers();
+        submitReadyWorkers();
+        if (currentMainNode == null) {
+            currentMainNode = nextReadyMainNode();
+            if (currentMainNode == null) {
+                return false;
+            }
+            currentMainNode.start();
+            currentMainNode.process.begin();
+        }
+        Node node = currentMainNode;
+        long stepStart = System.nanoTime();
+        boolean done = node.process.step();
+        node.activeNanos += System.nanoTime() - stepStart;
+        if (done) {
+            currentMainNode = null;
+            finish(node);
+            submitReadyWorkers();
+        }
+        return true;
+    }
+
+    /**
+     * @return The process to display as currently loading, or null if finished
+     */
+    public LoadProcess getCurrent() {
+        if (currentMainNode != null) {
+            return currentMainNode.process;
+        }
+        for (Node node : nodes) {
+            if (node.state != State.FINISHED) {
+                return node.process;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return The summed expected cost of all processes
+     */
+    public int getExpectedCost() {
+        return nodes.stream().mapToInt(node -> node.process.getExpectedCost()).sum();
+    }
+
+    /**
+     * @return The expected cost of the work done so far, counting running processes by their progress
+     */
+    public float getCompletedCost() {
+        float completed = 0;
+        for (Node node : nodes) {
+            if (node.state == State.FINISHED) {
+                completed += node.process.getExpectedCost();
+            } else if (node.state != State.PENDING) {
+                completed += node.process.getExpectedCost() * node.process.getProgress();
+            }
+        }
+        return completed;
+    }
+
+    /**
+     * Logs the duration of every finished process and the chain of processes that determined the total load time.
+     */
+    public void logTimings(Logger logger) {
+        for (Node node : nodes) {
+            if (node.state == State.FINISHED) {
+                logger.info("{} took {} ms ({} ms active) on {}", node.process.getClass().getSimpleName(),
+                        TimeUnit.NANOSECONDS.toMillis(node.finishTime - node.startTime),
+                        TimeUnit.NANOSECONDS.toMillis(node.activeNanos),
+                        node.process.isMainThreadOnly() ? "main thread" : "worker");
+            }
+        }
+        List<Node> criticalPath = Lists.newArrayList();
+        Node last = nodes.stream()
+                .filter(node -> node.state == State.FINISHED)
+                .max(Comparator.comparingLong(node -> node.finishTime))
+                .orElse(null);
+        while (last != null) {
+            criticalPath.add(0, last);
+            last = last.dependencies.stream()
+                    .max(Comparator.comparingLong(node -> node.finishTime))
+                    .orElse(null);
+        }
+        logger.info("Load critical path: {}", criticalPath.stream()
+                .map(node -> node.process.getClass().getSimpleName() + " ("
+                        + TimeUnit.NANOSECONDS.toMillis(node.activeNanos) + " ms)")
+                .reduce((a, b) -> a + " -> " + b)
+                .orElse("<empty>"));
+    }
+
+    private Node nextReadyMainNode() {
+        for (Node node : nodes) {
+            if (node.state == State.PENDING && node.process.isMainThreadOnly() && node.isReady()) {
+                return node;
+            }
+        }
+        return null;
+    }
+
+    private void submitReadyWorkers() {
+        for (Node node : nodes) {
+            if (node.state == State.PENDING && !node.process.isMainThreadOnly() && node.isReady()) {
+                node.start();
+                node.future = workers.submit(() -> {
+                    node.process.begin();
+                    long start = System.nanoTime();
+                    while (!node.process.step()) {
+                        if (Thread.interrupted()) {
+                            throw new InterruptedException("Interrupted while loading " + node.process.getMessage());
+                        }
+                    }
+                    node.activeNanos = System.nanoTime() - start;
+                    return null;
+                });
+            }
+        }
+    }
+
+    private void collectWorkers() throws ExecutionException {
+        for (Node node : nodes) {
+            if (node.state == State.RUNNING && node.future != null && node.future.isDone()) {
+                try {
+                    node.future.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new ExecutionException("Interrupted while loading " + node.process.getMessage(), e);
+                } catch (CancellationException e) {
+                    throw new ExecutionException("Cancelled while loading " + node.process.getMessage(), e);
+                }
+                finish(node);
+            }
+        }
+    }
+
+    private void finish(Node node) {
+        node.state = State.FINISHED;
+        node.finishTime = System.nanoTime();
+        finishedCount++;
+    }
+
+    private enum State {
+        PENDING,
+        RUNNING,
+        FINISHED
+    }
+
+    private static final class Node {
+        private final LoadProcess process;
+        private final Set<Node> dependencies = Sets.newLinkedHashSet();
+        private State state = State.PENDING;
+        private Future<?> future;
+        private long startTime;
+        private long finishTime;
+        private volatile long activeNanos;
+
+        private Node(LoadProcess process) {
+            this.process = process;
+        }
+
+        private boolean isReady() {
+            return dependencies.stream().allMatch(dependency -> dependency.state == State.FINISHED);
+        }
+
+        private void start() {
+            state = State.RUNNING;
+            startTime = System.nanoTime();
+        }
+    }
+}
@@ -4,7 +4,8 @@
 package org.terasology.engine.core.modes;
 
 import com.google.common.base.Preconditions;
-import com.google.common.collect.Queues;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.terasology.crashreporter.CrashReporter;
@@ -61,15 +62,21 @@
 import org.terasology.engine.world.chunks.event.OnChunkLoaded;
 import org.terasology.nui.canvas.CanvasRenderer;
 
-import java.util.Queue;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class StateLoading implements GameState {
 
     private static final Logger logger = LoggerFactory.getLogger(StateLoading.class);
     private final GameManifest gameManifest;
     private final NetworkMode netMode;
-    private final Queue<LoadProcess> loadProcesses = Queues.newArrayDeque();
+    private final List<LoadProcess> loadProcesses = Lists.newArrayList();
     private Context context;
+    private LoadProcessScheduler scheduler;
+    private ExecutorService loadWorkers;
     private LoadProcess current;
     private JoinStatus joinStatus;
 
@@ -79,12 +86,12 @@ public class StateLoading implements GameState {
 
     private SystemConfig systemConfig;
 
-    private int progress;
     private int maxProgress;
 
     private boolean chunkGenerationStarted;
     private long timeLastChunkGenerated;
     private boolean headless;
+    private long loadStartTime;
 
     /**
      * Constructor for server or single player games
@@ -120,6 +127,7 @@ public void init(GameEngine engine) {
         }
 
         EngineTime time = (EngineTime) context.get(Time.class);
+        loadStartTime = time.getRealTimeInMs();
         time.setPaused(true);
         time.setGameTime(gameManifest.getTime());
 
@@ -133,13 +141,15 @@ public void init(GameEngine engine) {
                 break;
         }
 
-        progress = 0;
-        maxProgress = 0;
-        for (LoadProcess process : loadProcesses) {
-            maxProgress += process.getExpectedCost();
-        }
+        loadWorkers = Executors.newFixedThreadPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1),
+                new ThreadFactoryBuilder()
+                        .setNameFormat("Load-Process-%d")
+                        .setDaemon(true)
+                        .build());
+        scheduler = new LoadProcessScheduler(loadProcesses, loadWorkers);
+        maxProgress = Math.max(1, scheduler.getExpectedCost());
+        current = scheduler.getCurrent();
 
-        popStep();
         if (nuiManager != null) {
             loadingScreen = nuiManager.pushScreen("engine:loadingScreen", LoadingScreen.class);
             loadingScreen.updateStatus(current.getMessage(), current.getProgress());
@@ -227,20 +237,11 @@ private void initHost() {
         loadProcesses.add(new PrepareWorld(context));
     }
 
-    private void popStep() {
-        if (current != null) {
-            progress += current.getExpectedCost();
-        }
-        current = null;
-        if (!loadProcesses.isEmpty()) {
-            current = loadProcesses.remove();
-            logger.debug("{}", current.getMessage());
-            current.begin();
-        }
-    }
-
     @Override
     public void dispose(boolean shuttingDown) {
+        if (loadWorkers != null) {
+            loadWorkers.shutdownNow();
+        }
         EngineTime time = (EngineTime) context.get(Time.class);
         time.setPaused(false);
     }
@@ -254,28 +255,36 @@ public void update(float delta) {
         GameEngine gameEngine = context.get(GameEngine.class);
         EngineTime time = (EngineTime) context.get(Time.class);
         long startTime = time.getRealTimeInMs();
-        while (current != null && time.getRealTimeInMs() - startTime < 20 && !gameEngine.hasPendingState()) {
+        while (!scheduler.isFinished() && time.getRealTimeInMs() - startTime < 20 && !gameEngine.hasPendingState()) {
             try {
-                if (current.step()) {
-                    popStep();
+                boolean stepped = scheduler.step();
+                current = scheduler.getCurrent();
+                if (!stepped) {
+                    // Everything runnable is on the load workers, check back next frame
+                    break;
                 }
             } catch (Exception e) {
-                logger.error("Error while loading {}", current, e);
+                Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+                logger.error("Error while loading {}", current, cause);
                 String errorMessage = String.format("Failed to load game. There was an error during \"%s\".",
                         current == null ? "the last part" : current.getMessage());
                 gameEngine.changeState(new StateMainMenu(errorMessage));
-                CrashReporter.report(e, LoggingContext.getLoggingPath());
+                CrashReporter.report(cause, LoggingContext.getLoggingPath());
                 return;
             }
         }
-        if (current == null) {
+        if (scheduler.isFinished()) {
+            // The uptime also covers engine initialization, including the module scans, for comparing startups
+            logger.info("Loaded {} in {} ms, {} ms after startup", gameManifest.getTitle(),
+                    time.getRealTimeInMs() - loadStartTime, ManagementFactory.getRuntimeMXBean().getUptime());
+            scheduler.logTimings(logger);
             if (nuiManager != null) {
                 nuiManager.closeScreen(loadingScreen);
                 nuiManager.setHUDVisible(true);
             }
             context.get(GameEngine.class).changeState(new StateIngame(gameManifest, context));
         } else {
-            float progressValue = (progress + current.getExpectedCost() * current.getProgress()) / maxProgress;
+            float progressValue = scheduler.getCompletedCost() / maxProgress;
             if (nuiManager != null) {
                 loadingScreen.updateStatus(current.getMessage(), progressValue);
                 nuiManager.update(delta);
@@ -2,11 +2,13 @@
 // SPDX-License-Identifier: Apache-2.0
 package org.terasology.engine.core.modes.loadProcesses;
 
+import com.google.common.collect.ImmutableSet;
 import org.terasology.engine.context.Context;
 import org.terasology.engine.core.modes.SingleStepLoadProcess;
 import org.terasology.engine.persistence.StorageManager;
 
 import java.io.IOException;
+import java.util.Set;
 
 /**
  * Repairs the save game when it is in an inconsistent state after a crash.
@@ -33,6 +35,21 @@ public boolean step() {
         return true;
     }
 
+    @Override
+    public Set<Class<?>> getRequiredTypes() {
+        return ImmutableSet.of(StorageManager.class);
+    }
+
+    @Override
+    public Set<Class<?>> getProvidedTypes() {
+        return ImmutableSet.of();
+    }
+
+    @Override
+    public boolean isMainThreadOnly() {
+        return false;
+    }
+
     @Override
     public int getExpectedCost() {
         return 0;
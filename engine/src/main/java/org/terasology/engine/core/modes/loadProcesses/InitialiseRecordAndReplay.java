@@ -2,12 +2,15 @@
 // SPDX-License-Identifier: Apache-2.0
 package org.terasology.engine.core.modes.loadProcesses;
 
+import com.google.common.collect.ImmutableSet;
 import org.terasology.engine.context.Context;
 import org.terasology.engine.core.modes.SingleStepLoadProcess;
 import org.terasology.engine.recording.RecordAndReplayCurrentStatus;
 import org.terasology.engine.recording.RecordAndReplaySerializer;
 import org.terasology.engine.recording.RecordAndReplayStatus;
 
+import java.util.Set;
+
 /**
  * Initialises Record and Replay if they were selected in the main menu.
  */
@@ -47,6 +50,21 @@ public void begin() {
         this.recordAndReplaySerializer = context.get(RecordAndReplaySerializer.class);
     }
 
+    @Override
+    public Set<Class<?>> getRequiredTypes() {
+        return ImmutableSet.of(RecordAndReplaySerializer.class);
+    }
+
+    @Override
+    public Set<Class<?>> getProvidedTypes() {
+        return ImmutableSet.of(RecordAndReplayCurrentStatus.class);
+    }
+
+    @Override
+    public boolean isMainThreadOnly() {
+        return false;
+    }
+
     @Override
     public int getExpectedCost() {
         return 1;
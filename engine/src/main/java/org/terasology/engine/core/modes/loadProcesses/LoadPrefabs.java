@@ -3,13 +3,17 @@
 
 package org.terasology.engine.core.modes.loadProcesses;
 
+import com.google.common.collect.ImmutableSet;
 import org.terasology.engine.context.Context;
 import org.terasology.engine.core.modes.StepBasedLoadProcess;
 import org.terasology.engine.entitySystem.prefab.Prefab;
+import org.terasology.engine.world.block.BlockManager;
 import org.terasology.gestalt.assets.ResourceUrn;
 import org.terasology.gestalt.assets.management.AssetManager;
+import org.terasology.persistence.typeHandling.TypeHandlerLibrary;
 
 import java.util.Iterator;
+import java.util.Set;
 
 public class LoadPrefabs extends StepBasedLoadProcess {
     private final AssetManager assetManager;
@@ -39,6 +43,17 @@ public void begin() {
         setTotalSteps(assetManager.getAvailableAssets(Prefab.class).size());
     }
 
+    @Override
+    public Set<Class<?>> getRequiredTypes() {
+        // Prefabs may contain blocks, which need the type handlers registered along with the BlockManager
+        return ImmutableSet.of(AssetManager.class, BlockManager.class, TypeHandlerLibrary.class);
+    }
+
+    @Override
+    public Set<Class<?>> getProvidedTypes() {
+        return ImmutableSet.of();
+    }
+
     @Override
     public int getExpectedCost() {
         return 1;
@@ -2,12 +2,15 @@
 // SPDX-License-Identifier: Apache-2.0
 package org.terasology.engine.core.modes.loadProcesses;
 
+import com.google.common.collect.ImmutableSet;
 import org.terasology.engine.context.Context;
 import org.terasology.engine.core.modes.SingleStepLoadProcess;
 import org.terasology.engine.registry.InjectionHelper;
 import org.terasology.engine.world.block.BlockManager;
 import org.terasology.engine.world.block.family.BlockFamily;
 
+import java.util.Set;
+
 public class RegisterBlockFamilies  extends SingleStepLoadProcess {
     private final Context context;
 
@@ -29,6 +32,21 @@ public boolean step() {
         return  true;
     }
 
+    @Override
+    public Set<Class<?>> getRequiredTypes() {
+        return ImmutableSet.of(BlockManager.class);
+    }
+
+    @Override
+    public Set<Class<?>> getProvidedTypes() {
+        return ImmutableSet.of();
+    }
+
+    @Override
+    public boolean isMainThreadOnly() {
+        return false;
+    }
+
     @Override
     public int getExpectedCost() {
         return 1;
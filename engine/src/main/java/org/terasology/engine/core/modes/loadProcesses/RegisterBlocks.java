@@ -3,6 +3,7 @@
 
 package org.terasology.engine.core.modes.loadProcesses;
 
+import com.google.common.collect.ImmutableSet;
 import org.terasology.engine.config.Config;
 import org.terasology.engine.context.Context;
 import org.terasology.engine.core.modes.SingleStepLoadProcess;
@@ -22,6 +23,8 @@
 import org.terasology.gestalt.module.ModuleEnvironment;
 import org.terasology.persistence.typeHandling.TypeHandlerLibrary;
 
+import java.util.Set;
+
 public class RegisterBlocks extends SingleStepLoadProcess {
     private final Context context;
     private final GameManifest gameManifest;
@@ -62,6 +65,16 @@ public boolean step() {
         return true;
     }
 
+    @Override
+    public Set<Class<?>> getRequiredTypes() {
+        return ImmutableSet.of(NetworkSystem.class, Config.class, ModuleManager.class, AssetManager.class);
+    }
+
+    @Override
+    public Set<Class<?>> getProvidedTypes() {
+        return ImmutableSet.of(WorldAtlas.class, BlockFamilyLibrary.class, BlockManager.class, TypeHandlerLibrary.class);
+    }
+
     @Override
     public int getExpectedCost() {
         return 1;
@@ -0,0 +1,86 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.engine.core.module;
+
+import org.reflections.Reflections;
+import org.reflections.scanners.SubTypesScanner;
+import org.reflections.scanners.TypeAnnotationsScanner;
+import org.reflections.util.ConfigurationBuilder;
+import org.reflections.util.FilterBuilder;
+import org.terasology.gestalt.module.Module;
+import org.terasology.gestalt.module.ModuleFactory;
+import org.terasology.gestalt.module.ModuleMetadata;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+
+/**
+ * Creates modules whose class manifests are kept in a {@link ReflectionsCache}, so that the classes of a module are
+ * only scanned again when its code changes.
+ * <p>
+ * When the cache is disabled, modules are scanned by the {@link ModuleFactory} as usual.
+ */
+class CachingModuleFactory extends ModuleFactory {
+    private final ReflectionsCache reflectionsCache;
+
+    CachingModuleFactory(ReflectionsCache reflectionsCache) {
+        this.reflectionsCache = reflectionsCache;
+        setScanningForClasses(!reflectionsCache.isEnabled());
+    }
+
+    @Override
+    public Module createPackageModule(String packageName) {
+        Module module = super.createPackageModule(packageName);
+        if (isScanningForClasses()) {
+            return module;
+        }
+        ConfigurationBuilder config = newConfiguration()
+                .forPackages(packageName)
+                .filterInputsBy(new FilterBuilder().includePackage(packageName));
+        return withManifest(module, reflectionsCache.scan(config, packageName, versionOf(module) + " " + packageName));
+    }
+
+    @Override
+    public Module createDirectoryModule(ModuleMetadata metadata, File directory) {
+        return withCachedManifest(super.createDirectoryModule(metadata, directory));
+    }
+
+    @Override
+    public Module createArchiveModule(ModuleMetadata metadata, File archive) throws IOException {
+        return withCachedManifest(super.createArchiveModule(metadata, archive));
+    }
+
+    /**
+     * @return a configuration with the scanners gestalt needs in a module manifest, and no URLs
+     */
+    static ConfigurationBuilder newConfiguration() {
+        return new ConfigurationBuilder().setScanners(new TypeAnnotationsScanner(), new SubTypesScanner(false));
+    }
+
+    private Module withCachedManifest(Module module) {
+        if (isScanningForClasses() || module.getClasspaths().isEmpty()) {
+            return module;
+        }
+        ConfigurationBuilder config = newConfiguration();
+        for (File classpath : module.getClasspaths()) {
+            try {
+                config.addUrls(classpath.toURI().toURL());
+            } catch (MalformedURLException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return withManifest(module, reflectionsCache.scan(config, module.getId().toString(), versionOf(module)));
+    }
+
+    private static Module withManifest(Module module, Reflections manifest) {
+        return new Module(module.getMetadata(), module.getResources(), module.getClasspaths(), manifest,
+                module.getClassPredicate());
+    }
+
+    private static String versionOf(Module module) {
+        return module.getId() + "-" + module.getVersion();
+    }
+}
@@ -10,7 +10,6 @@
 import org.slf4j.LoggerFactory;
 import org.terasology.gestalt.module.Module;
 import org.terasology.gestalt.module.ModuleEnvironment;
-import org.terasology.gestalt.module.ModuleFactory;
 import org.terasology.gestalt.module.ModuleMetadata;
 
 import java.io.File;
@@ -42,9 +41,17 @@
  * the module <em>cannot</em> be loaded using a ModuleClassLoader (e.g. a test runner) and it's
  * acceptable to run without the protections ModuleClassLoader provides.
  */
-class ClasspathCompromisingModuleFactory extends ModuleFactory {
+class ClasspathCompromisingModuleFactory extends CachingModuleFactory {
     private static final Logger logger = LoggerFactory.getLogger(ClasspathCompromisingModuleFactory.class);
 
+    ClasspathCompromisingModuleFactory() {
+        this(new ReflectionsCache(null));
+    }
+
+    ClasspathCompromisingModuleFactory(ReflectionsCache reflectionsCache) {
+        super(reflectionsCache);
+    }
+
     @Override
     public Module createDirectoryModule(ModuleMetadata metadata, File directory) {
         Module module = super.createDirectoryModule(metadata, directory);
@@ -70,7 +70,9 @@ public class ModuleManager {
     private final ModuleRegistry registry = new TableModuleRegistry();
     private ModuleEnvironment environment;
     private final ModuleMetadataJsonAdapter metadataReader = newMetadataReader();
-    private final ModuleFactory moduleFactory = newModuleFactory(metadataReader);
+    private final ReflectionsCache reflectionsCache =
+            new ReflectionsCache(PathManager.getInstance().getReflectionsCachePath());
+    private final ModuleFactory moduleFactory = newModuleFactory(metadataReader, reflectionsCache);
     private final ModuleInstallManager installManager;
     private final Module engineModule;
 
@@ -79,13 +81,14 @@ public ModuleManager(String masterServerAddress) {
     }
 
     public ModuleManager(String masterServerAddress, List<Class<?>> classesOnClasspathsToAddToEngine) {
-        engineModule = loadAndConfigureEngineModule(moduleFactory, classesOnClasspathsToAddToEngine);
+        engineModule = loadAndConfigureEngineModule(moduleFactory, classesOnClasspathsToAddToEngine, reflectionsCache);
         registry.add(engineModule);
 
         if (isLoadingClasspathModules()) {
             loadModulesFromClassPath();
         }
         loadModulesFromApplicationPath(PathManager.getInstance());
+        reflectionsCache.removeUnusedEntries();
 
         ensureModulesDependOnEngine();
 
@@ -106,14 +109,15 @@ public static boolean isLoadingClasspathModules() {
         return Boolean.getBoolean(LOAD_CLASSPATH_MODULES_PROPERTY);
     }
 
-    /** Create a ModuleFactory configured for Terasology modules. */
-    private static ModuleFactory newModuleFactory(ModuleMetadataJsonAdapter metadataReader) {
+    /** Create a ModuleFactory configured for Terasology modules, keeping their class manifests in the given cache. */
+    private static ModuleFactory newModuleFactory(ModuleMetadataJsonAdapter metadataReader,
+                                                  ReflectionsCache reflectionsCache) {
         final ModuleFactory moduleFactory;
         if (isLoadingClasspathModules()) {
-            moduleFactory = new ClasspathCompromisingModuleFactory();
+            moduleFactory = new ClasspathCompromisingModuleFactory(reflectionsCache);
             Jvm.logClasspath(logger);
         } else {
-            moduleFactory = new ModuleFactory();
+            moduleFactory = new CachingModuleFactory(reflectionsCache);
         }
         moduleFactory.setDefaultLibsSubpath("build/libs");
 
@@ -194,6 +198,18 @@ private void loadModulesFromClassPath() {
      * @param classesOnClasspathsToAddToEngine added to the module's reflections manifest
      */
     static Module loadAndConfigureEngineModule(ModuleFactory moduleFactory, List<Class<?>> classesOnClasspathsToAddToEngine) {
+        return loadAndConfigureEngineModule(moduleFactory, classesOnClasspathsToAddToEngine, new ReflectionsCache(null));
+    }
+
+    /**
+     * Load and configure the engine module, reusing the classpath scan of a previous run when its inputs are unchanged.
+     *
+     * @param moduleFactory used to create the module
+     * @param classesOnClasspathsToAddToEngine added to the module's reflections manifest
+     * @param reflectionsCache stores the scan of the classpaths of {@code classesOnClasspathsToAddToEngine}
+     */
+    static Module loadAndConfigureEngineModule(ModuleFactory moduleFactory, List<Class<?>> classesOnClasspathsToAddToEngine,
+                                               ReflectionsCache reflectionsCache) {
         // Start by creating a gestalt Module for the Java package `org.terasology.engine`.
         Module packageModule = moduleFactory.createPackageModule("org.terasology.engine");
 
@@ -210,7 +226,8 @@ static Module loadAndConfigureEngineModule(ModuleFactory moduleFactory, List<Cla
         }
 
         if (!config.getUrls().isEmpty()) {
-            Reflections reflectionsWithSubsystems = new Reflections(config);
+            Reflections reflectionsWithSubsystems = reflectionsCache.scan(config, packageModule.getId() + " classpath",
+                    packageModule.getId() + "-" + packageModule.getVersion());
             packageReflections.merge(reflectionsWithSubsystems);
         }
 
@@ -0,0 +1,216 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.core.module;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import org.reflections.Reflections;
+import org.reflections.scanners.Scanner;
+import org.reflections.serializers.JsonSerializer;
+import org.reflections.util.ConfigurationBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Persists the results of {@link Reflections} classpath scans between runs.
+ * <p>
+ * Each scan is stored under its name and a key derived from a version string, the configured scanners and a
+ * fingerprint of every scanned URL: the size and modification time of jar files, and the paths, sizes and
+ * modification times of the files in class directories. A changed jar or rebuilt class directory therefore produces a
+ * new key. Saving a scan replaces the previous entry of the same name, and entries that have not been used for
+ * {@link #MAX_UNUSED_DAYS} days are removed by {@link #removeUnusedEntries()}. Scans of URLs that are not local files
+ * can't be fingerprinted, and are never cached.
+ * <p>
+ * Caching can be turned off with the {@value #DISABLE_PROPERTY} system property, e.g. to compare startup times.
+ */
+public class ReflectionsCache {
+    /** Set this property to "true" to always scan instead of using cached results. */
+    public static final String DISABLE_PROPERTY = "org.terasology.disable_reflections_cache";
+
+    static final int MAX_UNUSED_DAYS = 30;
+
+    private static final Logger logger = LoggerFactory.getLogger(ReflectionsCache.class);
+    private static final String FILE_SUFFIX = ".json";
+    private static final String KEY_SEPARATOR = "-";
+
+    private final Path cacheDirectory;
+
+    /**
+     * @param cacheDirectory the directory the scan results are written to, or null to disable caching
+     */
+    public ReflectionsCache(Path cacheDirectory) {
+        this.cacheDirectory = cacheDirectory;
+    }
+
+    /**
+     * @return whether scans are read from and written to disk
+     */
+    public boolean isEnabled() {
+        return cacheDirectory != null && !Boolean.getBoolean(DISABLE_PROPERTY);
+    }
+
+    /**
+     * Scans the URLs of the given configuration, or loads the result of a previous scan of identical inputs.
+     *
+     * @param config the scan configuration; its URLs and scanners are part of the cache key
+     * @param name identifies the scan, such as a module id; a new result replaces the previous one of the same name
+     * @param version a version string identifying everything else that affects the scan, such as the engine version
+     * @return the scan result
+     */
+    public Reflections scan(ConfigurationBuilder config, String name, String version) {
+        if (!isEnabled()) {
+            return new Reflections(config);
+        }
+
+        Optional<String> key;
+        try {
+            key = cacheKey(config, version);
+        } catch (IOException | URISyntaxException e) {
+            logger.warn("Failed to compute reflections cache key of {}, scanning instead", name, e);
+            return new Reflections(config);
+        }
+        if (!key.isPresent()) {
+            logger.debug("Not caching reflections of {}, as not all of its URLs are local files", name);
+            return new Reflections(config);
+        }
+
+        String prefix = fileNamePrefix(name);
+        Path cacheFile = cacheDirectory.resolve(prefix + key.get() + FILE_SUFFIX);
+        if (Files.isRegularFile(cacheFile)) {
+            try (InputStream in = Files.newInputStream(cacheFile)) {
+                Reflections cached = new JsonSerializer().read(in);
+                Files.setLastModifiedTime(cacheFile, FileTime.from(Instant.now()));
+                logger.debug("Loaded cached reflections from {}", cacheFile);
+                return cached;
+            } catch (IOException | RuntimeException e) {
+                logger.warn("Discarding unreadable reflections cache {}", cacheFile, e);
+            }
+        }
+
+        Reflections reflections = new Reflections(config);
+        try {
+            Files.createDirectories(cacheDirectory);
+            removeEntries(prefix);
+            new JsonSerializer().save(reflections, cacheFile.toString());
+            logger.debug("Saved reflections cache to {}", cacheFile);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Failed to save reflections cache to {}", cacheFile, e);
+        }
+        return reflections;
+    }
+
+    /**
+     * Removes the entries that have not been saved or loaded for {@link #MAX_UNUSED_DAYS} days, such as the scans of
+     * modules that are no longer installed.
+     */
+    public void removeUnusedEntries() {
+        if (!isEnabled() || !Files.isDirectory(cacheDirectory)) {
+            return;
+        }
+        Instant oldest = Instant.now().minus(Duration.ofDays(MAX_UNUSED_DAYS));
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            for (Path file : files.filter(this::isEntry).collect(Collectors.toList())) {
+                if (Files.getLastModifiedTime(file).toInstant().isBefore(oldest)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to remove unused reflections caches from {}", cacheDirectory, e);
+        }
+    }
+
+    private void removeEntries(String prefix) throws IOException {
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            for (Path file : files.filter(this::isEntry).collect(Collectors.toList())) {
+                String fileName = file.getFileName().toString();
+                // Names can't contain the separator, so this does not match entries of names that start with this one
+                if (fileName.startsWith(prefix) && fileName.indexOf(KEY_SEPARATOR, prefix.length()) < 0) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    private boolean isEntry(Path file) {
+        return file.getFileName().toString().endsWith(FILE_SUFFIX) && Files.isRegularFile(file);
+    }
+
+    private static String fileNamePrefix(String name) {
+        return name.replaceAll("[^A-Za-z0-9_.]", "_") + KEY_SEPARATOR;
+    }
+
+    /**
+     * @return the cache key, or empty if not all URLs can be fingerprinted
+     */
+    static Optional<String> cacheKey(ConfigurationBuilder config, String version) throws IOException, URISyntaxException {
+        Hasher hasher = Hashing.sha256().newHasher();
+        hasher.putString(version, StandardCharsets.UTF_8);
+        List<String> scannerNames = config.getScanners().stream()
+                .map(Scanner::getClass)
+                .map(Class::getName)
+                .sorted()
+                .collect(Collectors.toList());
+        for (String scannerName : scannerNames) {
+            hasher.putString(scannerName, StandardCharsets.UTF_8);
+        }
+        List<URL> urls = config.getUrls().stream()
+                .sorted(Comparator.comparing(URL::toExternalForm))
+                .collect(Collectors.toList());
+        for (URL url : urls) {
+            hasher.putString(url.toExternalForm(), StandardCharsets.UTF_8);
+            if (!putFingerprint(hasher, url)) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(hasher.hash().toString());
+    }
+
+    private static boolean putFingerprint(Hasher hasher, URL url) throws IOException, URISyntaxException {
+        Path path;
+        if ("file".equals(url.getProtocol())) {
+            path = Paths.get(url.toURI());
+        } else if ("jar".equals(url.getProtocol()) && url.getPath().startsWith("file:")) {
+            // jar:file:/path/to/archive.jar!/
+            String archive = url.getPath();
+            int separator = archive.indexOf("!/");
+            path = Paths.get(new URL(separator < 0 ? archive : archive.substring(0, separator)).toURI());
+        } else {
+            return false;
+        }
+
+        if (Files.isDirectory(path)) {
+            try (Stream<Path> files = Files.walk(path)) {
+                List<Path> sorted = files.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+                for (Path file : sorted) {
+                    hasher.putString(path.relativize(file).toString(), StandardCharsets.UTF_8);
+                    putSizeAndTime(hasher, file);
+                }
+            }
+        } else if (Files.isRegularFile(path)) {
+            putSizeAndTime(hasher, path);
+        }
+        return true;
+    }
+
+    private static void putSizeAndTime(Hasher hasher, Path file) throws IOException {
+        hasher.putLong(Files.size(file));
+        hasher.putLong(Files.getLastModifiedTime(file).toMillis());
+    }
+}
@@ -7,6 +7,7 @@
 import org.joml.Vector2i;
 import org.joml.Vector2ic;
 import org.joml.Vector3fc;
+import org.terasology.engine.rendering.assets.font.FontMeshBuilder;
 import org.terasology.engine.rendering.assets.material.Material;
 import org.terasology.engine.rendering.assets.mesh.Mesh;
 import org.terasology.engine.rendering.nui.internal.TerasologyCanvasRenderer;
@@ -17,12 +18,29 @@
 import org.terasology.nui.Colorc;
 import org.terasology.nui.HorizontalAlign;
 import org.terasology.nui.ScaleMode;
+import org.terasology.nui.TextLineBuilder;
 import org.terasology.nui.UITextureRegion;
 import org.terasology.nui.VerticalAlign;
 import org.terasology.nui.asset.font.Font;
 
+import java.util.List;
+
 public class HeadlessCanvasRenderer implements TerasologyCanvasRenderer {
 
+    private final FontMeshBuilder fontMeshBuilder;
+
+    public HeadlessCanvasRenderer() {
+        this(null);
+    }
+
+    /**
+     * @param fontMeshBuilder lays out all drawn text, without building meshes, so that text layout can be exercised
+     *         and measured without a display; null to ignore text like every other drawing
+     */
+    public HeadlessCanvasRenderer(FontMeshBuilder fontMeshBuilder) {
+        this.fontMeshBuilder = fontMeshBuilder;
+    }
+
     @Override
     public void preRender() {
         // Do nothing
@@ -73,7 +91,11 @@ public void drawTexture(UITextureRegion texture, Colorc color, ScaleMode mode, R
     @Override
     public void drawText(String text, Font font, HorizontalAlign hAlign, VerticalAlign vAlign, Rectanglei absoluteRegion,
                          Colorc color, Colorc shadowColor, float alpha, boolean underlined) {
-        // Do nothing
+        if (fontMeshBuilder != null && font instanceof org.terasology.engine.rendering.assets.font.Font) {
+            List<String> lines = TextLineBuilder.getLines(font, text, absoluteRegion.getSizeX());
+            fontMeshBuilder.layoutText((org.terasology.engine.rendering.assets.font.Font) font, lines,
+                    absoluteRegion.getSizeX(), hAlign, color, shadowColor, underlined);
+        }
     }
 
     @Override
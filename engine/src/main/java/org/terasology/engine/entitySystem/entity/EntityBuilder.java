@@ -20,8 +20,6 @@
 import java.util.Map;
 import java.util.Optional;
 
-import static com.google.common.base.Verify.verifyNotNull;
-
 /**
  * An entity builder provides the ability to set up an entity before creating it. This prevents events being sent
  * for components being added or modified before it is fully set up.
@@ -76,11 +74,9 @@ public boolean addPrefab(String prefabName) {
      */
     public void addPrefab(Prefab prefab) {
         if (prefab != null) {
-            for (Component component : prefab.iterateComponents()) {
-                Component componentCopy = entityManager.getComponentLibrary().copy(component);
-                addComponent(verifyNotNull(componentCopy, "Component %s not registered (in prefab %s)", component, prefab));
+            for (Component component : entityManager.getPrefabTemplate(prefab).instantiate()) {
+                addComponent(component);
             }
-            addComponent(new EntityInfoComponent(prefab, prefab.isPersisted(), prefab.isAlwaysRelevant()));
         } else {
             addComponent(new EntityInfoComponent());
         }
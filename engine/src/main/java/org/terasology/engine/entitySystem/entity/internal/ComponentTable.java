@@ -39,6 +39,26 @@ public Component put(long entityId, Component component) {
         return entityMap.put(entityId, component);
     }
 
+    /**
+     * Stores a component for each of the given entities, looking up the table of their class only once.
+     *
+     * @param entityIds the entities to store the components for
+     * @param components the components, all of the same class, in the order of the entities
+     */
+    public void putAll(long[] entityIds, Component[] components) {
+        if (components.length == 0) {
+            return;
+        }
+        TLongObjectMap<Component> entityMap = store.get(components[0].getClass());
+        if (entityMap == null) {
+            entityMap = new TLongObjectHashMap<>(entityIds.length);
+            store.put(components[0].getClass(), entityMap);
+        }
+        for (int i = 0; i < entityIds.length; i++) {
+            entityMap.put(entityIds[i], components[i]);
+        }
+    }
+
     /**
      *
      * @return removes the component with the specified class from the entity and returns it.
@@ -5,6 +5,7 @@
 import org.terasology.engine.entitySystem.entity.EntityRef;
 import org.terasology.engine.entitySystem.entity.LowLevelEntityManager;
 import org.terasology.engine.entitySystem.event.internal.EventSystem;
+import org.terasology.engine.entitySystem.prefab.Prefab;
 import org.terasology.gestalt.entitysystem.component.Component;
 import org.terasology.persistence.typeHandling.TypeHandlerLibrary;
 
@@ -154,4 +155,14 @@ public interface EngineEntityManager extends LowLevelEntityManager, EngineEntity
      */
     void assignToPool(long entityId, EngineEntityPool pool);
 
+    /**
+     * Gets the compiled template of a prefab, which copies its components without looking up their metadata.
+     *
+     * This method is designed for internal use by the EntityBuilder and entity pools.
+     *
+     * @param prefab the prefab to get the template of
+     * @return the template, compiled again if the prefab was reloaded since it was last requested
+     */
+    PrefabTemplate getPrefabTemplate(Prefab prefab);
+
 }
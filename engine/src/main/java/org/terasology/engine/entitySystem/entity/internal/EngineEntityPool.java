@@ -88,4 +88,14 @@ public interface EngineEntityPool extends EntityPool {
      */
     void insertRef(BaseEntityRef ref, Iterable<Component> components);
 
+    /**
+     * Drop the {@link BaseEntityRef} of an entity that has been deactivated for storage, so that the pool no longer
+     * holds on to it or counts it as active. The entity stays assigned to this pool, and the ref is not invalidated.
+     *
+     * This is intended for use by {@link EngineEntityManager#deactivateForStorage(EntityRef)}.
+     *
+     * @param id the id of the stored entity
+     */
+    void releaseRef(long id);
+
 }
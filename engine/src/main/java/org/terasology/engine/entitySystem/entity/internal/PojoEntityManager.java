@@ -8,7 +8,11 @@
 import com.google.common.collect.MapMaker;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
+import gnu.trove.TCollections;
+import gnu.trove.TDecorators;
 import gnu.trove.iterator.TLongObjectIterator;
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
 import gnu.trove.set.TLongSet;
 import gnu.trove.set.hash.TLongHashSet;
 import org.joml.Quaternionfc;
@@ -54,7 +58,7 @@ public class PojoEntityManager implements EngineEntityManager {
 
     private EngineEntityPool globalPool = new PojoEntityPool(this);
     private PojoSectorManager sectorManager = new PojoSectorManager(this);
-    private Map<Long, EngineEntityPool> poolMap = new MapMaker().initialCapacity(1000).makeMap();
+    private TLongObjectMap<EngineEntityPool> poolMap = TCollections.synchronizedMap(new TLongObjectHashMap<>(1000));
     private List<EngineEntityPool> worldPools = Lists.newArrayList();
     private Map<EngineEntityPool, Long> poolCounts = new HashMap<EngineEntityPool, Long>();
 
@@ -68,6 +72,8 @@ public class PojoEntityManager implements EngineEntityManager {
 
     private RefStrategy refStrategy = new DefaultRefStrategy();
 
+    private Map<Prefab, PrefabTemplate> prefabTemplates = new MapMaker().weakKeys().makeMap();
+
     private TypeHandlerLibrary typeSerializerLibrary;
 
     @Override
@@ -113,7 +119,9 @@ private boolean isWorldPoolGlobalPool() {
     @Override
     public void clear() {
         globalPool.clear();
+        worldPools.forEach(EngineEntityPool::clear);
         sectorManager.clear();
+        poolMap.clear();
         nextEntityId = 1;
         loadedIds.clear();
     }
@@ -203,6 +211,11 @@ public EntityRef create(Prefab prefab, Vector3fc position, Quaternionfc rotation
         return getCurrentWorldPool().create(prefab, position, rotation);
     }
 
+    @Override
+    public List<EntityRef> createMany(Prefab prefab, List<? extends Vector3fc> positions) {
+        return getCurrentWorldPool().createMany(prefab, positions);
+    }
+
     @Override
     public EntityRef create(Prefab prefab, Vector3fc position) {
         return getCurrentWorldPool().create(prefab, position);
@@ -276,6 +289,17 @@ public ComponentLibrary getComponentLibrary() {
 
     public void setComponentLibrary(ComponentLibrary componentLibrary) {
         this.componentLibrary = componentLibrary;
+        prefabTemplates.clear();
+    }
+
+    @Override
+    public PrefabTemplate getPrefabTemplate(Prefab prefab) {
+        PrefabTemplate template = prefabTemplates.get(prefab);
+        if (template == null || !template.isCurrent()) {
+            template = new PrefabTemplate(prefab, componentLibrary);
+            prefabTemplates.put(prefab, template);
+        }
+        return template;
     }
 
     @Override
@@ -321,7 +345,7 @@ public Map<WorldInfo, EngineEntityPool> getWorldPoolsMap() {
 
     @Override
     public Map<Long, EngineEntityPool> getPoolMap() {
-        return poolMap;
+        return TDecorators.wrap(poolMap);
     }
 
     @Override
@@ -426,6 +450,7 @@ public void deactivateForStorage(EntityRef entity) {
             getPool(entityId).ifPresent(pool -> pool.getComponentStore().remove(entityId, component.getClass()));
         }
         loadedIds.remove(entityId);
+        getPool(entityId).ifPresent(pool -> pool.releaseRef(entityId));
     }
 
     @Override
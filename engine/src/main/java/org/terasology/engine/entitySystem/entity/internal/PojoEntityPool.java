@@ -3,7 +3,9 @@
 package org.terasology.engine.entitySystem.entity.internal;
 
 import com.google.common.collect.Lists;
-import com.google.common.collect.MapMaker;
+import gnu.trove.TCollections;
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
 import org.joml.Quaternionfc;
 import org.joml.Vector3fc;
 import org.slf4j.Logger;
@@ -12,14 +14,17 @@
 import org.terasology.engine.entitySystem.entity.EntityRef;
 import org.terasology.engine.entitySystem.entity.lifecycleEvents.BeforeDeactivateComponent;
 import org.terasology.engine.entitySystem.entity.lifecycleEvents.BeforeRemoveComponent;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.OnActivatedComponent;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.OnAddedComponent;
 import org.terasology.engine.entitySystem.event.internal.EventSystem;
 import org.terasology.engine.entitySystem.prefab.Prefab;
 import org.terasology.engine.logic.location.LocationComponent;
 import org.terasology.gestalt.entitysystem.component.Component;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.Map;
+import java.util.List;
 import java.util.Optional;
 
 import static org.terasology.engine.entitySystem.entity.internal.PojoEntityManager.NULL_ID;
@@ -30,7 +35,12 @@ public class PojoEntityPool implements EngineEntityPool {
 
     private PojoEntityManager entityManager;
 
-    private Map<Long, BaseEntityRef> entityStore = new MapMaker().weakValues().concurrencyLevel(4).initialCapacity(1000).makeMap();
+    /**
+     * The refs of the loaded entities of this pool, by id. Refs are held until their entity is destroyed, leaves the
+     * pool or is deactivated for storage, so every loaded id keeps a single ref without the cost of weak references.
+     * Refs to stored entities are created on each lookup and not kept.
+     */
+    private TLongObjectMap<BaseEntityRef> entityStore = TCollections.synchronizedMap(new TLongObjectHashMap<>(1000));
     private ComponentTable componentStore = new ComponentTable();
 
     public PojoEntityPool(PojoEntityManager entityManager) {
@@ -40,9 +50,10 @@ public PojoEntityPool(PojoEntityManager entityManager) {
     @Override
     public void clear() {
         //Todo: should also clear out ids from the EntityManager
-        for (EntityRef entity : entityStore.values()) {
+        entityStore.forEachValue(entity -> {
             entity.invalidate();
-        }
+            return true;
+        });
         componentStore.clear();
         entityStore.clear();
     }
@@ -117,6 +128,59 @@ private EntityRef create(Prefab prefab, Vector3fc position, Quaternionfc rotatio
         return builder.build();
     }
 
+    @Override
+    public List<EntityRef> createMany(Prefab prefab, List<? extends Vector3fc> positions) {
+        int count = positions.size();
+        if (count == 0) {
+            return Collections.emptyList();
+        }
+        PrefabTemplate template = entityManager.getPrefabTemplate(prefab);
+        boolean addLocation = template.getLocationIndex() < 0;
+        int columnCount = addLocation ? template.getComponentCount() + 1 : template.getComponentCount();
+        int locationIndex = addLocation ? columnCount - 1 : template.getLocationIndex();
+
+        // Components are stored by type, so insert them a type at a time
+        long[] ids = new long[count];
+        Component[][] columns = new Component[columnCount][count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = entityManager.createEntity();
+            Component[] components = template.instantiate();
+            for (int c = 0; c < components.length; c++) {
+                columns[c][i] = components[c];
+            }
+            if (addLocation) {
+                columns[locationIndex][i] = new LocationComponent();
+            }
+            ((LocationComponent) columns[locationIndex][i]).setWorldPosition(positions.get(i));
+        }
+        for (Component[] column : columns) {
+            componentStore.putAll(ids, column);
+        }
+
+        List<EntityRef> entities = new ArrayList<>(count);
+        for (long id : ids) {
+            entityManager.assignToPool(id, this);
+            entities.add(getEntity(id));
+        }
+
+        if (entityManager.getEventSystem() != null) {
+            for (EntityRef entity : entities) {
+                entity.send(OnAddedComponent.newInstance());
+            }
+            for (EntityRef entity : entities) {
+                entity.send(OnActivatedComponent.newInstance());
+            }
+        }
+
+        //Retrieve the components again in case they were modified by the previous events
+        for (EntityRef entity : entities) {
+            for (Component component : componentStore.iterateComponents(entity.getId())) {
+                entityManager.notifyComponentAdded(entity, component.getClass());
+            }
+        }
+        return entities;
+    }
+
     private EntityRef create(String prefabName, Vector3fc position, Quaternionfc rotation) {
         return create(prefabName, position, rotation, true);
     }
@@ -238,8 +302,8 @@ public EntityBuilder newBuilder(Prefab prefab) {
      *
      * @return an unmodifiable version of the internal entity store
      */
-    protected Map<Long, BaseEntityRef> getEntityStore() {
-        return Collections.unmodifiableMap(entityStore);
+    protected TLongObjectMap<BaseEntityRef> getEntityStore() {
+        return TCollections.unmodifiableMap(entityStore);
     }
 
     /**
@@ -268,16 +332,18 @@ public EntityRef getEntity(long entityId) {
             return EntityRef.NULL;
         }
 
-        EntityRef existing = entityStore.get(entityId);
-        if (existing != EntityRef.NULL && existing != null) {
+        BaseEntityRef existing = entityStore.get(entityId);
+        if (existing != null) {
             // Entity already has a ref
             return existing;
         }
 
-        // Create a new ref
+        // Create a new ref, kept only while the entity is loaded
         BaseEntityRef entity = entityManager.getEntityRefStrategy().createRefFor(entityId, entityManager);
 
-        entityStore.put(entityId, entity);
+        if (entityManager.idLoaded(entityId)) {
+            entityStore.put(entityId, entity);
+        }
         entityManager.assignToPool(entityId, this);
         return entity;
     }
@@ -285,7 +351,7 @@ public EntityRef getEntity(long entityId) {
     @SafeVarargs
     @Override
     public final Iterable<EntityRef> getEntitiesWith(Class<? extends Component>... componentClasses) {
-        return () -> entityStore.keySet().stream()
+        return () -> Arrays.stream(entityStore.keys())
                 //Keep entities which have all of the required components
                 .filter(id -> {
                     for (Class<? extends Component> component : componentClasses) {
@@ -340,6 +406,11 @@ public void insertRef(BaseEntityRef ref, Iterable<Component> components) {
         entityManager.assignToPool(ref.getId(), this);
     }
 
+    @Override
+    public void releaseRef(long id) {
+        entityStore.remove(id);
+    }
+
     @Override
     public boolean contains(long id) {
         return entityStore.containsKey(id);
@@ -100,6 +100,11 @@ public EntityRef create(Prefab prefab, Vector3fc position, Quaternionfc rotation
         return getPool().create(prefab, position, rotation);
     }
 
+    @Override
+    public List<EntityRef> createMany(Prefab prefab, List<? extends Vector3fc> positions) {
+        return getPool().createMany(prefab, positions);
+    }
+
     @Override
     public EntityRef createEntityWithoutLifecycleEvents(Iterable<Component> components) {
         return getPool().createEntityWithoutLifecycleEvents(components);
@@ -209,6 +214,13 @@ public void insertRef(BaseEntityRef ref, Iterable<Component> components) {
         getPool().insertRef(ref, components);
     }
 
+    @Override
+    public void releaseRef(long id) {
+        for (EngineEntityPool pool : pools) {
+            pool.releaseRef(id);
+        }
+    }
+
     @Override
     public boolean contains(long id) {
         return pools.stream().anyMatch(pool -> pool.contains(id));
@@ -0,0 +1,98 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.entitySystem.entity.internal;
+
+import com.google.common.collect.Lists;
+import org.terasology.engine.entitySystem.metadata.ComponentLibrary;
+import org.terasology.engine.entitySystem.metadata.ComponentMetadata;
+import org.terasology.engine.entitySystem.prefab.Prefab;
+import org.terasology.engine.logic.location.LocationComponent;
+import org.terasology.gestalt.entitysystem.component.Component;
+
+import java.util.List;
+
+import static com.google.common.base.Verify.verifyNotNull;
+
+/**
+ * The components of a prefab together with the metadata to copy each of them, looked up once so that creating many
+ * entities from the prefab only copies fields.
+ * <p>
+ * Templates are obtained from {@link PojoEntityManager#getPrefabTemplate(Prefab)}, which compiles a new one when the
+ * prefab is reloaded.
+ */
+public final class PrefabTemplate {
+
+    private final Prefab prefab;
+    private final Component[] sources;
+    private final ComponentMetadata<?>[] copyPlan;
+    private final int locationIndex;
+
+    PrefabTemplate(Prefab prefab, ComponentLibrary componentLibrary) {
+        this.prefab = prefab;
+        List<Component> components = Lists.newArrayList();
+        for (Component component : prefab.iterateComponents()) {
+            // Replaced by the entity info of the new entity
+            if (!(component instanceof EntityInfoComponent)) {
+                components.add(component);
+            }
+        }
+        sources = components.toArray(new Component[0]);
+        copyPlan = new ComponentMetadata<?>[sources.length];
+        int location = -1;
+        for (int i = 0; i < sources.length; i++) {
+            copyPlan[i] = verifyNotNull(componentLibrary.getMetadata(sources[i].getClass()),
+                    "Component %s not registered (in prefab %s)", sources[i], prefab);
+            if (sources[i] instanceof LocationComponent) {
+                location = i;
+            }
+        }
+        locationIndex = location;
+    }
+
+    public Prefab getPrefab() {
+        return prefab;
+    }
+
+    /**
+     * @return the number of components of every entity created from this template, including its entity info
+     */
+    public int getComponentCount() {
+        return sources.length + 1;
+    }
+
+    /**
+     * @return the index of the location component in {@link #instantiate()}, or -1 if the prefab has none
+     */
+    public int getLocationIndex() {
+        return locationIndex;
+    }
+
+    /**
+     * @return new copies of the components of the prefab, followed by a new entity info component
+     */
+    public Component[] instantiate() {
+        Component[] result = new Component[sources.length + 1];
+        for (int i = 0; i < sources.length; i++) {
+            result[i] = copyPlan[i].copyRaw(sources[i]);
+        }
+        result[sources.length] = new EntityInfoComponent(prefab, prefab.isPersisted(), prefab.isAlwaysRelevant());
+        return result;
+    }
+
+    /**
+     * @return whether the template still has the components of its prefab, which are replaced when it is reloaded
+     */
+    boolean isCurrent() {
+        int i = 0;
+        for (Component component : prefab.iterateComponents()) {
+            if (component instanceof EntityInfoComponent) {
+                continue;
+            }
+            if (i == sources.length || sources[i] != component) {
+                return false;
+            }
+            i++;
+        }
+        return i == sources.length;
+    }
+}
@@ -27,6 +27,7 @@
 import org.terasology.engine.entitySystem.systems.ComponentSystem;
 import org.terasology.engine.entitySystem.systems.NetFilterEvent;
 import org.terasology.engine.monitoring.PerformanceMonitor;
+import org.terasology.engine.monitoring.TickProfiler;
 import org.terasology.gestalt.assets.ResourceUrn;
 import org.terasology.gestalt.entitysystem.component.Component;
 import org.terasology.gestalt.entitysystem.event.Event;
@@ -344,6 +345,7 @@ public int compare(EventHandlerInfo o1, EventHandlerInfo o2) {
     private static class ByteCodeEventHandlerInfo implements EventHandlerInfo {
         private ComponentSystem handler;
         private String activity;
+        private String profilerSection;
         private MethodAccess methodAccess;
         private int methodIndex;
         private ImmutableList<Class<? extends Component>> filterComponents;
@@ -360,6 +362,7 @@ private static class ByteCodeEventHandlerInfo implements EventHandlerInfo {
 
             this.handler = handler;
             this.activity = activity;
+            this.profilerSection = "event:" + handler.getClass().getSimpleName() + "." + method.getName();
             this.methodAccess = MethodAccess.get(handler.getClass());
             methodIndex = methodAccess.getIndex(method.getName(), method.getParameterTypes());
             this.filterComponents = ImmutableList.copyOf(filterComponents);
@@ -395,9 +398,11 @@ public void invoke(EntityRef entity, Event event) {
             if (activity != null) {
                 PerformanceMonitor.startActivity(activity);
             }
+            TickProfiler.begin(profilerSection);
             try {
                 methodAccess.invoke(handler, methodIndex, params);
             } finally {
+                TickProfiler.end();
                 if (activity != null) {
                     PerformanceMonitor.endActivity();
                 }
@@ -0,0 +1,39 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.engine.entitySystem.systems;
+
+import org.terasology.gestalt.entitysystem.component.Component;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares which component types the {@link UpdateSubscriberSystem#update(float)} of a system reads and writes, next to
+ * its {@link RegisterSystem} annotation:
+ * <br>
+ * <code>@ComponentAccess(reads = LocationComponent.class, writes = HealthComponent.class)</code>
+ * <br><br>
+ * Systems that declare their access may be updated on a worker thread, in parallel with the systems they do not
+ * conflict with. Two systems conflict if one writes a component type the other reads or writes. Conflicting systems
+ * are still updated in the order they were registered in.
+ * <br><br>
+ * By declaring its access, a system also promises that its update touches no other shared state than those components,
+ * except through thread-safe means such as sending events, which are only handled later on the main thread. Writing a
+ * component means changing the fields of the instance the entity holds: the update must not add, save or remove
+ * components, nor create or destroy entities, as these notify the entity's subscribers and send lifecycle events, which
+ * has to happen on the main thread. Systems that change entities that way must not declare their access.
+ * <br><br>
+ * Systems without this annotation are updated on the main thread, after every system registered before them and before
+ * every system registered after them.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface ComponentAccess {
+
+    Class<? extends Component>[] reads() default {};
+
+    Class<? extends Component>[] writes() default {};
+}
@@ -21,8 +21,11 @@
 import org.terasology.engine.physics.events.MovedEvent;
 import org.terasology.engine.world.WorldProvider;
 import org.terasology.engine.world.block.Block;
+import org.terasology.gestalt.entitysystem.event.Event;
 import org.terasology.math.TeraMath;
 
+import java.util.List;
+
 /**
  * Calculates character movement using a physics-engine provided CharacterCollider.
  * This collider is swept through the world to detect collisions.
@@ -71,6 +74,11 @@ public class KinematicCharacterMover implements CharacterMover {
     private WorldProvider worldProvider;
     private PhysicsEngine physics;
 
+    // Set while stepping detached, see stepDetached
+    private List<Event> detachedEvents;
+    private MovementMode detachedMaxSpeedMode;
+    private float detachedMaxSpeed;
+
     public KinematicCharacterMover(WorldProvider wp, PhysicsEngine physicsEngine) {
         this.worldProvider = wp;
         physics = physicsEngine;
@@ -78,7 +86,44 @@ public KinematicCharacterMover(WorldProvider wp, PhysicsEngine physicsEngine) {
 
     @Override
     public CharacterStateEvent step(CharacterStateEvent initial, CharacterMoveInputEvent input, EntityRef entity) {
-        CharacterMovementComponent characterMovementComponent = entity.getComponent(CharacterMovementComponent.class);
+        CharacterStateEvent result = step(initial, input, entity, entity.getComponent(CharacterMovementComponent.class));
+        input.runComplete();
+        return result;
+    }
+
+    /**
+     * Steps a character without sending events or changing its components, so that characters which cannot affect each
+     * other can be stepped on different threads, each with its own mover.
+     * <p>
+     * Events that only report the movement are added to {@code events}, to be sent by the caller along with the new
+     * state. Events whose results change the movement cannot be sent, so this gives up when it needs one: when the
+     * character jumps, or moves in another mode than {@code maxSpeed} was found for. The input is not marked as run,
+     * which is left to the caller as well.
+     *
+     * @param movementComp a copy of the movement component of the character, kept up to date with its states by the
+     *                     caller; the number of jumps left is updated on it
+     * @param maxSpeedMode the mode {@code maxSpeed} was found for
+     * @param maxSpeed the speed found by {@link #getMaxSpeed} for {@code maxSpeedMode}
+     * @param events receives the events to send for the step, in order
+     * @return the new state, or null if the step needs events to be sent while it runs
+     */
+    public CharacterStateEvent stepDetached(CharacterStateEvent initial, CharacterMoveInputEvent input, EntityRef entity,
+                                            CharacterMovementComponent movementComp, MovementMode maxSpeedMode,
+                                            float maxSpeed, List<Event> events) {
+        detachedEvents = events;
+        detachedMaxSpeedMode = maxSpeedMode;
+        detachedMaxSpeed = maxSpeed;
+        try {
+            return step(initial, input, entity, movementComp);
+        } catch (AttachedStepRequiredException e) {
+            return null;
+        } finally {
+            detachedEvents = null;
+        }
+    }
+
+    private CharacterStateEvent step(CharacterStateEvent initial, CharacterMoveInputEvent input, EntityRef entity,
+                                     CharacterMovementComponent characterMovementComponent) {
         CharacterStateEvent result = new CharacterStateEvent(initial);
         result.setSequenceNumber(input.getSequenceNumber());
         if (worldProvider.isBlockRelevant(initial.getPosition())) {
@@ -101,11 +146,16 @@ public CharacterStateEvent step(CharacterStateEvent initial, CharacterMoveInputE
         updateRotation(characterMovementComponent, result, input);
         result.setPitch(input.getPitch());
         result.setYaw(input.getYaw());
-        input.runComplete();
         return result;
     }
 
-    private float getMaxSpeed(EntityRef character, CharacterMovementComponent characterMovement) {
+    float getMaxSpeed(EntityRef character, CharacterMovementComponent characterMovement) {
+        if (detachedEvents != null) {
+            if (characterMovement.mode != detachedMaxSpeedMode) {
+                throw new AttachedStepRequiredException();
+            }
+            return detachedMaxSpeed;
+        }
         GetMaxSpeedEvent speedEvent = new GetMaxSpeedEvent(characterMovement.mode.maxSpeed, characterMovement.mode);
         character.send(speedEvent);
         return Math.max(0, speedEvent.getResultValue());
@@ -138,7 +188,7 @@ private void checkBlockEntry(EntityRef entity, Vector3i oldPosition, Vector3i ne
 
             for (int y = 0; y < characterHeightInBlocks; y++) {
                 // send a block enter/leave event for this character
-                entity.send(new OnEnterBlockEvent(oldBlocks[y], newBlocks[y], new Vector3i(0, y, 0)));
+                report(entity, new OnEnterBlockEvent(oldBlocks[y], newBlocks[y], new Vector3i(0, y, 0)));
             }
         }
     }
@@ -629,7 +679,7 @@ private void walk(final CharacterMovementComponent movementComp, final Character
         distanceMoved.sub(state.getPosition());
         state.getPosition().set(moveResult.getFinalPosition());
         if (input.isFirstRun() && distanceMoved.length() > 0) {
-            entity.send(new MovedEvent(distanceMoved, state.getPosition()));
+            report(entity, new MovedEvent(distanceMoved, state.getPosition()));
         }
 
         // Upon hitting solid ground, reset the number of jumps back to the maximum value.
@@ -642,7 +692,7 @@ private void walk(final CharacterMovementComponent movementComp, final Character
                 if (input.isFirstRun()) {
                     Vector3f landVelocity = new Vector3f(state.getVelocity());
                     landVelocity.y += (distanceMoved.y / moveDelta.y) * (endVelocity.y - state.getVelocity().y);
-                    entity.send(new VerticalCollisionEvent(state.getPosition(), landVelocity));
+                    report(entity, new VerticalCollisionEvent(state.getPosition(), landVelocity));
                 }
                 state.setGrounded(true);
                 movementComp.numberOfJumpsLeft = movementComp.numberOfJumpsMax;
@@ -655,11 +705,12 @@ private void walk(final CharacterMovementComponent movementComp, final Character
                 state.setGrounded(false);
 
                 // Send event to allow for other systems to modify the jump force.
+                requireAttached();
                 AffectJumpForceEvent affectJumpForceEvent = new AffectJumpForceEvent(movementComp.jumpSpeed);
                 entity.send(affectJumpForceEvent);
                 endVelocity.y += affectJumpForceEvent.getResultValue();
                 if (input.isFirstRun()) {
-                    entity.send(new JumpEvent());
+                    report(entity, new JumpEvent());
                 }
 
                 // Send event to allow for other systems to modify the max number of jumps.
@@ -674,7 +725,7 @@ private void walk(final CharacterMovementComponent movementComp, final Character
                 if (input.isFirstRun()) {
                     Vector3f hitVelocity = new Vector3f(state.getVelocity());
                     hitVelocity.y += (distanceMoved.y / moveDelta.y) * (endVelocity.y - state.getVelocity().y);
-                    entity.send(new VerticalCollisionEvent(state.getPosition(), hitVelocity));
+                    report(entity, new VerticalCollisionEvent(state.getPosition(), hitVelocity));
                 }
                 endVelocity.y = -0.0f * endVelocity.y;
             }
@@ -684,11 +735,12 @@ private void walk(final CharacterMovementComponent movementComp, final Character
                 state.setGrounded(false);
 
                 // Send event to allow for other systems to modify the jump force.
+                requireAttached();
                 AffectJumpForceEvent affectJumpForceEvent = new AffectJumpForceEvent(movementComp.jumpSpeed);
                 entity.send(affectJumpForceEvent);
                 endVelocity.y += affectJumpForceEvent.getResultValue();
                 if (input.isFirstRun()) {
-                    entity.send(new JumpEvent());
+                    report(entity, new JumpEvent());
                 }
 
                 // Send event to allow for other systems to modify the max number of jumps.
@@ -708,7 +760,7 @@ private void walk(final CharacterMovementComponent movementComp, final Character
             Vector3f hitVelocity = new Vector3f(state.getVelocity());
             hitVelocity.x += (distanceMoved.x / moveDelta.x) * (endVelocity.x - state.getVelocity().x);
             hitVelocity.z += (distanceMoved.z / moveDelta.z) * (endVelocity.z - state.getVelocity().z);
-            entity.send(new HorizontalCollisionEvent(state.getPosition(), hitVelocity));
+            report(entity, new HorizontalCollisionEvent(state.getPosition(), hitVelocity));
         }
         state.getVelocity().set(endVelocity);
         if (state.isGrounded() || movementComp.mode == MovementMode.SWIMMING || movementComp.mode == MovementMode.DIVING) {
@@ -720,11 +772,11 @@ private void walk(final CharacterMovementComponent movementComp, final Character
                     switch (movementComp.mode) {
                         case CROUCHING:
                         case WALKING:
-                            entity.send(new FootstepEvent());
+                            report(entity, new FootstepEvent());
                             break;
                         case DIVING:
                         case SWIMMING:
-                            entity.send(new SwimStrokeEvent(worldProvider.getBlock(state.getPosition())));
+                            report(entity, new SwimStrokeEvent(worldProvider.getBlock(state.getPosition())));
                             break;
                         case CLIMBING:
                         case FLYING:
@@ -737,6 +789,23 @@ private void walk(final CharacterMovementComponent movementComp, final Character
         }
     }
 
+    /**
+     * Sends an event that only reports the movement, or keeps it for the caller while stepping detached.
+     */
+    private void report(EntityRef entity, Event event) {
+        if (detachedEvents != null) {
+            detachedEvents.add(event);
+        } else {
+            entity.send(event);
+        }
+    }
+
+    private void requireAttached() {
+        if (detachedEvents != null) {
+            throw new AttachedStepRequiredException();
+        }
+    }
+
     private void climb(final CharacterStateEvent state, CharacterMoveInputEvent input, Vector3f desiredVelocity) {
         if (state.getClimbDirection() == null) {
             return;
@@ -802,6 +871,15 @@ private void climb(final CharacterStateEvent state, CharacterMoveInputEvent inpu
     /**
      * Holds the result of movement.
      */
+    /**
+     * Thrown while stepping detached when the step needs an event to be sent.
+     */
+    private static final class AttachedStepRequiredException extends RuntimeException {
+        private AttachedStepRequiredException() {
+            super(null, null, false, false);
+        }
+    }
+
     public static class MoveResult {
 
         private Vector3f finalPosition;
@@ -6,6 +6,7 @@
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.joml.Quaternionf;
 import org.joml.Vector3f;
 import org.slf4j.Logger;
@@ -31,11 +32,26 @@
 import org.terasology.engine.registry.Share;
 import org.terasology.engine.utilities.collection.CircularBuffer;
 import org.terasology.engine.world.WorldProvider;
+import org.terasology.gestalt.entitysystem.event.Event;
 import org.terasology.gestalt.entitysystem.event.ReceiveEvent;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
-
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Moves characters on the authority by the input their clients send, and keeps a short history of their states for lag
+ * compensation.
+ * <p>
+ * By default the input is collected and applied once per tick. Characters that cannot reach each other during the tick
+ * are then stepped in parallel, while the rest are stepped one after the other as the input arrived. See
+ * {@link #setBatchedMovement(boolean)}.
+ */
 @RegisterSystem(RegisterMode.AUTHORITY)
 @Share(PredictionSystem.class)
 public class ServerCharacterPredictionSystem extends BaseComponentSystem implements UpdateSubscriberSystem,
@@ -50,6 +66,12 @@ public class ServerCharacterPredictionSystem extends BaseComponentSystem impleme
     private static final int BUFFER_SIZE = 128;
     private static final int TIME_BETWEEN_STATE_REPLICATE = 50;
 
+    /**
+     * The distance, in blocks, by which the spaces characters can reach during a tick must be apart for them to be
+     * stepped in parallel.
+     */
+    private static final float INDEPENDENCE_MARGIN = 1.0f;
+
     @In
     private Time time;
 
@@ -71,10 +93,13 @@ public class ServerCharacterPredictionSystem extends BaseComponentSystem impleme
     @In
     private RecordAndReplayCurrentStatus recordAndReplayCurrentStatus;
 
-    private CharacterMover characterMover;
+    private KinematicCharacterMover characterMover;
     private Map<EntityRef, CircularBuffer<CharacterStateEvent>> characterStates = Maps.newHashMap();
     private List<EntityRef> characterStatesToRemove = Lists.newArrayList();
     private Map<EntityRef, CharacterMoveInputEvent> lastInputEvent = Maps.newHashMap();
+    private Map<EntityRef, List<CharacterMoveInputEvent>> pendingInput = Maps.newLinkedHashMap();
+    private boolean batchedMovement = true;
+    private ExecutorService movementWorkers;
     private long nextSendState;
     private CharacterMovementSystemUtility characterMovementSystemUtility;
 
@@ -85,6 +110,25 @@ public void initialise() {
         characterMovementSystemUtility = new CharacterMovementSystemUtility(physics);
     }
 
+    @Override
+    public void shutdown() {
+        if (movementWorkers != null) {
+            movementWorkers.shutdownNow();
+            movementWorkers = null;
+        }
+    }
+
+    /**
+     * Enables or disables collecting the input of characters to apply it once per tick, stepping characters that
+     * cannot affect each other in parallel. When disabled, input is applied as soon as it is received.
+     */
+    public void setBatchedMovement(boolean batchedMovement) {
+        if (!batchedMovement) {
+            processPendingInput();
+        }
+        this.batchedMovement = batchedMovement;
+    }
+
     @ReceiveEvent(components = {CharacterMovementComponent.class, LocationComponent.class,
             AliveCharacterComponent.class})
     public void onCreate(final OnActivatedComponent event, final EntityRef entity) {
@@ -100,11 +144,13 @@ public void onDestroy(final BeforeDeactivateComponent event, final EntityRef ent
         physics.removeCharacterCollider(entity);
         characterStatesToRemove.add(entity);
         lastInputEvent.remove(entity);
+        pendingInput.remove(entity);
     }
 
     @ReceiveEvent(components = AliveCharacterComponent.class)
     public void onSetMovementModeEvent(SetMovementModeEvent event, EntityRef character,
                                        CharacterMovementComponent movementComponent) {
+        processPendingInput(character);
         CircularBuffer<CharacterStateEvent> stateBuffer = characterStates.get(character);
         CharacterStateEvent lastState = stateBuffer.getLast();
         CharacterStateEvent newState = new CharacterStateEvent(lastState);
@@ -121,38 +167,241 @@ public void onSetMovementModeEvent(SetMovementModeEvent event, EntityRef charact
     @ReceiveEvent(components = {CharacterMovementComponent.class, LocationComponent.class,
             AliveCharacterComponent.class})
     public void onPlayerInput(CharacterMoveInputEvent input, EntityRef entity) {
+        if (batchedMovement) {
+            pendingInput.computeIfAbsent(entity, key -> Lists.newArrayList()).add(input);
+        } else {
+            processInput(input, entity);
+        }
+    }
+
+    private void processInput(CharacterMoveInputEvent input, EntityRef entity) {
         CharacterCollider characterCollider = physics.getCharacterCollider(entity);
         if (characterCollider.isPending()) {
             logger.debug("Skipping input, collision not yet established");
             return;
         }
-        CircularBuffer<CharacterStateEvent> stateBuffer = characterStates.get(entity);
-        CharacterStateEvent lastState = stateBuffer.getLast();
+        CharacterStateEvent lastState = characterStates.get(entity).getLast();
+        float delta = getInputOverflow(input, lastState);
+        if (delta < 0) {
+            applyState(entity, input, stepState(input, lastState, entity));
+        } else {
+            logger.warn("Received too much input from {}, dropping input. Delta difference: {}", entity, delta);
+        }
+    }
+
+    /**
+     * @return by how much the input would take the character further into the future than allowed, negative if it
+     *         does not
+     */
+    private float getInputOverflow(CharacterMoveInputEvent input, CharacterStateEvent lastState) {
         float delta = input.getDeltaMs() + lastState.getTime() - (time.getGameTimeInMs() + MAX_INPUT_OVERFLOW);
         if (recordAndReplayCurrentStatus.getStatus() == RecordAndReplayStatus.REPLAYING) {
             delta -= MAX_INPUT_OVERFLOW_REPLAY_INCREASE;
         }
-        if (delta < 0) {
-            CharacterStateEvent newState = stepState(input, lastState, entity);
-            stateBuffer.add(newState);
-
-            if (recordAndReplayCurrentStatus.getStatus() == RecordAndReplayStatus.REPLAYING) {
-                characterStateEventPositionMap.updateCharacterStateEvent(newState);
-            } else if (recordAndReplayCurrentStatus.getStatus() == RecordAndReplayStatus.RECORDING) {
-                characterStateEventPositionMap.add(newState.getSequenceNumber(), newState.getPosition(),
-                        newState.getVelocity());
+        return delta;
+    }
+
+    private void applyState(EntityRef entity, CharacterMoveInputEvent input, CharacterStateEvent newState) {
+        characterStates.get(entity).add(newState);
+
+        if (recordAndReplayCurrentStatus.getStatus() == RecordAndReplayStatus.REPLAYING) {
+            characterStateEventPositionMap.updateCharacterStateEvent(newState);
+        } else if (recordAndReplayCurrentStatus.getStatus() == RecordAndReplayStatus.RECORDING) {
+            characterStateEventPositionMap.add(newState.getSequenceNumber(), newState.getPosition(),
+                    newState.getVelocity());
+        }
+
+        characterMovementSystemUtility.setToState(entity, newState);
+        lastInputEvent.put(entity, input);
+    }
+
+    /**
+     * Applies the input collected for one character, before something else changes its state.
+     */
+    private void processPendingInput(EntityRef entity) {
+        List<CharacterMoveInputEvent> inputs = pendingInput.remove(entity);
+        if (inputs != null) {
+            for (CharacterMoveInputEvent input : inputs) {
+                processInput(input, entity);
             }
+        }
+    }
 
-            characterMovementSystemUtility.setToState(entity, newState);
-            lastInputEvent.put(entity, input);
-        } else {
-            logger.warn("Received too much input from {}, dropping input. Delta difference: {}", entity, delta);
+    /**
+     * Applies the input collected for all characters during the tick.
+     * <p>
+     * Every character gets a box around the space it can reach with its input. Characters whose boxes overlap no other
+     * are stepped in parallel, detached from the entity system, and their states and events are then applied in order
+     * on this thread. All other input, including that which a detached step gave up on, is then applied here, one
+     * input after the other.
+     */
+    private void processPendingInput() {
+        if (pendingInput.isEmpty()) {
+            return;
+        }
+        // Input received while applying this one waits for the next tick
+        Map<EntityRef, List<CharacterMoveInputEvent>> tickInput = pendingInput;
+        pendingInput = Maps.newLinkedHashMap();
+
+        List<MovementBatch> batches = Lists.newArrayListWithCapacity(tickInput.size());
+        for (Map.Entry<EntityRef, List<CharacterMoveInputEvent>> entry : tickInput.entrySet()) {
+            EntityRef entity = entry.getKey();
+            CharacterMovementComponent movementComp = entity.getComponent(CharacterMovementComponent.class);
+            // Characters in mode NONE follow their parent, which may be anywhere
+            if (movementComp != null && movementComp.mode != MovementMode.NONE && characterStates.containsKey(entity) && !physics.getCharacterCollider(entity).isPending()) {
+                batches.add(new MovementBatch(entity, entry.getValue(), movementComp,
+                        characterMover.getMaxSpeed(entity, movementComp), characterStates.get(entity).getLast()));
+            }
+        }
+        Map<EntityRef, Integer> detachedCounts = Maps.newHashMap();
+        List<MovementBatch> independent = findIndependent(batches);
+        if (independent.size() > 1) {
+            stepDetached(independent);
+            // The detached steps saw the other characters where they were at the start of the tick, so they are
+            // applied before any other step
+            for (MovementBatch batch : independent) {
+                int applied = 0;
+                CharacterStateEvent expected = batch.initialState;
+                // Handlers of the events of earlier steps may have changed the character meanwhile
+                while (applied < batch.detachedCount && isPresent(batch.entity)
+                        && characterStates.get(batch.entity).getLast() == expected) {
+                    if (batch.states[applied] != null) {
+                        expected = batch.states[applied];
+                    }
+                    applyDetachedStep(batch, applied++);
+                }
+                detachedCounts.put(batch.entity, applied);
+            }
+        }
+
+        for (Map.Entry<EntityRef, List<CharacterMoveInputEvent>> entry : tickInput.entrySet()) {
+            EntityRef entity = entry.getKey();
+            List<CharacterMoveInputEvent> inputs = entry.getValue();
+            for (int i = detachedCounts.getOrDefault(entity, 0); i < inputs.size() && isPresent(entity); i++) {
+                processInput(inputs.get(i), entity);
+            }
+        }
+    }
+
+    /**
+     * @return whether the character has not been removed, for instance by events sent for its earlier input
+     */
+    private boolean isPresent(EntityRef entity) {
+        return entity.exists() && !characterStatesToRemove.contains(entity);
+    }
+
+    /**
+     * @return the batches whose characters cannot reach any other character of the batches during the tick
+     */
+    private List<MovementBatch> findIndependent(List<MovementBatch> batches) {
+        List<MovementBatch> sorted = Lists.newArrayList(batches);
+        sorted.sort(Comparator.comparingDouble(batch -> batch.minX));
+        for (int i = 0; i < sorted.size(); i++) {
+            MovementBatch a = sorted.get(i);
+            for (int j = i + 1; j < sorted.size(); j++) {
+                MovementBatch b = sorted.get(j);
+                if (b.minX > a.maxX) {
+                    break;
+                }
+                if (a.overlaps(b)) {
+                    a.independent = false;
+                    b.independent = false;
+                }
+            }
+        }
+        List<MovementBatch> result = Lists.newArrayList();
+        for (MovementBatch batch : batches) {
+            if (batch.independent) {
+                result.add(batch);
+            }
+        }
+        return result;
+    }
+
+    private void stepDetached(List<MovementBatch> batches) {
+        if (movementWorkers == null) {
+            int workerCount = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+            movementWorkers = Executors.newFixedThreadPool(workerCount,
+                    new ThreadFactoryBuilder().setNameFormat("Character-Movement-%d").setDaemon(true).build());
+        }
+        List<Callable<Void>> tasks = Lists.newArrayListWithCapacity(batches.size());
+        for (MovementBatch batch : batches) {
+            tasks.add(() -> {
+                stepDetached(batch);
+                return null;
+            });
+        }
+        try {
+            List<Future<Void>> results = movementWorkers.invokeAll(tasks);
+            for (int i = 0; i < results.size(); i++) {
+                try {
+                    results.get(i).get();
+                } catch (ExecutionException e) {
+                    logger.error("Failed to step {}, stepping it again on the main thread", batches.get(i).entity,
+                            e.getCause());
+                    batches.get(i).detachedCount = 0;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            for (MovementBatch batch : batches) {
+                batch.detachedCount = 0;
+            }
+        }
+    }
+
+    /**
+     * Steps one character through its input on a worker thread, keeping a copy of its movement component up to date
+     * as {@link CharacterMovementSystemUtility#setToState} would, until a step needs to be attached.
+     */
+    private void stepDetached(MovementBatch batch) {
+        KinematicCharacterMover mover = new KinematicCharacterMover(worldProvider, physics);
+        CharacterStateEvent state = batch.initialState;
+        for (int i = 0; i < batch.inputs.size(); i++) {
+            CharacterMoveInputEvent input = batch.inputs.get(i);
+            if (getInputOverflow(input, state) < 0) {
+                List<Event> events = Lists.newArrayList();
+                CharacterStateEvent newState = mover.stepDetached(state, input, batch.entity, batch.movementComp,
+                        batch.maxSpeedMode, batch.maxSpeed, events);
+                if (newState == null) {
+                    return;
+                }
+                batch.movementComp.mode = newState.getMode();
+                batch.movementComp.setVelocity(newState.getVelocity());
+                batch.movementComp.grounded = newState.isGrounded();
+                batch.movementComp.footstepDelta = newState.getFootstepDelta();
+                batch.states[i] = newState;
+                batch.events[i] = events;
+                batch.jumpsLeft[i] = batch.movementComp.numberOfJumpsLeft;
+                state = newState;
+            }
+            batch.detachedCount = i + 1;
+        }
+    }
+
+    private void applyDetachedStep(MovementBatch batch, int index) {
+        CharacterMoveInputEvent input = batch.inputs.get(index);
+        CharacterStateEvent newState = batch.states[index];
+        if (newState == null) {
+            logger.warn("Received too much input from {}, dropping input. Delta difference: {}", batch.entity,
+                    getInputOverflow(input, characterStates.get(batch.entity).getLast()));
+            return;
+        }
+        for (Event event : batch.events[index]) {
+            batch.entity.send(event);
         }
+        CharacterMovementComponent movementComp = batch.entity.getComponent(CharacterMovementComponent.class);
+        if (movementComp != null) {
+            movementComp.numberOfJumpsLeft = batch.jumpsLeft[index];
+        }
+        input.runComplete();
+        applyState(batch.entity, input, newState);
     }
 
     @ReceiveEvent(components = {CharacterMovementComponent.class, LocationComponent.class,
             AliveCharacterComponent.class})
     public void onTeleport(CharacterTeleportEvent event, EntityRef entity) {
+        processPendingInput(entity);
         CircularBuffer<CharacterStateEvent> stateBuffer = characterStates.get(entity);
         CharacterStateEvent lastState = stateBuffer.getLast();
         CharacterStateEvent newState = new CharacterStateEvent(lastState);
@@ -166,6 +415,7 @@ public void onTeleport(CharacterTeleportEvent event, EntityRef entity) {
     @ReceiveEvent(components = {CharacterMovementComponent.class, LocationComponent.class,
             AliveCharacterComponent.class})
     public void onImpulse(CharacterImpulseEvent event, EntityRef entity) {
+        processPendingInput(entity);
         Vector3f impulse = event.getDirection();
 
         CircularBuffer<CharacterStateEvent> stateBuffer = characterStates.get(entity);
@@ -191,6 +441,7 @@ private CharacterStateEvent stepState(CharacterMoveInputEvent input, CharacterSt
 
     @Override
     public void update(float delta) {
+        processPendingInput();
         if (nextSendState < time.getGameTimeInMs()) {
             long lastSendTime = nextSendState - TIME_BETWEEN_STATE_REPLICATE;
             for (Map.Entry<EntityRef, CircularBuffer<CharacterStateEvent>> entry : characterStates.entrySet()) {
@@ -204,7 +455,7 @@ public void update(float delta) {
                         if (lastInput != null) {
                             CharacterMoveInputEvent newInput = new CharacterMoveInputEvent(lastInput,
                                     (int) (time.getGameTimeInMs() - state.getTime()));
-                            onPlayerInput(newInput, entry.getKey());
+                            processInput(newInput, entry.getKey());
                         }
                         entry.getKey().send(state);
                     }
@@ -249,6 +500,7 @@ private void setToTime(long renderTime, EntityRef entity, CircularBuffer<Charact
     public void lagCompensate(EntityRef client, long timeMs) {
         for (Map.Entry<EntityRef, CircularBuffer<CharacterStateEvent>> entry : characterStates.entrySet()) {
             if (networkSystem.getOwnerEntity(entry.getKey()).equals(client)) {
+                processPendingInput(entry.getKey());
                 characterMovementSystemUtility.setToState(entry.getKey(), entry.getValue().getLast());
             } else {
                 setToTime(timeMs - RENDER_DELAY, entry.getKey(), entry.getValue());
@@ -263,4 +515,68 @@ public void restoreToPresent() {
             setToTime(renderTime, entry.getKey(), entry.getValue());
         }
     }
+
+    /**
+     * The input collected for one character during a tick, and the results of stepping it detached.
+     */
+    private static final class MovementBatch {
+        private final EntityRef entity;
+        private final List<CharacterMoveInputEvent> inputs;
+        private final CharacterMovementComponent movementComp;
+        private final MovementMode maxSpeedMode;
+        private final float maxSpeed;
+        private final CharacterStateEvent initialState;
+        private final CharacterStateEvent[] states;
+        private final List<Event>[] events;
+        private final int[] jumpsLeft;
+        private final float minX;
+        private final float minY;
+        private final float minZ;
+        private final float maxX;
+        private final float maxY;
+        private final float maxZ;
+        private boolean independent = true;
+        /** The number of inputs, from the first, that were handled detached. */
+        private int detachedCount;
+
+        @SuppressWarnings("unchecked")
+        private MovementBatch(EntityRef entity, List<CharacterMoveInputEvent> inputs,
+                              CharacterMovementComponent movementComp, float maxSpeed,
+                              CharacterStateEvent initialState) {
+            this.entity = entity;
+            this.inputs = inputs;
+            this.movementComp = new CharacterMovementComponent();
+            this.movementComp.copyFrom(movementComp);
+            this.maxSpeedMode = movementComp.mode;
+            this.maxSpeed = maxSpeed;
+            this.initialState = initialState;
+            states = new CharacterStateEvent[inputs.size()];
+            events = new List[inputs.size()];
+            jumpsLeft = new int[inputs.size()];
+
+            float seconds = 0;
+            for (CharacterMoveInputEvent input : inputs) {
+                seconds += input.getDelta();
+            }
+            // Steps are only detached while the mode and so the top speed stay the same
+            float speed = initialState.getVelocity().length()
+                    + Math.min(KinematicCharacterMover.TERMINAL_VELOCITY, KinematicCharacterMover.GRAVITY * seconds)
+                    + maxSpeed * Math.max(1, movementComp.runFactor) * Math.max(1, movementComp.speedMultiplier);
+            float reach = speed * seconds + Math.max(movementComp.height, movementComp.radius)
+                    + INDEPENDENCE_MARGIN / 2;
+            Vector3f position = initialState.getPosition();
+            minX = position.x - reach;
+            minY = position.y - reach;
+            minZ = position.z - reach;
+            maxX = position.x + reach;
+            maxY = position.y + reach;
+            maxZ = position.z + reach;
+        }
+
+        private boolean overlaps(MovementBatch other) {
+            return minX <= other.maxX && other.minX <= maxX
+                    && minY <= other.maxY && other.minY <= maxY
+                    && minZ <= other.maxZ && other.minZ <= maxZ;
+        }
+    }
 }
@@ -7,7 +7,9 @@
 import org.joml.Vector3f;
 import org.terasology.engine.config.SystemConfig;
 import org.terasology.engine.core.GameEngine;
+import org.terasology.engine.core.GameThread;
 import org.terasology.engine.core.PathManager;
+import org.terasology.engine.core.TaskPriority;
 import org.terasology.engine.core.TerasologyConstants;
 import org.terasology.engine.core.Time;
 import org.terasology.engine.core.modes.StateLoading;
@@ -36,6 +38,7 @@
 import org.terasology.engine.logic.location.LocationComponent;
 import org.terasology.engine.logic.permission.PermissionManager;
 import org.terasology.engine.math.Direction;
+import org.terasology.engine.monitoring.impl.LatencyHistogram;
 import org.terasology.engine.network.ClientComponent;
 import org.terasology.engine.network.JoinStatus;
 import org.terasology.engine.network.NetworkMode;
@@ -675,6 +678,26 @@ public String ping(@Sender EntityRef sender) {
         }
     }
 
+    /**
+     * Shows how much work other threads have queued for the game thread, and how long it waits before it runs
+     *
+     * @return String containing the pending count and queue latency of every priority
+     */
+    @Command(shortDescription = "Shows the work queued for the game thread",
+            helpText = "Lists the pending tasks per priority, and how long tasks waited before they ran",
+            requiredPermission = PermissionManager.NO_PERMISSION)
+    public String gameThreadQueue() {
+        StringBuilder result = new StringBuilder();
+        for (TaskPriority priority : TaskPriority.values()) {
+            LatencyHistogram latency = GameThread.getQueueLatency(priority);
+            result.append(String.format(Locale.ROOT, "%s: %d pending, %d run, latency p50 %.1f ms, p99 %.1f ms, max %.1f ms",
+                    priority, GameThread.getPendingCount(priority), latency.getCount(),
+                    latency.getPercentile(50) / 1e6, latency.getPercentile(99) / 1e6, latency.getMax() / 1e6));
+            result.append(Console.NEW_LINE);
+        }
+        return result.toString();
+    }
+
     /**
      * Prints out short descriptions for all available commands, or a longer help text if a command is provided.
      *
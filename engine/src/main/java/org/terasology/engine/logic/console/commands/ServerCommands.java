@@ -8,6 +8,7 @@
 import org.terasology.engine.config.Config;
 import org.terasology.engine.config.SystemConfig;
 import org.terasology.engine.core.GameEngine;
+import org.terasology.engine.core.PathManager;
 import org.terasology.engine.entitySystem.entity.EntityManager;
 import org.terasology.engine.entitySystem.entity.EntityRef;
 import org.terasology.engine.entitySystem.systems.BaseComponentSystem;
@@ -20,6 +21,8 @@
 import org.terasology.engine.logic.common.DisplayNameComponent;
 import org.terasology.engine.logic.console.Console;
 import org.terasology.engine.logic.permission.PermissionManager;
+import org.terasology.engine.monitoring.TickProfiler;
+import org.terasology.engine.monitoring.TickProfilerMode;
 import org.terasology.engine.network.Client;
 import org.terasology.engine.network.ClientComponent;
 import org.terasology.engine.network.ClientInfoComponent;
@@ -27,7 +30,22 @@
 import org.terasology.engine.network.NetworkSystem;
 import org.terasology.engine.persistence.StorageManager;
 import org.terasology.engine.registry.In;
+import org.terasology.engine.world.chunks.Chunk;
 import org.terasology.engine.world.chunks.ChunkProvider;
+import org.terasology.engine.world.chunks.Chunks;
+import org.terasology.engine.world.chunks.blockdata.TeraArray;
+import org.terasology.engine.world.chunks.blockdata.TeraDenseArray16Bit;
+import org.terasology.engine.world.chunks.blockdata.TeraDenseArray8Bit;
+import org.terasology.engine.world.chunks.blockdata.TeraSectionedArray;
+import org.terasology.engine.world.chunks.deflate.TeraDeflator;
+import org.terasology.engine.world.chunks.deflate.TeraStandardDeflator;
+import org.terasology.engine.world.chunks.internal.ChunkImpl;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
 
 /**
  * Commands to administer a remote server
@@ -196,4 +214,83 @@ public String reloadChunk(@CommandParam("x") int x, @CommandParam("y") int y, @C
     public void purgeWorld() {
         chunkProvider.purgeWorld();
     }
+
+    @Command(shortDescription = "Reports the memory taken by the loaded chunks", runOnServer = true,
+            requiredPermission = PermissionManager.SERVER_MANAGEMENT_PERMISSION)
+    public String chunkMemory() {
+        TeraDeflator deflator = new TeraStandardDeflator();
+        int chunks = 0;
+        long bytes = 0;
+        long denseBytes = 0;
+        int sections = 0;
+        int uniformSections = 0;
+        for (Chunk chunk : chunkProvider.getAllChunks()) {
+            chunks++;
+            bytes += chunk.getEstimatedMemoryConsumptionInBytes();
+            denseBytes += deflatedDenseMemoryConsumption(chunk, deflator);
+            if (chunk instanceof ChunkImpl) {
+                sections += Chunks.SIZE_Y / TeraSectionedArray.SECTION_SIZE_Y;
+                uniformSections += ((ChunkImpl) chunk).getUniformSectionCount();
+            }
+        }
+        return String.format(Locale.ROOT,
+                "%d chunks loaded: %.1f MiB (%.1f KiB per chunk), %d of %d sections uniform; "
+                        + "blocks and light alone would take %.1f MiB in deflated unsectioned arrays",
+                chunks, bytes / 1048576.0, chunks == 0 ? 0.0 : bytes / 1024.0 / chunks,
+                uniformSections, sections, denseBytes / 1048576.0);
+    }
+
+    /**
+     * Copies the blocks and light of the chunk into dense arrays and deflates them, as chunks were stored before they
+     * were split into sections.
+     *
+     * @return the memory taken by the deflated arrays
+     */
+    private static long deflatedDenseMemoryConsumption(Chunk chunk, TeraDeflator deflator) {
+        TeraArray blocks = new TeraDenseArray16Bit(Chunks.SIZE_X, Chunks.SIZE_Y, Chunks.SIZE_Z);
+        TeraArray sunlight = new TeraDenseArray8Bit(Chunks.SIZE_X, Chunks.SIZE_Y, Chunks.SIZE_Z);
+        TeraArray sunlightRegen = new TeraDenseArray8Bit(Chunks.SIZE_X, Chunks.SIZE_Y, Chunks.SIZE_Z);
+        TeraArray light = new TeraDenseArray8Bit(Chunks.SIZE_X, Chunks.SIZE_Y, Chunks.SIZE_Z);
+        for (int y = 0; y < Chunks.SIZE_Y; y++) {
+            for (int z = 0; z < Chunks.SIZE_Z; z++) {
+                for (int x = 0; x < Chunks.SIZE_X; x++) {
+                    blocks.set(x, y, z, chunk.getBlockId(x, y, z));
+                    sunlight.set(x, y, z, chunk.getSunlight(x, y, z));
+                    sunlightRegen.set(x, y, z, chunk.getSunlightRegen(x, y, z));
+                    light.set(x, y, z, chunk.getLight(x, y, z));
+                }
+            }
+        }
+        return (long) deflator.deflate(blocks).getEstimatedMemoryConsumptionInBytes()
+                + deflator.deflate(sunlight).getEstimatedMemoryConsumptionInBytes()
+                + deflator.deflate(sunlightRegen).getEstimatedMemoryConsumptionInBytes()
+                + deflator.deflate(light).getEstimatedMemoryConsumptionInBytes();
+    }
+
+    @Command(shortDescription = "Sets what the tick profiler measures: off, timing or allocations", runOnServer = true,
+            requiredPermission = PermissionManager.SERVER_MANAGEMENT_PERMISSION)
+    public String tickProfiler(@CommandParam("mode") String mode) {
+        TickProfilerMode newMode;
+        try {
+            newMode = TickProfilerMode.valueOf(mode.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown profiler mode '" + mode + "'", e);
+        }
+        TickProfiler.setMode(newMode);
+        return "Tick profiler mode is now " + TickProfiler.getMode();
+    }
+
+    @Command(shortDescription = "Writes the tick profiler results to the log directory", runOnServer = true,
+            requiredPermission = PermissionManager.SERVER_MANAGEMENT_PERMISSION)
+    public String exportTickProfile() {
+        String timestamp = new SimpleDateFormat("yyMMddHHmmss").format(new Date());
+        Path file = PathManager.getInstance().getLogPath().resolve("profiler-" + timestamp + ".tsv");
+        try {
+            TickProfiler.export(file);
+        } catch (IOException e) {
+            logger.error("Failed to export the tick profile", e);
+            return "Failed to export the tick profile: " + e.getMessage();
+        }
+        return "Tick profile written to " + file;
+    }
 }
@@ -2,9 +2,12 @@
 // SPDX-License-Identifier: Apache-2.0
 package org.terasology.engine.logic.delay;
 
-import com.google.common.collect.Ordering;
-import com.google.common.collect.SortedSetMultimap;
-import com.google.common.collect.TreeMultimap;
+import gnu.trove.list.TLongList;
+import gnu.trove.list.array.TLongArrayList;
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
+import gnu.trove.set.TLongSet;
+import gnu.trove.set.hash.TLongHashSet;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.terasology.engine.core.Time;
@@ -19,24 +22,33 @@
 import org.terasology.engine.registry.Share;
 import org.terasology.gestalt.entitysystem.event.ReceiveEvent;
 
-import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.List;
 import java.util.Set;
 
 /**
  * Provides support for scheduling events that will trigger at some point in the future.
+ * <p>
+ * The next wake-up of every entity is kept in a {@link TimerWheel} per kind of action. The action components are
+ * changed in place when actions are added or triggered, and only saved again once per {@link #SAVE_INTERVAL_MS} or
+ * before the game is saved, so that frequent timers do not flood the entity system with change events.
  */
 @RegisterSystem(RegisterMode.AUTHORITY)
 @Share(value = DelayManager.class)
 public class DelayedActionSystem extends BaseComponentSystem implements UpdateSubscriberSystem, DelayManager {
+    static final long SAVE_INTERVAL_MS = 1000;
+
     private static final Logger logger = LoggerFactory.getLogger(DelayedActionSystem.class);
 
     @In
     private Time time;
 
-    private SortedSetMultimap<Long, EntityRef> delayedOperationsSortedByTime = TreeMultimap.create(Ordering.natural(), Ordering.arbitrary());
-    private SortedSetMultimap<Long, EntityRef> periodicOperationsSortedByTime = TreeMultimap.create(Ordering.natural(), Ordering.arbitrary());
+    private final TimerWheel delayedOperations = new TimerWheel();
+    private final TimerWheel periodicOperations = new TimerWheel();
+    private final TLongObjectMap<EntityRef> delayedEntities = new TLongObjectHashMap<>();
+    private final TLongObjectMap<EntityRef> periodicEntities = new TLongObjectHashMap<>();
+    private final TLongSet unsavedDelayedEntities = new TLongHashSet();
+    private final TLongSet unsavedPeriodicEntities = new TLongHashSet();
+    private final TLongList dueEntities = new TLongArrayList();
+    private long lastSaveTime;
 
     // ONLY use this for testing. DO NOT use this during regular usage.
     void setTime(Time t) {
@@ -48,31 +60,41 @@ public void update(float delta) {
         final long currentWorldTime = time.getGameTimeInMs();
         invokeDelayedOperations(currentWorldTime);
         invokePeriodicOperations(currentWorldTime);
+        if (currentWorldTime - lastSaveTime >= SAVE_INTERVAL_MS) {
+            saveChangedComponents();
+            lastSaveTime = currentWorldTime;
+        }
+    }
+
+    @Override
+    public void preSave() {
+        saveChangedComponents();
+    }
+
+    @Override
+    public void preAutoSave() {
+        saveChangedComponents();
     }
 
     private void invokeDelayedOperations(long currentWorldTime) {
-        List<EntityRef> operationsToInvoke = new LinkedList<>();
-        Iterator<Long> scheduledOperationsIterator = delayedOperationsSortedByTime.keySet().iterator();
-        long processedTime;
-        while (scheduledOperationsIterator.hasNext()) {
-            processedTime = scheduledOperationsIterator.next();
-            if (processedTime > currentWorldTime) {
-                break;
-            }
-            operationsToInvoke.addAll(delayedOperationsSortedByTime.get(processedTime));
-            scheduledOperationsIterator.remove();
-        }
+        dueEntities.clear();
+        delayedOperations.advance(currentWorldTime, dueEntities);
 
-        operationsToInvoke.stream().filter(EntityRef::exists).forEach(delayedEntity -> {
+        for (int i = 0; i < dueEntities.size(); i++) {
+            final EntityRef delayedEntity = delayedEntities.get(dueEntities.get(i));
+            if (delayedEntity == null || !delayedEntity.exists()) {
+                continue;
+            }
             final DelayedActionComponent delayedActions = delayedEntity.getComponent(DelayedActionComponent.class);
 
             // If there is a DelayedActionComponent, proceed. Else report an error to the log.
             if (delayedActions != null) {
                 final Set<String> actionIds = delayedActions.removeActionsUpTo(currentWorldTime);
-                saveOrRemoveComponent(delayedEntity, delayedActions);
-
-                if (!delayedActions.isEmpty()) {
-                    delayedOperationsSortedByTime.put(delayedActions.getLowestWakeUp(), delayedEntity);
+                if (delayedActions.isEmpty()) {
+                    delayedEntity.removeComponent(DelayedActionComponent.class);
+                } else {
+                    delayedOperations.schedule(delayedEntity.getId(), delayedActions.getLowestWakeUp());
+                    unsavedDelayedEntities.add(delayedEntity.getId());
                 }
 
                 for (String actionId : actionIds) {
@@ -82,62 +104,64 @@ private void invokeDelayedOperations(long currentWorldTime) {
                 logger.error("ERROR: This entity is missing a DelayedActionComponent: {}. " +
                         "So skipping delayed actions for this entity.", delayedEntity);
             }
-        });
+        }
     }
 
     private void invokePeriodicOperations(long currentWorldTime) {
-        List<EntityRef> operationsToInvoke = new LinkedList<>();
-        Iterator<Long> scheduledOperationsIterator = periodicOperationsSortedByTime.keySet().iterator();
-        long processedTime;
-        while (scheduledOperationsIterator.hasNext()) {
-            processedTime = scheduledOperationsIterator.next();
-            if (processedTime > currentWorldTime) {
-                break;
-            }
-            operationsToInvoke.addAll(periodicOperationsSortedByTime.get(processedTime));
-            scheduledOperationsIterator.remove();
-        }
+        dueEntities.clear();
+        periodicOperations.advance(currentWorldTime, dueEntities);
 
-        operationsToInvoke.stream().filter(EntityRef::exists).forEach(periodicEntity -> {
+        for (int i = 0; i < dueEntities.size(); i++) {
+            final EntityRef periodicEntity = periodicEntities.get(dueEntities.get(i));
+            if (periodicEntity == null || !periodicEntity.exists()) {
+                continue;
+            }
             final PeriodicActionComponent periodicActionComponent = periodicEntity.getComponent(PeriodicActionComponent.class);
 
             // If there is a PeriodicActionComponent, proceed. Else report an error to the log.
             if (periodicActionComponent != null) {
                 final Set<String> actionIds = periodicActionComponent.getTriggeredActionsAndReschedule(currentWorldTime);
-                saveOrRemoveComponent(periodicEntity, periodicActionComponent);
-
-                if (!periodicActionComponent.isEmpty()) {
-                    periodicOperationsSortedByTime.put(periodicActionComponent.getLowestWakeUp(), periodicEntity);
+                if (periodicActionComponent.isEmpty()) {
+                    periodicEntity.removeComponent(PeriodicActionComponent.class);
+                } else {
+                    periodicOperations.schedule(periodicEntity.getId(), periodicActionComponent.getLowestWakeUp());
+                    unsavedPeriodicEntities.add(periodicEntity.getId());
                 }
 
                 for (String actionId : actionIds) {
                     periodicEntity.send(new PeriodicActionTriggeredEvent(actionId));
                 }
             } else {
-                logger.error("ERROR: This entity is missing a DelayedActionComponent: {}. " +
-                        "So skipping delayed actions for this entity", periodicEntity);
+                logger.error("ERROR: This entity is missing a PeriodicActionComponent: {}. " +
+                        "So skipping periodic actions for this entity", periodicEntity);
             }
-        });
+        }
     }
 
     @ReceiveEvent
     public void delayedComponentActivated(OnActivatedComponent event, EntityRef entity, DelayedActionComponent delayedActionComponent) {
-        delayedOperationsSortedByTime.put(delayedActionComponent.getLowestWakeUp(), entity);
+        delayedEntities.put(entity.getId(), entity);
+        delayedOperations.schedule(entity.getId(), delayedActionComponent.getLowestWakeUp());
     }
 
     @ReceiveEvent
     public void periodicComponentActivated(OnActivatedComponent event, EntityRef entity, PeriodicActionComponent periodicActionComponent) {
-        periodicOperationsSortedByTime.put(periodicActionComponent.getLowestWakeUp(), entity);
+        periodicEntities.put(entity.getId(), entity);
+        periodicOperations.schedule(entity.getId(), periodicActionComponent.getLowestWakeUp());
     }
 
     @ReceiveEvent
     public void delayedComponentDeactivated(BeforeDeactivateComponent event, EntityRef entity, DelayedActionComponent delayedActionComponent) {
-        delayedOperationsSortedByTime.remove(delayedActionComponent.getLowestWakeUp(), entity);
+        delayedEntities.remove(entity.getId());
+        delayedOperations.cancel(entity.getId());
+        unsavedDelayedEntities.remove(entity.getId());
     }
 
     @ReceiveEvent
     public void periodicComponentDeactivated(BeforeDeactivateComponent event, EntityRef entity, PeriodicActionComponent periodicActionComponent) {
-        delayedOperationsSortedByTime.remove(periodicActionComponent.getLowestWakeUp(), entity);
+        periodicEntities.remove(entity.getId());
+        periodicOperations.cancel(entity.getId());
+        unsavedPeriodicEntities.remove(entity.getId());
     }
 
     @Override
@@ -146,18 +170,9 @@ public void addDelayedAction(EntityRef entity, String actionId, long delay) {
 
         DelayedActionComponent delayedActionComponent = entity.getComponent(DelayedActionComponent.class);
         if (delayedActionComponent != null) {
-            final long oldWakeUp = delayedActionComponent.getLowestWakeUp();
             delayedActionComponent.addActionId(actionId, scheduleTime);
-            entity.saveComponent(delayedActionComponent);
-            final long newWakeUp = delayedActionComponent.getLowestWakeUp();
-            if (oldWakeUp < newWakeUp) {
-                delayedOperationsSortedByTime.remove(oldWakeUp, entity);
-                delayedOperationsSortedByTime.put(newWakeUp, entity);
-            } else {
-                // Even if the oldWakeUp time is greater than or equal to the new one, the next action should still be added
-                // to the delayedOperationsSortedByTime mapping.
-                delayedOperationsSortedByTime.put(scheduleTime, entity);
-            }
+            delayedOperations.schedule(entity.getId(), delayedActionComponent.getLowestWakeUp());
+            unsavedDelayedEntities.add(entity.getId());
         } else {
             delayedActionComponent = new DelayedActionComponent();
             delayedActionComponent.addActionId(actionId, scheduleTime);
@@ -171,18 +186,9 @@ public void addPeriodicAction(EntityRef entity, String actionId, long initialDel
 
         PeriodicActionComponent periodicActionComponent = entity.getComponent(PeriodicActionComponent.class);
         if (periodicActionComponent != null) {
-            final long oldWakeUp = periodicActionComponent.getLowestWakeUp();
             periodicActionComponent.addScheduledActionId(actionId, scheduleTime, period);
-            entity.saveComponent(periodicActionComponent);
-            final long newWakeUp = periodicActionComponent.getLowestWakeUp();
-            if (oldWakeUp < newWakeUp) {
-                periodicOperationsSortedByTime.remove(oldWakeUp, entity);
-                periodicOperationsSortedByTime.put(newWakeUp, entity);
-            } else {
-                // Even if the oldWakeUp time is greater than or equal to the new one, the next action should still be added
-                // to the delayedOperationsSortedByTime mapping.
-                periodicOperationsSortedByTime.put(scheduleTime, entity);
-            }
+            periodicOperations.schedule(entity.getId(), periodicActionComponent.getLowestWakeUp());
+            unsavedPeriodicEntities.add(entity.getId());
         } else {
             periodicActionComponent = new PeriodicActionComponent();
             periodicActionComponent.addScheduledActionId(actionId, scheduleTime, period);
@@ -193,31 +199,25 @@ public void addPeriodicAction(EntityRef entity, String actionId, long initialDel
     @Override
     public void cancelDelayedAction(EntityRef entity, String actionId) {
         DelayedActionComponent delayedComponent = entity.getComponent(DelayedActionComponent.class);
-        long oldWakeUp = delayedComponent.getLowestWakeUp();
         delayedComponent.removeActionId(actionId);
-        long newWakeUp = delayedComponent.getLowestWakeUp();
-        if (!delayedComponent.isEmpty() && oldWakeUp < newWakeUp) {
-            delayedOperationsSortedByTime.remove(oldWakeUp, entity);
-            delayedOperationsSortedByTime.put(newWakeUp, entity);
-        } else if (delayedComponent.isEmpty()) {
-            delayedOperationsSortedByTime.remove(oldWakeUp, entity);
+        if (delayedComponent.isEmpty()) {
+            entity.removeComponent(DelayedActionComponent.class);
+        } else {
+            delayedOperations.schedule(entity.getId(), delayedComponent.getLowestWakeUp());
+            unsavedDelayedEntities.add(entity.getId());
         }
-        saveOrRemoveComponent(entity, delayedComponent);
     }
 
     @Override
     public void cancelPeriodicAction(EntityRef entity, String actionId) {
         PeriodicActionComponent periodicActionComponent = entity.getComponent(PeriodicActionComponent.class);
-        long oldWakeUp = periodicActionComponent.getLowestWakeUp();
         periodicActionComponent.removeScheduledActionId(actionId);
-        long newWakeUp = periodicActionComponent.getLowestWakeUp();
-        if (!periodicActionComponent.isEmpty() && oldWakeUp < newWakeUp) {
-            periodicOperationsSortedByTime.remove(oldWakeUp, entity);
-            periodicOperationsSortedByTime.put(newWakeUp, entity);
-        } else if (periodicActionComponent.isEmpty()) {
-            periodicOperationsSortedByTime.remove(oldWakeUp, entity);
+        if (periodicActionComponent.isEmpty()) {
+            entity.removeComponent(PeriodicActionComponent.class);
+        } else {
+            periodicOperations.schedule(entity.getId(), periodicActionComponent.getLowestWakeUp());
+            unsavedPeriodicEntities.add(entity.getId());
         }
-        saveOrRemoveComponent(entity, periodicActionComponent);
     }
 
     @Override
@@ -232,19 +232,28 @@ public boolean hasPeriodicAction(EntityRef entity, String actionId) {
         return periodicActionComponent != null && periodicActionComponent.containsActionId(actionId);
     }
 
-    private void saveOrRemoveComponent(EntityRef delayedEntity, DelayedActionComponent delayedActionComponent) {
-        if (delayedActionComponent.isEmpty()) {
-            delayedEntity.removeComponent(DelayedActionComponent.class);
-        } else {
-            delayedEntity.saveComponent(delayedActionComponent);
+    /**
+     * Saves the action components that were changed in place since they were last saved.
+     */
+    void saveChangedComponents() {
+        // saving notifies other systems, which may schedule further actions
+        long[] delayedIds = unsavedDelayedEntities.toArray();
+        unsavedDelayedEntities.clear();
+        for (long id : delayedIds) {
+            EntityRef entity = delayedEntities.get(id);
+            DelayedActionComponent component = entity != null ? entity.getComponent(DelayedActionComponent.class) : null;
+            if (component != null) {
+                entity.saveComponent(component);
+            }
         }
-    }
-
-    private void saveOrRemoveComponent(EntityRef periodicEntity, PeriodicActionComponent periodicActionComponent) {
-        if (periodicActionComponent.isEmpty()) {
-            periodicEntity.removeComponent(PeriodicActionComponent.class);
-        } else {
-            periodicEntity.saveComponent(periodicActionComponent);
+        long[] periodicIds = unsavedPeriodicEntities.toArray();
+        unsavedPeriodicEntities.clear();
+        for (long id : periodicIds) {
+            EntityRef entity = periodicEntities.get(id);
+            PeriodicActionComponent component = entity != null ? entity.getComponent(PeriodicActionComponent.class) : null;
+            if (component != null) {
+                entity.saveComponent(component);
+            }
         }
     }
 }
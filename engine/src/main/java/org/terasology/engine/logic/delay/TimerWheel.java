@@ -0,0 +1,185 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.logic.delay;
+
+import gnu.trove.impl.Constants;
+import gnu.trove.list.TLongList;
+import gnu.trove.list.array.TLongArrayList;
+import gnu.trove.map.TLongLongMap;
+import gnu.trove.map.hash.TLongLongHashMap;
+
+/**
+ * A hierarchical timer wheel holding at most one deadline (in ms of game time) per entity id.
+ * <p>
+ * The wheel has four levels of 256 slots each. A timer goes into the lowest level whose range covers its deadline and
+ * moves down a level every time the wheel reaches the start of its slot, so scheduling and firing a timer is constant
+ * time. Timers beyond the range of the wheel (about 49 days) are parked in the top level until they come into range.
+ * <p>
+ * Cancelled and rescheduled timers are not removed from their slots. Every slot entry carries its deadline and is
+ * dropped when the wheel reaches it if it no longer matches the current deadline of its id.
+ */
+public final class TimerWheel {
+    private static final int SLOT_BITS = 8;
+    private static final int SLOT_COUNT = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOT_COUNT - 1;
+    private static final int LEVEL_COUNT = 4;
+    private static final long NO_DEADLINE = Long.MIN_VALUE;
+
+    /** Every slot holds pairs of entity id and deadline. */
+    private final TLongArrayList[][] slots = new TLongArrayList[LEVEL_COUNT][SLOT_COUNT];
+    private final int[] levelSizes = new int[LEVEL_COUNT];
+    private final TLongLongMap deadlines =
+            new TLongLongHashMap(Constants.DEFAULT_CAPACITY, Constants.DEFAULT_LOAD_FACTOR, 0, NO_DEADLINE);
+    private long currentTime;
+
+    /**
+     * Sets the deadline of the given id, replacing any earlier one.
+     */
+    public void schedule(long id, long deadline) {
+        deadlines.put(id, deadline);
+        insert(id, deadline, currentTime + 1);
+    }
+
+    public void cancel(long id) {
+        deadlines.remove(id);
+    }
+
+    public boolean isScheduled(long id) {
+        return deadlines.containsKey(id);
+    }
+
+    /**
+     * @return the deadline of the given id, or {@link Long#MIN_VALUE} if none is scheduled
+     */
+    public long getDeadline(long id) {
+        return deadlines.get(id);
+    }
+
+    public int size() {
+        return deadlines.size();
+    }
+
+    /**
+     * Moves the wheel forward to the given time, and adds the ids of every timer that expired on the way to
+     * {@code due}, earliest deadline first. The expired timers are removed from the wheel.
+     */
+    public void advance(long now, TLongList due) {
+        while (currentTime < now) {
+            if (deadlines.isEmpty()) {
+                clearSlots();
+                currentTime = now;
+                return;
+            }
+            long next = currentTime + 1;
+            if (levelSizes[0] == 0) {
+                // nothing can fire before the next time a non-empty level moves its timers down, so skip ahead
+                int level = 1;
+                while (level < LEVEL_COUNT - 1 && levelSizes[level] == 0) {
+                    level++;
+                }
+                long span = 1L << (SLOT_BITS * level);
+                next = Math.floorDiv(currentTime, span) * span + span;
+                if (next > now) {
+                    currentTime = now;
+                    return;
+                }
+            }
+            currentTime = next;
+            cascade();
+            fire(due);
+        }
+    }
+
+    /**
+     * @param earliest the first time the wheel can still fire the timer; the current slot is passed once fired
+     */
+    private void insert(long id, long deadline, long earliest) {
+        long target = Math.max(deadline, earliest);
+        long delta = target - currentTime;
+        int level = 0;
+        while (level < LEVEL_COUNT - 1 && delta >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        int shift = SLOT_BITS * level;
+        int slot;
+        if (delta >= 1L << (SLOT_BITS * LEVEL_COUNT)) {
+            // the last slot of the top level that is reached before the deadline
+            slot = (int) (((currentTime >> shift) + SLOT_MASK) & SLOT_MASK);
+        } else {
+            slot = (int) ((target >> shift) & SLOT_MASK);
+        }
+        TLongArrayList entries = slots[level][slot];
+        if (entries == null) {
+            entries = new TLongArrayList();
+            slots[level][slot] = entries;
+        }
+        entries.add(id);
+        entries.add(deadline);
+        levelSizes[level]++;
+    }
+
+    /**
+     * Moves the timers of every level slot that starts at the current time down the wheel, top level first so that
+     * they can keep falling through the levels below.
+     */
+    private void cascade() {
+        for (int level = LEVEL_COUNT - 1; level > 0; level--) {
+            int shift = SLOT_BITS * level;
+            if ((currentTime & ((1L << shift) - 1)) != 0) {
+                continue;
+            }
+            TLongArrayList entries = slots[level][(int) ((currentTime >> shift) & SLOT_MASK)];
+            if (entries == null || entries.isEmpty()) {
+                continue;
+            }
+            // a cascaded timer never lands in the slot it comes from, so the slot can be walked while inserting
+            int size = entries.size();
+            levelSizes[level] -= size / 2;
+            for (int i = 0; i < size; i += 2) {
+                long id = entries.getQuick(i);
+                long deadline = entries.getQuick(i + 1);
+                if (deadlines.get(id) == deadline) {
+                    insert(id, deadline, currentTime);
+                }
+            }
+            entries.resetQuick();
+        }
+    }
+
+    private void fire(TLongList due) {
+        TLongArrayList entries = slots[0][(int) (currentTime & SLOT_MASK)];
+        if (entries == null || entries.isEmpty()) {
+            return;
+        }
+        int size = entries.size();
+        levelSizes[0] -= size / 2;
+        for (int i = 0; i < size; i += 2) {
+            long id = entries.getQuick(i);
+            long deadline = entries.getQuick(i + 1);
+            if (deadlines.get(id) != deadline) {
+                continue;
+            }
+            if (deadline <= currentTime) {
+                deadlines.remove(id);
+                due.add(id);
+            } else {
+                insert(id, deadline, currentTime + 1);
+            }
+        }
+        entries.resetQuick();
+    }
+
+    private void clearSlots() {
+        for (int level = 0; level < LEVEL_COUNT; level++) {
+            if (levelSizes[level] == 0) {
+                continue;
+            }
+            for (TLongArrayList entries : slots[level]) {
+                if (entries != null) {
+                    entries.resetQuick();
+                }
+            }
+            levelSizes[level] = 0;
+        }
+    }
+}
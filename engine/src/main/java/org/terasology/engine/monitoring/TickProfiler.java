@@ -0,0 +1,220 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.monitoring;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.engine.monitoring.impl.LatencyHistogram;
+import org.terasology.engine.monitoring.impl.ProfiledSection;
+import org.terasology.engine.monitoring.impl.ProfiledSectionEvent;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Measures how long named sections of the game loop take, such as the update of a system or a single event handler,
+ * and keeps a histogram of the durations of each.
+ * <br><br>
+ * Unlike the {@link PerformanceMonitor}, it measures on every thread and is always installed: system updates and the
+ * event handlers of the event system are profiled automatically whenever the mode is not {@link TickProfilerMode#OFF}.
+ * Sections nest, and the time of a section includes the time of the sections it contains.
+ * <br><br>
+ * The results can be exported to a file with {@link #export(Path)}. While a flight recording with the
+ * {@code org.terasology.ProfiledSection} event enabled is running, every measured run is also committed to it.
+ * <br><br>
+ * The starting mode is read from the {@value #MODE_PROPERTY} system property, and can be changed at any time.
+ */
+public final class TickProfiler {
+    public static final String MODE_PROPERTY = "terasology.profiler";
+
+    private static final Logger logger = LoggerFactory.getLogger(TickProfiler.class);
+    private static final int MAX_DEPTH = 64;
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = allocationTrackingBean();
+
+    private static final ConcurrentMap<String, ProfiledSection> SECTIONS = new ConcurrentHashMap<>();
+    private static final ThreadLocal<SectionStack> STACKS = ThreadLocal.withInitial(SectionStack::new);
+
+    private static volatile TickProfilerMode mode = initialMode();
+    private static volatile int generation;
+
+    private TickProfiler() {
+    }
+
+    /**
+     * Indicates the start of a section on the current thread. Every call must be followed by a call to {@link #end()}
+     * on the same thread, usually from a finally block.
+     *
+     * @param section the name of the section
+     */
+    public static void begin(String section) {
+        TickProfilerMode current = mode;
+        if (current == TickProfilerMode.OFF) {
+            return;
+        }
+        SectionStack stack = STACKS.get();
+        stack.sync(generation);
+        long allocated = current == TickProfilerMode.ALLOCATIONS ? currentThreadAllocatedBytes() : -1;
+        stack.push(section, System.nanoTime(), allocated);
+    }
+
+    /**
+     * Indicates the end of the last section started on the current thread.
+     */
+    public static void end() {
+        if (mode == TickProfilerMode.OFF) {
+            return;
+        }
+        long endTime = System.nanoTime();
+        SectionStack stack = STACKS.get();
+        if (!stack.sync(generation) || stack.depth == 0) {
+            // the mode changed while the section was running
+            return;
+        }
+        stack.depth--;
+        if (stack.depth >= MAX_DEPTH) {
+            return;
+        }
+        int index = stack.depth;
+        long startAllocated = stack.allocated[index];
+        long allocated = startAllocated >= 0 ? currentThreadAllocatedBytes() - startAllocated : -1;
+        long duration = endTime - stack.startTimes[index];
+        String section = stack.sections[index];
+        stack.sections[index] = null;
+
+        SECTIONS.computeIfAbsent(section, ProfiledSection::new).record(duration, allocated);
+        if (ProfiledSectionEvent.isRecorded()) {
+            ProfiledSectionEvent.commit(section, duration, Math.max(allocated, 0));
+        }
+    }
+
+    public static TickProfilerMode getMode() {
+        return mode;
+    }
+
+    /**
+     * Changes what is measured from now on. Sections that are running while the mode changes are dropped.
+     */
+    public static synchronized void setMode(TickProfilerMode newMode) {
+        if (newMode == TickProfilerMode.ALLOCATIONS && THREAD_MX_BEAN == null) {
+            logger.warn("Allocation tracking is not supported by this JVM, only timing sections");
+            newMode = TickProfilerMode.TIMING;
+        }
+        generation++;
+        mode = newMode;
+    }
+
+    /**
+     * @return the sections measured so far, by name
+     */
+    public static Collection<ProfiledSection> getSections() {
+        return Collections.unmodifiableCollection(SECTIONS.values());
+    }
+
+    /**
+     * Discards everything measured so far.
+     */
+    public static void reset() {
+        SECTIONS.values().forEach(ProfiledSection::reset);
+    }
+
+    /**
+     * Writes a tab separated summary of every section to the given file, slowest sections by p99 first.
+     * Times are in microseconds, allocations in bytes.
+     */
+    public static void export(Path file) throws IOException {
+        List<ProfiledSection> sections = new ArrayList<>(SECTIONS.values());
+        sections.sort(Comparator.comparingLong((ProfiledSection section) -> section.getDurations().getPercentile(99))
+                .reversed());
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("section\tcount\tp50_us\tp99_us\tmax_us\tmean_alloc_bytes\tmax_alloc_bytes");
+            writer.newLine();
+            for (ProfiledSection section : sections) {
+                LatencyHistogram durations = section.getDurations();
+                writer.write(String.format(Locale.ROOT, "%s\t%d\t%.1f\t%.1f\t%.1f\t%d\t%d", section.getName(),
+                        durations.getCount(), durations.getPercentile(50) / 1000.0,
+                        durations.getPercentile(99) / 1000.0, durations.getMax() / 1000.0,
+                        section.getMeanAllocatedBytes(), section.getMaxAllocatedBytes()));
+                writer.newLine();
+            }
+        }
+    }
+
+    private static long currentThreadAllocatedBytes() {
+        return THREAD_MX_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static TickProfilerMode initialMode() {
+        String property = System.getProperty(MODE_PROPERTY);
+        if (property == null) {
+            return TickProfilerMode.OFF;
+        }
+        try {
+            TickProfilerMode configured = TickProfilerMode.valueOf(property.toUpperCase(Locale.ROOT));
+            if (configured == TickProfilerMode.ALLOCATIONS && THREAD_MX_BEAN == null) {
+                return TickProfilerMode.TIMING;
+            }
+            return configured;
+        } catch (IllegalArgumentException e) {
+            logger.warn("Unknown profiler mode {}, profiling is off", property);
+            return TickProfilerMode.OFF;
+        }
+    }
+
+    private static com.sun.management.ThreadMXBean allocationTrackingBean() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) bean;
+            if (allocationBean.isThreadAllocatedMemorySupported()) {
+                allocationBean.setThreadAllocatedMemoryEnabled(true);
+                return allocationBean;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The running sections of one thread. Sections nested deeper than {@link #MAX_DEPTH} are counted but not measured.
+     */
+    private static final class SectionStack {
+        private final String[] sections = new String[MAX_DEPTH];
+        private final long[] startTimes = new long[MAX_DEPTH];
+        private final long[] allocated = new long[MAX_DEPTH];
+        private int depth;
+        private int stackGeneration;
+
+        /**
+         * @return whether the stack was already of the current generation; if not, it is emptied
+         */
+        boolean sync(int currentGeneration) {
+            if (stackGeneration == currentGeneration) {
+                return true;
+            }
+            Arrays.fill(sections, null);
+            depth = 0;
+            stackGeneration = currentGeneration;
+            return false;
+        }
+
+        void push(String section, long startTime, long startAllocated) {
+            if (depth < MAX_DEPTH) {
+                sections[depth] = section;
+                startTimes[depth] = startTime;
+                allocated[depth] = startAllocated;
+            }
+            depth++;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.monitoring;
+
+/**
+ * How much the {@link TickProfiler} measures. Each mode costs more per profiled section than the one before.
+ */
+public enum TickProfilerMode {
+    /** Sections are not measured; beginning and ending one costs a single volatile read. */
+    OFF,
+    /** The wall-clock duration of every section is measured. */
+    TIMING,
+    /** Like {@link #TIMING}, and the bytes allocated by the thread running the section are counted as well. */
+    ALLOCATIONS
+}
@@ -0,0 +1,62 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.monitoring.impl;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The measurements of one named section of the {@link org.terasology.engine.monitoring.TickProfiler}.
+ * It may be recorded into from several threads at once.
+ */
+public final class ProfiledSection {
+    private final String name;
+    private final LatencyHistogram durations = new LatencyHistogram();
+    private final LongAdder allocatedBytes = new LongAdder();
+    private final LongAdder allocationSamples = new LongAdder();
+    private final AtomicLong maxAllocatedBytes = new AtomicLong();
+
+    public ProfiledSection(String name) {
+        this.name = name;
+    }
+
+    /**
+     * @param durationNanos how long the section ran
+     * @param allocated the bytes the section allocated, or a negative value if they were not counted
+     */
+    public void record(long durationNanos, long allocated) {
+        durations.record(durationNanos);
+        if (allocated >= 0) {
+            allocatedBytes.add(allocated);
+            allocationSamples.increment();
+            maxAllocatedBytes.accumulateAndGet(allocated, Math::max);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public LatencyHistogram getDurations() {
+        return durations;
+    }
+
+    /**
+     * @return the mean bytes allocated per run, over the runs in which allocations were counted
+     */
+    public long getMeanAllocatedBytes() {
+        long samples = allocationSamples.sum();
+        return samples == 0 ? 0 : allocatedBytes.sum() / samples;
+    }
+
+    public long getMaxAllocatedBytes() {
+        return maxAllocatedBytes.get();
+    }
+
+    public void reset() {
+        durations.reset();
+        allocatedBytes.reset();
+        allocationSamples.reset();
+        maxAllocatedBytes.set(0);
+    }
+}
@@ -0,0 +1,52 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.monitoring.impl;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight recorder event for a single run of a section measured by the
+ * {@link org.terasology.engine.monitoring.TickProfiler}. Only committed while a recording has it enabled.
+ */
+@Name("org.terasology.ProfiledSection")
+@Label("Profiled Section")
+@Category("Terasology")
+@Description("A system update or event handler measured by the tick profiler")
+@StackTrace(false)
+public class ProfiledSectionEvent extends Event {
+    private static final EventType EVENT_TYPE = EventType.getEventType(ProfiledSectionEvent.class);
+
+    @Label("Section")
+    String section;
+
+    @Label("Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long durationNanos;
+
+    @Label("Allocated")
+    @DataAmount
+    long allocatedBytes;
+
+    /**
+     * @return whether any running recording has this event enabled
+     */
+    public static boolean isRecorded() {
+        return EVENT_TYPE.isEnabled();
+    }
+
+    public static void commit(String section, long durationNanos, long allocatedBytes) {
+        ProfiledSectionEvent event = new ProfiledSectionEvent();
+        event.section = section;
+        event.durationNanos = durationNanos;
+        event.allocatedBytes = allocatedBytes;
+        event.commit();
+    }
+}
@@ -46,6 +46,7 @@
 import org.terasology.engine.world.block.family.BlockFamily;
 import org.terasology.engine.world.chunks.Chunk;
 import org.terasology.engine.world.chunks.Chunks;
+import org.terasology.engine.world.propagation.BlockChange;
 import org.terasology.gestalt.entitysystem.component.Component;
 import org.terasology.gestalt.entitysystem.event.Event;
 import org.terasology.nui.Color;
@@ -395,6 +396,18 @@ public void onBlockChanged(Vector3ic pos, Block newBlock, Block originalBlock) {
         }
     }
 
+    @Override
+    public void onBlocksChanged(Vector3ic chunkPos, List<BlockChange> changes) {
+        if (relevantChunks.contains(chunkPos)) {
+            for (BlockChange change : changes) {
+                queuedOutgoingBlockChanges.add(NetData.BlockChangeMessage.newBuilder()
+                    .setPos(NetMessageUtil.convert(change.getPosition()))
+                    .setNewBlock(change.getTo().getId())
+                    .build());
+            }
+        }
+    }
+
     @Override
     public void onExtraDataChanged(int i, Vector3ic pos, int newData, int oldData) {
         Vector3i chunkPos = Chunks.toChunkPos(pos, new Vector3i());
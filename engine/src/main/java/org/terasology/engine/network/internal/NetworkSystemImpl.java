@@ -576,6 +576,7 @@ public void connectToEntitySystem(EngineEntityManager newEntityManager, EventLib
         entitySerializer = new NetworkEntitySerializer(newEntityManager, entityManager.getComponentLibrary(),
                 typeHandlerLibrary);
         entitySerializer.setComponentSerializeCheck(new NetComponentSerializeCheck());
+        entitySerializer.setDirectFieldEncoding(true);
 
         if (mode == NetworkMode.CLIENT) {
             entityManager.setEntityRefStrategy(new NetworkClientRefStrategy(this));
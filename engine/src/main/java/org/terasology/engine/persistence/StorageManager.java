@@ -5,6 +5,7 @@
 import org.joml.Vector3ic;
 import org.terasology.engine.network.Client;
 import org.terasology.engine.world.chunks.Chunk;
+import org.terasology.engine.world.chunks.internal.LodChunkStore;
 
 import java.io.IOException;
 
@@ -55,9 +56,23 @@ public interface StorageManager {
      */
     void deactivateChunk(Chunk chunk);
 
+    /**
+     * Encodes and compresses a chunk deactivated before, unless that happened already, so that it takes less memory
+     * until it is saved and is quicker to save. May be called from any thread.
+     */
+    default void compressDeactivatedChunk(Vector3ic chunkPos) {
+    }
+
     boolean isSaving();
 
     void checkAndRepairSaveIfNecessary() throws IOException;
 
     void deleteWorld();
+
+    /**
+     * @return the store keeping the LOD chunks of this world between sessions, or null if they are not kept
+     */
+    default LodChunkStore getLodChunkStore() {
+        return null;
+    }
 }
@@ -5,7 +5,7 @@
 import org.terasology.engine.entitySystem.entity.EntityRef;
 import org.terasology.engine.entitySystem.entity.internal.EngineEntityManager;
 import org.terasology.protobuf.EntityData;
-import org.terasology.engine.world.chunks.internal.ChunkImpl;
+import org.terasology.engine.world.chunks.internal.ChunkSnapshot;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -14,63 +14,48 @@
 import java.util.zip.GZIPOutputStream;
 
 /**
- * Provides an easy to get a compressed version of a chunk. Either the chunk most have a snapshot of it's state
- * or it must be an unloaded chunk which no longer changes.
+ * Provides an easy way to get a compressed version of a chunk. The chunk is encoded from a {@link ChunkSnapshot}, so
+ * the chunk can keep changing, or be unloaded, while it is compressed.
  *
  */
 public class CompressedChunkBuilder {
     private EntityData.EntityStore entityStore;
-    private ChunkImpl chunk;
-    private boolean viaSnapshot;
+    private ChunkSnapshot snapshot;
+    private final long version;
     private byte[] result;
     private Set<EntityRef> storedEntities;
 
     /**
-     *
+     * @param snapshot       the version of the chunk to store
      * @param entitiesToSave all persistent entities within the given chunk
-     * @param chunkUnloaded if true the chunk data will be used directly.  If deactivate is false then the chunk will be
-     *                      but in snapshot mode so that concurrent modifications (and possibly future unload) is
-     *                      possible.
      */
-    public CompressedChunkBuilder(EngineEntityManager entityManager, ChunkImpl chunk,
-                                  Collection<EntityRef> entitiesToSave,
-                                  boolean chunkUnloaded) {
+    public CompressedChunkBuilder(EngineEntityManager entityManager, ChunkSnapshot snapshot,
+                                  Collection<EntityRef> entitiesToSave) {
         EntityStorer storer = new EntityStorer(entityManager);
         entitiesToSave.stream().filter(EntityRef::isPersistent).forEach(storer::store);
         storedEntities = storer.getStoredEntities();
         this.entityStore = storer.finaliseStore();
-
-        this.chunk = chunk;
-        this.viaSnapshot = !chunkUnloaded;
-        if (viaSnapshot) {
-            this.chunk.createSnapshot();
-        }
+        this.snapshot = snapshot;
+        this.version = snapshot.getVersion();
     }
 
     /**
-     *
      * @param entityStore encoded entities to be stored.
-     * @param chunk       chunk for which {@link ChunkImpl#createSnapshot()} has been called.
-     * @param viaSnapshot specifies if the previously taken snapshot will be encoded or if
+     * @param snapshot    the version of the chunk to store.
      */
-    public CompressedChunkBuilder(EntityData.EntityStore entityStore, ChunkImpl chunk, boolean viaSnapshot) {
+    public CompressedChunkBuilder(EntityData.EntityStore entityStore, ChunkSnapshot snapshot) {
         this.entityStore = entityStore;
-        this.chunk = chunk;
-        this.viaSnapshot = viaSnapshot;
+        this.snapshot = snapshot;
+        this.version = snapshot.getVersion();
     }
 
     public synchronized byte[] buildEncodedChunk() {
         if (result == null) {
-
-            EntityData.ChunkStore.Builder encoded;
-            if (viaSnapshot) {
-                encoded = chunk.encodeAndReleaseSnapshot();
-            } else {
-                encoded = chunk.encode();
-            }
+            EntityData.ChunkStore.Builder encoded = snapshot.encode();
             encoded.setStore(entityStore);
             EntityData.ChunkStore store = encoded.build();
             result = compressChunkStore(store);
+            snapshot = null;
         }
         return result;
     }
@@ -86,6 +71,13 @@ private byte[] compressChunkStore(EntityData.ChunkStore store) {
         return baos.toByteArray();
     }
 
+    /**
+     * @return the version of the chunk that is stored
+     */
+    public long getVersion() {
+        return version;
+    }
+
     public Set<EntityRef> getStoredEntities() {
         return storedEntities;
     }
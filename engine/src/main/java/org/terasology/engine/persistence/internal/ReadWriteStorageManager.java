@@ -43,6 +43,7 @@
 import org.terasology.engine.world.chunks.ChunkProvider;
 import org.terasology.engine.world.chunks.blockdata.ExtraBlockDataManager;
 import org.terasology.engine.world.chunks.internal.ChunkImpl;
+import org.terasology.engine.world.chunks.internal.LodChunkStore;
 import org.terasology.engine.world.generator.WorldConfigurator;
 import org.terasology.engine.world.generator.WorldGenerator;
 import org.terasology.engine.world.internal.WorldInfo;
@@ -109,6 +110,8 @@ public final class ReadWriteStorageManager extends AbstractStorageManager
      */
     private final ComponentLibrary entityRefReplacingComponentLibrary;
 
+    private final LodChunkStore lodChunkStore;
+
     public ReadWriteStorageManager(Path savePath, ModuleEnvironment environment, EngineEntityManager entityManager, BlockManager blockManager,
                                    ExtraBlockDataManager extraDataManager, RecordAndReplaySerializer recordAndReplaySerializer,
                                    RecordAndReplayUtils recordAndReplayUtils, RecordAndReplayCurrentStatus recordAndReplayCurrentStatus)
@@ -137,7 +140,7 @@ public ReadWriteStorageManager(Path savePath, ModuleEnvironment environment, Eng
         this.recordAndReplaySerializer = recordAndReplaySerializer;
         this.recordAndReplayUtils = recordAndReplayUtils;
         this.recordAndReplayCurrentStatus = recordAndReplayCurrentStatus;
-
+        this.lodChunkStore = new LodChunkStore(getStoragePathProvider().getLodPath());
     }
 
     private static EngineEntityManager createPrivateEntityManager(ComponentLibrary componentLibrary) {
@@ -206,9 +209,12 @@ private void addChunksToSaveTransaction(SaveTransactionBuilder saveTransactionBu
 
         chunkProvider.getAllChunks().stream().filter(Chunk::isReady).forEach(chunk -> {
             // If there is a newer undisposed version of the chunk,we don't need to save the disposed version:
-            unloadedAndSavingChunkMap.remove(chunk.getPosition());
+            if (unloadedAndSavingChunkMap.remove(chunk.getPosition()) != null) {
+                // The reloaded chunk counts its versions from scratch, so they can't be compared to the saved one
+                lodChunkStore.forgetSavedVersion(chunk.getPosition());
+            }
             ChunkImpl chunkImpl = (ChunkImpl) chunk;  // this storage manager can only work with ChunkImpls
-            saveTransactionBuilder.addLoadedChunk(chunk.getPosition(), chunkImpl);
+            saveTransactionBuilder.addLoadedChunk(chunk.getPosition(), chunkImpl.createSnapshot());
         });
 
         for (Map.Entry<Vector3ic, CompressedChunkBuilder> entry : unloadedAndSavingChunkMap.entrySet()) {
@@ -240,6 +246,7 @@ private SaveTransaction createSaveTransaction() {
         SaveTransactionBuilder saveTransactionBuilder = new SaveTransactionBuilder(privateEntityManager,
                 entitySetDeltaRecorder, isStoreChunksInZips(), getStoragePathProvider(), worldDirectoryWriteLock,
                 recordAndReplaySerializer, recordAndReplayUtils, recordAndReplayCurrentStatus);
+        saveTransactionBuilder.setLodChunkStore(lodChunkStore);
 
         ChunkProvider chunkProvider = CoreRegistry.get(ChunkProvider.class);
         NetworkSystem networkSystem = CoreRegistry.get(NetworkSystem.class);
@@ -301,12 +308,23 @@ private PlayerStoreBuilder createPlayerStore(EntityRef character) {
     public void deactivateChunk(Chunk chunk) {
         Collection<EntityRef> entitiesOfChunk = getEntitiesOfChunk(chunk);
         ChunkImpl chunkImpl = (ChunkImpl) chunk; // storage manager only works with ChunkImpl
-        unloadedAndUnsavedChunkMap.put(chunk.getPosition(), new CompressedChunkBuilder(getEntityManager(), chunkImpl,
-                entitiesOfChunk, true));
+        unloadedAndUnsavedChunkMap.put(chunk.getPosition(), new CompressedChunkBuilder(getEntityManager(),
+                chunkImpl.createSnapshot(), entitiesOfChunk));
 
         entitiesOfChunk.forEach(this::deactivateOrDestroyEntityRecursive);
     }
 
+    @Override
+    public void compressDeactivatedChunk(Vector3ic chunkPos) {
+        CompressedChunkBuilder builder = unloadedAndUnsavedChunkMap.get(chunkPos);
+        if (builder == null) {
+            builder = unloadedAndSavingChunkMap.get(chunkPos);
+        }
+        if (builder != null) {
+            builder.buildEncodedChunk();
+        }
+    }
+
     @Override
     protected byte[] loadCompressedChunk(Vector3ic chunkPos) {
         CompressedChunkBuilder disposedUnsavedChunk = unloadedAndUnsavedChunkMap.get(chunkPos);
@@ -499,6 +517,12 @@ public void deleteWorld() {
         } catch (IOException e) {
             logger.error("Failed to purge chunks", e);
         }
+        lodChunkStore.clear();
+    }
+
+    @Override
+    public LodChunkStore getLodChunkStore() {
+        return lodChunkStore;
     }
 
     @Override
@@ -20,7 +20,8 @@
 import org.terasology.engine.recording.RecordAndReplayStatus;
 import org.terasology.engine.recording.RecordAndReplayUtils;
 import org.terasology.engine.world.chunks.Chunks;
-import org.terasology.engine.world.chunks.internal.ChunkImpl;
+import org.terasology.engine.world.chunks.internal.ChunkSnapshot;
+import org.terasology.engine.world.chunks.internal.LodChunkStore;
 import org.terasology.protobuf.EntityData;
 
 import java.io.BufferedOutputStream;
@@ -63,7 +64,7 @@ public class SaveTransaction implements Runnable {
     private final Map<String, EntityData.PlayerStore> unloadedPlayers;
     private final Map<String, PlayerStoreBuilder> loadedPlayers;
     private final Map<Vector3i, CompressedChunkBuilder> unloadedChunks;
-    private final Map<Vector3i, ChunkImpl> loadedChunks;
+    private final Map<Vector3i, ChunkSnapshot> loadedChunks;
     private final GlobalStoreBuilder globalStoreBuilder;
 
     // processed data:
@@ -84,16 +85,19 @@ public class SaveTransaction implements Runnable {
     private final RecordAndReplayUtils recordAndReplayUtils;
     private final RecordAndReplayCurrentStatus recordAndReplayCurrentStatus;
 
+    private final LodChunkStore lodChunkStore;
+
 
     public SaveTransaction(EngineEntityManager privateEntityManager, EntitySetDeltaRecorder deltaToSave,
                            Map<String, EntityData.PlayerStore> unloadedPlayers,
                            Map<String, PlayerStoreBuilder> loadedPlayers, GlobalStoreBuilder globalStoreBuilder,
-                           Map<Vector3i, CompressedChunkBuilder> unloadedChunks, Map<Vector3i, ChunkImpl> loadedChunks,
+                           Map<Vector3i, CompressedChunkBuilder> unloadedChunks, Map<Vector3i, ChunkSnapshot> loadedChunks,
                            GameManifest gameManifest, boolean storeChunksInZips,
                            StoragePathProvider storagePathProvider, Lock worldDirectoryWriteLock,
                            RecordAndReplaySerializer recordAndReplaySerializer,
                            RecordAndReplayUtils recordAndReplayUtils,
-                           RecordAndReplayCurrentStatus recordAndReplayCurrentStatus) {
+                           RecordAndReplayCurrentStatus recordAndReplayCurrentStatus,
+                           LodChunkStore lodChunkStore) {
         this.privateEntityManager = privateEntityManager;
         this.deltaToSave = deltaToSave;
         this.unloadedPlayers = unloadedPlayers;
@@ -109,6 +113,7 @@ public SaveTransaction(EngineEntityManager privateEntityManager, EntitySetDeltaR
         this.recordAndReplaySerializer = recordAndReplaySerializer;
         this.recordAndReplayUtils = recordAndReplayUtils;
         this.recordAndReplayCurrentStatus = recordAndReplayCurrentStatus;
+        this.lodChunkStore = lodChunkStore;
     }
 
     public String getName() {
@@ -136,6 +141,7 @@ public void run() {
             saveGameManifest();
             perpareChangesForMerge();
             mergeChanges();
+            invalidateLodChunks();
             logger.info("Save game finished");
             saveRecordingData();
         } catch (IOException t) {
@@ -144,6 +150,19 @@ public void run() {
         }
     }
 
+    /**
+     * LOD chunks derived from the previous state of the saved chunks that changed are outdated now.
+     */
+    private void invalidateLodChunks() {
+        if (lodChunkStore != null) {
+            Map<Vector3i, Long> loadedVersions = Maps.newHashMapWithExpectedSize(loadedChunks.size());
+            loadedChunks.forEach((pos, snapshot) -> loadedVersions.put(pos, snapshot.getVersion()));
+            Map<Vector3i, Long> unloadedVersions = Maps.newHashMapWithExpectedSize(unloadedChunks.size());
+            unloadedChunks.forEach((pos, builder) -> unloadedVersions.put(pos, builder.getVersion()));
+            lodChunkStore.invalidateChanged(loadedVersions, unloadedVersions);
+        }
+    }
+
     private void createPreviewImagesFolder() throws IOException {
         Files.createDirectories(storagePathProvider.getPreviewsPath());
     }
@@ -202,15 +221,15 @@ private void prepareCompressedChunkBuilders(Set<EntityRef> unsavedEntities) {
 
         allChunks = Maps.newHashMap();
         allChunks.putAll(unloadedChunks);
-        for (Map.Entry<Vector3i, ChunkImpl> chunkEntry : loadedChunks.entrySet()) {
+        for (Map.Entry<Vector3i, ChunkSnapshot> chunkEntry : loadedChunks.entrySet()) {
             Collection<EntityRef> entitiesToStore = chunkPosToEntitiesMap.get(chunkEntry.getKey());
             if (entitiesToStore == null) {
                 entitiesToStore = Collections.emptySet();
             }
-            ChunkImpl chunk = chunkEntry.getValue();
+            ChunkSnapshot chunk = chunkEntry.getValue();
             unsavedEntities.removeAll(entitiesToStore);
             CompressedChunkBuilder compressedChunkBuilder = new CompressedChunkBuilder(privateEntityManager, chunk,
-                    entitiesToStore, false);
+                    entitiesToStore);
             unsavedEntities.removeAll(compressedChunkBuilder.getStoredEntities());
             allChunks.put(chunkEntry.getKey(), compressedChunkBuilder);
         }
@@ -11,7 +11,8 @@
 import org.terasology.engine.recording.RecordAndReplayCurrentStatus;
 import org.terasology.engine.recording.RecordAndReplaySerializer;
 import org.terasology.engine.recording.RecordAndReplayUtils;
-import org.terasology.engine.world.chunks.internal.ChunkImpl;
+import org.terasology.engine.world.chunks.internal.ChunkSnapshot;
+import org.terasology.engine.world.chunks.internal.LodChunkStore;
 
 import java.util.Map;
 import java.util.concurrent.locks.Lock;
@@ -27,7 +28,7 @@ class SaveTransactionBuilder {
     private Map<String, EntityData.PlayerStore> unloadedPlayers = Maps.newHashMap();
     private Map<String, PlayerStoreBuilder> loadedPlayers = Maps.newHashMap();
     private Map<Vector3i, CompressedChunkBuilder> unloadedChunks = Maps.newHashMap();
-    private Map<Vector3i, ChunkImpl> loadedChunks = Maps.newHashMap();
+    private Map<Vector3i, ChunkSnapshot> loadedChunks = Maps.newHashMap();
     private GlobalStoreBuilder globalStoreBuilder;
     private final boolean storeChunksInZips;
     private final StoragePathProvider storagePathProvider;
@@ -35,6 +36,7 @@ class SaveTransactionBuilder {
     private RecordAndReplaySerializer recordAndReplaySerializer;
     private RecordAndReplayUtils recordAndReplayUtils;
     private RecordAndReplayCurrentStatus recordAndReplayCurrentStatus;
+    private LodChunkStore lodChunkStore;
 
     SaveTransactionBuilder(EngineEntityManager privateEntityManager, EntitySetDeltaRecorder deltaToSave,
                            boolean storeChunksInZips, StoragePathProvider storagePathProvider,
@@ -68,18 +70,26 @@ void addUnloadedChunk(final Vector3ic chunkPosition, final CompressedChunkBuilde
     }
 
 
-    void addLoadedChunk(final Vector3ic chunkPosition, final ChunkImpl chunk) {
+    void addLoadedChunk(final Vector3ic chunkPosition, final ChunkSnapshot chunk) {
         loadedChunks.put(new Vector3i(chunkPosition), chunk);
     }
 
     public SaveTransaction build() {
         return new SaveTransaction(privateEntityManager, deltaToSave, unloadedPlayers, loadedPlayers, globalStoreBuilder,
                 unloadedChunks, loadedChunks, gameManifest, storeChunksInZips, storagePathProvider,
-                worldDirectoryWriteLock, recordAndReplaySerializer, recordAndReplayUtils, recordAndReplayCurrentStatus);
+                worldDirectoryWriteLock, recordAndReplaySerializer, recordAndReplayUtils, recordAndReplayCurrentStatus,
+                lodChunkStore);
 
     }
 
     public void setGameManifest(GameManifest gameManifest) {
         this.gameManifest = gameManifest;
     }
+
+    /**
+     * @param lodChunkStore the LOD chunks to invalidate once the chunks are saved, or null
+     */
+    void setLodChunkStore(LodChunkStore lodChunkStore) {
+        this.lodChunkStore = lodChunkStore;
+    }
 }
@@ -13,6 +13,7 @@ public class StoragePathProvider {
     private static final String PLAYERS_PATH = "players";
     private static final String WORLDS_PATH = "worlds";
     private static final String PREVIEWS_PATH = "previews";
+    private static final String LOD_PATH = "lod";
     private static final String PLAYER_STORE_EXTENSION = ".player";
     private static final String GLOBAL_ENTITY_STORE = "global.dat";
     private static final String UNFINISHED_SAVE_TRANSACTION = "unfinished-save-transaction";
@@ -58,6 +59,10 @@ public Path getPreviewsPath() {
         return previewsPath;
     }
 
+    public Path getLodPath() {
+        return storagePathDirectory.resolve(LOD_PATH);
+    }
+
     public Path getPlayerFilePath(String playerId) {
         return playersPath.resolve(playerId + PLAYER_STORE_EXTENSION);
     }
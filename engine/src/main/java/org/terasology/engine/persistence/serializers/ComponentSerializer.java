@@ -44,6 +44,7 @@ public class ComponentSerializer {
     private boolean usingFieldIds;
     private TypeHandlerLibrary typeHandlerLibrary;
     private ProtobufPersistedDataSerializer serializationContext;
+    private DirectFieldCodec directFieldCodec;
 
     /**
      * Creates the component serializer.
@@ -56,6 +57,14 @@ public ComponentSerializer(ComponentLibrary componentLibrary, TypeHandlerLibrary
         this.serializationContext = new ProtobufPersistedDataSerializer();
     }
 
+    /**
+     * Enables or disables encoding fields of common types straight to protobuf values, without going through their
+     * type handlers. The encoded data is identical either way.
+     */
+    public void setDirectFieldEncoding(boolean enabled) {
+        this.directFieldCodec = enabled ? new DirectFieldCodec() : null;
+    }
+
     public void setUsingFieldIds(boolean usingFieldIds) {
         this.usingFieldIds = usingFieldIds;
     }
@@ -216,9 +225,15 @@ public EntityData.Component serialize(Component component, FieldSerializeCheck<C
         Serializer serializer = typeHandlerLibrary.getSerializerFor(componentMetadata);
         for (ReplicatedFieldMetadata<?, ?> field : componentMetadata.getFields()) {
             if (check.shouldSerializeField(field, component)) {
-                PersistedData result = serializer.serialize(field, component, serializationContext);
-                if (!result.isNull()) {
-                    EntityData.Value itemValue = ((ProtobufPersistedData) result).getValue();
+                EntityData.Value itemValue = directFieldCodec != null
+                        ? directFieldCodec.encode(serializer, componentMetadata, field, field.getValue(component)) : null;
+                if (itemValue == null) {
+                    PersistedData result = serializer.serialize(field, component, serializationContext);
+                    if (!result.isNull()) {
+                        itemValue = ((ProtobufPersistedData) result).getValue();
+                    }
+                }
+                if (itemValue != null) {
                     if (usingFieldIds) {
                         componentMessage.addField(EntityData.NameValue.newBuilder().setNameIndex(field.getId()).setValue(itemValue));
                     } else {
@@ -277,9 +292,15 @@ public EntityData.Component serialize(Component base, Component delta, FieldSeri
                 Object deltaValue = field.getValue(delta);
 
                 if (!Objects.equal(origValue, deltaValue)) {
-                    PersistedData value = serializer.serializeValue(field, deltaValue, serializationContext);
-                    if (!value.isNull()) {
-                        EntityData.Value dataValue = ((ProtobufPersistedData) value).getValue();
+                    EntityData.Value dataValue = directFieldCodec != null
+                            ? directFieldCodec.encode(serializer, componentMetadata, field, deltaValue) : null;
+                    if (dataValue == null) {
+                        PersistedData value = serializer.serializeValue(field, deltaValue, serializationContext);
+                        if (!value.isNull()) {
+                            dataValue = ((ProtobufPersistedData) value).getValue();
+                        }
+                    }
+                    if (dataValue != null) {
                         if (usingFieldIds) {
                             componentMessage.addField(EntityData.NameValue.newBuilder().setNameIndex(field.getId()).setValue(dataValue).build());
                         } else {
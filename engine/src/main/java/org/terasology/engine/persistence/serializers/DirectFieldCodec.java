@@ -0,0 +1,168 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.engine.persistence.serializers;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.MapMaker;
+import org.joml.Quaternionf;
+import org.joml.Vector2f;
+import org.joml.Vector3f;
+import org.joml.Vector3i;
+import org.terasology.engine.persistence.typeHandling.mathTypes.QuaternionfTypeHandler;
+import org.terasology.engine.persistence.typeHandling.mathTypes.Vector2fTypeHandler;
+import org.terasology.engine.persistence.typeHandling.mathTypes.Vector3fTypeHandler;
+import org.terasology.engine.persistence.typeHandling.mathTypes.Vector3iTypeHandler;
+import org.terasology.persistence.typeHandling.Serializer;
+import org.terasology.persistence.typeHandling.TypeHandler;
+import org.terasology.persistence.typeHandling.coreTypes.BooleanTypeHandler;
+import org.terasology.persistence.typeHandling.coreTypes.DoubleTypeHandler;
+import org.terasology.persistence.typeHandling.coreTypes.FloatTypeHandler;
+import org.terasology.persistence.typeHandling.coreTypes.IntTypeHandler;
+import org.terasology.persistence.typeHandling.coreTypes.LongTypeHandler;
+import org.terasology.persistence.typeHandling.coreTypes.StringTypeHandler;
+import org.terasology.protobuf.EntityData;
+import org.terasology.reflection.metadata.ClassMetadata;
+import org.terasology.reflection.metadata.FieldMetadata;
+
+import java.util.Map;
+
+/**
+ * Encodes and decodes component fields straight to and from protobuf {@link EntityData.Value}s, skipping the
+ * {@link TypeHandler} and {@link org.terasology.persistence.typeHandling.PersistedData} layers.
+ * <p>
+ * A codec is compiled once per {@link Serializer}, and only covers fields whose handler is exactly one of the standard
+ * handlers for primitives, strings and common vector types. The values it produces are identical to the ones those
+ * handlers produce through {@link org.terasology.engine.persistence.typeHandling.protobuf.ProtobufPersistedDataSerializer},
+ * so the wire format is unchanged. Any other field, any null value and any value in an unexpected shape yield null,
+ * and callers fall back to the regular serializer.
+ */
+final class DirectFieldCodec {
+
+    private static final Map<Class<?>, FieldCodec> CODECS_BY_HANDLER = ImmutableMap.<Class<?>, FieldCodec>builder()
+            .put(BooleanTypeHandler.class, new FieldCodec(
+                    value -> EntityData.Value.newBuilder().addBoolean((Boolean) value).build(),
+                    data -> isOnly(data, data.getBooleanCount(), 1) ? data.getBoolean(0) : null))
+            .put(IntTypeHandler.class, new FieldCodec(
+                    value -> EntityData.Value.newBuilder().addInteger((Integer) value).build(),
+                    data -> isOnly(data, data.getIntegerCount(), 1) ? data.getInteger(0) : null))
+            .put(LongTypeHandler.class, new FieldCodec(
+                    value -> EntityData.Value.newBuilder().addLong((Long) value).build(),
+                    data -> isOnly(data, data.getLongCount(), 1) ? data.getLong(0) : null))
+            .put(FloatTypeHandler.class, new FieldCodec(
+                    value -> EntityData.Value.newBuilder().addFloat((Float) value).build(),
+                    data -> isOnly(data, data.getFloatCount(), 1) ? data.getFloat(0) : null))
+            .put(DoubleTypeHandler.class, new FieldCodec(
+                    value -> EntityData.Value.newBuilder().addDouble((Double) value).build(),
+                    data -> isOnly(data, data.getDoubleCount(), 1) ? data.getDouble(0) : null))
+            .put(StringTypeHandler.class, new FieldCodec(
+                    value -> EntityData.Value.newBuilder().addString((String) value).build(),
+                    data -> isOnly(data, data.getStringCount(), 1) ? data.getString(0) : null))
+            .put(Vector2fTypeHandler.class, new FieldCodec(
+                    value -> {
+                        Vector2f v = (Vector2f) value;
+                        return EntityData.Value.newBuilder().addFloat(v.x).addFloat(v.y).build();
+                    },
+                    data -> isOnly(data, data.getFloatCount(), 2)
+                            ? new Vector2f(data.getFloat(0), data.getFloat(1)) : null))
+            .put(Vector3fTypeHandler.class, new FieldCodec(
+                    value -> {
+                        Vector3f v = (Vector3f) value;
+                        return EntityData.Value.newBuilder().addFloat(v.x).addFloat(v.y).addFloat(v.z).build();
+                    },
+                    data -> isOnly(data, data.getFloatCount(), 3)
+                            ? new Vector3f(data.getFloat(0), data.getFloat(1), data.getFloat(2)) : null))
+            .put(Vector3iTypeHandler.class, new FieldCodec(
+                    value -> {
+                        Vector3i v = (Vector3i) value;
+                        return EntityData.Value.newBuilder().addInteger(v.x).addInteger(v.y).addInteger(v.z).build();
+                    },
+                    data -> isOnly(data, data.getIntegerCount(), 3)
+                            ? new Vector3i(data.getInteger(0), data.getInteger(1), data.getInteger(2)) : null))
+            .put(QuaternionfTypeHandler.class, new FieldCodec(
+                    value -> {
+                        Quaternionf q = (Quaternionf) value;
+                        return EntityData.Value.newBuilder().addFloat(q.x).addFloat(q.y).addFloat(q.z).addFloat(q.w).build();
+                    },
+                    data -> isOnly(data, data.getFloatCount(), 4)
+                            ? new Quaternionf(data.getFloat(0), data.getFloat(1), data.getFloat(2), data.getFloat(3)) : null))
+            .build();
+
+    private final Map<Serializer, Map<FieldMetadata<?, ?>, FieldCodec>> compiled = new MapMaker().weakKeys().makeMap();
+
+    /**
+     * @return The encoded value of the field, or null if the regular serializer must be used
+     */
+    EntityData.Value encode(Serializer serializer, ClassMetadata<?, ?> type, FieldMetadata<?, ?> field, Object value) {
+        if (value == null) {
+            return null;
+        }
+        FieldCodec codec = codecsFor(serializer, type).get(field);
+        return codec != null ? codec.encoder.encode(value) : null;
+    }
+
+    /**
+     * Decodes the value onto the field of the target.
+     *
+     * @return Whether the value was decoded; if false, the regular serializer must be used
+     */
+    boolean decodeOnto(Serializer serializer, ClassMetadata<?, ?> type, Object target, FieldMetadata<?, ?> field,
+                       EntityData.Value data) {
+        FieldCodec codec = codecsFor(serializer, type).get(field);
+        if (codec == null) {
+            return false;
+        }
+        Object value = codec.decoder.decode(data);
+        if (value == null) {
+            return false;
+        }
+        field.setValue(target, value);
+        return true;
+    }
+
+    private Map<FieldMetadata<?, ?>, FieldCodec> codecsFor(Serializer serializer, ClassMetadata<?, ?> type) {
+        Map<FieldMetadata<?, ?>, FieldCodec> codecs = compiled.get(serializer);
+        if (codecs == null) {
+            ImmutableMap.Builder<FieldMetadata<?, ?>, FieldCodec> builder = ImmutableMap.builder();
+            for (FieldMetadata<?, ?> field : type.getFields()) {
+                TypeHandler<?> handler = serializer.getHandlerFor(field);
+                FieldCodec codec = handler != null ? CODECS_BY_HANDLER.get(handler.getClass()) : null;
+                if (codec != null) {
+                    builder.put(field, codec);
+                }
+            }
+            codecs = builder.build();
+            compiled.put(serializer, codecs);
+        }
+        return codecs;
+    }
+
+    /**
+     * @return Whether the value holds exactly {@code expected} entries of the counted kind, and nothing else
+     */
+    private static boolean isOnly(EntityData.Value data, int count, int expected) {
+        int total = data.getBooleanCount() + data.getFloatCount() + data.getDoubleCount() + data.getIntegerCount()
+                + data.getLongCount() + data.getStringCount() + data.getValueCount() + data.getNameValueCount();
+        return count == expected && total == expected && !data.hasBytes();
+    }
+
+    @FunctionalInterface
+    private interface Encoder {
+        EntityData.Value encode(Object value);
+    }
+
+    @FunctionalInterface
+    private interface Decoder {
+        Object decode(EntityData.Value data);
+    }
+
+    private static final class FieldCodec {
+        private final Encoder encoder;
+        private final Decoder decoder;
+
+        private FieldCodec(Encoder encoder, Decoder decoder) {
+            this.encoder = encoder;
+            this.decoder = decoder;
+        }
+    }
+}
@@ -40,6 +40,7 @@ public class NetworkEntitySerializer {
     private TypeHandlerLibrary typeHandlerLibrary;
     private ProtobufPersistedDataSerializer serializationContext;
     private BiMap<Class<? extends Component>, Integer> idTable = ImmutableBiMap.<Class<? extends Component>, Integer>builder().build();
+    private DirectFieldCodec directFieldCodec;
 
     public NetworkEntitySerializer(EngineEntityManager entityManager, ComponentLibrary componentLibrary, TypeHandlerLibrary typeHandlerLibrary) {
         this.entityManager = entityManager;
@@ -52,6 +53,14 @@ public void setComponentSerializeCheck(ComponentSerializeCheck componentSerializ
         this.componentSerializeCheck = componentSerializeCheck;
     }
 
+    /**
+     * Enables or disables encoding fields of common types straight to protobuf values, without going through their
+     * type handlers. The encoded data is identical either way.
+     */
+    public void setDirectFieldEncoding(boolean enabled) {
+        this.directFieldCodec = enabled ? new DirectFieldCodec() : null;
+    }
+
     public ComponentLibrary getComponentLibrary() {
         return componentLibrary;
     }
@@ -141,6 +150,14 @@ private void serializeComponentDelta(Component oldComponent, Component newCompon
                 Object oldValue = field.getValue(oldComponent);
                 Object newValue = field.getValue(newComponent);
                 if (!Objects.equal(oldValue, newValue)) {
+                    EntityData.Value directValue = directFieldCodec != null
+                            ? directFieldCodec.encode(serializer, componentMetadata, field, newValue) : null;
+                    if (directValue != null) {
+                        entityFieldIds.write(field.getId());
+                        entityData.addFieldValue(directValue);
+                        fieldCount++;
+                        continue;
+                    }
                     PersistedData data = serializer.serializeValue(field, newValue, serializationContext);
                     if (!data.isNull()) {
                         entityFieldIds.write(field.getId());
@@ -173,10 +190,15 @@ private void serializeComponentFull(Component component, boolean ignoreIfNoField
         byte fieldCount = 0;
         for (ReplicatedFieldMetadata field : componentMetadata.getFields()) {
             if (fieldCheck.shouldSerializeField(field, component, componentInitial)) {
-                PersistedData fieldValue = serializer.serialize(field, component, serializationContext);
+                EntityData.Value directValue = directFieldCodec != null
+                        ? directFieldCodec.encode(serializer, componentMetadata, field, field.getValue(component)) : null;
                 entityFieldIds.write(field.getId());
-
-                entityData.addFieldValue(((ProtobufPersistedData) fieldValue).getValue());
+                if (directValue != null) {
+                    entityData.addFieldValue(directValue);
+                } else {
+                    PersistedData fieldValue = serializer.serialize(field, component, serializationContext);
+                    entityData.addFieldValue(((ProtobufPersistedData) fieldValue).getValue());
+                }
                 fieldCount++;
             }
         }
@@ -218,8 +240,12 @@ public void deserializeOnto(MutableComponentContainer entity, EntityData.PackedE
                 byte fieldId = entityData.getFieldIds().byteAt(fieldPos);
                 ReplicatedFieldMetadata fieldMetadata = metadata.getField(fieldId);
                 if (fieldMetadata != null && fieldCheck.shouldDeserialize(metadata, fieldMetadata)) {
-                    logger.trace("Deserializing field {} of component {} as value {}", fieldMetadata, metadata, entityData.getFieldValue(fieldPos));
-                    serializer.deserializeOnto(component, fieldMetadata, new ProtobufPersistedData(entityData.getFieldValue(fieldPos)));
+                    EntityData.Value fieldValue = entityData.getFieldValue(fieldPos);
+                    logger.trace("Deserializing field {} of component {} as value {}", fieldMetadata, metadata, fieldValue);
+                    if (directFieldCodec == null
+                            || !directFieldCodec.decodeOnto(serializer, metadata, component, fieldMetadata, fieldValue)) {
+                        serializer.deserializeOnto(component, fieldMetadata, new ProtobufPersistedData(fieldValue));
+                    }
                 }
                 fieldPos++;
             }
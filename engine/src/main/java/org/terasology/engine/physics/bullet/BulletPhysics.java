@@ -52,6 +52,7 @@
 import org.terasology.engine.physics.CollisionGroup;
 import org.terasology.engine.physics.HitResult;
 import org.terasology.engine.physics.StandardCollisionGroup;
+import org.terasology.engine.physics.bullet.world.VoxelWorld;
 import org.terasology.engine.physics.components.RigidBodyComponent;
 import org.terasology.engine.physics.components.TriggerComponent;
 import org.terasology.engine.physics.components.shapes.BoxShapeComponent;
@@ -67,6 +68,8 @@
 import org.terasology.engine.registry.CoreRegistry;
 import org.terasology.engine.rendering.assets.mesh.resource.VertexAttributeBinding;
 import org.terasology.engine.world.BlockEntityRegistry;
+import org.terasology.engine.world.WorldProvider;
+import org.terasology.engine.world.block.Block;
 import org.terasology.joml.geom.AABBf;
 
 import java.nio.FloatBuffer;
@@ -88,6 +91,17 @@ public class BulletPhysics implements PhysicsEngine {
 
     public static final float SIMD_EPSILON = 1.1920929E-7F;
 
+    /**
+     * The distance beyond the box around a character collider at which blocks are still considered by sweeps answered
+     * from block data, covering the collision margin of the shape.
+     */
+    private static final float SWEEP_MARGIN = 0.2f;
+
+    /**
+     * The largest number of blocks looked at before a sweep is left to Bullet.
+     */
+    private static final int MAX_BLOCK_SWEEP_VOLUME = 512;
+
     private static final Logger logger = LoggerFactory.getLogger(BulletPhysics.class);
 
     private final Deque<RigidBodyRequest> insertionQueue = Lists.newLinkedList();
@@ -572,9 +586,15 @@ private CharacterCollider createCharacterCollider(EntityRef owner) {
         btConvexShape shape = new btCapsuleShape(width, height);
         shapes.add(shape);
         shape.setMargin(0.1f);
-        return createCustomCollider(pos, shape, movementComp.collisionGroup.getFlag(),
+        BulletCharacterMoverCollider collider = createCustomCollider(pos, shape, movementComp.collisionGroup.getFlag(),
                 combineGroups(movementComp.collidesWith),
                 btCollisionObject.CollisionFlags.CF_CHARACTER_OBJECT, owner);
+        WorldProvider worldProvider = CoreRegistry.get(WorldProvider.class);
+        if (worldProvider != null) {
+            // The capsule is a cylinder of the given height with a half sphere of the given width at either end
+            collider.enableBlockSweeps(new Vector3f(width, height / 2 + width, width), worldProvider);
+        }
+        return collider;
     }
 
     private RigidBody newRigidBody(EntityRef entity) {
@@ -637,8 +657,8 @@ private void removeCollider(btCollisionObject collider) {
      * @param entity The entity to associate this collider with. Can be null.
      * @return The newly created and added to the physics engine, Collider object.
      */
-    private CharacterCollider createCustomCollider(Vector3f pos, btConvexShape shape, short groups, short filters,
-                                                   int collisionFlags, EntityRef entity) {
+    private BulletCharacterMoverCollider createCustomCollider(Vector3f pos, btConvexShape shape, short groups,
+                                                              short filters, int collisionFlags, EntityRef entity) {
         if (entityColliders.containsKey(entity)) {
             entityColliders.remove(entity);
         }
@@ -997,6 +1017,9 @@ private final class BulletCharacterMoverCollider implements CharacterCollider {
         //is allowed to gain direct access to the bullet body:
         private final btPairCachingGhostObject collider;
 
+        private Vector3f blockSweepExtents;
+        private WorldProvider worldProvider;
+
         private BulletCharacterMoverCollider(Vector3f pos, btConvexShape shape, List<CollisionGroup> groups,
                                              List<CollisionGroup> filters, EntityRef owner) {
 
@@ -1032,17 +1055,109 @@ public void setLocation(Vector3f loc) {
             collider.setWorldTransform(matrix);
         }
 
+        /**
+         * Lets sweeps that can only hit blocks, and pass through none, be answered from the block data of the world
+         * instead of by Bullet.
+         *
+         * @param extents the half extents of the box around the shape of the collider
+         */
+        private void enableBlockSweeps(Vector3f extents, WorldProvider world) {
+            blockSweepExtents = extents;
+            worldProvider = world;
+        }
+
         @Override
         public SweepCallback sweep(Vector3f startPos, Vector3f endPos, float allowedPenetration, float slopeFactor) {
+            if (blockSweepExtents != null && canOnlyHitBlocks() && isClearOfSolidBlocks(startPos, endPos)) {
+                return new ClearSweepCallback();
+            }
             Matrix4f startTransform = new Matrix4f().translationRotateScale(startPos, new Quaternionf(), 1.0f);
             Matrix4f endTransform = new Matrix4f().translationRotateScale(endPos, new Quaternionf(), 1.0f);
             BulletSweepCallback callback = new BulletSweepCallback(collider, startPos, slopeFactor);
             callback.setCollisionFilterGroup(collider.getBroadphaseHandle().getCollisionFilterGroup());
             callback.setCollisionFilterMask(collider.getBroadphaseHandle().getCollisionFilterMask());
             callback.setCollisionFilterGroup((short) (callback.getCollisionFilterGroup() & (~StandardCollisionGroup.SENSOR.getFlag())));
-            collider.convexSweepTest((btConvexShape) (collider.getCollisionShape()), startTransform, endTransform,
-                    callback, allowedPenetration);
+            // Sweeps may run on several threads at once while characters are moved in batches
+            synchronized (discreteDynamicsWorld) {
+                collider.convexSweepTest((btConvexShape) (collider.getCollisionShape()), startTransform, endTransform,
+                        callback, allowedPenetration);
+            }
             return callback;
         }
+
+        /**
+         * @return whether the only objects near the collider are the voxel worlds
+         */
+        private boolean canOnlyHitBlocks() {
+            for (int i = 0; i < collider.getNumOverlappingObjects(); i++) {
+                if (!(collider.getOverlappingObject(i).userData instanceof VoxelWorld)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * @return whether none of the blocks the collider could touch on its way from start to end can be collided with
+         */
+        private boolean isClearOfSolidBlocks(Vector3f startPos, Vector3f endPos) {
+            // Blocks are centred on integer positions
+            int minX = (int) Math.floor(Math.min(startPos.x, endPos.x) - blockSweepExtents.x - SWEEP_MARGIN + 0.5f);
+            int minY = (int) Math.floor(Math.min(startPos.y, endPos.y) - blockSweepExtents.y - SWEEP_MARGIN + 0.5f);
+            int minZ = (int) Math.floor(Math.min(startPos.z, endPos.z) - blockSweepExtents.z - SWEEP_MARGIN + 0.5f);
+            int maxX = (int) Math.floor(Math.max(startPos.x, endPos.x) + blockSweepExtents.x + SWEEP_MARGIN + 0.5f);
+            int maxY = (int) Math.floor(Math.max(startPos.y, endPos.y) + blockSweepExtents.y + SWEEP_MARGIN + 0.5f);
+            int maxZ = (int) Math.floor(Math.max(startPos.z, endPos.z) + blockSweepExtents.z + SWEEP_MARGIN + 0.5f);
+            if ((long) (maxX - minX + 1) * (maxY - minY + 1) * (maxZ - minZ + 1) > MAX_BLOCK_SWEEP_VOLUME) {
+                return false;
+            }
+            for (int y = minY; y <= maxY; y++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    for (int x = minX; x <= maxX; x++) {
+                        Block block = worldProvider.getBlock(x, y, z);
+                        if (!block.isPenetrable() || block.isLiquid()) {
+                            return false;
+                        }
+                    }
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * The result of a sweep that hit nothing.
+     */
+    private static final class ClearSweepCallback implements SweepCallback {
+        @Override
+        public float calculateAverageSlope(float originalSlope, float checkingOffset) {
+            return originalSlope;
+        }
+
+        @Override
+        public Vector3f getHitNormalWorld() {
+            return new Vector3f();
+        }
+
+        @Override
+        public Vector3f getHitPointWorld() {
+            return new Vector3f();
+        }
+
+        @Override
+        public float getClosestHitFraction() {
+            return 1.0f;
+        }
+
+        @Override
+        public boolean hasHit() {
+            return false;
+        }
+
+        @Override
+        public boolean checkForStep(Vector3f direction, float stepHeight, float slopeFactor,
+                                    float checkForwardDistance) {
+            return false;
+        }
     }
 }
@@ -47,6 +47,8 @@ public VoxelBlockFluidWorld(BulletPhysics physics) {
         rigidBody = new btRigidBody(blockConsInf);
         // voxel world is added to static collision flag
         rigidBody.setCollisionFlags(btCollisionObject.CollisionFlags.CF_STATIC_OBJECT | rigidBody.getCollisionFlags());
+        // lets character sweeps tell the world apart from other objects
+        rigidBody.userData = this;
         // interacts with liquid only
         short mask = (short) StandardCollisionGroup.LIQUID.getFlag();
         // adds rigid body to world
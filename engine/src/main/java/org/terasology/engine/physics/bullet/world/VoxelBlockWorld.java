@@ -47,6 +47,8 @@ public VoxelBlockWorld(BulletPhysics physics) {
         rigidBody = new btRigidBody(blockConsInf);
         // voxel world is added to static collision flag
         rigidBody.setCollisionFlags(btCollisionObject.CollisionFlags.CF_STATIC_OBJECT | rigidBody.getCollisionFlags());
+        // lets character sweeps tell the world apart from other objects
+        rigidBody.userData = this;
         // interacts with anything but static and liquid
         short mask = (short) (~(StandardCollisionGroup.STATIC.getFlag() | StandardCollisionGroup.LIQUID.getFlag()));
         // adds rigid body to world
@@ -33,6 +33,10 @@ public Vector3f[] poll() {
         return this.directionAndOriginData.pollFirst();
     }
 
+    Deque<Vector3f[]> getDirectionAndOriginData() {
+        return directionAndOriginData;
+    }
+
     public void reset() {
         this.directionAndOriginData = new ArrayDeque<>();
     }
@@ -200,7 +200,7 @@ private void processRecordedEvents() {
         if (recordAndReplayCurrentStatus.getStatus() == RecordAndReplayStatus.REPLAYING) {
             processRecordedEventsBatch(1);
             if (this.recordedEvents.isEmpty()) {
-                if (recordAndReplayUtils.getFileCount() <= recordAndReplayUtils.getFileAmount()) { //Get next recorded events file
+                if (recordAndReplaySerializer.hasMoreRecordedEvents()) { //Get next batch of recorded events
                     loadNextRecordedEventFile();
                 } else {
                     finishReplay();
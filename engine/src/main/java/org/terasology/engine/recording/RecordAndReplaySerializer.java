@@ -16,15 +16,29 @@
 import org.terasology.engine.entitySystem.entity.EntityManager;
 import org.terasology.reflection.TypeRegistry;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.FileReader;
 import java.io.FileWriter;
+import java.io.IOException;
 import java.lang.reflect.Type;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
  * Responsible for serializing and saving every Recording data.
+ * <p>
+ * New recordings use a binary format: the events are appended to a single log by a {@link RecordedEventLogWriter}
+ * while the game runs, and streamed back in batches by a {@link RecordedEventLogReader} during a replay. Recordings
+ * made with the older numbered JSON files can still be replayed.
  */
 public final class RecordAndReplaySerializer {
 
@@ -34,12 +48,21 @@ public final class RecordAndReplaySerializer {
     private static final String FILE_AMOUNT = "/file_amount" + JSON;
     private static final String STATE_EVENT_POSITION = "/state_event_position" + JSON;
     private static final String DIRECTION_ORIGIN_LIST = "/direction_origin_list" + JSON;
+    private static final String BINARY = ".bin";
+    private static final String EVENT_LOG = "/events" + BINARY;
+    private static final String STATE_EVENT_POSITION_BINARY = "/state_event_position" + BINARY;
+    private static final String DIRECTION_ORIGIN_LIST_BINARY = "/direction_origin_list" + BINARY;
+    private static final int EVENT_LOG_CAPACITY = 4096;
+    private static final int REPLAY_BATCH_SIZE = 1024;
 
     private RecordedEventStore recordedEventStore;
     private RecordAndReplayUtils recordAndReplayUtils;
     private CharacterStateEventPositionMap characterStateEventPositionMap;
     private DirectionAndOriginPosRecorderList directionAndOriginPosRecorderList;
     private RecordedEventSerializer recordedEventSerializer;
+    private boolean binaryFormat = true;
+    private RecordedEventLogWriter eventLogWriter;
+    private RecordedEventLogReader eventLogReader;
 
     public RecordAndReplaySerializer(EntityManager manager, RecordedEventStore store,
                                      RecordAndReplayUtils recordAndReplayUtils,
@@ -53,24 +76,44 @@ public RecordAndReplaySerializer(EntityManager manager, RecordedEventStore store
         this.recordedEventSerializer = new RecordedEventSerializer(manager, moduleManager, typeRegistry);
     }
 
+    /**
+     * Selects the format of new recordings. Binary is the default; JSON is kept for tooling that reads the files.
+     *
+     * @param binaryFormat if the recorded data should be saved in the binary format.
+     */
+    public void setBinaryFormat(boolean binaryFormat) {
+        this.binaryFormat = binaryFormat;
+    }
+
     /**
      * Serialize the recorded data.
      */
     public void serializeRecordAndReplayData() {
         String recordingPath = PathManager.getInstance().getRecordingPath(recordAndReplayUtils.getGameTitle()).toString();
         serializeRecordedEvents(recordingPath);
-        Gson gson = new GsonBuilder().create();
-        serializeFileAmount(gson, recordingPath);
-        serializeCharacterStateEventPositionMap(gson, recordingPath);
-        serializeAttackEventExtraRecorder(gson, recordingPath);
+        if (binaryFormat) {
+            closeEventLog();
+            serializeCharacterStateEventPositionMapBinary(recordingPath);
+            serializeAttackEventExtraRecorderBinary(recordingPath);
+        } else {
+            Gson gson = new GsonBuilder().create();
+            serializeFileAmount(gson, recordingPath);
+            serializeCharacterStateEventPositionMap(gson, recordingPath);
+            serializeAttackEventExtraRecorder(gson, recordingPath);
+        }
     }
 
     /**
-     * Serialize RecordedEvents.
+     * Serialize RecordedEvents. In the binary format they are queued to be appended to the event log, which is only
+     * complete once the recording ends.
      *
      * @param recordingPath path where the data should be saved.
      */
     public void serializeRecordedEvents(String recordingPath) {
+        if (binaryFormat) {
+            appendToEventLog(recordingPath);
+            return;
+        }
         String filepath = recordingPath + EVENT_DIR + recordAndReplayUtils.getFileCount() + JSON;
         recordAndReplayUtils.setFileAmount(recordAndReplayUtils.getFileAmount() + 1);
         recordAndReplayUtils.setFileCount(recordAndReplayUtils.getFileCount() + 1);
@@ -79,29 +122,111 @@ public void serializeRecordedEvents(String recordingPath) {
     }
 
     /**
-     * Deserialize recorded data.
+     * Deserialize recorded data. Of a binary recording, only the first batch of events is read.
      */
     public void deserializeRecordAndReplayData() {
         String recordingPath = PathManager.getInstance().getRecordingPath(recordAndReplayUtils.getGameTitle()).toString();
-        deserializeRecordedEvents(recordingPath);
-        Gson gson = new GsonBuilder().create();
-        deserializeFileAmount(gson, recordingPath);
-        deserializeCharacterStateEventPositionMap(gson, recordingPath);
-        deserializeAttackEventExtraRecorder(gson, recordingPath);
+        closeEventLogReader();
+        Path eventLog = Paths.get(recordingPath + EVENT_LOG);
+        if (Files.exists(eventLog)) {
+            openEventLogReader(eventLog);
+            deserializeRecordedEvents(recordingPath);
+            deserializeCharacterStateEventPositionMapBinary(recordingPath);
+            deserializeAttackEventExtraRecorderBinary(recordingPath);
+        } else {
+            deserializeRecordedEvents(recordingPath);
+            Gson gson = new GsonBuilder().create();
+            deserializeFileAmount(gson, recordingPath);
+            deserializeCharacterStateEventPositionMap(gson, recordingPath);
+            deserializeAttackEventExtraRecorder(gson, recordingPath);
+        }
     }
 
     /**
-     * Deserialize RecordedEvents.
+     * @return if the replayed recording has events that were not deserialized yet.
+     */
+    boolean hasMoreRecordedEvents() {
+        if (eventLogReader != null) {
+            return eventLogReader.hasNext();
+        }
+        return recordAndReplayUtils.getFileCount() <= recordAndReplayUtils.getFileAmount();
+    }
+
+    /**
+     * Deserialize the next RecordedEvents: the next batch of the event log, or the next numbered JSON file.
      *
      * @param recordingPath path where the data was saved.
      */
     void deserializeRecordedEvents(String recordingPath) {
+        if (eventLogReader != null) {
+            readFromEventLog();
+            return;
+        }
         String filepath = recordingPath + EVENT_DIR + recordAndReplayUtils.getFileCount() + JSON;
         recordAndReplayUtils.setFileCount(recordAndReplayUtils.getFileCount() + 1);
         recordedEventStore.setEvents(recordedEventSerializer.deserializeRecordedEvents(filepath));
         logger.info("RecordedEvents Deserialization completed!");
     }
 
+    private void appendToEventLog(String recordingPath) {
+        try {
+            if (eventLogWriter == null) {
+                eventLogWriter = new RecordedEventLogWriter(Paths.get(recordingPath + EVENT_LOG), recordedEventSerializer,
+                        EVENT_LOG_CAPACITY);
+            }
+            for (RecordedEvent event : recordedEventStore.popEvents()) {
+                eventLogWriter.append(event);
+            }
+        } catch (IOException e) {
+            logger.error("Error while recording events:", e);
+        }
+    }
+
+    private void closeEventLog() {
+        if (eventLogWriter != null) {
+            try {
+                eventLogWriter.close();
+                logger.info("RecordedEvents Serialization completed!");
+            } catch (IOException e) {
+                logger.error("Error while serializing recorded events:", e);
+            }
+            eventLogWriter = null;
+        }
+    }
+
+    private void openEventLogReader(Path eventLog) {
+        try {
+            eventLogReader = new RecordedEventLogReader(eventLog, recordedEventSerializer);
+        } catch (IOException e) {
+            logger.error("Error while opening recorded events:", e);
+        }
+    }
+
+    private void readFromEventLog() {
+        try {
+            recordedEventStore.setEvents(eventLogReader.readBatch(REPLAY_BATCH_SIZE));
+            if (!eventLogReader.hasNext()) {
+                eventLogReader.close();
+                logger.info("RecordedEvents Deserialization completed!");
+            }
+        } catch (IOException e) {
+            logger.error("Error while deserializing recorded events:", e);
+            recordedEventStore.setEvents(new ArrayList<>());
+            closeEventLogReader();
+        }
+    }
+
+    private void closeEventLogReader() {
+        if (eventLogReader != null) {
+            try {
+                eventLogReader.close();
+            } catch (IOException e) {
+                logger.warn("Error while closing recorded events:", e);
+            }
+            eventLogReader = null;
+        }
+    }
+
     private void serializeFileAmount(Gson gson, String recordingPath) {
         try {
             JsonWriter writer = new JsonWriter(new FileWriter(recordingPath + FILE_AMOUNT));
@@ -177,4 +302,92 @@ private void deserializeAttackEventExtraRecorder(Gson gson, String recordingPath
             logger.error("Error while deserializing AttackEvent extras:", e);
         }
     }
+
+    private void serializeCharacterStateEventPositionMapBinary(String recordingPath) {
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(Paths.get(recordingPath + STATE_EVENT_POSITION_BINARY))))) {
+            Map<Integer, Vector3f[]> idToData = characterStateEventPositionMap.getIdToData();
+            output.writeInt(idToData.size());
+            for (Map.Entry<Integer, Vector3f[]> entry : idToData.entrySet()) {
+                output.writeInt(entry.getKey());
+                writeVectors(output, entry.getValue());
+            }
+            characterStateEventPositionMap.reset();
+            logger.info("CharacterStateEvent positions Serialization completed!");
+        } catch (IOException e) {
+            logger.error("Error while serializing CharacterStateEvent positions:", e);
+        }
+    }
+
+    private void deserializeCharacterStateEventPositionMapBinary(String recordingPath) {
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(
+                Files.newInputStream(Paths.get(recordingPath + STATE_EVENT_POSITION_BINARY))))) {
+            int size = input.readInt();
+            Map<Integer, Vector3f[]> idToData = new HashMap<>(size * 2);
+            for (int i = 0; i < size; i++) {
+                idToData.put(input.readInt(), readVectors(input));
+            }
+            characterStateEventPositionMap.setIdToData(idToData);
+            logger.info("CharacterStateEvent positions Deserialization completed!");
+        } catch (IOException e) {
+            logger.error("Error while deserializing CharacterStateEvent positions:", e);
+        }
+    }
+
+    private void serializeAttackEventExtraRecorderBinary(String recordingPath) {
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(Paths.get(recordingPath + DIRECTION_ORIGIN_LIST_BINARY))))) {
+            List<DirectionAndOriginPosRecorder> list = directionAndOriginPosRecorderList.getList();
+            output.writeInt(list.size());
+            for (DirectionAndOriginPosRecorder recorder : list) {
+                Deque<Vector3f[]> data = recorder.getDirectionAndOriginData();
+                output.writeInt(data.size());
+                for (Vector3f[] directionAndOrigin : data) {
+                    writeVectors(output, directionAndOrigin);
+                }
+            }
+            directionAndOriginPosRecorderList.reset();
+            logger.info("AttackEvent extras serialization completed!");
+        } catch (IOException e) {
+            logger.error("Error while serializing AttackEvent extras:", e);
+        }
+    }
+
+    private void deserializeAttackEventExtraRecorderBinary(String recordingPath) {
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(
+                Files.newInputStream(Paths.get(recordingPath + DIRECTION_ORIGIN_LIST_BINARY))))) {
+            int size = input.readInt();
+            List<DirectionAndOriginPosRecorder> list = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                DirectionAndOriginPosRecorder recorder = new DirectionAndOriginPosRecorder();
+                int count = input.readInt();
+                for (int j = 0; j < count; j++) {
+                    Vector3f[] directionAndOrigin = readVectors(input);
+                    recorder.add(directionAndOrigin[0], directionAndOrigin[1]);
+                }
+                list.add(recorder);
+            }
+            directionAndOriginPosRecorderList.setList(list);
+            logger.info("AttackEvent extras deserialization completed!");
+        } catch (IOException e) {
+            logger.error("Error while deserializing AttackEvent extras:", e);
+        }
+    }
+
+    private static void writeVectors(DataOutputStream output, Vector3f[] vectors) throws IOException {
+        output.writeInt(vectors.length);
+        for (Vector3f vector : vectors) {
+            output.writeFloat(vector.x);
+            output.writeFloat(vector.y);
+            output.writeFloat(vector.z);
+        }
+    }
+
+    private static Vector3f[] readVectors(DataInputStream input) throws IOException {
+        Vector3f[] vectors = new Vector3f[input.readInt()];
+        for (int i = 0; i < vectors.length; i++) {
+            vectors[i] = new Vector3f(input.readFloat(), input.readFloat(), input.readFloat());
+        }
+        return vectors;
+    }
 }
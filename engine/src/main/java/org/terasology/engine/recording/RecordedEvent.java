@@ -24,7 +24,7 @@ public class RecordedEvent {
      * @param timestamp The timestamp in which the event was sent.
      * @param index The index of the RecordedEvent.
      */
-    RecordedEvent(long entityId, Event event, long timestamp, long index) {
+    public RecordedEvent(long entityId, Event event, long timestamp, long index) {
         this.entityId = entityId;
         this.event = event;
         this.timestamp = timestamp;
@@ -0,0 +1,67 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.recording;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streams RecordedEvents back from a log written by {@link RecordedEventLogWriter}, a batch at a time, so a replay
+ * never needs the whole recording in memory.
+ */
+public final class RecordedEventLogReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final RecordedEventSerializer serializer;
+    private final InputStream inputStream;
+    private RecordedEvent next;
+
+    public RecordedEventLogReader(Path file, RecordedEventSerializer serializer) throws IOException {
+        this.serializer = serializer;
+        this.inputStream = new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE);
+        DataInputStream header = new DataInputStream(inputStream);
+        int magic = header.readInt();
+        int version = header.readInt();
+        if (magic != RecordedEventLogWriter.MAGIC || version != RecordedEventLogWriter.VERSION) {
+            inputStream.close();
+            throw new IOException("Not a supported recorded event log: " + file);
+        }
+        next = serializer.readRecordedEvent(inputStream);
+    }
+
+    /**
+     * @return if there are events left to read.
+     */
+    public boolean hasNext() {
+        return next != null;
+    }
+
+    /**
+     * Reads up to maxEvents events.
+     *
+     * @param maxEvents the maximum number of events to read.
+     * @return the events in recorded order; empty once the log is exhausted.
+     */
+    public List<RecordedEvent> readBatch(int maxEvents) throws IOException {
+        List<RecordedEvent> events = new ArrayList<>(Math.min(maxEvents, 1024));
+        while (next != null && events.size() < maxEvents) {
+            events.add(next);
+            next = serializer.readRecordedEvent(inputStream);
+        }
+        return events;
+    }
+
+    @Override
+    public void close() throws IOException {
+        next = null;
+        inputStream.close();
+    }
+}
@@ -0,0 +1,199 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.recording;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Appends RecordedEvents to a binary event log from a background thread.
+ * <p>
+ * Events are handed over through a fixed-size ring buffer, so recording never waits on the disk unless the writer falls
+ * a full buffer behind. The log starts with {@link #MAGIC} and {@link #VERSION}, followed by one length-delimited
+ * protobuf value per event, and can be read back incrementally by {@link RecordedEventLogReader}.
+ */
+public final class RecordedEventLogWriter implements Closeable {
+
+    static final int MAGIC = 0x54524543;
+    static final int VERSION = 1;
+
+    private static final Logger logger = LoggerFactory.getLogger(RecordedEventLogWriter.class);
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final RecordedEventSerializer serializer;
+    private final OutputStream outputStream;
+    private final RecordedEvent[] ring;
+    private final Thread writerThread;
+    private int head;
+    private int size;
+    private boolean flushRequested;
+    private boolean closed;
+    private IOException failure;
+
+    /**
+     * @param file the log file, created or truncated.
+     * @param serializer used to encode the events.
+     * @param capacity the number of events that can be waiting to be written.
+     */
+    public RecordedEventLogWriter(Path file, RecordedEventSerializer serializer, int capacity) throws IOException {
+        this.serializer = serializer;
+        this.ring = new RecordedEvent[capacity];
+        this.outputStream = new BufferedOutputStream(Files.newOutputStream(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE), BUFFER_SIZE);
+        DataOutputStream header = new DataOutputStream(outputStream);
+        header.writeInt(MAGIC);
+        header.writeInt(VERSION);
+        this.writerThread = new Thread(this::writeLoop, "Recording-Writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Queues an event to be written, waiting only if the ring buffer is full.
+     */
+    public synchronized void append(RecordedEvent event) throws InterruptedIOException {
+        if (closed) {
+            throw new IllegalStateException("Event log is closed");
+        }
+        while (size == ring.length) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while recording event " + event.getIndex());
+            }
+        }
+        ring[(head + size) % ring.length] = event;
+        size++;
+        notifyAll();
+    }
+
+    /**
+     * Waits until every queued event has been written and flushed to disk.
+     *
+     * @throws IOException if writing any event so far failed.
+     */
+    public synchronized void flush() throws IOException {
+        flushRequested = true;
+        notifyAll();
+        while (flushRequested && writerThread.isAlive()) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while flushing the event log");
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Writes the remaining events and closes the log.
+     *
+     * @throws IOException if writing any event failed.
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            closed = true;
+            notifyAll();
+        }
+        try {
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while closing the event log");
+        }
+        synchronized (this) {
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+
+    private void writeLoop() {
+        RecordedEvent[] batch = new RecordedEvent[ring.length];
+        while (true) {
+            int count;
+            boolean flush;
+            synchronized (this) {
+                while (size == 0 && !closed && !flushRequested) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        closed = true;
+                    }
+                }
+                if (size == 0 && closed) {
+                    break;
+                }
+                count = size;
+                for (int i = 0; i < count; i++) {
+                    batch[i] = ring[(head + i) % ring.length];
+                    ring[(head + i) % ring.length] = null;
+                }
+                head = (head + count) % ring.length;
+                size = 0;
+                flush = flushRequested;
+                notifyAll();
+            }
+            write(batch, count, flush);
+        }
+        try {
+            outputStream.close();
+        } catch (IOException e) {
+            fail(e);
+        }
+        synchronized (this) {
+            flushRequested = false;
+            notifyAll();
+        }
+    }
+
+    private void write(RecordedEvent[] batch, int count, boolean flush) {
+        try {
+            if (failure == null) {
+                for (int i = 0; i < count; i++) {
+                    serializer.writeRecordedEvent(batch[i], outputStream);
+                }
+                if (flush) {
+                    outputStream.flush();
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            fail(e instanceof IOException ? (IOException) e : new IOException(e));
+        } finally {
+            for (int i = 0; i < count; i++) {
+                batch[i] = null;
+            }
+        }
+        if (flush) {
+            synchronized (this) {
+                if (size == 0) {
+                    flushRequested = false;
+                    notifyAll();
+                }
+            }
+        }
+    }
+
+    private synchronized void fail(IOException e) {
+        if (failure == null) {
+            logger.error("Error while writing recorded events, the rest of the recording is discarded", e);
+            failure = e;
+        }
+    }
+}
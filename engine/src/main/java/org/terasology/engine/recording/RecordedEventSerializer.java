@@ -14,29 +14,42 @@
 import org.terasology.engine.persistence.typeHandling.gson.GsonPersistedDataReader;
 import org.terasology.engine.persistence.typeHandling.gson.GsonPersistedDataSerializer;
 import org.terasology.engine.persistence.typeHandling.gson.GsonPersistedDataWriter;
+import org.terasology.engine.persistence.typeHandling.protobuf.ProtobufPersistedData;
+import org.terasology.engine.persistence.typeHandling.protobuf.ProtobufPersistedDataSerializer;
 import org.terasology.persistence.serializers.Serializer;
 import org.terasology.persistence.typeHandling.SerializationException;
+import org.terasology.persistence.typeHandling.TypeHandler;
 import org.terasology.persistence.typeHandling.TypeHandlerLibrary;
+import org.terasology.protobuf.EntityData;
 import org.terasology.reflection.TypeInfo;
 import org.terasology.reflection.TypeRegistry;
 
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Serializes and deserializes RecordedEvents.
  */
-class RecordedEventSerializer {
+public class RecordedEventSerializer {
 
     private static final Logger logger = LoggerFactory.getLogger(RecordedEventSerializer.class);
+    private final TypeHandlerLibrary typeHandlerLibrary;
     private final Serializer<?> serializer;
+    private final ProtobufPersistedDataSerializer binarySerializer = new ProtobufPersistedDataSerializer();
+    private TypeHandler<RecordedEvent> binaryHandler;
 
     RecordedEventSerializer(EntityManager entityManager, ModuleManager moduleManager, TypeRegistry typeRegistry) {
-        TypeHandlerLibrary typeHandlerLibrary = TypeHandlerLibraryImpl.forModuleEnvironment(moduleManager, typeRegistry);
+        this(TypeHandlerLibraryImpl.forModuleEnvironment(moduleManager, typeRegistry));
         typeHandlerLibrary.addTypeHandler(EntityRef.class, new EntityRefTypeHandler((EngineEntityManager) entityManager));
+    }
+
+    public RecordedEventSerializer(TypeHandlerLibrary typeHandlerLibrary) {
+        this.typeHandlerLibrary = typeHandlerLibrary;
         Gson gson = new Gson();
         serializer = new Serializer<>(
                 typeHandlerLibrary,
@@ -79,4 +92,38 @@ public List<RecordedEvent> deserializeRecordedEvents(String filePath) {
 
         return events;
     }
+
+    /**
+     * Writes a single RecordedEvent as a length-delimited protobuf value.
+     *
+     * @param event the event to write.
+     * @param outputStream the stream to append the event to.
+     */
+    void writeRecordedEvent(RecordedEvent event, OutputStream outputStream) throws IOException {
+        ProtobufPersistedData data = (ProtobufPersistedData) getBinaryHandler().serialize(event, binarySerializer);
+        data.getValue().writeDelimitedTo(outputStream);
+    }
+
+    /**
+     * Reads a single RecordedEvent written by {@link #writeRecordedEvent(RecordedEvent, OutputStream)}.
+     *
+     * @param inputStream the stream to read the event from.
+     * @return the event, or null if the end of the stream was reached.
+     */
+    RecordedEvent readRecordedEvent(InputStream inputStream) throws IOException {
+        EntityData.Value value = EntityData.Value.parseDelimitedFrom(inputStream);
+        if (value == null) {
+            return null;
+        }
+        return getBinaryHandler().deserialize(new ProtobufPersistedData(value))
+                .orElseThrow(() -> new IOException("Could not deserialize recorded event"));
+    }
+
+    private TypeHandler<RecordedEvent> getBinaryHandler() throws IOException {
+        if (binaryHandler == null) {
+            binaryHandler = typeHandlerLibrary.getTypeHandler(RecordedEvent.class)
+                    .orElseThrow(() -> new IOException("No type handler for recorded events"));
+        }
+        return binaryHandler;
+    }
 }
@@ -3,6 +3,7 @@
 package org.terasology.engine.rendering.assets.font;
 
 import org.joml.Vector2i;
+import org.terasology.engine.registry.CoreRegistry;
 import org.terasology.gestalt.assets.AssetType;
 import org.terasology.gestalt.assets.ResourceUrn;
 
@@ -19,7 +20,15 @@ public FontImpl(ResourceUrn urn, AssetType<?, FontData> assetType, FontData data
 
     @Override
     protected void doReload(FontData fontData) {
+        boolean reloaded = this.data != null;
         this.data = fontData;
+        if (reloaded) {
+            // lines laid out with the previous data are cached under this same font
+            TextLayoutCache layoutCache = CoreRegistry.get(TextLayoutCache.class);
+            if (layoutCache != null) {
+                layoutCache.clear();
+            }
+        }
     }
 
     @Override
@@ -3,20 +3,27 @@
 package org.terasology.engine.rendering.assets.font;
 
 import com.google.common.collect.Maps;
-import org.joml.Vector3f;
 import org.terasology.engine.rendering.assets.material.Material;
-import org.terasology.engine.rendering.assets.mesh.MeshBuilder;
+import org.terasology.engine.rendering.assets.mesh.Mesh;
+import org.terasology.engine.rendering.assets.mesh.StandardMeshData;
+import org.terasology.engine.utilities.Assets;
 import org.terasology.nui.Colorc;
 import org.terasology.nui.FontColor;
 import org.terasology.nui.FontUnderline;
 import org.terasology.nui.HorizontalAlign;
-import org.terasology.engine.rendering.assets.mesh.Mesh;
 
 import java.util.ArrayDeque;
+import java.util.Collections;
 import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * Lays out text into quads for each page of its font and for underlines, and builds meshes from them.
+ * <p>
+ * Text is laid out line by line. Given a {@link TextLayoutCache}, each line is only laid out once for as long as it is
+ * cached, so redrawing a text of which a single line changed, like a chat log or a counter, only lays out that line.
+ */
 public class FontMeshBuilder {
 
     private static final float SHADOW_DEPTH = -2;
@@ -25,97 +32,121 @@ public class FontMeshBuilder {
     private static final int UNKNOWN = -1;
 
     private final Material underlineMaterial;
+    private final TextLayoutCache layoutCache;
 
     public FontMeshBuilder(Material underlineMaterial) {
+        this(underlineMaterial, null);
+    }
+
+    /**
+     * @param layoutCache the cache of laid out lines, possibly shared with other builders, or null to lay out every
+     *         line again
+     */
+    public FontMeshBuilder(Material underlineMaterial, TextLayoutCache layoutCache) {
         this.underlineMaterial = underlineMaterial;
+        this.layoutCache = layoutCache;
     }
 
     public Map<Material, Mesh> createTextMesh(Font font, List<String> lines, int width, HorizontalAlign alignment,
                                               Colorc baseColor, Colorc shadowColor, boolean underline) {
-        return new Builder(font, lines, width, alignment, baseColor, shadowColor, underline).invoke();
+        Map<Material, Mesh> result = Maps.newLinkedHashMap();
+        for (Map.Entry<Material, StandardMeshData> entry
+                : layoutText(font, lines, width, alignment, baseColor, shadowColor, underline).entrySet()) {
+            result.put(entry.getKey(), Assets.generateAsset(entry.getValue(), Mesh.class));
+        }
+        return result;
+    }
+
+    /**
+     * Lays out text into mesh data for each material, without creating any meshes, so that layout works without a
+     * display.
+     */
+    public Map<Material, StandardMeshData> layoutText(Font font, List<String> lines, int width,
+                                                      HorizontalAlign alignment, Colorc baseColor, Colorc shadowColor,
+                                                      boolean underline) {
+        Map<Material, StandardMeshData> result = Maps.newLinkedHashMap();
+        LineLayout.State state = new LineLayout.State(baseColor, Collections.emptyList(), underline);
+        int y = 0;
+        for (String line : lines) {
+            LineLayout layout = null;
+            LineLayout.Key key = null;
+            if (layoutCache != null) {
+                key = new LineLayout.Key(font, underlineMaterial, line, width, alignment, shadowColor, underline, state);
+                layout = layoutCache.get(key);
+            }
+            if (layout == null) {
+                layout = new LineBuilder(font, line, width, alignment, shadowColor, underline, state).invoke();
+                if (layoutCache != null) {
+                    layoutCache.put(key, layout);
+                }
+            }
+            layout.appendTo(result, y);
+            state = layout.getEndState();
+            y += font.getLineHeight();
+        }
+        return result;
     }
 
-    private class Builder {
+    private class LineBuilder {
         private Font font;
-        private List<String> lines;
+        private String line;
         private int width;
         private HorizontalAlign alignment;
         private Colorc shadowColor;
         private boolean baseUnderline;
 
-        private Map<Material, MeshBuilder> meshBuilders = Maps.newLinkedHashMap();
+        private LineLayout layout = new LineLayout();
 
         private int x;
-        private int y;
         private boolean currentUnderline;
         private int underlineStart = UNKNOWN;
         private int underlineEnd = UNKNOWN;
-        private Deque<Colorc> previousColors = new ArrayDeque<>();
+        private Deque<Colorc> previousColors;
         private Colorc currentColor;
 
-        Builder(Font font, List<String> lines, int width, HorizontalAlign alignment,
-                Colorc baseColor, Colorc shadowColor, boolean baseUnderline) {
+        LineBuilder(Font font, String line, int width, HorizontalAlign alignment, Colorc shadowColor,
+                    boolean baseUnderline, LineLayout.State startState) {
             this.font = font;
-            this.lines = lines;
+            this.line = line;
             this.width = width;
             this.alignment = alignment;
             this.shadowColor = shadowColor;
             this.baseUnderline = baseUnderline;
-            this.currentUnderline = baseUnderline;
-            this.currentColor = baseColor;
+            this.currentUnderline = startState.isUnderline();
+            this.currentColor = startState.getColor();
+            this.previousColors = new ArrayDeque<>(startState.getPreviousColors());
         }
 
-        public Map<Material, Mesh> invoke() {
-
-            processLines();
-
-            return generateResult();
+        public LineLayout invoke() {
+            processLine();
+            layout.setEndState(new LineLayout.State(currentColor, previousColors, currentUnderline));
+            return layout;
         }
 
-        private Map<Material, Mesh> generateResult() {
-            Map<Material, Mesh> result = Maps.newLinkedHashMap();
-            for (Map.Entry<Material, MeshBuilder> entry : meshBuilders.entrySet()) {
-                result.put(entry.getKey(), entry.getValue().build());
-            }
-            return result;
-        }
+        private void processLine() {
+            int w = font.getWidth(line);
+            x = alignment.getOffset(w, width);
 
-        private MeshBuilder getBuilderFor(Material material) {
-            MeshBuilder builder = meshBuilders.get(material);
-            if (builder == null) {
-                builder = new MeshBuilder();
-                meshBuilders.put(material, builder);
-            }
-            return builder;
-        }
+            for (char c : line.toCharArray()) {
+                FontCharacter character = font.getCharacterData(c);
+                if (character != null && character.getPage() != null) {
+                    Material material = character.getPageMat();
 
-        private void processLines() {
-            for (String line : lines) {
-                int w = font.getWidth(line);
-                x = alignment.getOffset(w, width);
-
-                for (char c : line.toCharArray()) {
-                    FontCharacter character = font.getCharacterData(c);
-                    if (character != null && character.getPage() != null) {
-                        MeshBuilder builder = getBuilderFor(character.getPageMat());
-
-                        if (shadowColor.a() != 0) {
-                            addCharacter(builder, character, shadowColor, SHADOW_HORIZONTAL_OFFSET, SHADOW_VERTICAL_OFFSET, SHADOW_DEPTH);
-                        }
-                        addCharacter(builder, character, currentColor, 0, 0, 0);
-                        updateUnderline(c, character);
-
-                        x += character.getxAdvance();
-                    } else if (FontColor.isValid(c)) {
-                        applyUnderline();
-                        processColorCode(c);
-                    } else if (FontUnderline.isValid(c)) {
-                        processUnderlineCode(c);
+                    if (shadowColor.a() != 0) {
+                        addCharacter(material, character, shadowColor, SHADOW_HORIZONTAL_OFFSET, SHADOW_VERTICAL_OFFSET, SHADOW_DEPTH);
                     }
+                    addCharacter(material, character, currentColor, 0, 0, 0);
+                    updateUnderline(c, character);
+
+                    x += character.getxAdvance();
+                } else if (FontColor.isValid(c)) {
+                    applyUnderline();
+                    processColorCode(c);
+                } else if (FontUnderline.isValid(c)) {
+                    processUnderlineCode(c);
                 }
-                applyUnderline();
-                y += font.getLineHeight();
             }
+            applyUnderline();
         }
 
         private void processUnderlineCode(char c) {
@@ -143,14 +174,13 @@ private void processColorCode(char c) {
 
         private void applyUnderline() {
             if (currentUnderline && underlineStart != UNKNOWN) {
-                MeshBuilder builder = getBuilderFor(underlineMaterial);
                 if (shadowColor.a() != 0) {
-                    addUnderline(builder, underlineStart + SHADOW_HORIZONTAL_OFFSET, underlineEnd + SHADOW_HORIZONTAL_OFFSET,
-                            y + font.getBaseHeight() + SHADOW_VERTICAL_OFFSET + font.getUnderlineOffset(), font.getUnderlineThickness(),
+                    addUnderline(underlineStart + SHADOW_HORIZONTAL_OFFSET, underlineEnd + SHADOW_HORIZONTAL_OFFSET,
+                            font.getBaseHeight() + SHADOW_VERTICAL_OFFSET + font.getUnderlineOffset(), font.getUnderlineThickness(),
                             shadowColor, SHADOW_DEPTH);
                 }
-                addUnderline(builder, underlineStart, underlineEnd, y + font.getBaseHeight()
-                        + font.getUnderlineOffset(), font.getUnderlineThickness(), currentColor, 0);
+                addUnderline(underlineStart, underlineEnd, font.getBaseHeight() + font.getUnderlineOffset(),
+                        font.getUnderlineThickness(), currentColor, 0);
             }
             underlineStart = UNKNOWN;
             underlineEnd = UNKNOWN;
@@ -165,23 +195,13 @@ private void updateUnderline(char c, FontCharacter character) {
             }
         }
 
-        private void addUnderline(MeshBuilder builder, int xStart, int xEnd, int underlineTop, int underlineThickness, Colorc color, float depth) {
+        private void addUnderline(int xStart, int xEnd, int underlineTop, int underlineThickness, Colorc color, float depth) {
             float bottom = (float) underlineTop + underlineThickness;
-
-            Vector3f v1 = new Vector3f(xStart, underlineTop, depth);
-            Vector3f v2 = new Vector3f(xEnd, underlineTop, depth);
-            Vector3f v3 = new Vector3f(xEnd, bottom, depth);
-            Vector3f v4 = new Vector3f(xStart, bottom, depth);
-            builder.addPoly(v1, v2, v3, v4);
-            builder.addColor(color, color, color, color);
-            builder.addTexCoord(0, 0);
-            builder.addTexCoord(1, 0);
-            builder.addTexCoord(1, 1);
-            builder.addTexCoord(0, 1);
+            layout.addQuad(underlineMaterial, xStart, underlineTop, xEnd, bottom, depth, 0, 0, 1, 1, color);
         }
 
-        private void addCharacter(MeshBuilder builder, FontCharacter character, Colorc color, float xOffset, float yOffset, float depth) {
-            float top = y + character.getyOffset() + yOffset;
+        private void addCharacter(Material material, FontCharacter character, Colorc color, float xOffset, float yOffset, float depth) {
+            float top = character.getyOffset() + yOffset;
             float bottom = top + character.getHeight() + yOffset;
             float left = x + character.getxOffset() + xOffset;
             float right = left + character.getWidth() + xOffset;
@@ -189,17 +209,7 @@ private void addCharacter(MeshBuilder builder, FontCharacter character, Colorc c
             float texBottom = texTop + character.getTexHeight();
             float texLeft = character.getX();
             float texRight = texLeft + character.getTexWidth();
-
-            Vector3f v1 = new Vector3f(left, top, depth);
-            Vector3f v2 = new Vector3f(right, top, depth);
-            Vector3f v3 = new Vector3f(right, bottom, depth);
-            Vector3f v4 = new Vector3f(left, bottom, depth);
-            builder.addPoly(v1, v2, v3, v4);
-            builder.addColor(color, color, color, color);
-            builder.addTexCoord(texLeft, texTop);
-            builder.addTexCoord(texRight, texTop);
-            builder.addTexCoord(texRight, texBottom);
-            builder.addTexCoord(texLeft, texBottom);
+            layout.addQuad(material, left, top, right, bottom, depth, texLeft, texTop, texRight, texBottom, color);
         }
     }
 }
@@ -0,0 +1,205 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.rendering.assets.font;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Maps;
+import gnu.trove.list.TFloatList;
+import gnu.trove.list.array.TFloatArrayList;
+import org.joml.Vector2f;
+import org.joml.Vector3f;
+import org.terasology.engine.rendering.assets.material.Material;
+import org.terasology.engine.rendering.assets.mesh.StandardMeshData;
+import org.terasology.nui.Colorc;
+import org.terasology.nui.HorizontalAlign;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The glyph and underline quads of a single laid out line of text, positioned relative to the top of the line, so that
+ * the same layout can be reused wherever the line appears.
+ */
+final class LineLayout {
+    private static final int FLOATS_PER_QUAD = 9;
+
+    private final Map<Material, Quads> quads = Maps.newLinkedHashMap();
+    private State endState;
+    private int quadCount;
+
+    void addQuad(Material material, float left, float top, float right, float bottom, float depth,
+                 float texLeft, float texTop, float texRight, float texBottom, Colorc color) {
+        quads.computeIfAbsent(material, k -> new Quads()).add(left, top, right, bottom, depth,
+                texLeft, texTop, texRight, texBottom, color);
+        quadCount++;
+    }
+
+    void setEndState(State endState) {
+        this.endState = endState;
+    }
+
+    /**
+     * @return the color and underline state at the end of the line, which the next line starts with
+     */
+    State getEndState() {
+        return endState;
+    }
+
+    /**
+     * @return the number of quads of the line, as a measure of its size
+     */
+    int getQuadCount() {
+        return quadCount;
+    }
+
+    /**
+     * Appends the quads of this line to the mesh data of their materials, moved down to the given line position.
+     */
+    void appendTo(Map<Material, StandardMeshData> target, float y) {
+        for (Map.Entry<Material, Quads> entry : quads.entrySet()) {
+            entry.getValue().appendTo(target.computeIfAbsent(entry.getKey(), k -> new StandardMeshData()), y);
+        }
+    }
+
+    private static final class Quads {
+        private final TFloatList coords = new TFloatArrayList();
+        private final List<Colorc> colors = new ArrayList<>();
+
+        void add(float left, float top, float right, float bottom, float depth,
+                 float texLeft, float texTop, float texRight, float texBottom, Colorc color) {
+            coords.add(new float[]{left, top, right, bottom, depth, texLeft, texTop, texRight, texBottom});
+            colors.add(color);
+        }
+
+        void appendTo(StandardMeshData data, float y) {
+            Vector3f pos = new Vector3f();
+            Vector2f uv = new Vector2f();
+            for (int i = 0; i < colors.size(); i++) {
+                int offset = i * FLOATS_PER_QUAD;
+                float left = coords.get(offset);
+                float top = coords.get(offset + 1) + y;
+                float right = coords.get(offset + 2);
+                float bottom = coords.get(offset + 3) + y;
+                float depth = coords.get(offset + 4);
+                float texLeft = coords.get(offset + 5);
+                float texTop = coords.get(offset + 6);
+                float texRight = coords.get(offset + 7);
+                float texBottom = coords.get(offset + 8);
+                Colorc color = colors.get(i);
+
+                int vertex = data.position.getPosition();
+                data.indices.putAll(vertex, vertex + 2, vertex + 1, vertex, vertex + 3, vertex + 2);
+                data.position.put(pos.set(left, top, depth));
+                data.position.put(pos.set(right, top, depth));
+                data.position.put(pos.set(right, bottom, depth));
+                data.position.put(pos.set(left, bottom, depth));
+                data.color0.put(color);
+                data.color0.put(color);
+                data.color0.put(color);
+                data.color0.put(color);
+                data.uv0.put(uv.set(texLeft, texTop));
+                data.uv0.put(uv.set(texRight, texTop));
+                data.uv0.put(uv.set(texRight, texBottom));
+                data.uv0.put(uv.set(texLeft, texBottom));
+            }
+        }
+    }
+
+    /**
+     * The color and underline state carried over from one line to the next by formatting codes.
+     */
+    static final class State {
+        private final Colorc color;
+        private final List<Colorc> previousColors;
+        private final boolean underline;
+
+        State(Colorc color, Collection<Colorc> previousColors, boolean underline) {
+            this.color = color;
+            this.previousColors = ImmutableList.copyOf(previousColors);
+            this.underline = underline;
+        }
+
+        Colorc getColor() {
+            return color;
+        }
+
+        List<Colorc> getPreviousColors() {
+            return previousColors;
+        }
+
+        boolean isUnderline() {
+            return underline;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj instanceof State) {
+                State other = (State) obj;
+                return underline == other.underline && Objects.equals(color, other.color)
+                        && Objects.equals(previousColors, other.previousColors);
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(color, previousColors, underline);
+        }
+    }
+
+    /**
+     * Identifies a laid out line by everything its quads depend on, apart from its vertical position.
+     */
+    static final class Key {
+        private final Font font;
+        private final Material underlineMaterial;
+        private final String text;
+        private final int width;
+        private final HorizontalAlign alignment;
+        private final Colorc shadowColor;
+        private final boolean baseUnderline;
+        private final State startState;
+        private final int hash;
+
+        Key(Font font, Material underlineMaterial, String text, int width, HorizontalAlign alignment,
+            Colorc shadowColor, boolean baseUnderline, State startState) {
+            this.font = font;
+            this.underlineMaterial = underlineMaterial;
+            this.text = text;
+            this.width = width;
+            this.alignment = alignment;
+            this.shadowColor = shadowColor;
+            this.baseUnderline = baseUnderline;
+            this.startState = startState;
+            this.hash = Objects.hash(font, underlineMaterial, text, width, alignment, shadowColor, baseUnderline,
+                    startState);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj instanceof Key) {
+                Key other = (Key) obj;
+                return hash == other.hash && width == other.width && baseUnderline == other.baseUnderline
+                        && Objects.equals(text, other.text) && Objects.equals(font, other.font)
+                        && Objects.equals(underlineMaterial, other.underlineMaterial)
+                        && Objects.equals(alignment, other.alignment) && Objects.equals(shadowColor, other.shadowColor)
+                        && Objects.equals(startState, other.startState);
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.rendering.assets.font;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps laid out lines of text, least recently used first out, so that text drawn again, or text of which only some
+ * lines changed, is not laid out again from scratch.
+ * <p>
+ * The cache only holds layouts, not meshes, so it can be shared by every {@link FontMeshBuilder} and canvas, and used
+ * without a display. Its size is bounded by the total number of glyph and underline quads of the cached lines. The
+ * cache may be used from several threads.
+ */
+public class TextLayoutCache {
+    /** Room for about a thousand lines of 30 shadowed characters each. */
+    public static final int DEFAULT_MAX_QUADS = 1 << 16;
+
+    private final int maxQuads;
+    private final Map<LineLayout.Key, LineLayout> lines = new LinkedHashMap<>(256, 0.75f, true);
+    private int quadCount;
+    private long hits;
+    private long misses;
+
+    public TextLayoutCache() {
+        this(DEFAULT_MAX_QUADS);
+    }
+
+    /**
+     * @param maxQuads the total number of quads of all cached lines; lines with more quads than this are not cached
+     */
+    public TextLayoutCache(int maxQuads) {
+        this.maxQuads = maxQuads;
+    }
+
+    synchronized LineLayout get(LineLayout.Key key) {
+        LineLayout layout = lines.get(key);
+        if (layout == null) {
+            misses++;
+        } else {
+            hits++;
+        }
+        return layout;
+    }
+
+    synchronized void put(LineLayout.Key key, LineLayout layout) {
+        if (layout.getQuadCount() > maxQuads) {
+            return;
+        }
+        LineLayout previous = lines.put(key, layout);
+        if (previous != null) {
+            quadCount -= previous.getQuadCount();
+        }
+        quadCount += layout.getQuadCount();
+        Iterator<LineLayout> iterator = lines.values().iterator();
+        while (quadCount > maxQuads && iterator.hasNext()) {
+            quadCount -= iterator.next().getQuadCount();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Drops all cached lines. This is done whenever a font is reloaded and whenever the module environment changes, as
+     * the cached lines keep the fonts they were laid out with.
+     */
+    public synchronized void clear() {
+        lines.clear();
+        quadCount = 0;
+    }
+
+    /**
+     * @return the number of cached lines
+     */
+    public synchronized int size() {
+        return lines.size();
+    }
+
+    /**
+     * @return the total number of quads of all cached lines
+     */
+    public synchronized int getQuadCount() {
+        return quadCount;
+    }
+
+    /**
+     * @return how many lines have been found in the cache
+     */
+    public synchronized long getHitCount() {
+        return hits;
+    }
+
+    /**
+     * @return how many lines have been looked up but not found, and so had to be laid out
+     */
+    public synchronized long getMissCount() {
+        return misses;
+    }
+}
@@ -0,0 +1,153 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.rendering.gltf;
+
+import org.terasology.engine.rendering.gltf.model.GLTF;
+import org.terasology.engine.rendering.gltf.model.GLTFAccessor;
+import org.terasology.engine.rendering.gltf.model.GLTFBufferView;
+import org.terasology.engine.rendering.gltf.model.GLTFComponentType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+
+/**
+ * A typed, read-only view over the elements of a {@link GLTFAccessor}, reading them straight from the loaded buffer
+ * instead of copying them out first.
+ * <p>
+ * Elements may be interleaved with other data in their buffer view. When they are not, {@link #isTightlyPacked()} is
+ * true and {@link #slice()} covers exactly the elements, so they can be copied into a vertex resource in one go.
+ */
+public final class GLTFAccessorView {
+    private final ByteBuffer data;
+    private final GLTFComponentType componentType;
+    private final boolean normalised;
+    private final int dimension;
+    private final int count;
+    private final int stride;
+
+    private GLTFAccessorView(ByteBuffer data, GLTFComponentType componentType, boolean normalised, int dimension,
+                             int count, int stride) {
+        this.data = data;
+        this.componentType = componentType;
+        this.normalised = normalised;
+        this.dimension = dimension;
+        this.count = count;
+        this.stride = stride;
+    }
+
+    /**
+     * @param buffers the loaded buffers of the glTF file, by index
+     * @return a view over the elements of the accessor
+     * @throws IOException if the accessor has no buffer view, is sparse, or reaches beyond its buffer view
+     */
+    public static GLTFAccessorView of(GLTF gltf, GLTFAccessor accessor, List<ByteBuffer> buffers) throws IOException {
+        if (accessor.getBufferView() == null) {
+            throw new IOException("Accessor " + accessor + " has no buffer view");
+        }
+        if (accessor.getSparse() != null) {
+            throw new IOException("Sparse accessor " + accessor + " is not supported");
+        }
+        GLTFBufferView bufferView = gltf.getBufferViews().get(accessor.getBufferView());
+        ByteBuffer buffer = buffers.get(bufferView.getBuffer());
+        int dimension = accessor.getType().getDimension();
+        int elementSize = accessor.getComponentType().getByteLength() * dimension;
+        int stride = bufferView.getByteStride() > 0 ? bufferView.getByteStride() : elementSize;
+        int length = accessor.getCount() > 0 ? (accessor.getCount() - 1) * stride + elementSize : 0;
+        if (accessor.getByteOffset() + length > bufferView.getByteLength()
+                || bufferView.getByteOffset() + bufferView.getByteLength() > buffer.limit()) {
+            throw new IOException("Accessor " + accessor + " reaches beyond " + bufferView);
+        }
+        ByteBuffer data = buffer.slice(bufferView.getByteOffset() + accessor.getByteOffset(), length)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        return new GLTFAccessorView(data, accessor.getComponentType(), accessor.isNormalised(), dimension,
+                accessor.getCount(), stride);
+    }
+
+    /**
+     * @return The number of elements
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * @return The number of components of each element
+     */
+    public int getDimension() {
+        return dimension;
+    }
+
+    /**
+     * @return The type of each component
+     */
+    public GLTFComponentType getComponentType() {
+        return componentType;
+    }
+
+    /**
+     * @return Whether each element directly follows the previous one, without interleaved data in between
+     */
+    public boolean isTightlyPacked() {
+        return stride == componentType.getByteLength() * dimension;
+    }
+
+    /**
+     * @return The bytes of all elements, in little endian order, from position 0. For elements that are not tightly
+     *         packed this includes the interleaved data between them.
+     */
+    public ByteBuffer slice() {
+        return data.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Reads a component as a float. Integer components are normalised to [0,1] or [-1,1] if the accessor asks for it.
+     */
+    public float getFloat(int index, int component) {
+        int offset = offset(index, component);
+        switch (componentType) {
+            case FLOAT:
+                return data.getFloat(offset);
+            case BYTE:
+                return normalised ? Math.max(data.get(offset) / 127f, -1f) : data.get(offset);
+            case UNSIGNED_BYTE:
+                return normalised ? (data.get(offset) & 0xFF) / 255f : data.get(offset) & 0xFF;
+            case SHORT:
+                return normalised ? Math.max(data.getShort(offset) / 32767f, -1f) : data.getShort(offset);
+            case UNSIGNED_SHORT:
+                return normalised ? (data.getShort(offset) & 0xFFFF) / 65535f : data.getShort(offset) & 0xFFFF;
+            case UNSIGNED_INT:
+                return data.getInt(offset) & 0xFFFFFFFFL;
+            default:
+                throw new IllegalStateException("Unsupported component type " + componentType);
+        }
+    }
+
+    /**
+     * Reads a component as an int, widening unsigned components. Float components are truncated.
+     */
+    public int getInt(int index, int component) {
+        int offset = offset(index, component);
+        switch (componentType) {
+            case FLOAT:
+                return (int) data.getFloat(offset);
+            case BYTE:
+                return data.get(offset);
+            case UNSIGNED_BYTE:
+                return data.get(offset) & 0xFF;
+            case SHORT:
+                return data.getShort(offset);
+            case UNSIGNED_SHORT:
+                return data.getShort(offset) & 0xFFFF;
+            case UNSIGNED_INT:
+                return data.getInt(offset);
+            default:
+                throw new IllegalStateException("Unsupported component type " + componentType);
+        }
+    }
+
+    private int offset(int index, int component) {
+        return index * stride + component * componentType.getByteLength();
+    }
+}
@@ -6,7 +6,6 @@
 import com.google.common.collect.Lists;
 import gnu.trove.list.TFloatList;
 import gnu.trove.list.TIntList;
-import gnu.trove.list.array.TFloatArrayList;
 import gnu.trove.list.array.TIntArrayList;
 import gnu.trove.map.TIntIntMap;
 import gnu.trove.map.hash.TIntIntHashMap;
@@ -18,10 +17,8 @@
 import org.terasology.engine.rendering.assets.animation.MeshAnimationFrame;
 import org.terasology.engine.rendering.assets.skeletalmesh.Bone;
 import org.terasology.engine.rendering.gltf.model.GLTF;
-import org.terasology.engine.rendering.gltf.model.GLTFAccessor;
 import org.terasology.engine.rendering.gltf.model.GLTFAnimation;
 import org.terasology.engine.rendering.gltf.model.GLTFAnimationSampler;
-import org.terasology.engine.rendering.gltf.model.GLTFBufferView;
 import org.terasology.engine.rendering.gltf.model.GLTFChannel;
 import org.terasology.gestalt.assets.format.AssetDataFile;
 import org.terasology.gestalt.assets.management.AssetManager;
@@ -30,8 +27,8 @@
 import org.terasology.engine.rendering.gltf.model.GLTFSkin;
 
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.Reader;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -43,16 +40,17 @@ public class GLTFAnimationFormat extends GLTFCommonFormat<MeshAnimationBundleDat
     private static final float TIME_PER_FRAME = 1f / 60f;
 
     public GLTFAnimationFormat(AssetManager assetManager) {
-        super(assetManager, "gltf");
+        super(assetManager, "gltf", "glb");
     }
 
     @Override
     public MeshAnimationBundleData load(ResourceUrn urn, List<AssetDataFile> inputs) throws IOException {
-        try (Reader in = new InputStreamReader(inputs.get(0).openStream())) {
-            GLTF gltf = gson.fromJson(in, GLTF.class);
+        try (InputStream in = inputs.get(0).openStream()) {
+            GLTFFile file = readFile(in);
+            GLTF gltf = file.getGltf();
 
             checkVersionSupported(urn, gltf);
-            List<byte[]> loadedBuffers = loadBinaryBuffers(urn, gltf);
+            List<ByteBuffer> loadedBuffers = loadBinaryBuffers(urn, file);
 
             if (gltf.getSkins().isEmpty()) {
                 throw new IOException("Skeletal mesh '" + urn + "' missing skin");
@@ -92,7 +90,7 @@ public MeshAnimationBundleData load(ResourceUrn urn, List<AssetDataFile> inputs)
         }
     }
 
-    private MeshAnimationData loadAnimation(GLTF gltf, GLTFAnimation animation, List<byte[]> loadedBuffers,
+    private MeshAnimationData loadAnimation(GLTF gltf, GLTFAnimation animation, List<ByteBuffer> loadedBuffers,
                                             TIntIntMap boneIndexMapping, List<String> boneNames,
                                             TIntList boneParents, List<Bone> bones) throws IOException {
         List<ChannelReader> channelReaders = new ArrayList<>();
@@ -149,15 +147,11 @@ private MeshAnimationData loadAnimation(GLTF gltf, GLTFAnimation animation, List
         return new MeshAnimationData(boneNames, boneParents, frames, TIME_PER_FRAME, new AABBf(0, 0, 0));
     }
 
-    private TFloatList getFloats(GLTF gltf, List<byte[]> loadedBuffers, int accessorIndex) throws IOException {
-        GLTFAccessor accessor = gltf.getAccessors().get(accessorIndex);
-        GLTFBufferView bufferView = gltf.getBufferViews().get(accessor.getBufferView());
-        TFloatList floats = new TFloatArrayList();
-        readBuffer(loadedBuffers.get(bufferView.getBuffer()), accessor, bufferView, floats);
-        return floats;
+    private TFloatList getFloats(GLTF gltf, List<ByteBuffer> loadedBuffers, int accessorIndex) throws IOException {
+        return readFloats(GLTFAccessorView.of(gltf, gltf.getAccessors().get(accessorIndex), loadedBuffers));
     }
 
-    private List<Vector3f> getVector3fs(GLTF gltf, List<byte[]> loadedBuffers, int accessorIndex) throws IOException {
+    private List<Vector3f> getVector3fs(GLTF gltf, List<ByteBuffer> loadedBuffers, int accessorIndex) throws IOException {
         TFloatList floats = getFloats(gltf, loadedBuffers, accessorIndex);
         List<Vector3f> vectors = Lists.newArrayListWithCapacity(floats.size() / 3);
         for (int i = 0; i < floats.size(); i += 3) {
@@ -166,7 +160,7 @@ private List<Vector3f> getVector3fs(GLTF gltf, List<byte[]> loadedBuffers, int a
         return vectors;
     }
 
-    private List<Quaternionf> getQuat4fs(GLTF gltf, List<byte[]> loadedBuffers, int accessorIndex) throws IOException {
+    private List<Quaternionf> getQuat4fs(GLTF gltf, List<ByteBuffer> loadedBuffers, int accessorIndex) throws IOException {
         TFloatList floats = getFloats(gltf, loadedBuffers, accessorIndex);
         List<Quaternionf> quats = Lists.newArrayListWithCapacity(floats.size() / 4);
         for (int i = 0; i < floats.size(); i += 4) {
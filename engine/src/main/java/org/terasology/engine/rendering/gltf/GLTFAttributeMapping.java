@@ -9,144 +9,116 @@
 import org.joml.Vector3fc;
 import org.joml.Vector4f;
 import org.joml.Vector4fc;
+import org.terasology.engine.rendering.assets.mesh.resource.IndexResource;
 import org.terasology.engine.rendering.assets.mesh.resource.VertexAttributeBinding;
-import org.terasology.engine.rendering.gltf.model.GLTFAccessor;
-import org.terasology.engine.rendering.gltf.model.GLTFBufferView;
+import org.terasology.engine.rendering.assets.mesh.resource.VertexResource;
 import org.terasology.engine.rendering.gltf.model.GLTFComponentType;
 import org.terasology.nui.Color;
 import org.terasology.nui.Colorc;
 
-import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 
+/**
+ * Copies glTF accessors into mesh resources.
+ * <p>
+ * Tightly packed float accessors going into an empty resource that holds only that attribute are copied in bulk, as
+ * their bytes already have the layout of the resource. Anything else is converted one element at a time.
+ */
 public final class GLTFAttributeMapping {
     private GLTFAttributeMapping() {
 
     }
 
-
-    public static void readVec3FBuffer(byte[] buffer, GLTFAccessor accessor, GLTFBufferView bufferView,
-                                       VertexAttributeBinding<Vector3fc, Vector3f> mapping) {
-        if (accessor.getComponentType() != GLTFComponentType.FLOAT) {
+    public static void readVec3FBuffer(GLTFAccessorView view, VertexAttributeBinding<Vector3fc, Vector3f> mapping) {
+        if (putInBulk(view, mapping, 3)) {
             return;
         }
-
-        ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, bufferView.getByteOffset() + accessor.getByteOffset(),
-                bufferView.getByteLength() - accessor.getByteOffset());
-        byteBuffer.order(ByteOrder.LITTLE_ENDIAN);
-
-        int gap = 0;
-        if (bufferView.getByteStride() > 0) {
-            gap = bufferView.getByteStride() - accessor.getComponentType().getByteLength() * accessor.getType().getDimension();
-        }
+        mapping.reserve(mapping.getPosition() + view.getCount());
         Vector3f pos = new Vector3f();
-        if (byteBuffer.position() < byteBuffer.limit()) {
-            for (int i = 0; i < accessor.getType().getDimension(); i++) {
-                pos.setComponent(i, byteBuffer.getFloat());
-            }
-            mapping.put(pos);
-        }
-        while (byteBuffer.position() < byteBuffer.limit() - gap) {
-            byteBuffer.position(byteBuffer.position() + gap);
-            for (int i = 0; i < accessor.getType().getDimension(); i++) {
-                pos.setComponent(i, byteBuffer.getFloat());
+        for (int i = 0; i < view.getCount(); i++) {
+            for (int component = 0; component < Math.min(3, view.getDimension()); component++) {
+                pos.setComponent(component, view.getFloat(i, component));
             }
             mapping.put(pos);
         }
     }
 
-
-    public static void readVec2FBuffer(byte[] buffer, GLTFAccessor accessor, GLTFBufferView bufferView,
-                                       VertexAttributeBinding<Vector2fc, Vector2f> mapping) {
-        if (accessor.getComponentType() != GLTFComponentType.FLOAT) {
+    public static void readVec2FBuffer(GLTFAccessorView view, VertexAttributeBinding<Vector2fc, Vector2f> mapping) {
+        if (putInBulk(view, mapping, 2)) {
             return;
         }
-
-        ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, bufferView.getByteOffset() + accessor.getByteOffset(),
-                bufferView.getByteLength() - accessor.getByteOffset());
-        byteBuffer.order(ByteOrder.LITTLE_ENDIAN);
-
-        int gap = 0;
-        if (bufferView.getByteStride() > 0) {
-            gap = bufferView.getByteStride() - accessor.getComponentType().getByteLength() * accessor.getType().getDimension();
-        }
+        mapping.reserve(mapping.getPosition() + view.getCount());
         Vector2f pos = new Vector2f();
-        if (byteBuffer.position() < byteBuffer.limit()) {
-            for (int i = 0; i < accessor.getType().getDimension(); i++) {
-                pos.setComponent(i, byteBuffer.getFloat());
-            }
-            mapping.put(pos);
-        }
-        while (byteBuffer.position() < byteBuffer.limit() - gap) {
-            byteBuffer.position(byteBuffer.position() + gap);
-            for (int i = 0; i < accessor.getType().getDimension(); i++) {
-                pos.setComponent(i, byteBuffer.getFloat());
+        for (int i = 0; i < view.getCount(); i++) {
+            for (int component = 0; component < Math.min(2, view.getDimension()); component++) {
+                pos.setComponent(component, view.getFloat(i, component));
             }
             mapping.put(pos);
         }
     }
 
-
-    public static void readVec4FBuffer(byte[] buffer, GLTFAccessor accessor, GLTFBufferView bufferView,
-                                       VertexAttributeBinding<Vector4fc, Vector4f> mapping) {
-        if (accessor.getComponentType() != GLTFComponentType.FLOAT) {
+    public static void readVec4FBuffer(GLTFAccessorView view, VertexAttributeBinding<Vector4fc, Vector4f> mapping) {
+        if (putInBulk(view, mapping, 4)) {
             return;
         }
-
-        ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, bufferView.getByteOffset() + accessor.getByteOffset(),
-                bufferView.getByteLength() - accessor.getByteOffset());
-        byteBuffer.order(ByteOrder.LITTLE_ENDIAN);
-
-        int gap = 0;
-        if (bufferView.getByteStride() > 0) {
-            gap = bufferView.getByteStride() - accessor.getComponentType().getByteLength() * accessor.getType().getDimension();
-        }
+        mapping.reserve(mapping.getPosition() + view.getCount());
         Vector4f pos = new Vector4f();
-        if (byteBuffer.position() < byteBuffer.limit()) {
-            for (int i = 0; i < accessor.getType().getDimension(); i++) {
-                pos.setComponent(i, byteBuffer.getFloat());
-            }
-            mapping.put(pos);
-        }
-        while (byteBuffer.position() < byteBuffer.limit() - gap) {
-            byteBuffer.position(byteBuffer.position() + gap);
-            for (int i = 0; i < accessor.getType().getDimension(); i++) {
-                pos.setComponent(i, byteBuffer.getFloat());
+        for (int i = 0; i < view.getCount(); i++) {
+            for (int component = 0; component < Math.min(4, view.getDimension()); component++) {
+                pos.setComponent(component, view.getFloat(i, component));
             }
             mapping.put(pos);
         }
     }
 
-    public static void readColor4FBuffer(byte[] buffer, GLTFAccessor accessor, GLTFBufferView bufferView,
-                                         VertexAttributeBinding<Colorc, Color> mapping) {
-        if (accessor.getComponentType() != GLTFComponentType.FLOAT) {
+    public static void readColor4FBuffer(GLTFAccessorView view, VertexAttributeBinding<Colorc, Color> mapping) {
+        if (putInBulk(view, mapping, 4)) {
             return;
         }
-
-        ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, bufferView.getByteOffset() + accessor.getByteOffset(),
-                bufferView.getByteLength() - accessor.getByteOffset());
-        byteBuffer.order(ByteOrder.LITTLE_ENDIAN);
-
-        int gap = 0;
-        if (bufferView.getByteStride() > 0) {
-            gap = bufferView.getByteStride() - accessor.getComponentType().getByteLength() * accessor.getType().getDimension();
-        }
-        Vector4f value = new Vector4f();
+        mapping.reserve(mapping.getPosition() + view.getCount());
+        // RGB colors are opaque
+        Vector4f value = new Vector4f(0, 0, 0, 1);
         Color c = new Color();
-        if (byteBuffer.position() < byteBuffer.limit()) {
-            for (int i = 0; i < accessor.getType().getDimension(); i++) {
-                value.setComponent(i, byteBuffer.getFloat());
+        for (int i = 0; i < view.getCount(); i++) {
+            for (int component = 0; component < Math.min(4, view.getDimension()); component++) {
+                value.setComponent(component, view.getFloat(i, component));
             }
             c.set(value);
             mapping.put(c);
         }
-        while (byteBuffer.position() < byteBuffer.limit() - gap) {
-            byteBuffer.position(byteBuffer.position() + gap);
-            for (int i = 0; i < accessor.getType().getDimension(); i++) {
-                value.setComponent(i, byteBuffer.getFloat());
-            }
-            c.set(value);
-            mapping.put(c);
+    }
+
+    /**
+     * Appends indices of any unsigned component type, copying 32 bit indices in bulk.
+     */
+    public static void readIndices(GLTFAccessorView view, IndexResource indices) {
+        if (view.getComponentType() == GLTFComponentType.UNSIGNED_INT && view.isTightlyPacked()
+                && ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN && indices.isEmpty()) {
+            indices.put(view.slice());
+            indices.position(view.getCount());
+            return;
+        }
+        indices.reserveElements(indices.indices() + view.getCount());
+        for (int i = 0; i < view.getCount(); i++) {
+            indices.put(view.getInt(i, 0));
         }
     }
+
+    /**
+     * Copies the raw bytes of the accessor into the resource of the binding, if they already have its layout: float
+     * components of the same dimension, in native byte order, without interleaved data on either side.
+     *
+     * @return whether the accessor was copied
+     */
+    private static boolean putInBulk(GLTFAccessorView view, VertexAttributeBinding<?, ?> mapping, int dimension) {
+        VertexResource resource = mapping.getResource();
+        if (view.getComponentType() != GLTFComponentType.FLOAT || view.getDimension() != dimension
+                || !view.isTightlyPacked() || ByteOrder.nativeOrder() != ByteOrder.LITTLE_ENDIAN
+                || resource.inStride() != dimension * Float.BYTES || !resource.isEmpty() || mapping.getPosition() != 0) {
+            return false;
+        }
+        resource.put(view.slice());
+        mapping.setPosition(view.getCount());
+        return true;
+    }
 }
@@ -5,7 +5,7 @@
 import com.google.common.base.Strings;
 import com.google.common.collect.Lists;
 import com.google.common.io.BaseEncoding;
-import com.google.common.primitives.UnsignedBytes;
+import com.google.common.io.ByteStreams;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import gnu.trove.iterator.TIntIterator;
@@ -53,9 +53,15 @@
 import org.terasology.gestalt.assets.format.AbstractAssetFileFormat;
 import org.terasology.gestalt.assets.management.AssetManager;
 
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -68,6 +74,13 @@
     private static final String DATA_APPLICATION_GLTF_BUFFER_BASE_64 = "data:application/gltf-buffer;base64,";
     private static final GLTFVersion SUPPORTED_VERSION = new GLTFVersion(2, 0);
 
+    private static final int GLB_MAGIC = 0x46546C67;
+    private static final int GLB_VERSION = 2;
+    private static final int GLB_HEADER_LENGTH = 12;
+    private static final int GLB_CHUNK_HEADER_LENGTH = 8;
+    private static final int GLB_CHUNK_JSON = 0x4E4F534A;
+    private static final int GLB_CHUNK_BIN = 0x004E4942;
+
     protected AssetManager assetManager;
 
     protected Gson gson = new GsonBuilder()
@@ -88,29 +101,57 @@ public GLTFCommonFormat(AssetManager assetManager, String fileExtension, String.
         this.assetManager = assetManager;
     }
 
-    protected void readBuffer(byte[] bytes, GLTFAccessor accessor, GLTFBufferView bufferView, TIntList target) {
-        ByteBuffer byteBuffer =
-                ByteBuffer.wrap(bytes, bufferView.getByteOffset(),
-                        accessor.getCount() * accessor.getType().getDimension() * accessor.getComponentType().getByteLength());
-        byteBuffer.order(ByteOrder.LITTLE_ENDIAN);
-        switch (accessor.getComponentType()) {
-            case UNSIGNED_BYTE:
-                while (byteBuffer.position() < byteBuffer.limit()) {
-                    target.add(UnsignedBytes.toInt(byteBuffer.get()));
-                }
-                break;
-            case UNSIGNED_SHORT:
-                while (byteBuffer.position() < byteBuffer.limit()) {
-                    short rawShort = byteBuffer.getShort();
-                    target.add(rawShort >= 0 ? rawShort : 0x10000 + rawShort);
-                }
-                break;
-            case UNSIGNED_INT:
-                while (byteBuffer.position() < byteBuffer.limit()) {
-                    target.add(byteBuffer.getInt());
-                }
-                break;
+    /**
+     * Reads a .gltf JSON document, or a GLB container. A GLB container is read into a single buffer, which its binary
+     * chunk is then a view of, so that the mesh data is copied only once on its way into the mesh resources.
+     */
+    public GLTFFile readFile(InputStream stream) throws IOException {
+        InputStream in = stream.markSupported() ? stream : new BufferedInputStream(stream);
+        byte[] header = new byte[GLB_HEADER_LENGTH];
+        in.mark(GLB_HEADER_LENGTH);
+        int headerLength = ByteStreams.read(in, header, 0, GLB_HEADER_LENGTH);
+        ByteBuffer headerBuffer = ByteBuffer.wrap(header).order(ByteOrder.LITTLE_ENDIAN);
+        if (headerLength < GLB_HEADER_LENGTH || headerBuffer.getInt(0) != GLB_MAGIC) {
+            in.reset();
+            Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8);
+            return new GLTFFile(gson.fromJson(reader, GLTF.class), null);
+        }
+        if (headerBuffer.getInt(4) != GLB_VERSION) {
+            throw new IOException("GLB container version " + headerBuffer.getInt(4) + " is not supported");
         }
+        int length = headerBuffer.getInt(8);
+        if (length < GLB_HEADER_LENGTH) {
+            throw new IOException("Invalid GLB container length " + length);
+        }
+        byte[] body = new byte[length - GLB_HEADER_LENGTH];
+        ByteStreams.readFully(in, body);
+        return readChunks(body);
+    }
+
+    private GLTFFile readChunks(byte[] body) throws IOException {
+        ByteBuffer chunks = ByteBuffer.wrap(body).order(ByteOrder.LITTLE_ENDIAN);
+        GLTF gltf = null;
+        ByteBuffer binaryChunk = null;
+        while (chunks.remaining() >= GLB_CHUNK_HEADER_LENGTH) {
+            int chunkLength = chunks.getInt();
+            int chunkType = chunks.getInt();
+            if (chunkLength < 0 || chunkLength > chunks.remaining()) {
+                throw new IOException("Truncated GLB chunk");
+            }
+            if (chunkType == GLB_CHUNK_JSON && gltf == null) {
+                Reader reader = new InputStreamReader(new ByteArrayInputStream(body, chunks.position(), chunkLength),
+                        StandardCharsets.UTF_8);
+                gltf = gson.fromJson(reader, GLTF.class);
+            } else if (chunkType == GLB_CHUNK_BIN && binaryChunk == null) {
+                binaryChunk = chunks.slice(chunks.position(), chunkLength);
+            }
+            // Unknown chunks are skipped, as the specification requires
+            chunks.position(chunks.position() + chunkLength);
+        }
+        if (gltf == null) {
+            throw new IOException("GLB container has no JSON chunk");
+        }
+        return new GLTFFile(gltf, binaryChunk);
     }
 
     protected void checkIndicesBuffer(GLTFBufferView indicesBuffer) throws IOException {
@@ -154,18 +195,31 @@ protected GLTFAccessor getAccessor(MeshAttributeSemantic semantic, GLTFPrimitive
         return null;
     }
 
-    protected List<byte[]> loadBinaryBuffers(ResourceUrn urn, GLTF gltf) throws IOException {
-        List<byte[]> loadedBuffers = Lists.newArrayList();
-        for (GLTFBuffer buffer : gltf.getBuffers()) {
+    protected List<ByteBuffer> loadBinaryBuffers(ResourceUrn urn, GLTFFile file) throws IOException {
+        List<ByteBuffer> loadedBuffers = Lists.newArrayList();
+        List<GLTFBuffer> buffers = file.getGltf().getBuffers();
+        for (int index = 0; index < buffers.size(); index++) {
+            GLTFBuffer buffer = buffers.get(index);
             String uri = buffer.getUri();
-            if (uri.startsWith(DATA_APPLICATION_OCTET_STREAM_BASE_64)) {
+            if (Strings.isNullOrEmpty(uri)) {
+                ByteBuffer binaryChunk = file.getBinaryChunk();
+                if (index != 0 || binaryChunk == null) {
+                    throw new IOException("Byte buffer " + buffer + " has no uri and is not the binary chunk of a GLB container");
+                }
+                // The binary chunk may be padded to a multiple of four bytes
+                if (binaryChunk.limit() < buffer.getByteLength()) {
+                    throw new IOException("Binary chunk has incorrect length. "
+                            + "Expected (" + buffer.getByteLength() + "), actual (" + binaryChunk.limit() + ")");
+                }
+                loadedBuffers.add(binaryChunk.slice(0, buffer.getByteLength()));
+            } else if (uri.startsWith(DATA_APPLICATION_OCTET_STREAM_BASE_64)) {
                 uri = uri.substring(DATA_APPLICATION_OCTET_STREAM_BASE_64.length());
                 byte[] data = BaseEncoding.base64().decode(uri);
                 if (data.length != buffer.getByteLength()) {
                     throw new IOException("Byte buffer " + uri + " has incorrect length. " +
                             "Expected (" + buffer.getByteLength() + "), actual (" + data.length + ")");
                 }
-                loadedBuffers.add(data);
+                loadedBuffers.add(ByteBuffer.wrap(data));
             } else if (uri.startsWith(DATA_APPLICATION_GLTF_BUFFER_BASE_64)) {
                 uri = uri.substring(DATA_APPLICATION_GLTF_BUFFER_BASE_64.length());
                 byte[] data = BaseEncoding.base64().decode(uri);
@@ -173,7 +227,7 @@ protected List<byte[]> loadBinaryBuffers(ResourceUrn urn, GLTF gltf) throws IOEx
                     throw new IOException("Byte buffer " + uri + " has incorrect length. " +
                             "Expected (" + buffer.getByteLength() + "), actual (" + data.length + ")");
                 }
-                loadedBuffers.add(data);
+                loadedBuffers.add(ByteBuffer.wrap(data));
             } else {
                 if (uri.endsWith(".bin")) {
                     uri = uri.substring(0, uri.length() - 4);
@@ -185,7 +239,7 @@ protected List<byte[]> loadBinaryBuffers(ResourceUrn urn, GLTF gltf) throws IOEx
                     throw new IOException("Byte buffer " + uri + " has incorrect length. "
                             + "Expected (" + buffer.getByteLength() + "), actual (" + bufferAsset.getBytes().length + ")");
                 }
-                loadedBuffers.add(bufferAsset.getBytes());
+                loadedBuffers.add(ByteBuffer.wrap(bufferAsset.getBytes()));
             }
         }
         return loadedBuffers;
@@ -209,33 +263,6 @@ protected void checkMeshPresent(ResourceUrn urn, GLTF gltf) throws IOException {
         }
     }
 
-    protected void readBuffer(byte[] buffer, GLTFAccessor accessor, GLTFBufferView bufferView, TFloatList floatList) {
-        if (accessor.getComponentType() != GLTFComponentType.FLOAT) {
-            return;
-        }
-
-        ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, bufferView.getByteOffset() + accessor.getByteOffset(),
-                bufferView.getByteLength() - accessor.getByteOffset());
-        byteBuffer.order(ByteOrder.LITTLE_ENDIAN);
-
-        int gap = 0;
-        if (bufferView.getByteStride() > 0) {
-            gap = bufferView.getByteStride() - accessor.getComponentType().getByteLength() * accessor.getType().getDimension();
-        }
-
-        if (byteBuffer.position() < byteBuffer.limit()) {
-            for (int i = 0; i < accessor.getType().getDimension(); i++) {
-                floatList.add(byteBuffer.getFloat());
-            }
-        }
-        while (byteBuffer.position() < byteBuffer.limit() - gap) {
-            byteBuffer.position(byteBuffer.position() + gap);
-            for (int i = 0; i < accessor.getType().getDimension(); i++) {
-                floatList.add(byteBuffer.getFloat());
-            }
-        }
-    }
-
     protected void checkVersionSupported(ResourceUrn urn, GLTF gltf) throws IOException {
         GLTFVersion minVersion = gltf.getAsset().getMinVersion();
         if (minVersion != null && (minVersion.getMajor() != SUPPORTED_VERSION.getMajor() || minVersion.getMinor() > SUPPORTED_VERSION.getMinor())) {
@@ -245,7 +272,7 @@ protected void checkVersionSupported(ResourceUrn urn, GLTF gltf) throws IOExcept
         }
     }
 
-    protected List<Bone> loadBones(GLTF gltf, GLTFSkin skin, List<byte[]> loadedBuffers) {
+    protected List<Bone> loadBones(GLTF gltf, GLTFSkin skin, List<ByteBuffer> loadedBuffers) throws IOException {
         List<Bone> bones = new ArrayList<>();
         TIntIntMap boneToJoint = new TIntIntHashMap();
         List<Matrix4f> inverseMats = loadInverseMats(skin.getInverseBindMatrices(), skin.getJoints().size(), gltf, loadedBuffers);
@@ -285,7 +312,8 @@ protected List<Bone> loadBones(GLTF gltf, GLTFSkin skin, List<byte[]> loadedBuff
         return bones;
     }
 
-    public List<Matrix4f> loadInverseMats(Integer inverseBindMatrices, int size, GLTF gltf, List<byte[]> loadedBuffers) {
+    public List<Matrix4f> loadInverseMats(Integer inverseBindMatrices, int size, GLTF gltf, List<ByteBuffer> loadedBuffers)
+            throws IOException {
         List<Matrix4f> result;
         if (inverseBindMatrices != null) {
             result = loadMat4fList(inverseBindMatrices, gltf, loadedBuffers);
@@ -298,92 +326,102 @@ public List<Matrix4f> loadInverseMats(Integer inverseBindMatrices, int size, GLT
         return result;
     }
 
-    protected List<Matrix4f> loadMat4fList(int inverseBindMatrices, GLTF gltf, List<byte[]> loadedBuffers) {
-        GLTFAccessor accessor = gltf.getAccessors().get(inverseBindMatrices);
-        GLTFBufferView bufferView = gltf.getBufferViews().get(accessor.getBufferView());
-        byte[] buffer = loadedBuffers.get(bufferView.getBuffer());
-        TFloatList values = new TFloatArrayList();
-        readBuffer(buffer, accessor, bufferView, values);
-        List<Matrix4f> matricies = Lists.newArrayList();
-        for (int i = 0; i < values.size(); i += 16) {
-            Matrix4f mat = new Matrix4f(
-                    values.get(i), values.get(i + 1), values.get(i + 2), values.get(i + 3),
-                    values.get(i + 4), values.get(i + 5), values.get(i + 6), values.get(i + 7),
-                    values.get(i + 8), values.get(i + 9), values.get(i + 10), values.get(i + 11),
-                    values.get(i + 12), values.get(i + 13), values.get(i + 14), values.get(i + 15)
-            );
-            matricies.add(mat);
+    protected List<Matrix4f> loadMat4fList(int inverseBindMatrices, GLTF gltf, List<ByteBuffer> loadedBuffers)
+            throws IOException {
+        GLTFAccessorView view = GLTFAccessorView.of(gltf, gltf.getAccessors().get(inverseBindMatrices), loadedBuffers);
+        List<Matrix4f> matricies = Lists.newArrayListWithCapacity(view.getCount());
+        for (int i = 0; i < view.getCount(); i++) {
+            // Both glTF and JOML store matrices in column-major order
+            float[] values = new float[16];
+            for (int component = 0; component < values.length; component++) {
+                values[component] = view.getFloat(i, component);
+            }
+            matricies.add(new Matrix4f().set(values));
         }
         return matricies;
     }
 
     protected List<Vector4i> loadVector4iList(MeshAttributeSemantic semantic,
-                                              GLTFPrimitive gltfPrimitive, GLTF gltf, List<byte[]> loadedBuffers) throws IOException {
-        TIntList values = readIntBuffer(semantic, gltfPrimitive, gltf, loadedBuffers);
-        List<Vector4i> vectors = Lists.newArrayListWithCapacity(values.size() / 4);
-        for (int i = 0; i < values.size(); i += 4) {
-            vectors.add(new Vector4i(values.get(i), values.get(i + 1), values.get(i + 2), values.get(i + 3)));
+                                              GLTFPrimitive gltfPrimitive, GLTF gltf, List<ByteBuffer> loadedBuffers) throws IOException {
+        GLTFAccessorView view = getAccessorView(semantic, gltfPrimitive, gltf, loadedBuffers);
+        if (view == null) {
+            throw new IOException("Cannot load gltf without " + semantic);
+        }
+        List<Vector4i> vectors = Lists.newArrayListWithCapacity(view.getCount());
+        for (int i = 0; i < view.getCount(); i++) {
+            vectors.add(new Vector4i(view.getInt(i, 0), view.getInt(i, 1), view.getInt(i, 2), view.getInt(i, 3)));
         }
         return vectors;
     }
 
     protected List<Vector2f> loadVector2fList(MeshAttributeSemantic semantic,
-                                              GLTFPrimitive gltfPrimitive, GLTF gltf, List<byte[]> loadedBuffers) throws IOException {
-        TFloatList floats = readFloatBuffer(semantic, gltfPrimitive, gltf, loadedBuffers);
-        if (floats == null) {
+                                              GLTFPrimitive gltfPrimitive, GLTF gltf, List<ByteBuffer> loadedBuffers) throws IOException {
+        GLTFAccessorView view = getAccessorView(semantic, gltfPrimitive, gltf, loadedBuffers);
+        if (view == null) {
             return Collections.emptyList();
         }
-
-        List<Vector2f> vectors = Lists.newArrayListWithCapacity(floats.size() / 2);
-        for (int i = 0; i < floats.size(); i += 2) {
-            vectors.add(new Vector2f(floats.get(i), floats.get(i + 1)));
+        List<Vector2f> vectors = Lists.newArrayListWithCapacity(view.getCount());
+        for (int i = 0; i < view.getCount(); i++) {
+            vectors.add(new Vector2f(view.getFloat(i, 0), view.getFloat(i, 1)));
         }
         return vectors;
     }
 
     protected List<Vector3f> loadVector3fList(MeshAttributeSemantic semantic,
-                                              GLTFPrimitive gltfPrimitive, GLTF gltf, List<byte[]> loadedBuffers) throws IOException {
-        TFloatList floats = readFloatBuffer(semantic, gltfPrimitive, gltf, loadedBuffers);
-        List<Vector3f> vectors = Lists.newArrayListWithCapacity(floats.size() / 3);
-        for (int i = 0; i < floats.size(); i += 3) {
-            vectors.add(new Vector3f(floats.get(i), floats.get(i + 1), floats.get(i + 2)));
+                                              GLTFPrimitive gltfPrimitive, GLTF gltf, List<ByteBuffer> loadedBuffers) throws IOException {
+        GLTFAccessorView view = getAccessorView(semantic, gltfPrimitive, gltf, loadedBuffers);
+        if (view == null) {
+            return Lists.newArrayList();
+        }
+        List<Vector3f> vectors = Lists.newArrayListWithCapacity(view.getCount());
+        for (int i = 0; i < view.getCount(); i++) {
+            vectors.add(new Vector3f(view.getFloat(i, 0), view.getFloat(i, 1), view.getFloat(i, 2)));
         }
         return vectors;
     }
 
     protected List<Vector4f> loadVector4fList(MeshAttributeSemantic semantic,
-                                              GLTFPrimitive gltfPrimitive, GLTF gltf, List<byte[]> loadedBuffers) throws IOException {
-        TFloatList floats = readFloatBuffer(semantic, gltfPrimitive, gltf, loadedBuffers);
-        List<Vector4f> vectors = Lists.newArrayListWithCapacity(floats.size() / 4);
-        for (int i = 0; i < floats.size(); i += 4) {
-            vectors.add(new Vector4f(floats.get(i), floats.get(i + 1), floats.get(i + 2), floats.get(i + 3)));
+                                              GLTFPrimitive gltfPrimitive, GLTF gltf, List<ByteBuffer> loadedBuffers) throws IOException {
+        GLTFAccessorView view = getAccessorView(semantic, gltfPrimitive, gltf, loadedBuffers);
+        if (view == null) {
+            return Lists.newArrayList();
+        }
+        List<Vector4f> vectors = Lists.newArrayListWithCapacity(view.getCount());
+        for (int i = 0; i < view.getCount(); i++) {
+            vectors.add(new Vector4f(view.getFloat(i, 0), view.getFloat(i, 1), view.getFloat(i, 2), view.getFloat(i, 3)));
         }
         return vectors;
     }
 
-    protected TFloatList readFloatBuffer(MeshAttributeSemantic semantic,
-                                         GLTFPrimitive gltfPrimitive, GLTF gltf, List<byte[]> loadedBuffers) throws IOException {
+    /**
+     * @return a view over the attribute of the primitive, or null if the primitive does not have it
+     */
+    protected GLTFAccessorView getAccessorView(MeshAttributeSemantic semantic, GLTFPrimitive gltfPrimitive, GLTF gltf,
+                                               List<ByteBuffer> loadedBuffers) throws IOException {
         GLTFAccessor gltfAccessor = getAccessor(semantic, gltfPrimitive, gltf);
         if (gltfAccessor != null && gltfAccessor.getBufferView() != null) {
-            GLTFBufferView bufferView = gltf.getBufferViews().get(gltfAccessor.getBufferView());
-            TFloatList floats = new TFloatArrayList();
-            readBuffer(loadedBuffers.get(bufferView.getBuffer()), gltfAccessor, bufferView, floats);
-
-            return floats;
+            return GLTFAccessorView.of(gltf, gltfAccessor, loadedBuffers);
         }
-        return new TFloatArrayList();
+        return null;
     }
 
-    protected TIntList readIntBuffer(MeshAttributeSemantic semantic,
-                                     GLTFPrimitive gltfPrimitive, GLTF gltf, List<byte[]> loadedBuffers) throws IOException {
-        GLTFAccessor gltfAccessor = getAccessor(semantic, gltfPrimitive, gltf);
-        if (gltfAccessor != null && gltfAccessor.getBufferView() != null) {
-            GLTFBufferView bufferView = gltf.getBufferViews().get(gltfAccessor.getBufferView());
-            TIntList ints = new TIntArrayList();
-            readBuffer(loadedBuffers.get(bufferView.getBuffer()), gltfAccessor, bufferView, ints);
+    protected TFloatList readFloats(GLTFAccessorView view) {
+        TFloatList floats = new TFloatArrayList(view.getCount() * view.getDimension());
+        for (int i = 0; i < view.getCount(); i++) {
+            for (int component = 0; component < view.getDimension(); component++) {
+                floats.add(view.getFloat(i, component));
+            }
+        }
+        return floats;
+    }
 
-            return ints;
+    protected TIntList readInts(GLTFAccessorView view) {
+        TIntList ints = new TIntArrayList(view.getCount() * view.getDimension());
+        for (int i = 0; i < view.getCount(); i++) {
+            for (int component = 0; component < view.getDimension(); component++) {
+                ints.add(view.getInt(i, component));
+            }
         }
-        throw new IOException("Cannot load gltf without " + semantic);
+        return ints;
     }
 }
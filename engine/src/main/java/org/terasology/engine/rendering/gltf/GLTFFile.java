@@ -0,0 +1,37 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.rendering.gltf;
+
+import org.terasology.engine.rendering.gltf.model.GLTF;
+
+import javax.annotation.Nullable;
+import java.nio.ByteBuffer;
+
+/**
+ * A read glTF document, either a .gltf JSON file or a GLB container, along with the binary chunk of the GLB container.
+ */
+public final class GLTFFile {
+    private final GLTF gltf;
+    private final ByteBuffer binaryChunk;
+
+    public GLTFFile(GLTF gltf, @Nullable ByteBuffer binaryChunk) {
+        this.gltf = gltf;
+        this.binaryChunk = binaryChunk;
+    }
+
+    /**
+     * @return The parsed JSON of the document
+     */
+    public GLTF getGltf() {
+        return gltf;
+    }
+
+    /**
+     * @return The binary chunk of a GLB container, which backs the first buffer if that has no uri, or null if there
+     *         is none
+     */
+    @Nullable
+    public ByteBuffer getBinaryChunk() {
+        return binaryChunk;
+    }
+}
@@ -2,7 +2,6 @@
 // SPDX-License-Identifier: Apache-2.0
 package org.terasology.engine.rendering.gltf;
 
-import gnu.trove.list.array.TIntArrayList;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.terasology.engine.rendering.assets.mesh.MeshData;
@@ -18,21 +17,21 @@
 import org.terasology.gestalt.assets.module.annotations.RegisterAssetFileFormat;
 
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.Reader;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.List;
 
 /**
  * glTF mesh format loader. Currently supports:
  * <ul>
  *     <li>Single mesh with single primitive</li>
- *     <li>Float attributes</li>
+ *     <li>Float and integer attributes</li>
  *     <li>Reference binary data</li>
+ *     <li>Embedded binary data, as data uris or in a GLB container</li>
  * </ul>
  * Does not support:
  * <ul>
  *     <li>Sparse attributes</li>
- *     <li>Embedded binary data</li>
  * </ul>
  */
 @RegisterAssetFileFormat
@@ -41,66 +40,63 @@ public class GLTFMeshFormat extends GLTFCommonFormat<MeshData> {
     private Logger logger = LoggerFactory.getLogger(GLTFMeshFormat.class);
 
     public GLTFMeshFormat(AssetManager assetManager) {
-        super(assetManager, "gltf");
+        super(assetManager, "gltf", "glb");
         this.assetManager = assetManager;
     }
 
     @Override
     public MeshData load(ResourceUrn urn, List<AssetDataFile> inputs) throws IOException {
-        try (Reader in = new InputStreamReader(inputs.get(0).openStream())) {
-            GLTF gltf = gson.fromJson(in, GLTF.class);
+        try (InputStream in = inputs.get(0).openStream()) {
+            return load(urn, readFile(in));
+        }
+    }
 
-            checkVersionSupported(urn, gltf);
-            checkMeshPresent(urn, gltf);
-            GLTFMesh gltfMesh = gltf.getMeshes().get(0);
+    /**
+     * Builds the mesh of a read glTF document, copying each attribute into the mesh resources in bulk where its
+     * layout allows.
+     */
+    public MeshData load(ResourceUrn urn, GLTFFile file) throws IOException {
+        GLTF gltf = file.getGltf();
+        checkVersionSupported(urn, gltf);
+        checkMeshPresent(urn, gltf);
+        GLTFMesh gltfMesh = gltf.getMeshes().get(0);
 
-            checkPrimitivePresent(urn, gltfMesh);
-            GLTFPrimitive gltfPrimitive = gltfMesh.getPrimitives().get(0);
+        checkPrimitivePresent(urn, gltfMesh);
+        GLTFPrimitive gltfPrimitive = gltfMesh.getPrimitives().get(0);
 
-            List<byte[]> loadedBuffers = loadBinaryBuffers(urn, gltf);
+        List<ByteBuffer> loadedBuffers = loadBinaryBuffers(urn, file);
 
-            StandardMeshData meshData = new StandardMeshData();
-            for (MeshAttributeSemantic semantic : MeshAttributeSemantic.values()) {
-                GLTFAccessor gltfAccessor = getAccessor(semantic, gltfPrimitive, gltf);
-                if (gltfAccessor != null && gltfAccessor.getBufferView() != null) {
-                    GLTFBufferView bufferView = gltf.getBufferViews().get(gltfAccessor.getBufferView());
-                    switch (semantic) {
-                        case Position:
-                            GLTFAttributeMapping.readVec3FBuffer(loadedBuffers.get(bufferView.getBuffer()), gltfAccessor,
-                                    bufferView, meshData.position);
-                            break;
-                        case Normal:
-                            GLTFAttributeMapping.readVec3FBuffer(loadedBuffers.get(bufferView.getBuffer()), gltfAccessor,
-                                    bufferView, meshData.normal);
-                            break;
-                        case Texcoord_0:
-                            GLTFAttributeMapping.readVec2FBuffer(loadedBuffers.get(bufferView.getBuffer()), gltfAccessor,
-                                    bufferView, meshData.uv0);
-                            break;
-                        case Texcoord_1:
-                            GLTFAttributeMapping.readVec2FBuffer(loadedBuffers.get(bufferView.getBuffer()), gltfAccessor,
-                                    bufferView, meshData.uv1);
-                            break;
-                        case Color_0:
-                            GLTFAttributeMapping.readColor4FBuffer(loadedBuffers.get(bufferView.getBuffer()), gltfAccessor,
-                                    bufferView, meshData.color0);
-                            break;
-                    }
+        StandardMeshData meshData = new StandardMeshData();
+        for (MeshAttributeSemantic semantic : MeshAttributeSemantic.values()) {
+            GLTFAccessorView view = getAccessorView(semantic, gltfPrimitive, gltf, loadedBuffers);
+            if (view != null) {
+                switch (semantic) {
+                    case Position:
+                        GLTFAttributeMapping.readVec3FBuffer(view, meshData.position);
+                        break;
+                    case Normal:
+                        GLTFAttributeMapping.readVec3FBuffer(view, meshData.normal);
+                        break;
+                    case Texcoord_0:
+                        GLTFAttributeMapping.readVec2FBuffer(view, meshData.uv0);
+                        break;
+                    case Texcoord_1:
+                        GLTFAttributeMapping.readVec2FBuffer(view, meshData.uv1);
+                        break;
+                    case Color_0:
+                        GLTFAttributeMapping.readColor4FBuffer(view, meshData.color0);
+                        break;
                 }
             }
-            GLTFAccessor indicesAccessor = getIndicesAccessor(gltfPrimitive, gltf, urn);
-            if (indicesAccessor.getBufferView() == null) {
-                throw new IOException("Missing buffer view for indices accessor in " + urn);
-            }
-            GLTFBufferView indicesBuffer = gltf.getBufferViews().get(indicesAccessor.getBufferView());
-            checkIndicesBuffer(indicesBuffer);
-
-            TIntArrayList indices = new TIntArrayList();
-            readBuffer(loadedBuffers.get(indicesBuffer.getBuffer()), indicesAccessor, indicesBuffer, indices);
-            for (int x = 0; x < indices.size(); x++) {
-                meshData.indices.put(indices.get(x));
-            }
-            return meshData;
         }
+        GLTFAccessor indicesAccessor = getIndicesAccessor(gltfPrimitive, gltf, urn);
+        if (indicesAccessor.getBufferView() == null) {
+            throw new IOException("Missing buffer view for indices accessor in " + urn);
+        }
+        GLTFBufferView indicesBuffer = gltf.getBufferViews().get(indicesAccessor.getBufferView());
+        checkIndicesBuffer(indicesBuffer);
+
+        GLTFAttributeMapping.readIndices(GLTFAccessorView.of(gltf, indicesAccessor, loadedBuffers), meshData.indices);
+        return meshData;
     }
 }
@@ -2,10 +2,6 @@
 // SPDX-License-Identifier: Apache-2.0
 package org.terasology.engine.rendering.gltf;
 
-import gnu.trove.list.TFloatList;
-import gnu.trove.list.TIntList;
-import gnu.trove.list.array.TFloatArrayList;
-import gnu.trove.list.array.TIntArrayList;
 import org.joml.Vector3f;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,9 +21,10 @@
 import org.terasology.gestalt.assets.module.annotations.RegisterAssetFileFormat;
 
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.Reader;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 @RegisterAssetFileFormat
@@ -36,24 +33,28 @@ public class GLTFSkeletalMeshFormat extends GLTFCommonFormat<SkeletalMeshData> {
     private Logger logger = LoggerFactory.getLogger(GLTFMeshFormat.class);
 
     public GLTFSkeletalMeshFormat(AssetManager assetManager) {
-        super(assetManager, "gltf");
+        super(assetManager, "gltf", "glb");
     }
 
     @Override
     public SkeletalMeshData load(ResourceUrn urn, List<AssetDataFile> inputs) throws IOException {
-        try (Reader in = new InputStreamReader(inputs.get(0).openStream())) {
-            GLTF gltf = gson.fromJson(in, GLTF.class);
+        try (InputStream in = inputs.get(0).openStream()) {
+            GLTFFile file = readFile(in);
+            GLTF gltf = file.getGltf();
 
             checkVersionSupported(urn, gltf);
             checkMeshPresent(urn, gltf);
 
+            if (gltf.getSkins().isEmpty()) {
+                throw new IOException("Skeletal mesh '" + urn + "' missing skin");
+            }
             GLTFSkin skin = gltf.getSkins().get(0);
             GLTFMesh gltfMesh = gltf.getMeshes().get(0);
 
             checkPrimitivePresent(urn, gltfMesh);
             GLTFPrimitive gltfPrimitive = gltfMesh.getPrimitives().get(0);
 
-            List<byte[]> loadedBuffers = loadBinaryBuffers(urn, gltf);
+            List<ByteBuffer> loadedBuffers = loadBinaryBuffers(urn, file);
 
             SkeletalMeshDataBuilder builder = new SkeletalMeshDataBuilder();
 
@@ -64,20 +65,26 @@ public SkeletalMeshData load(ResourceUrn urn, List<AssetDataFile> inputs) throws
 
             List<Vector3f> positions = loadVector3fList(MeshAttributeSemantic.Position, gltfPrimitive, gltf, loadedBuffers);
             List<Vector3f> normals = loadVector3fList(MeshAttributeSemantic.Normal, gltfPrimitive, gltf, loadedBuffers);
-            TIntList joints = readIntBuffer(MeshAttributeSemantic.Joints_0, gltfPrimitive, gltf, loadedBuffers);
-            TFloatList weights = readFloatBuffer(MeshAttributeSemantic.Weights_0, gltfPrimitive, gltf, loadedBuffers);
+            GLTFAccessorView joints = getAccessorView(MeshAttributeSemantic.Joints_0, gltfPrimitive, gltf, loadedBuffers);
+            GLTFAccessorView weights = getAccessorView(MeshAttributeSemantic.Weights_0, gltfPrimitive, gltf, loadedBuffers);
+            if (joints == null || weights == null) {
+                throw new IOException("Cannot load skeletal mesh " + urn + " without joints and weights");
+            }
 
-            List<BoneWeight> boneWeights = new ArrayList<>();
+            List<BoneWeight> boneWeights = new ArrayList<>(positions.size());
+            float[] biases = new float[4];
+            int[] boneIndices = new int[4];
             for (int index = 0; index < positions.size(); index++) {
-                TIntList weightJoints = new TIntArrayList();
-                TFloatList weightBiases = new TFloatArrayList();
+                int count = 0;
                 for (int i = 0; i < 4; i++) {
-                    if (weights.get(4 * index + i) > 0) {
-                        weightBiases.add(weights.get(4 * index + i));
-                        weightJoints.add(joints.get(4 * index + i));
+                    float weight = weights.getFloat(index, i);
+                    if (weight > 0) {
+                        biases[count] = weight;
+                        boneIndices[count] = joints.getInt(index, i);
+                        count++;
                     }
                 }
-                boneWeights.add(new BoneWeight(weightBiases, weightJoints));
+                boneWeights.add(new BoneWeight(Arrays.copyOf(biases, count), Arrays.copyOf(boneIndices, count)));
             }
             builder.addVertices(positions);
             builder.addNormals(normals);
@@ -90,13 +97,7 @@ public SkeletalMeshData load(ResourceUrn urn, List<AssetDataFile> inputs) throws
             }
             GLTFBufferView indicesBuffer = gltf.getBufferViews().get(indicesAccessor.getBufferView());
             checkIndicesBuffer(indicesBuffer);
-            TIntList indicies = new TIntArrayList();
-            readBuffer(loadedBuffers.get(indicesBuffer.getBuffer()), indicesAccessor, indicesBuffer, indicies);
-            builder.setIndices(indicies);
-
-            if (gltf.getSkins().isEmpty()) {
-                throw new IOException("Skeletal mesh '" + urn + "' missing skin");
-            }
+            builder.setIndices(readInts(GLTFAccessorView.of(gltf, indicesAccessor, loadedBuffers)));
 
             return builder.build();
         }
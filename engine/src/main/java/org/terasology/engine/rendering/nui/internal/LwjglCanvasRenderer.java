@@ -21,6 +21,7 @@
 import org.terasology.engine.context.Context;
 import org.terasology.engine.core.subsystem.DisplayDevice;
 import org.terasology.engine.rendering.assets.font.FontMeshBuilder;
+import org.terasology.engine.rendering.assets.font.TextLayoutCache;
 import org.terasology.engine.rendering.assets.material.Material;
 import org.terasology.engine.rendering.assets.mesh.Mesh;
 import org.terasology.engine.rendering.assets.mesh.MeshBuilder;
@@ -46,6 +47,7 @@
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -65,6 +67,7 @@ public class LwjglCanvasRenderer implements TerasologyCanvasRenderer, PropertyCh
 
     private static final String CROPPING_BOUNDARIES_PARAM = "croppingBoundaries";
     private static final Rectanglef FULL_REGION = new Rectanglef(0, 0, 1, 1);
+    private static final int MAX_CACHED_TEXT_MESHES = 512;
     private Mesh billboard;
 
     private Material textureMat;
@@ -72,9 +75,17 @@ public class LwjglCanvasRenderer implements TerasologyCanvasRenderer, PropertyCh
 
     private final FontMeshBuilder fontMeshBuilder;
 
-    // Text mesh caching
-    private Map<TextCacheKey, Map<Material, Mesh>> cachedText = Maps.newLinkedHashMap();
-    private Set<TextCacheKey> usedText = Sets.newHashSet();
+    // Text mesh caching, kept across frames and evicting the least recently drawn text first
+    private Map<TextCacheKey, TextMesh> cachedText = new LinkedHashMap<TextCacheKey, TextMesh>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<TextCacheKey, TextMesh> eldest) {
+            if (size() > MAX_CACHED_TEXT_MESHES) {
+                eldest.getValue().dispose();
+                return true;
+            }
+            return false;
+        }
+    };
 
     // Texture mesh caching
     private Map<TextureCacheKey, Mesh> cachedTextures = Maps.newLinkedHashMap();
@@ -105,8 +116,13 @@ public LwjglCanvasRenderer(Context context) {
                 () -> new RuntimeException("Failing to find engine textures"));
 
         this.billboard = Assets.getMesh("engine:UIBillboard").get();
+        TextLayoutCache layoutCache = context.get(TextLayoutCache.class);
+        if (layoutCache == null) {
+            layoutCache = new TextLayoutCache();
+            context.put(TextLayoutCache.class, layoutCache);
+        }
         this.fontMeshBuilder = new FontMeshBuilder(context.get(AssetManager.class).getAsset("engine:UIUnderline",
-                Material.class).get());
+                Material.class).get(), layoutCache);
         // failure to load these can be due to failing shaders or missing resources
 
         this.renderingConfig = context.get(Config.class).getRendering();
@@ -138,16 +154,6 @@ public void preRender() {
 
     @Override
     public void postRender() {
-        Iterator<Map.Entry<TextCacheKey, Map<Material, Mesh>>> textIterator = cachedText.entrySet().iterator();
-        while (textIterator.hasNext()) {
-            Map.Entry<TextCacheKey, Map<Material, Mesh>> entry = textIterator.next();
-            if (!usedText.contains(entry.getKey())) {
-                entry.getValue().values().forEach(Mesh::dispose);
-                textIterator.remove();
-            }
-        }
-        usedText.clear();
-
         Iterator<Map.Entry<TextureCacheKey, Mesh>> textureIterator = cachedTextures.entrySet().iterator();
         while (textureIterator.hasNext()) {
             Map.Entry<TextureCacheKey, Mesh> entry = textureIterator.next();
@@ -349,27 +355,24 @@ public void drawText(String text, Font font, HorizontalAlign hAlign, VerticalAli
 
         TextCacheKey key = new TextCacheKey(text, font, absoluteRegion.getSizeX(), hAlign, color, shadowColor,
                 underlined);
-        usedText.add(key);
-        Map<Material, Mesh> fontMesh = cachedText.get(key);
-        List<String> lines = TextLineBuilder.getLines(font, text, absoluteRegion.getSizeX());
-        if (fontMesh != null) {
-            for (Mesh mesh : fontMesh.values()) {
-                if (mesh.isDisposed()) {
-                    fontMesh = null;
-                    break;
-                }
-            }
+        TextMesh textMesh = cachedText.get(key);
+        if (textMesh != null && textMesh.isDisposed()) {
+            cachedText.remove(key);
+            textMesh = null;
         }
-        if (fontMesh == null) {
-            fontMesh = fontMeshBuilder.createTextMesh((org.terasology.engine.rendering.assets.font.Font) font, lines,
-                    absoluteRegion.getSizeX(), hAlign, color, shadowColor, underlined);
-            cachedText.put(key, fontMesh);
+        if (textMesh == null) {
+            List<String> lines = TextLineBuilder.getLines(font, text, absoluteRegion.getSizeX());
+            Map<Material, Mesh> fontMesh = fontMeshBuilder.createTextMesh(
+                    (org.terasology.engine.rendering.assets.font.Font) font, lines, absoluteRegion.getSizeX(), hAlign,
+                    color, shadowColor, underlined);
+            textMesh = new TextMesh(fontMesh, lines.size());
+            cachedText.put(key, textMesh);
         }
 
         Vector2i offset = new Vector2i(absoluteRegion.minX, absoluteRegion.minY);
-        offset.y += vAlign.getOffset(lines.size() * font.getLineHeight(), absoluteRegion.lengthY());
+        offset.y += vAlign.getOffset(textMesh.lineCount * font.getLineHeight(), absoluteRegion.lengthY());
 
-        fontMesh.entrySet().stream().filter(entry -> entry.getKey().isRenderable()).forEach(entry -> {
+        textMesh.meshes.entrySet().stream().filter(entry -> entry.getKey().isRenderable()).forEach(entry -> {
             entry.getKey().bindTextures();
             entry.getKey().setMatrix4("projectionMatrix", projMatrix);
             entry.getKey().setMatrix4("modelViewMatrix", modelMatrixStack);
@@ -610,6 +613,32 @@ public int hashCode() {
         }
     }
 
+    /**
+     * The meshes of a cached text, one for each material, along with the number of lines the text was broken into.
+     */
+    private static class TextMesh {
+        private final Map<Material, Mesh> meshes;
+        private final int lineCount;
+
+        TextMesh(Map<Material, Mesh> meshes, int lineCount) {
+            this.meshes = meshes;
+            this.lineCount = lineCount;
+        }
+
+        boolean isDisposed() {
+            for (Mesh mesh : meshes.values()) {
+                if (mesh.isDisposed()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void dispose() {
+            meshes.values().forEach(Mesh::dispose);
+        }
+    }
+
     /**
      * A key that identifies an entry in the texture cache. It contains the elements that affect the generation of mesh
      * for texture rendering.
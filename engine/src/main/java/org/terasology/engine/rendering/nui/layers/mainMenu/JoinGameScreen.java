@@ -13,6 +13,7 @@
 import org.terasology.engine.context.Context;
 import org.terasology.engine.core.GameEngine;
 import org.terasology.engine.core.GameThread;
+import org.terasology.engine.core.TaskPriority;
 import org.terasology.engine.core.modes.StateLoading;
 import org.terasology.engine.core.module.ModuleManager;
 import org.terasology.engine.i18n.TranslationSystem;
@@ -476,13 +477,13 @@ private void refreshPing() {
             try {
                 long responseTime = pingService.call();
                 if (visibleList.getSelection().getAddress().equals(address)) {
-                    GameThread.asynch(() -> ping.setText(responseTime + " ms."));
+                    GameThread.asynch(TaskPriority.UI, () -> ping.setText(responseTime + " ms."));
                 }
             } catch (IOException e) {
                 String text = translationSystem.translate("${engine:menu#connection-failed}");
                 // Check if selection name is same as earlier when response is received before updating ping field
                 if (name.equals(visibleList.getSelection().getName())) {
-                    GameThread.asynch(() -> ping.setText(FontColor.getColored(text, Color.RED)));
+                    GameThread.asynch(TaskPriority.UI, () -> ping.setText(FontColor.getColored(text, Color.RED)));
                 }
             }
         });
@@ -8,6 +8,7 @@
 import org.terasology.engine.world.ChunkView;
 import org.terasology.engine.world.block.Block;
 import org.terasology.engine.world.chunks.Chunks;
+import org.terasology.engine.world.chunks.blockdata.TeraSectionedArray;
 
 import java.util.concurrent.TimeUnit;
 
@@ -35,11 +36,22 @@ public ChunkMesh generateMesh(ChunkView chunkView, float scale, int border) {
 
         // The mesh extends into the borders in the horizontal directions, but not vertically upwards, in order to cover
         // gaps between LOD chunks of different scales, but also avoid multiple overlapping ocean surfaces.
-        for (int y = 0; y < Chunks.SIZE_Y - border * 2; y++) {
-            for (int z = 0; z < Chunks.SIZE_Z; z++) {
-                for (int x = 0; x < Chunks.SIZE_X; x++) {
-                    Block block = chunkView.getBlock(x, y, z);
-                    block.getMeshGenerator().generateChunkMesh(chunkView, mesh, x, y, z);
+        int maxY = Chunks.SIZE_Y - border * 2;
+        for (int minY = 0; minY < maxY; minY += TeraSectionedArray.SECTION_SIZE_Y) {
+            int sectionMaxY = Math.min(minY + TeraSectionedArray.SECTION_SIZE_Y, maxY);
+            if (border == 0) {
+                // perf: Skip sections filled with a single block without appearance, e.g., air above the ground.
+                Block uniform = chunkView.getUniformBlock(minY, sectionMaxY - 1);
+                if (uniform != null && !uniform.getPrimaryAppearance().hasAppearance()) {
+                    continue;
+                }
+            }
+            for (int y = minY; y < sectionMaxY; y++) {
+                for (int z = 0; z < Chunks.SIZE_Z; z++) {
+                    for (int x = 0; x < Chunks.SIZE_X; x++) {
+                        Block block = chunkView.getBlock(x, y, z);
+                        block.getMeshGenerator().generateChunkMesh(chunkView, mesh, x, y, z);
+                    }
                 }
             }
         }
@@ -9,6 +9,7 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.terasology.engine.core.GameScheduler;
+import org.terasology.engine.core.TaskPriority;
 import org.terasology.engine.monitoring.chunk.ChunkMonitor;
 import org.terasology.engine.rendering.primitives.ChunkMesh;
 import org.terasology.engine.rendering.primitives.ChunkTessellator;
@@ -83,7 +84,7 @@ public static ChunkMeshWorker create(ChunkTessellator chunkTessellator,
                                          Comparator<RenderableChunk> frontToBackComparator) {
         ChunkMeshWorker worker = new ChunkMeshWorker(generateMeshFunc(chunkTessellator, worldProvider),
                 frontToBackComparator,
-                GameScheduler.parallel(), GameScheduler.gameMain());
+                GameScheduler.parallel(), GameScheduler.gameMain(TaskPriority.GL_UPLOAD));
         worker.completedChunks.subscribe();
         return worker;
     }
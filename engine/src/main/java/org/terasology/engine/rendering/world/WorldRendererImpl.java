@@ -21,6 +21,7 @@
 import org.terasology.engine.logic.console.commandSystem.annotations.CommandParam;
 import org.terasology.engine.logic.permission.PermissionManager;
 import org.terasology.engine.logic.players.LocalPlayerSystem;
+import org.terasology.engine.persistence.StorageManager;
 import org.terasology.engine.rendering.ShaderManager;
 import org.terasology.engine.rendering.assets.material.Material;
 import org.terasology.engine.rendering.backdrop.BackdropProvider;
@@ -141,8 +142,11 @@ public WorldRendererImpl(Context context) {
         WorldGenerator worldGenerator = context.get(WorldGenerator.class);
         LodChunkProvider lodChunkProvider = null;
         if (worldGenerator instanceof ScalableWorldGenerator) {
+            StorageManager storageManager = context.get(StorageManager.class);
             lodChunkProvider = new LodChunkProvider(chunkProvider, blockManager, extraDataManager,
-                    (ScalableWorldGenerator) worldGenerator, chunkTessellator);
+                    (ScalableWorldGenerator) worldGenerator, chunkTessellator, storageManager,
+                    storageManager != null ? storageManager.getLodChunkStore() : null,
+                    renderingConfig.getLodChunkThreads());
         }
         this.renderableWorld = new RenderableWorldImpl(this, lodChunkProvider, chunkProvider, chunkTessellator, worldProvider, config, playerCamera);
         renderQueues = renderableWorld.getRenderQueues();
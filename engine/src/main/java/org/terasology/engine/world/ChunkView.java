@@ -38,6 +38,17 @@ public interface ChunkView {
      */
     Block getBlock(int x, int y, int z);
 
+    /**
+     * @param minY the lowest layer
+     * @param maxY the highest layer (inclusive)
+     * @return the block filling the layers minY to maxY of the chunk at the origin of this view, or null if they are
+     *     not known to hold a single block
+     * @see org.terasology.engine.world.chunks.Chunk#getUniformBlock(int, int)
+     */
+    default Block getUniformBlock(int minY, int maxY) {
+        return null;
+    }
+
     /**
      * @param x
      * @param y
@@ -0,0 +1,56 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.engine.world;
+
+import gnu.trove.list.TIntList;
+import org.joml.Vector3i;
+import org.joml.Vector3ic;
+import org.terasology.gestalt.entitysystem.event.Event;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Event sent to the world entity when a region of blocks was changed at once.
+ * <p>
+ * Covers the changed blocks that have no block entity, so were not sent an {@link OnChangedBlock}. Block entities of
+ * the other changed blocks receive an {@link OnChangedBlock} as usual.
+ * <p>
+ * The positions are iterated through a single vector, which has to be copied if it is kept.
+ */
+public class OnChangedBlocks implements Event, Iterable<Vector3ic> {
+    private final TIntList positions;
+
+    /**
+     * @param positions the changed positions, flattened as x, y and z of one block after another
+     */
+    public OnChangedBlocks(TIntList positions) {
+        this.positions = positions;
+    }
+
+    public int blockCount() {
+        return positions.size() / 3;
+    }
+
+    @Override
+    public Iterator<Vector3ic> iterator() {
+        return new Iterator<Vector3ic>() {
+            private final Vector3i current = new Vector3i();
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < positions.size();
+            }
+
+            @Override
+            public Vector3ic next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return current.set(positions.get(index++), positions.get(index++), positions.get(index++));
+            }
+        };
+    }
+}
@@ -5,10 +5,25 @@
 
 import org.joml.Vector3ic;
 import org.terasology.engine.world.block.Block;
+import org.terasology.engine.world.propagation.BlockChange;
+
+import java.util.List;
 
 public interface WorldChangeListener {
 
     void onBlockChanged(Vector3ic pos, Block newBlock, Block originalBlock);
 
+    /**
+     * Called once per chunk for the blocks changed by a bulk change, instead of {@link #onBlockChanged} per block.
+     *
+     * @param chunkPos the position of the chunk all changes are in
+     * @param changes the changed blocks, each of which has a different position
+     */
+    default void onBlocksChanged(Vector3ic chunkPos, List<BlockChange> changes) {
+        for (BlockChange change : changes) {
+            onBlockChanged(change.getPosition(), change.getTo(), change.getFrom());
+        }
+    }
+
     void onExtraDataChanged(int i, Vector3ic pos, int newData, int oldData);
 }
@@ -2,7 +2,6 @@
 // SPDX-License-Identifier: Apache-2.0
 package org.terasology.engine.world.block.entity.neighbourUpdate;
 
-import com.google.common.collect.Sets;
 import org.joml.Vector3i;
 import org.joml.Vector3ic;
 import org.slf4j.Logger;
@@ -16,19 +15,30 @@
 import org.terasology.engine.registry.In;
 import org.terasology.engine.world.BlockEntityRegistry;
 import org.terasology.engine.world.OnChangedBlock;
+import org.terasology.engine.world.OnChangedBlocks;
+import org.terasology.engine.world.WorldComponent;
 import org.terasology.engine.world.WorldProvider;
 import org.terasology.engine.world.block.Block;
 import org.terasology.engine.world.block.BlockComponent;
 import org.terasology.engine.world.block.family.BlockFamily;
 import org.terasology.engine.world.block.family.UpdatesWithNeighboursFamily;
 import org.terasology.engine.world.block.items.OnBlockItemPlaced;
+import org.terasology.engine.world.propagation.BlockUpdateQueue;
 import org.terasology.gestalt.entitysystem.event.ReceiveEvent;
 
-import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Updates the blocks of {@link UpdatesWithNeighboursFamily} families when a block next to them changes.
+ * <p>
+ * The neighbours of blocks changed during a large block update are queued, and updated in batches of a limited amount
+ * of time per tick once the large block update is finished. A queued block is only updated once, no matter how many
+ * of its neighbours changed.
+ */
 @RegisterSystem(RegisterMode.AUTHORITY)
 public class NeighbourBlockFamilyUpdateSystem extends BaseComponentSystem implements UpdateSubscriberSystem {
     private static final Logger logger = LoggerFactory.getLogger(NeighbourBlockFamilyUpdateSystem.class);
+    private static final long UPDATE_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
 
     @In
     private WorldProvider worldProvider;
@@ -36,7 +46,9 @@ public class NeighbourBlockFamilyUpdateSystem extends BaseComponentSystem implem
     private BlockEntityRegistry blockEntityRegistry;
 
     private int largeBlockUpdateCount;
-    private Set<Vector3i> blocksUpdatedInLargeBlockUpdate = Sets.newHashSet();
+    private final BlockUpdateQueue blocksToUpdate = new BlockUpdateQueue();
+    /** Whether queued blocks are being updated, so that the changes this causes are queued as well. */
+    private boolean processingQueuedBlocks;
 
     @ReceiveEvent
     public void largeBlockUpdateStarting(LargeBlockUpdateStarting event, EntityRef entity) {
@@ -50,10 +62,6 @@ public void largeBlockUpdateFinished(LargeBlockUpdateFinished event, EntityRef e
             largeBlockUpdateCount = 0;
             throw new IllegalStateException("LargeBlockUpdateFinished invoked too many times");
         }
-
-        if (largeBlockUpdateCount == 0) {
-            notifyNeighboursOfChangedBlocks();
-        }
     }
 
     /**
@@ -71,42 +79,62 @@ public void onBlockPlaced(OnBlockItemPlaced event, EntityRef entity) {
         processUpdateForBlockLocation(blockComponent.getPosition());
     }
 
+    /**
+     * Updates the queued blocks until the queue is empty or the time budget of this tick is used up.
+     */
     private void notifyNeighboursOfChangedBlocks() {
-        // Invoke the updates in another large block change for this class only
-        largeBlockUpdateCount++;
-        while (!blocksUpdatedInLargeBlockUpdate.isEmpty()) {
-            Set<Vector3i> blocksToUpdate = blocksUpdatedInLargeBlockUpdate;
-
-            // Setup new collection for blocks changed in this pass
-            blocksUpdatedInLargeBlockUpdate = Sets.newHashSet();
-
-            blocksToUpdate.forEach(this::processUpdateForBlockLocation);
+        processingQueuedBlocks = true;
+        try {
+            blocksToUpdate.process(this::updateBlock, UPDATE_BUDGET_NANOS);
+        } finally {
+            processingQueuedBlocks = false;
         }
-        largeBlockUpdateCount--;
     }
 
     @ReceiveEvent(components = BlockComponent.class)
     public void blockUpdate(OnChangedBlock event, EntityRef blockEntity) {
-        if (largeBlockUpdateCount > 0) {
-            blocksUpdatedInLargeBlockUpdate.add(event.getBlockPosition());
+        if (largeBlockUpdateCount > 0 || processingQueuedBlocks) {
+            queueNeighbours(event.getBlockPosition());
         } else {
             Vector3i blockLocation = event.getBlockPosition();
             processUpdateForBlockLocation(blockLocation);
         }
     }
 
+    /**
+     * Blocks changed in bulk are treated like a large block update, so their neighbours are queued.
+     */
+    @ReceiveEvent(components = WorldComponent.class)
+    public void blocksUpdate(OnChangedBlocks event, EntityRef world) {
+        for (Vector3ic blockLocation : event) {
+            queueNeighbours(blockLocation);
+        }
+    }
+
+    private void queueNeighbours(Vector3ic blockLocation) {
+        for (Side side : Side.values()) {
+            Vector3ic direction = side.direction();
+            blocksToUpdate.add(blockLocation.x() + direction.x(), blockLocation.y() + direction.y(),
+                    blockLocation.z() + direction.z());
+        }
+    }
+
     private void processUpdateForBlockLocation(Vector3ic blockLocation) {
+        Vector3i neighborLocation = new Vector3i();
         for (Side side : Side.values()) {
-            Vector3i neighborLocation = blockLocation.add(side.direction(), new Vector3i());
-            if (worldProvider.isBlockRelevant(neighborLocation)) {
-                Block neighborBlock = worldProvider.getBlock(neighborLocation);
-                final BlockFamily blockFamily = neighborBlock.getBlockFamily();
-                if (blockFamily instanceof UpdatesWithNeighboursFamily) {
-                    UpdatesWithNeighboursFamily neighboursFamily = (UpdatesWithNeighboursFamily) blockFamily;
-                    Block neighborBlockAfterUpdate = neighboursFamily.getBlockForNeighborUpdate(neighborLocation, neighborBlock);
-                    if (neighborBlock != neighborBlockAfterUpdate) {
-                        worldProvider.setBlock(neighborLocation, neighborBlockAfterUpdate);
-                    }
+            updateBlock(blockLocation.add(side.direction(), neighborLocation));
+        }
+    }
+
+    private void updateBlock(Vector3ic location) {
+        if (worldProvider.isBlockRelevant(location)) {
+            Block block = worldProvider.getBlock(location);
+            final BlockFamily blockFamily = block.getBlockFamily();
+            if (blockFamily instanceof UpdatesWithNeighboursFamily) {
+                UpdatesWithNeighboursFamily neighboursFamily = (UpdatesWithNeighboursFamily) blockFamily;
+                Block blockAfterUpdate = neighboursFamily.getBlockForNeighborUpdate(location, block);
+                if (block != blockAfterUpdate) {
+                    worldProvider.setBlock(location, blockAfterUpdate);
                 }
             }
         }
@@ -118,5 +146,8 @@ public void update(float delta) {
             logger.error("Unmatched LargeBlockUpdateStarted - LargeBlockUpdateFinished not invoked enough times");
         }
         largeBlockUpdateCount = 0;
+        if (!blocksToUpdate.isEmpty()) {
+            notifyNeighboursOfChangedBlocks();
+        }
     }
 }
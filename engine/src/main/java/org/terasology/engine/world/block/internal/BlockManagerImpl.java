@@ -25,6 +25,7 @@
 import org.terasology.engine.world.block.shapes.BlockShape;
 import org.terasology.engine.world.block.tiles.WorldAtlas;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -191,6 +192,7 @@ private void registerBlock(Block block, RegisteredState newState) {
         if (block.getId() != UNKNOWN_ID) {
             logger.info("Registered Block {} with id {}", block, block.getId());
             newState.blocksById.put(block.getId(), block);
+            newState.setBlockForId(block.getId(), block);
             newState.idByUri.put(block.getURI(), block.getId());
         } else {
             logger.info("Failed to register block {} - no id", block);
@@ -316,7 +318,9 @@ public Block getBlock(BlockUri uri) {
 
     @Override
     public Block getBlock(short id) {
-        Block result = registeredBlockInfo.get().blocksById.get(id);
+        Block[] blocksByIdTable = registeredBlockInfo.get().blocksByIdTable;
+        int index = Short.toUnsignedInt(id);
+        Block result = index < blocksByIdTable.length ? blocksByIdTable[index] : null;
         if (result == null) {
             return getAirBlock();
         }
@@ -350,12 +354,15 @@ private static class RegisteredState {
         private final Map<BlockUri, Block> blocksByUri;
         private final TShortObjectMap<Block> blocksById;
         private final TObjectShortMap<BlockUri> idByUri;
+        /** {@link #blocksById} as a flat table indexed by unsigned id, for resolving the blocks read from chunks. */
+        private Block[] blocksByIdTable;
 
         RegisteredState() {
             this.registeredFamilyByUri = Maps.newHashMap();
             this.blocksByUri = Maps.newHashMap();
             this.blocksById = new TShortObjectHashMap<>();
             this.idByUri = new TObjectShortHashMap<>();
+            this.blocksByIdTable = new Block[0];
         }
 
         RegisteredState(RegisteredState oldState) {
@@ -363,6 +370,15 @@ private static class RegisteredState {
             this.blocksByUri = Maps.newHashMap(oldState.blocksByUri);
             this.blocksById = new TShortObjectHashMap<>(oldState.blocksById);
             this.idByUri = new TObjectShortHashMap<>(oldState.idByUri);
+            this.blocksByIdTable = oldState.blocksByIdTable.clone();
+        }
+
+        void setBlockForId(short id, Block block) {
+            int index = Short.toUnsignedInt(id);
+            if (index >= blocksByIdTable.length) {
+                blocksByIdTable = Arrays.copyOf(blocksByIdTable, Math.max(index + 1, 2 * blocksByIdTable.length));
+            }
+            blocksByIdTable[index] = block;
         }
     }
 }
@@ -10,6 +10,7 @@
 import org.terasology.engine.entitySystem.prefab.PrefabManager;
 import org.terasology.engine.entitySystem.systems.BaseComponentSystem;
 import org.terasology.engine.entitySystem.systems.RegisterSystem;
+import org.terasology.engine.entitySystem.systems.UpdateSubscriberSystem;
 import org.terasology.engine.logic.health.DestroyEvent;
 import org.terasology.engine.math.Side;
 import org.terasology.engine.monitoring.PerformanceMonitor;
@@ -17,20 +18,34 @@
 import org.terasology.engine.registry.Share;
 import org.terasology.engine.world.BlockEntityRegistry;
 import org.terasology.engine.world.OnChangedBlock;
+import org.terasology.engine.world.OnChangedBlocks;
+import org.terasology.engine.world.WorldComponent;
 import org.terasology.engine.world.WorldProvider;
 import org.terasology.engine.world.block.Block;
 import org.terasology.engine.world.block.BlockComponent;
 import org.terasology.engine.world.block.entity.placement.PlaceBlocks;
+import org.terasology.engine.world.propagation.BlockUpdateQueue;
 import org.terasology.gestalt.entitysystem.event.ReceiveEvent;
 
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Destroys blocks that lose their structural support when a block next to them changes.
+ * <p>
+ * Changed blocks are queued, and the blocks next to them are checked in batches of a limited amount of time per tick.
+ * A block that changes several times before it is processed is only processed once, and the blocks destroyed for lack
+ * of support are queued in turn, so collapses propagate through the queue instead of through nested events.
+ */
 @RegisterSystem
 @Share(BlockStructuralSupportRegistry.class)
-public class BlockStructuralSupportSystem extends BaseComponentSystem implements BlockStructuralSupportRegistry {
+public class BlockStructuralSupportSystem extends BaseComponentSystem
+        implements BlockStructuralSupportRegistry, UpdateSubscriberSystem {
+    private static final long UPDATE_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
+
     @In
     private WorldProvider worldProvider;
     @In
@@ -42,6 +57,7 @@ public class BlockStructuralSupportSystem extends BaseComponentSystem implements
 
     private boolean midDestruction;
     private EntityRef gatheringEntity;
+    private final BlockUpdateQueue changedBlocks = new BlockUpdateQueue();
 
     private Set<BlockStructuralSupport> supports = Sets.newTreeSet(
             new Comparator<BlockStructuralSupport>() {
@@ -65,11 +81,24 @@ public void registerBlockStructuralSupport(BlockStructuralSupport blockStructura
 
     @ReceiveEvent(components = BlockComponent.class)
     public void checkForSupportRemoved(OnChangedBlock event, EntityRef entity) {
+        changedBlocks.add(event.getBlockPosition());
+    }
+
+    @ReceiveEvent(components = WorldComponent.class)
+    public void checkForSupportRemovedInBulk(OnChangedBlocks event, EntityRef world) {
+        for (Vector3ic position : event) {
+            changedBlocks.add(position);
+        }
+    }
+
+    @Override
+    public void update(float delta) {
+        if (changedBlocks.isEmpty()) {
+            return;
+        }
         PerformanceMonitor.startActivity("StructuralCheck");
         try {
-            for (Side side : Side.values()) {
-                validateSupportForBlockOnSide(event.getBlockPosition(), side);
-            }
+            changedBlocks.process(this::validateSupportAround, UPDATE_BUDGET_NANOS);
         } finally {
             PerformanceMonitor.endActivity();
         }
@@ -89,7 +118,13 @@ public void preventInvalidPlacement(PlaceBlocks placeBlocks, EntityRef world) {
         }
     }
 
-    private void validateSupportForBlockOnSide(Vector3i replacedBlockPosition, Side side) {
+    private void validateSupportAround(Vector3ic replacedBlockPosition) {
+        for (Side side : Side.values()) {
+            validateSupportForBlockOnSide(replacedBlockPosition, side);
+        }
+    }
+
+    private void validateSupportForBlockOnSide(Vector3ic replacedBlockPosition, Side side) {
         final Vector3i blockPosition = side.getAdjacentPos(replacedBlockPosition, new Vector3i());
         if (worldProvider.isBlockRelevant(blockPosition)) {
             final Side sideReverse = side.reverse();
@@ -0,0 +1,270 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.world.block.tiles;
+
+import com.google.common.collect.Lists;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+import java.awt.image.BufferedImage;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Composites the frames of block tiles into the mipmaps of an atlas, working on raw pixel arrays instead of AWT images.
+ * <p>
+ * The pixels of the tiles are read once, into one {@link Layer} per atlas. Every mipmap of every atlas is then
+ * composited by its own task on the given executor, scaling each frame by averaging the source pixels it covers and
+ * drawing it over the clear color, as {@link java.awt.Image#SCALE_SMOOTH} scaling and source-over drawing would.
+ */
+final class WorldAtlasBuilder {
+    private static final int BYTES_PER_PIXEL = 4;
+
+    private final ExecutorService executor;
+    private final int atlasSize;
+    private final int tileSize;
+    private final int numMipmaps;
+
+    WorldAtlasBuilder(ExecutorService executor, int atlasSize, int tileSize, int numMipmaps) {
+        this.executor = executor;
+        this.atlasSize = atlasSize;
+        this.tileSize = tileSize;
+        this.numMipmaps = numMipmaps;
+    }
+
+    /**
+     * Reads the pixels of the tiles of each list on its own task.
+     *
+     * @param tileLists lists of tiles, which may contain null to leave a slot empty
+     * @return a layer for each list, in the same order
+     */
+    List<Layer> readLayers(List<List<BlockTile>> tileLists) {
+        List<Callable<Layer>> tasks = Lists.newArrayList();
+        for (List<BlockTile> tiles : tileLists) {
+            tasks.add(() -> Layer.read(tiles));
+        }
+        return invokeAll(tasks);
+    }
+
+    /**
+     * Composites the mipmaps of several atlases, each mipmap on its own task.
+     *
+     * @param layers the frames of each atlas
+     * @param clearColors the ARGB color the frames of each atlas are drawn over
+     * @param alphaMasks for each atlas, frames whose blue channel replaces the alpha of the atlas, or null
+     * @return for each atlas, its mipmaps as RGBA pixels
+     */
+    ByteBuffer[][] build(Layer[] layers, int[] clearColors, Layer[] alphaMasks) {
+        List<Callable<ByteBuffer>> tasks = Lists.newArrayList();
+        for (int i = 0; i < layers.length; i++) {
+            for (int level = 0; level < numMipmaps; level++) {
+                Layer layer = layers[i];
+                int clearColor = clearColors[i];
+                Layer alphaMask = alphaMasks[i];
+                int mipLevel = level;
+                tasks.add(() -> toRgba(composite(layer, clearColor, alphaMask, mipLevel)));
+            }
+        }
+        List<ByteBuffer> mipmaps = invokeAll(tasks);
+        ByteBuffer[][] result = new ByteBuffer[layers.length][];
+        for (int i = 0; i < layers.length; i++) {
+            result[i] = mipmaps.subList(i * numMipmaps, (i + 1) * numMipmaps).toArray(new ByteBuffer[0]);
+        }
+        return result;
+    }
+
+    /**
+     * @return the ARGB pixels of one mipmap of an atlas
+     */
+    int[] composite(Layer layer, int clearColor, Layer alphaMask, int level) {
+        int[] pixels = composite(layer, clearColor, level);
+        if (alphaMask != null) {
+            int[] mask = composite(alphaMask, 0xFF000000, level);
+            for (int i = 0; i < pixels.length; i++) {
+                pixels[i] = pixels[i] & 0x00FFFFFF | mask[i] << 24;
+            }
+        }
+        return pixels;
+    }
+
+    private int[] composite(Layer layer, int clearColor, int level) {
+        int size = atlasSize >> level;
+        int textureSize = tileSize >> level;
+        int tilesPerDim = atlasSize / tileSize;
+        int[] result = new int[size * size];
+        Arrays.fill(result, clearColor);
+        int[] scaled = new int[textureSize * textureSize];
+        for (int slot = 0; slot < layer.frames.length; slot++) {
+            if (layer.frames[slot] == null) {
+                continue;
+            }
+            scale(layer.frames[slot], layer.sizes[slot], scaled, textureSize);
+            int originX = (slot % tilesPerDim) * textureSize;
+            int originY = (slot / tilesPerDim) * textureSize;
+            for (int y = 0; y < textureSize; y++) {
+                int row = (originY + y) * size + originX;
+                for (int x = 0; x < textureSize; x++) {
+                    result[row + x] = blend(scaled[y * textureSize + x], result[row + x]);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Scales a square frame whose side is a power of two. Every target pixel averages the source pixels it covers, or
+     * repeats the source pixel it lies in when enlarging.
+     */
+    static void scale(int[] source, int sourceSize, int[] target, int targetSize) {
+        if (targetSize >= sourceSize) {
+            int factor = targetSize / sourceSize;
+            for (int y = 0; y < targetSize; y++) {
+                for (int x = 0; x < targetSize; x++) {
+                    target[y * targetSize + x] = source[(y / factor) * sourceSize + x / factor];
+                }
+            }
+            return;
+        }
+        int factor = sourceSize / targetSize;
+        int count = factor * factor;
+        for (int y = 0; y < targetSize; y++) {
+            for (int x = 0; x < targetSize; x++) {
+                int a = 0;
+                int r = 0;
+                int g = 0;
+                int b = 0;
+                for (int sy = y * factor; sy < (y + 1) * factor; sy++) {
+                    for (int sx = x * factor; sx < (x + 1) * factor; sx++) {
+                        int pixel = source[sy * sourceSize + sx];
+                        a += pixel >>> 24;
+                        r += pixel >> 16 & 0xFF;
+                        g += pixel >> 8 & 0xFF;
+                        b += pixel & 0xFF;
+                    }
+                }
+                target[y * targetSize + x] = (a + count / 2) / count << 24 | (r + count / 2) / count << 16
+                        | (g + count / 2) / count << 8 | (b + count / 2) / count;
+            }
+        }
+    }
+
+    /**
+     * Draws an ARGB pixel over another with the source-over rule, for colors that are not premultiplied.
+     */
+    static int blend(int source, int destination) {
+        int sourceAlpha = source >>> 24;
+        if (sourceAlpha == 0xFF) {
+            return source;
+        }
+        if (sourceAlpha == 0) {
+            return destination;
+        }
+        int destinationWeight = (destination >>> 24) * (0xFF - sourceAlpha);
+        int alpha = sourceAlpha * 0xFF + destinationWeight;
+        int result = (alpha + 0x7F) / 0xFF << 24;
+        for (int shift = 0; shift <= 16; shift += 8) {
+            int channel = ((source >> shift & 0xFF) * sourceAlpha * 0xFF
+                    + (destination >> shift & 0xFF) * destinationWeight + alpha / 2) / alpha;
+            result |= channel << shift;
+        }
+        return result;
+    }
+
+    /**
+     * @return the pixels as RGBA bytes in a direct buffer, ready for upload
+     */
+    static ByteBuffer toRgba(int[] argb) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(argb.length * BYTES_PER_PIXEL);
+        for (int pixel : argb) {
+            buffer.putInt(pixel << 8 | pixel >>> 24);
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * @return the pixels of RGBA bytes as ARGB values
+     */
+    static int[] toArgb(ByteBuffer rgba) {
+        int[] argb = new int[rgba.remaining() / BYTES_PER_PIXEL];
+        for (int i = 0; i < argb.length; i++) {
+            int pixel = rgba.getInt(rgba.position() + i * BYTES_PER_PIXEL);
+            argb[i] = pixel >>> 8 | pixel << 24;
+        }
+        return argb;
+    }
+
+    private <T> List<T> invokeAll(List<Callable<T>> tasks) {
+        List<T> results = Lists.newArrayListWithCapacity(tasks.size());
+        try {
+            for (Future<T> future : executor.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while building the world atlas", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to build the world atlas", e.getCause());
+        }
+        return results;
+    }
+
+    /**
+     * The frames of the tiles of one atlas, one per slot, and a hash of their content.
+     */
+    static final class Layer {
+        private final int[][] frames;
+        private final int[] sizes;
+        private final HashCode hash;
+
+        Layer(int[][] frames, int[] sizes) {
+            this.frames = frames;
+            this.sizes = sizes;
+            Hasher hasher = Hashing.murmur3_128().newHasher();
+            hasher.putInt(frames.length);
+            for (int slot = 0; slot < frames.length; slot++) {
+                if (frames[slot] == null) {
+                    hasher.putInt(-1);
+                } else {
+                    hasher.putInt(sizes[slot]);
+                    ByteBuffer bytes = ByteBuffer.allocate(frames[slot].length * BYTES_PER_PIXEL);
+                    bytes.asIntBuffer().put(frames[slot]);
+                    hasher.putBytes(bytes);
+                }
+            }
+            hash = hasher.hash();
+        }
+
+        static Layer read(List<BlockTile> tiles) {
+            List<int[]> frames = Lists.newArrayList();
+            List<Integer> sizes = Lists.newArrayList();
+            for (BlockTile tile : tiles) {
+                if (tile == null) {
+                    frames.add(null);
+                    sizes.add(0);
+                    continue;
+                }
+                for (int i = 0; i < tile.getLength(); i++) {
+                    BufferedImage image = tile.getImage(i);
+                    int size = image.getWidth();
+                    frames.add(image.getRGB(0, 0, size, size, null, 0, size));
+                    sizes.add(size);
+                }
+            }
+            return new Layer(frames.toArray(new int[0][]), sizes.stream().mapToInt(Integer::intValue).toArray());
+        }
+
+        /**
+         * @return a hash of the sizes and pixels of all frames and the empty slots between them
+         */
+        HashCode getHash() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,190 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.world.block.tiles;
+
+import com.google.common.collect.Lists;
+import gnu.trove.map.TObjectIntMap;
+import gnu.trove.map.hash.TObjectIntHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.gestalt.assets.ResourceUrn;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Persists built world atlases between runs, so that an unchanged set of block tiles is loaded with a single mapped
+ * read instead of being composited again.
+ * <p>
+ * Each entry holds the tile index and the mipmaps of every atlas, as RGBA pixels, under a key derived from the content
+ * of the tiles and the layout of the atlas. Changed tiles therefore produce a new key; only the most recently written
+ * entries are kept.
+ * <p>
+ * Caching can be turned off with the {@value #DISABLE_PROPERTY} system property, e.g. to compare startup times.
+ */
+class WorldAtlasCache {
+    /** Set this property to "true" to always build the atlas instead of using a cached one. */
+    public static final String DISABLE_PROPERTY = "org.terasology.disable_atlas_cache";
+
+    private static final Logger logger = LoggerFactory.getLogger(WorldAtlasCache.class);
+    private static final String FILE_SUFFIX = ".atlas";
+    private static final int MAGIC = 0x5441544C;
+    private static final int FORMAT_VERSION = 1;
+    private static final int MAX_ENTRIES = 2;
+
+    private final Path cacheDirectory;
+
+    /**
+     * @param cacheDirectory the directory atlases are written to, or null to disable caching
+     */
+    WorldAtlasCache(Path cacheDirectory) {
+        this.cacheDirectory = cacheDirectory;
+    }
+
+    boolean isEnabled() {
+        return cacheDirectory != null && !Boolean.getBoolean(DISABLE_PROPERTY);
+    }
+
+    /**
+     * @param key the content key of the atlas
+     * @param tileIndexes the tile index the atlas must have been built with
+     * @param atlasSize the size of the largest mipmap of each atlas
+     * @param numMipmaps the number of mipmaps of each atlas
+     * @param atlasCount the number of atlases
+     * @return the mipmaps of each atlas, backed by the mapped cache file, or null if there is no matching entry
+     */
+    ByteBuffer[][] load(String key, TObjectIntMap<ResourceUrn> tileIndexes, int atlasSize, int numMipmaps,
+                        int atlasCount) {
+        if (!isEnabled()) {
+            return null;
+        }
+        Path file = cacheDirectory.resolve(key + FILE_SUFFIX);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (mapped.getInt() != MAGIC || mapped.getInt() != FORMAT_VERSION || mapped.getInt() != atlasSize
+                    || mapped.getInt() != numMipmaps || mapped.getInt() != atlasCount
+                    || !readTileIndexes(mapped).equals(tileIndexes)) {
+                logger.warn("Discarding mismatched world atlas cache {}", file);
+                return null;
+            }
+            ByteBuffer[][] atlases = new ByteBuffer[atlasCount][numMipmaps];
+            for (int i = 0; i < atlasCount; i++) {
+                for (int level = 0; level < numMipmaps; level++) {
+                    int length = 4 * (atlasSize >> level) * (atlasSize >> level);
+                    ByteBuffer mipmap = mapped.slice(mapped.position(), length);
+                    mapped.position(mapped.position() + length);
+                    atlases[i][level] = mipmap;
+                }
+            }
+            // Marks the entry as recently used, so that it outlives other entries
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            logger.debug("Loaded cached world atlas from {}", file);
+            return atlases;
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Discarding unreadable world atlas cache {}", file, e);
+            return null;
+        }
+    }
+
+    /**
+     * Writes an entry, replacing any entry with the same key, and removes the least recently used entries beyond
+     * {@link #MAX_ENTRIES}. Failures are logged and otherwise ignored.
+     */
+    void save(String key, TObjectIntMap<ResourceUrn> tileIndexes, int atlasSize, ByteBuffer[][] atlases) {
+        if (!isEnabled()) {
+            return;
+        }
+        Path file = cacheDirectory.resolve(key + FILE_SUFFIX);
+        try {
+            Files.createDirectories(cacheDirectory);
+            Path temp = Files.createTempFile(cacheDirectory, key, ".tmp");
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                writeFully(channel, writeHeader(tileIndexes, atlasSize, atlases));
+                for (ByteBuffer[] mipmaps : atlases) {
+                    for (ByteBuffer mipmap : mipmaps) {
+                        writeFully(channel, mipmap.duplicate());
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                Files.deleteIfExists(temp);
+                throw e;
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logger.debug("Saved world atlas cache to {}", file);
+            removeOldEntries();
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Failed to save world atlas cache to {}", file, e);
+        }
+    }
+
+    private ByteBuffer writeHeader(TObjectIntMap<ResourceUrn> tileIndexes, int atlasSize, ByteBuffer[][] atlases) {
+        List<byte[]> urns = Lists.newArrayList();
+        List<Integer> indexes = Lists.newArrayList();
+        tileIndexes.forEachEntry((urn, index) -> {
+            urns.add(urn.toString().getBytes(StandardCharsets.UTF_8));
+            indexes.add(index);
+            return true;
+        });
+        int size = 6 * Integer.BYTES + urns.stream().mapToInt(urn -> 2 * Integer.BYTES + urn.length).sum();
+        ByteBuffer header = ByteBuffer.allocate(size);
+        header.putInt(MAGIC).putInt(FORMAT_VERSION).putInt(atlasSize).putInt(atlases[0].length).putInt(atlases.length);
+        header.putInt(urns.size());
+        for (int i = 0; i < urns.size(); i++) {
+            header.putInt(urns.get(i).length).put(urns.get(i)).putInt(indexes.get(i));
+        }
+        header.flip();
+        return header;
+    }
+
+    private static TObjectIntMap<ResourceUrn> readTileIndexes(ByteBuffer buffer) {
+        int count = buffer.getInt();
+        TObjectIntMap<ResourceUrn> tileIndexes = new TObjectIntHashMap<>(count);
+        for (int i = 0; i < count; i++) {
+            byte[] urn = new byte[buffer.getInt()];
+            buffer.get(urn);
+            tileIndexes.put(new ResourceUrn(new String(urn, StandardCharsets.UTF_8)), buffer.getInt());
+        }
+        return tileIndexes;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private void removeOldEntries() throws IOException {
+        List<Path> entries;
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            entries = files.filter(file -> file.getFileName().toString().endsWith(FILE_SUFFIX))
+                    .sorted(Comparator.comparing(WorldAtlasCache::lastModified).reversed())
+                    .collect(Collectors.toList());
+        }
+        for (Path entry : entries.subList(Math.min(MAX_ENTRIES, entries.size()), entries.size())) {
+            Files.deleteIfExists(entry);
+        }
+    }
+
+    private static FileTime lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+}
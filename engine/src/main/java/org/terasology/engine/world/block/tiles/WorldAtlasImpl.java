@@ -5,8 +5,10 @@
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Queues;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import com.google.common.math.IntMath;
-import de.matthiasmann.twl.utils.PNGDecoder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import gnu.trove.map.TObjectIntMap;
 import gnu.trove.map.hash.TObjectIntHashMap;
 import org.joml.Vector2f;
@@ -28,12 +30,8 @@
 
 import javax.imageio.ImageIO;
 import java.awt.Color;
-import java.awt.Graphics;
-import java.awt.Image;
 import java.awt.image.BufferedImage;
 import java.io.BufferedOutputStream;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
@@ -42,15 +40,22 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Consumer;
 
 public class WorldAtlasImpl implements WorldAtlas {
     private static final Logger logger = LoggerFactory.getLogger(WorldAtlasImpl.class);
 
     private static final int MAX_TILES = 65536;
-    private static final Color UNIT_Z_COLOR = new Color(0.5f, 0.5f, 1.0f, 1.0f);
-    private static final Color TRANSPARENT_COLOR = new Color(0.0f, 0.0f, 0.0f, 0.0f);
-    private static final Color MID_RED_COLOR = new Color(0.5f, 0.0f, 0.0f, 1.0f);
+    private static final int UNIT_Z_COLOR = new Color(0.5f, 0.5f, 1.0f, 1.0f).getRGB();
+    private static final int TRANSPARENT_COLOR = new Color(0.0f, 0.0f, 0.0f, 0.0f).getRGB();
+    private static final int MID_RED_COLOR = new Color(0.5f, 0.0f, 0.0f, 1.0f).getRGB();
+
+    private static final int TERRAIN = 0;
+    private static final int NORMAL = 1;
+    private static final int HEIGHT = 2;
+    private static final String[] ATLAS_NAMES = {"tiles.png", "tilesNormal.png", "tilesHeight.png"};
 
     private int maxAtlasSize = 4096;
     private int atlasSize = 256;
@@ -67,6 +72,9 @@ public class WorldAtlasImpl implements WorldAtlas {
 
     private Consumer<BlockTile> tileReloadListener = reloadQueue::add;
 
+    private final WorldAtlasCache cache = new WorldAtlasCache(PathManager.getInstance().getCachePath() != null
+            ? PathManager.getInstance().getCachePath().resolve("atlas") : null);
+
     /**
      * @param maxAtlasSize The maximum dimensions of the atlas (both width and height, in pixels)
      */
@@ -202,17 +210,23 @@ private void buildAtlas() {
         calculateAtlasSizes();
 
         int numMipMaps = getNumMipmaps();
-        ByteBuffer[] data = createAtlasMipmaps(numMipMaps, TRANSPARENT_COLOR, tiles, "tiles.png");
-        ByteBuffer[] dataNormal = createAtlasMipmaps(numMipMaps, UNIT_Z_COLOR, tilesNormal, "tilesNormal.png", tilesGloss);
-        ByteBuffer[] dataHeight = createAtlasMipmaps(numMipMaps, MID_RED_COLOR, tilesHeight, "tilesHeight.png");
+        ExecutorService workers = Executors.newFixedThreadPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1),
+                new ThreadFactoryBuilder().setNameFormat("World-Atlas-%d").setDaemon(true).build());
+        ByteBuffer[][] atlases;
+        try {
+            atlases = createAtlasMipmaps(workers, numMipMaps);
+        } finally {
+            // Lets a pending cache write or atlas dump finish in the background
+            workers.shutdown();
+        }
 
-        TextureData terrainTexData = new TextureData(atlasSize, atlasSize, data, Texture.WrapMode.CLAMP, Texture.FilterMode.NEAREST);
+        TextureData terrainTexData = new TextureData(atlasSize, atlasSize, atlases[TERRAIN], Texture.WrapMode.CLAMP, Texture.FilterMode.NEAREST);
         Texture terrainTex = Assets.generateAsset(new ResourceUrn("engine:terrain"), terrainTexData, Texture.class);
 
-        TextureData terrainNormalData = new TextureData(atlasSize, atlasSize, dataNormal, Texture.WrapMode.CLAMP, Texture.FilterMode.NEAREST);
+        TextureData terrainNormalData = new TextureData(atlasSize, atlasSize, atlases[NORMAL], Texture.WrapMode.CLAMP, Texture.FilterMode.NEAREST);
         Assets.generateAsset(new ResourceUrn("engine:terrainNormal"), terrainNormalData, Texture.class);
 
-        TextureData terrainHeightData = new TextureData(atlasSize, atlasSize, dataHeight, Texture.WrapMode.CLAMP, Texture.FilterMode.LINEAR);
+        TextureData terrainHeightData = new TextureData(atlasSize, atlasSize, atlases[HEIGHT], Texture.WrapMode.CLAMP, Texture.FilterMode.LINEAR);
         Assets.generateAsset(new ResourceUrn("engine:terrainHeight"), terrainHeightData, Texture.class);
 
         MaterialData terrainMatData = new MaterialData(Assets.getShader("engine:block").get());
@@ -243,58 +257,53 @@ private void createTextureAtlas(final Texture texture) {
         }
     }
 
-    private ByteBuffer[] createAtlasMipmaps(int numMipMaps, Color initialColor, List<BlockTile> tileImages, String screenshotName) {
-        return createAtlasMipmaps(numMipMaps, initialColor, tileImages, screenshotName, Lists.newArrayList());
-    }
-
-    private ByteBuffer[] createAtlasMipmaps(int numMipMaps, Color initialColor, List<BlockTile> tileImages,
-                                            String screenshotName, List<BlockTile> alphaMaskTiles) {
-        ByteBuffer[] data = new ByteBuffer[numMipMaps];
-        for (int i = 0; i < numMipMaps; ++i) {
-            BufferedImage image = generateAtlas(i, tileImages, initialColor);
-            if (!alphaMaskTiles.isEmpty()) {
-                BufferedImage alphaMask = generateAtlas(i, alphaMaskTiles, Color.BLACK);
-                storeGreyscaleMapIntoAlpha(image, alphaMask);
-            }
-
-            if (i == 0) {
-                try (OutputStream stream = new BufferedOutputStream(Files.newOutputStream(
-                        PathManager.getInstance().getScreenshotPath().resolve(screenshotName)))) {
-                    ImageIO.write(image, "png", stream);
-                } catch (IOException e) {
-                    logger.warn("Failed to write atlas");
-                }
-            }
+    /**
+     * Reads the tiles and composites the terrain, normal and height atlases on the workers, or loads them from the
+     * cache if it has them for the same tiles and layout. Newly built atlases are written to the cache, and their
+     * largest mipmaps to the screenshot directory, in the background.
+     *
+     * @return the mipmaps of each atlas, indexed by {@link #TERRAIN}, {@link #NORMAL} and {@link #HEIGHT}
+     */
+    private ByteBuffer[][] createAtlasMipmaps(ExecutorService workers, int numMipMaps) {
+        WorldAtlasBuilder builder = new WorldAtlasBuilder(workers, atlasSize, tileSize, numMipMaps);
+        List<WorldAtlasBuilder.Layer> layers = builder.readLayers(List.of(tiles, tilesNormal, tilesHeight, tilesGloss));
+        WorldAtlasBuilder.Layer[] atlasLayers = {layers.get(0), layers.get(1), layers.get(2)};
+        WorldAtlasBuilder.Layer[] alphaMasks = {null, layers.get(3), null};
+
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+        hasher.putInt(atlasSize).putInt(tileSize).putInt(numMipMaps);
+        for (WorldAtlasBuilder.Layer layer : layers) {
+            hasher.putBytes(layer.getHash().asBytes());
+        }
+        String key = hasher.hash().toString();
 
-            try (ByteArrayOutputStream bos = new ByteArrayOutputStream()) {
-                ImageIO.write(image, "png", bos);
-                PNGDecoder decoder = new PNGDecoder(new ByteArrayInputStream(bos.toByteArray()));
-                ByteBuffer buf = ByteBuffer.allocateDirect(4 * decoder.getWidth() * decoder.getHeight());
-                decoder.decode(buf, decoder.getWidth() * 4, PNGDecoder.Format.RGBA);
-                buf.flip();
-                data[i] = buf;
-            } catch (IOException e) {
-                logger.error("Failed to create atlas texture");
-            }
+        ByteBuffer[][] atlases = cache.load(key, tileIndexes, atlasSize, numMipMaps, ATLAS_NAMES.length);
+        if (atlases != null) {
+            return atlases;
+        }
+        atlases = builder.build(atlasLayers, new int[]{TRANSPARENT_COLOR, UNIT_Z_COLOR, MID_RED_COLOR}, alphaMasks);
+
+        ByteBuffer[][] built = atlases;
+        TObjectIntMap<ResourceUrn> builtIndexes = new TObjectIntHashMap<>(tileIndexes);
+        int builtSize = atlasSize;
+        workers.execute(() -> cache.save(key, builtIndexes, builtSize, built));
+        for (int i = 0; i < ATLAS_NAMES.length; i++) {
+            ByteBuffer largest = atlases[i][0];
+            String screenshotName = ATLAS_NAMES[i];
+            workers.execute(() -> writeScreenshot(largest, builtSize, screenshotName));
         }
-        return data;
+        return atlases;
     }
 
-    // Ref: http://stackoverflow.com/questions/221830/set-bufferedimage-alpha-mask-in-java/8058442#8058442
-    public void storeGreyscaleMapIntoAlpha(BufferedImage imageWithoutAlpha, BufferedImage greyscaleImage) {
-        int width = imageWithoutAlpha.getWidth();
-        int height = imageWithoutAlpha.getHeight();
-
-        int[] imagePixels = imageWithoutAlpha.getRGB(0, 0, width, height, null, 0, width);
-        int[] maskPixels = greyscaleImage.getRGB(0, 0, width, height, null, 0, width);
-
-        for (int i = 0; i < imagePixels.length; i++) {
-            int color = imagePixels[i] & 0x00ffffff; // Mask preexisting alpha
-            int alpha = maskPixels[i] << 24; // Shift blue to alpha
-            imagePixels[i] = color | alpha;
+    private void writeScreenshot(ByteBuffer rgba, int size, String screenshotName) {
+        BufferedImage image = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+        image.setRGB(0, 0, size, size, WorldAtlasBuilder.toArgb(rgba.duplicate()), 0, size);
+        try (OutputStream stream = new BufferedOutputStream(Files.newOutputStream(
+                PathManager.getInstance().getScreenshotPath().resolve(screenshotName)))) {
+            ImageIO.write(image, "png", stream);
+        } catch (IOException e) {
+            logger.warn("Failed to write atlas");
         }
-
-        imageWithoutAlpha.setRGB(0, 0, width, height, imagePixels, 0, width);
     }
 
     // The atlas is configured using the following constraints...
@@ -322,33 +331,4 @@ private void calculateAtlasSizes() {
             }
         }
     }
-
-    private BufferedImage generateAtlas(int mipMapLevel, List<BlockTile> tileImages, Color clearColor) {
-        int size = atlasSize / (1 << mipMapLevel);
-        int textureSize = tileSize / (1 << mipMapLevel);
-        int tilesPerDim = atlasSize / tileSize;
-
-        BufferedImage result = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
-        Graphics g = result.getGraphics();
-
-        g.setColor(clearColor);
-        g.fillRect(0, 0, size, size);
-
-        int totalIndex = 0;
-        for (BlockTile tile : tileImages) {
-            if (tile == null) {
-                totalIndex++;
-            } else {
-                for (int frameIndex = 0; frameIndex < tile.getLength(); frameIndex++) {
-                    int posX = totalIndex % tilesPerDim;
-                    int posY = totalIndex / tilesPerDim;
-                    g.drawImage(tile.getImage(frameIndex).getScaledInstance(textureSize, textureSize, Image.SCALE_SMOOTH),
-                            posX * textureSize, posY * textureSize, null);
-                    totalIndex++;
-                }
-            }
-        }
-
-        return result;
-    }
 }
@@ -59,6 +59,31 @@ default Block getBlock(Vector3ic pos) {
      */
     Block getBlock(int x, int y, int z);
 
+    /**
+     * Returns the id of the block at given position relative to the chunk, without resolving the block.
+     *
+     * @param x X offset from the corner of the chunk
+     * @param y Y offset from the corner of the chunk
+     * @param z Z offset from the corner of the chunk
+     * @return Id of the block at given position
+     */
+    default short getBlockId(int x, int y, int z) {
+        return getBlock(x, y, z).getId();
+    }
+
+    /**
+     * Returns the block filling the given layers of this chunk, if the chunk can tell cheaply that a single block
+     * fills them. Callers can use this to skip over whole sections, see
+     * {@link org.terasology.engine.world.chunks.blockdata.TeraSectionedArray#SECTION_SIZE_Y}.
+     *
+     * @param minY the lowest layer, relative to the chunk
+     * @param maxY the highest layer (inclusive), relative to the chunk
+     * @return the block filling all the layers, or null if they are not known to hold a single block
+     */
+    default Block getUniformBlock(int minY, int maxY) {
+        return null;
+    }
+
     /**
      * Sets type of block at given position relative to the chunk.
      *
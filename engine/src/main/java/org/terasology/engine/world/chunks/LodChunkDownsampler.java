@@ -0,0 +1,161 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.engine.world.chunks;
+
+import org.joml.Vector3i;
+import org.joml.Vector3ic;
+import org.terasology.engine.persistence.ChunkStore;
+import org.terasology.engine.persistence.StorageManager;
+import org.terasology.engine.world.chunks.blockdata.TeraArray;
+import org.terasology.engine.world.chunks.blockdata.TeraSectionedArray;
+import org.terasology.engine.world.chunks.internal.LodChunkStore;
+
+/**
+ * Derives the blocks of LOD chunks from real chunks, so that far terrain shows what is actually there rather than
+ * what the world generator would make.
+ * <p>
+ * LOD chunks up to {@link #MAX_REAL_SCALE} sample the loaded or stored real chunks they cover. Larger LOD chunks
+ * sample the stored LOD chunks one scale smaller, which keeps the number of chunks read per LOD chunk at eight.
+ * Every block of a LOD chunk takes the block at the centre of the space it covers; the border blocks, which lie in
+ * neighbouring chunks, repeat the nearest block inside the LOD chunk.
+ */
+class LodChunkDownsampler {
+    /**
+     * The largest log scale derived directly from real chunks.
+     */
+    static final int MAX_REAL_SCALE = 1;
+
+    private final ChunkProvider chunkProvider;
+    private final StorageManager storageManager;
+    private final LodChunkStore lodChunkStore;
+
+    /**
+     * @param storageManager where to read unloaded real chunks from, or null to only use loaded ones
+     * @param lodChunkStore where to read smaller LOD chunks from, or null to only derive from real chunks
+     */
+    LodChunkDownsampler(ChunkProvider chunkProvider, StorageManager storageManager, LodChunkStore lodChunkStore) {
+        this.chunkProvider = chunkProvider;
+        this.storageManager = storageManager;
+        this.lodChunkStore = lodChunkStore;
+    }
+
+    /**
+     * @param pos the position of the LOD chunk, in real chunks
+     * @param scale the log scale of the LOD chunk
+     * @return the blocks of the LOD chunk, or null if the data to derive them from is not available
+     */
+    TeraArray downsample(Vector3ic pos, int scale) {
+        Source source = scale <= MAX_REAL_SCALE ? realChunks(pos, scale) : smallerLodChunks(pos, scale);
+        if (source == null) {
+            return null;
+        }
+        // The size of a LOD block in real blocks, see LodChunkProvider
+        float blockSize = (1 << scale) * (float) Chunks.SIZE_X / (Chunks.SIZE_X - 2);
+        int minX = pos.x() * Chunks.SIZE_X;
+        int minY = pos.y() * Chunks.SIZE_Y;
+        int minZ = pos.z() * Chunks.SIZE_Z;
+        TeraArray blocks = new TeraSectionedArray(Chunks.SIZE_X, Chunks.SIZE_Y, Chunks.SIZE_Z, 16);
+        for (int y = 0; y < Chunks.SIZE_Y; y++) {
+            int sampleY = clamp((int) ((y - 1.5f) * blockSize), Chunks.SIZE_Y << scale);
+            for (int z = 0; z < Chunks.SIZE_Z; z++) {
+                int sampleZ = clamp((int) ((z - 0.5f) * blockSize), Chunks.SIZE_Z << scale);
+                for (int x = 0; x < Chunks.SIZE_X; x++) {
+                    int sampleX = clamp((int) ((x - 0.5f) * blockSize), Chunks.SIZE_X << scale);
+                    blocks.set(x, y, z, source.get(minX + sampleX, minY + sampleY, minZ + sampleZ));
+                }
+            }
+        }
+        return blocks;
+    }
+
+    private Source realChunks(Vector3ic pos, int scale) {
+        int size = 1 << scale;
+        Chunk[] chunks = new Chunk[size * size * size];
+        Vector3i chunkPos = new Vector3i();
+        for (int dy = 0; dy < size; dy++) {
+            for (int dz = 0; dz < size; dz++) {
+                for (int dx = 0; dx < size; dx++) {
+                    Chunk chunk = getRealChunk(pos.add(dx, dy, dz, chunkPos));
+                    if (chunk == null) {
+                        return null;
+                    }
+                    chunks[dx + size * (dz + size * dy)] = chunk;
+                }
+            }
+        }
+        return (x, y, z) -> {
+            Chunk chunk = chunks[(Chunks.toChunkPosX(x) - pos.x()) + size * ((Chunks.toChunkPosZ(z) - pos.z())
+                    + size * (Chunks.toChunkPosY(y) - pos.y()))];
+            return chunk.getBlockId(Chunks.toRelative(x, Chunks.INNER_CHUNK_POS_FILTER_X),
+                    Chunks.toRelative(y, Chunks.INNER_CHUNK_POS_FILTER_Y),
+                    Chunks.toRelative(z, Chunks.INNER_CHUNK_POS_FILTER_Z));
+        };
+    }
+
+    private Chunk getRealChunk(Vector3ic chunkPos) {
+        Chunk chunk = chunkProvider.getChunk(chunkPos);
+        if (chunk == null && storageManager != null) {
+            ChunkStore store = storageManager.loadChunkStore(chunkPos);
+            if (store != null) {
+                chunk = store.getChunk();
+            }
+        }
+        return chunk;
+    }
+
+    /**
+     * Samples the eight stored LOD chunks one scale smaller. At least one of them must have been derived from real
+     * chunks; otherwise generating the LOD chunk directly gives the better result.
+     */
+    private Source smallerLodChunks(Vector3ic pos, int scale) {
+        if (lodChunkStore == null) {
+            return null;
+        }
+        int childScale = scale - 1;
+        int childSize = 1 << childScale;
+        TeraArray[] children = new TeraArray[8];
+        boolean derived = false;
+        Vector3i childPos = new Vector3i();
+        for (int i = 0; i < 8; i++) {
+            pos.add((i & 1) * childSize, (i >> 2 & 1) * childSize, (i >> 1 & 1) * childSize, childPos);
+            LodChunkStore.Entry entry = lodChunkStore.load(childPos, childScale);
+            if (entry == null) {
+                return null;
+            }
+            children[i] = entry.getBlocks();
+            derived |= entry.isDerived();
+        }
+        if (!derived) {
+            return null;
+        }
+        float childBlockSize = childSize * (float) Chunks.SIZE_X / (Chunks.SIZE_X - 2);
+        int childWidth = Chunks.SIZE_X << childScale;
+        int childHeight = Chunks.SIZE_Y << childScale;
+        int childDepth = Chunks.SIZE_Z << childScale;
+        int minX = pos.x() * Chunks.SIZE_X;
+        int minY = pos.y() * Chunks.SIZE_Y;
+        int minZ = pos.z() * Chunks.SIZE_Z;
+        return (x, y, z) -> {
+            int cx = (x - minX) / childWidth;
+            int cy = (y - minY) / childHeight;
+            int cz = (z - minZ) / childDepth;
+            TeraArray child = children[cx + 2 * cz + 4 * cy];
+            int bx = Math.min((int) ((x - minX - cx * childWidth) / childBlockSize) + 1, Chunks.SIZE_X - 2);
+            int by = Math.min((int) ((y - minY - cy * childHeight) / childBlockSize) + 2, Chunks.SIZE_Y - 3);
+            int bz = Math.min((int) ((z - minZ - cz * childDepth) / childBlockSize) + 1, Chunks.SIZE_Z - 2);
+            return child.get(bx, by, bz);
+        };
+    }
+
+    private static int clamp(int offset, int size) {
+        return Math.max(0, Math.min(offset, size - 1));
+    }
+
+    /**
+     * The block ids of a part of the world, by world position.
+     */
+    private interface Source {
+        int get(int x, int y, int z);
+    }
+}
@@ -6,6 +6,7 @@
 import com.google.common.collect.Queues;
 import org.joml.Vector3i;
 import org.joml.Vector3ic;
+import org.terasology.engine.persistence.StorageManager;
 import org.terasology.engine.rendering.primitives.ChunkMesh;
 import org.terasology.engine.rendering.primitives.ChunkTessellator;
 import org.terasology.engine.rendering.world.viewDistance.ViewDistance;
@@ -14,6 +15,8 @@
 import org.terasology.engine.world.block.BlockManager;
 import org.terasology.engine.world.block.BlockRegion;
 import org.terasology.engine.world.chunks.blockdata.ExtraBlockDataManager;
+import org.terasology.engine.world.chunks.blockdata.TeraArray;
+import org.terasology.engine.world.chunks.internal.LodChunkStore;
 import org.terasology.engine.world.chunks.internal.PreLodChunk;
 import org.terasology.engine.world.generator.ScalableWorldGenerator;
 import org.terasology.engine.world.internal.ChunkViewCoreImpl;
@@ -31,11 +34,15 @@
 import java.util.concurrent.PriorityBlockingQueue;
 
 public class LodChunkProvider {
+    private static final int DEFAULT_GENERATION_THREADS = 4;
+
     private final ChunkProvider chunkProvider;
     private final BlockManager blockManager;
     private final ExtraBlockDataManager extraDataManager;
     private final ChunkTessellator tessellator;
     private final ScalableWorldGenerator generator;
+    private final LodChunkDownsampler downsampler;
+    private final LodChunkStore lodChunkStore;
 
     private Vector3i center = new Vector3i();
     private ViewDistance viewDistanceSetting = ViewDistance.MODERATE;
@@ -59,15 +66,29 @@ public class LodChunkProvider {
 
     public LodChunkProvider(ChunkProvider chunkProvider, BlockManager blockManager, ExtraBlockDataManager extraDataManager,
                             ScalableWorldGenerator generator, ChunkTessellator tessellator) {
+        this(chunkProvider, blockManager, extraDataManager, generator, tessellator, null, null, 0);
+    }
+
+    /**
+     * @param storageManager where to read unloaded real chunks from to derive LOD chunks, or null
+     * @param lodChunkStore where to keep LOD chunks between sessions, or null
+     * @param threadCount the number of threads creating LOD chunks, or 0 for the default
+     */
+    public LodChunkProvider(ChunkProvider chunkProvider, BlockManager blockManager, ExtraBlockDataManager extraDataManager,
+                            ScalableWorldGenerator generator, ChunkTessellator tessellator,
+                            StorageManager storageManager, LodChunkStore lodChunkStore, int threadCount) {
         this.chunkProvider = chunkProvider;
         this.blockManager = blockManager;
         this.extraDataManager = extraDataManager;
         this.generator = generator;
         this.tessellator = tessellator;
+        this.lodChunkStore = lodChunkStore;
+        this.downsampler = new LodChunkDownsampler(chunkProvider, storageManager, lodChunkStore);
         this.requiredChunks = new ConcurrentHashMap<>();
         this.nearby = new ClosenessComparator(center);
         this.neededChunks = new PriorityBlockingQueue<>(11, nearby);
-        for (int i = 0; i < 4; i++) {
+        int threads = threadCount > 0 ? threadCount : DEFAULT_GENERATION_THREADS;
+        for (int i = 0; i < threads; i++) {
             Thread thread = new Thread(this::createChunks, "LOD Chunk Generation " + i);
             thread.start();
             generationThreads.add(thread);
@@ -85,8 +106,7 @@ private void createChunks() {
                     // This chunk is being removed in the main thread.
                     continue;
                 }
-                Chunk chunk = new PreLodChunk(scaleDown(pos, scale), blockManager, extraDataManager);
-                generator.createChunk(chunk, (1 << scale) * (2f / (Chunks.SIZE_X - 2) + 1));
+                Chunk chunk = createChunk(pos, scale);
                 InternalLightProcessor.generateInternalLighting(chunk, 1 << scale);
                 //tintChunk(chunk);
                 ChunkView view = new ChunkViewCoreImpl(new Chunk[]{chunk},
@@ -98,6 +118,31 @@ private void createChunks() {
         }
     }
 
+    /**
+     * Loads the blocks of a LOD chunk from the store, or else derives them from real chunks, or else generates them.
+     */
+    private Chunk createChunk(Vector3ic pos, int scale) {
+        long invalidationCount = lodChunkStore != null ? lodChunkStore.getInvalidationCount() : 0;
+        if (lodChunkStore != null) {
+            LodChunkStore.Entry entry = lodChunkStore.load(pos, scale);
+            if (entry != null) {
+                return new PreLodChunk(scaleDown(pos, scale), entry.getBlocks(), blockManager, extraDataManager);
+            }
+        }
+        TeraArray blocks = downsampler.downsample(pos, scale);
+        PreLodChunk chunk;
+        if (blocks != null) {
+            chunk = new PreLodChunk(scaleDown(pos, scale), blocks, blockManager, extraDataManager);
+        } else {
+            chunk = new PreLodChunk(scaleDown(pos, scale), blockManager, extraDataManager);
+            generator.createChunk(chunk, (1 << scale) * (2f / (Chunks.SIZE_X - 2) + 1));
+        }
+        if (lodChunkStore != null) {
+            lodChunkStore.store(pos, scale, chunk, blocks != null, invalidationCount);
+        }
+        return chunk;
+    }
+
     private void processReadyChunks() {
         while (!readyChunks.isEmpty()) {
             LodChunk chunk = readyChunks.remove();
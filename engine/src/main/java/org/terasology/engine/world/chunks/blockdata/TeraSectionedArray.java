@@ -0,0 +1,370 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.engine.world.chunks.blockdata;
+
+import com.google.common.base.Preconditions;
+import org.terasology.engine.world.chunks.deflate.TeraVisitingDeflator;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * TeraSectionedArray implements an array with elements of 8 or 16 bit size, split vertically into sections of
+ * {@link #SECTION_SIZE_Y} layers.
+ * A section holding a single value throughout is stored as that value; only the other sections allocate an array,
+ * which is dense when the section is created and may be replaced by a sparse one on {@link #deflate}.
+ * <p>
+ * Copies share their sections with the original; a shared section is only copied when one of the arrays first writes
+ * to it.
+ */
+public class TeraSectionedArray extends TeraArray {
+
+    public static final int SECTION_SIZE_Y = 16;
+
+    private static final int SECTION_POWER = Integer.numberOfTrailingZeros(SECTION_SIZE_Y);
+    private static final int SECTION_FILTER = SECTION_SIZE_Y - 1;
+
+    private int elementSizeInBits;
+    private TeraArray[] sections;
+    private int[] uniformValues;
+    private boolean[] owned;
+
+    public TeraSectionedArray() {
+        super();
+    }
+
+    /**
+     * Creates an array filled with zero, without allocating any section.
+     *
+     * @param elementSizeInBits 8 or 16
+     */
+    public TeraSectionedArray(int sizeX, int sizeY, int sizeZ, int elementSizeInBits) {
+        super(sizeX, sizeY, sizeZ, false);
+        Preconditions.checkArgument(elementSizeInBits == 8 || elementSizeInBits == 16,
+                "The parameter 'elementSizeInBits' has to be 8 or 16 but is " + elementSizeInBits);
+        Preconditions.checkArgument(sizeY % SECTION_SIZE_Y == 0,
+                "The parameter 'sizeY' has to be a multiple of " + SECTION_SIZE_Y + " but is " + sizeY);
+        this.elementSizeInBits = elementSizeInBits;
+        initialize();
+    }
+
+    /**
+     * Creates an array holding the same values as the given one, with uniform sections elided.
+     *
+     * @param elementSizeInBits 8 or 16; should be at least the element size of {@code in}
+     */
+    public TeraSectionedArray(TeraArray in, int elementSizeInBits) {
+        this(Preconditions.checkNotNull(in).getSizeX(), in.getSizeY(), in.getSizeZ(), elementSizeInBits);
+        for (int section = 0; section < sections.length; section++) {
+            int minY = section << SECTION_POWER;
+            int first = in.get(0, minY, 0);
+            if (isUniform(in, minY, first)) {
+                uniformValues[section] = normalize(first);
+            } else {
+                TeraArray data = createSection(0);
+                for (int y = 0; y < SECTION_SIZE_Y; y++) {
+                    for (int z = 0; z < getSizeZ(); z++) {
+                        for (int x = 0; x < getSizeX(); x++) {
+                            data.set(x, y, z, in.get(x, minY + y, z));
+                        }
+                    }
+                }
+                sections[section] = data;
+                owned[section] = true;
+            }
+        }
+    }
+
+    @Override
+    protected void initialize() {
+        int sectionCount = getSizeY() / SECTION_SIZE_Y;
+        this.sections = new TeraArray[sectionCount];
+        this.uniformValues = new int[sectionCount];
+        this.owned = new boolean[sectionCount];
+    }
+
+    @Override
+    public boolean isSparse() {
+        return true;
+    }
+
+    @Override
+    public TeraArray copy() {
+        TeraSectionedArray copy = new TeraSectionedArray(getSizeX(), getSizeY(), getSizeZ(), elementSizeInBits);
+        System.arraycopy(sections, 0, copy.sections, 0, sections.length);
+        System.arraycopy(uniformValues, 0, copy.uniformValues, 0, uniformValues.length);
+        Arrays.fill(owned, false);
+        return copy;
+    }
+
+    /**
+     * Elides the sections that have become uniform and deflates the others with the given deflator, keeping a deflated
+     * section only if it takes less memory than before.
+     *
+     * @return the deflated array, or null if no section could be reduced
+     */
+    @Override
+    public TeraArray deflate(TeraVisitingDeflator deflator) {
+        TeraSectionedArray result = null;
+        for (int section = 0; section < sections.length; section++) {
+            TeraArray data = sections[section];
+            if (data == null) {
+                continue;
+            }
+            int first = data.get(0, 0, 0);
+            TeraArray deflated = null;
+            if (!isUniform(data, 0, first)) {
+                deflated = data.deflate(deflator);
+                if (deflated == null || deflated.getEstimatedMemoryConsumptionInBytes()
+                        >= data.getEstimatedMemoryConsumptionInBytes()) {
+                    continue;
+                }
+            }
+            if (result == null) {
+                result = (TeraSectionedArray) copy();
+            }
+            result.sections[section] = deflated;
+            result.uniformValues[section] = first;
+            result.owned[section] = deflated != null;
+        }
+        return result;
+    }
+
+    @Override
+    public int getEstimatedMemoryConsumptionInBytes() {
+        int result = 16 + sections.length * (4 + 4 + 1);
+        for (TeraArray section : sections) {
+            if (section != null) {
+                result += section.getEstimatedMemoryConsumptionInBytes();
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public int getElementSizeInBits() {
+        return elementSizeInBits;
+    }
+
+    @Override
+    public int get(int x, int y, int z) {
+        int section = y >> SECTION_POWER;
+        TeraArray data = sections[section];
+        if (data == null) {
+            return uniformValues[section];
+        }
+        return data.get(x, y & SECTION_FILTER, z);
+    }
+
+    @Override
+    public int set(int x, int y, int z, int value) {
+        int section = y >> SECTION_POWER;
+        TeraArray data = sections[section];
+        if (data == null) {
+            int old = uniformValues[section];
+            if (old == normalize(value)) {
+                return old;
+            }
+            data = inflate(section);
+        } else if (!owned[section]) {
+            data = own(section);
+        }
+        return data.set(x, y & SECTION_FILTER, z, value);
+    }
+
+    @Override
+    public boolean set(int x, int y, int z, int value, int expected) {
+        int section = y >> SECTION_POWER;
+        TeraArray data = sections[section];
+        if (data == null) {
+            int old = uniformValues[section];
+            if (old != expected) {
+                return false;
+            }
+            if (old == normalize(value)) {
+                return true;
+            }
+            data = inflate(section);
+        } else if (!owned[section]) {
+            data = own(section);
+        }
+        return data.set(x, y & SECTION_FILTER, z, value, expected);
+    }
+
+    /**
+     * @return whether all layers from minY to maxY (inclusive) are in uniform sections holding the same value
+     */
+    public boolean isUniform(int minY, int maxY) {
+        int minSection = minY >> SECTION_POWER;
+        int maxSection = maxY >> SECTION_POWER;
+        for (int section = minSection; section <= maxSection; section++) {
+            if (sections[section] != null || uniformValues[section] != uniformValues[minSection]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int getSectionCount() {
+        return sections.length;
+    }
+
+    public int getUniformSectionCount() {
+        int count = 0;
+        for (TeraArray section : sections) {
+            if (section == null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private TeraArray inflate(int section) {
+        TeraArray data = createSection(uniformValues[section]);
+        sections[section] = data;
+        owned[section] = true;
+        return data;
+    }
+
+    private TeraArray own(int section) {
+        TeraArray data = sections[section].copy();
+        sections[section] = data;
+        owned[section] = true;
+        return data;
+    }
+
+    private TeraArray createSection(int fill) {
+        int size = getSizeXZ() * SECTION_SIZE_Y;
+        if (elementSizeInBits == 16) {
+            short[] data = new short[size];
+            Arrays.fill(data, (short) fill);
+            return new TeraDenseArray16Bit(getSizeX(), SECTION_SIZE_Y, getSizeZ(), data);
+        }
+        byte[] data = new byte[size];
+        Arrays.fill(data, (byte) fill);
+        return new TeraDenseArray8Bit(getSizeX(), SECTION_SIZE_Y, getSizeZ(), data);
+    }
+
+    /**
+     * @return the section itself if it is dense, or a dense copy of a deflated section
+     */
+    private TeraArray toDense(TeraArray section) {
+        if (section instanceof TeraDenseArray16Bit || section instanceof TeraDenseArray8Bit) {
+            return section;
+        }
+        TeraArray data = createSection(0);
+        for (int y = 0; y < SECTION_SIZE_Y; y++) {
+            for (int z = 0; z < getSizeZ(); z++) {
+                for (int x = 0; x < getSizeX(); x++) {
+                    data.set(x, y, z, section.get(x, y, z));
+                }
+            }
+        }
+        return data;
+    }
+
+    /**
+     * @return the value as the array would return it after storing it
+     */
+    private int normalize(int value) {
+        return elementSizeInBits == 16 ? (short) value : (byte) value;
+    }
+
+    private static boolean isUniform(TeraArray array, int minY, int value) {
+        for (int y = minY; y < minY + SECTION_SIZE_Y; y++) {
+            for (int z = 0; z < array.getSizeZ(); z++) {
+                for (int x = 0; x < array.getSizeX(); x++) {
+                    if (array.get(x, y, z) != value) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    public static class SerializationHandler extends TeraArray.BasicSerializationHandler<TeraSectionedArray> {
+
+        private final TeraDenseArray16Bit.SerializationHandler dense16Handler = new TeraDenseArray16Bit.SerializationHandler();
+        private final TeraDenseArray8Bit.SerializationHandler dense8Handler = new TeraDenseArray8Bit.SerializationHandler();
+
+        @Override
+        public boolean canHandle(Class<?> clazz) {
+            return TeraSectionedArray.class.equals(clazz);
+        }
+
+        @Override
+        protected int internalComputeMinimumBufferSize(TeraSectionedArray array) {
+            int result = 1;
+            for (TeraArray section : array.sections) {
+                if (section == null) {
+                    result += 1 + 4;
+                } else if (array.elementSizeInBits == 16) {
+                    result += 1 + dense16Handler.computeMinimumBufferSize((TeraDenseArray16Bit) array.toDense(section));
+                } else {
+                    result += 1 + dense8Handler.computeMinimumBufferSize((TeraDenseArray8Bit) array.toDense(section));
+                }
+            }
+            return result;
+        }
+
+        @Override
+        protected void internalSerialize(TeraSectionedArray array, ByteBuffer buffer) {
+            buffer.put((byte) array.elementSizeInBits);
+            for (int i = 0; i < array.sections.length; i++) {
+                TeraArray section = array.sections[i];
+                if (section == null) {
+                    buffer.put((byte) 0);
+                    buffer.putInt(array.uniformValues[i]);
+                } else {
+                    buffer.put((byte) 1);
+                    if (array.elementSizeInBits == 16) {
+                        dense16Handler.serialize((TeraDenseArray16Bit) array.toDense(section), buffer);
+                    } else {
+                        dense8Handler.serialize((TeraDenseArray8Bit) array.toDense(section), buffer);
+                    }
+                }
+            }
+        }
+
+        @Override
+        protected TeraSectionedArray internalDeserialize(int sizeX, int sizeY, int sizeZ, ByteBuffer buffer) {
+            int elementSizeInBits = buffer.get();
+            TeraSectionedArray array = new TeraSectionedArray(sizeX, sizeY, sizeZ, elementSizeInBits);
+            for (int i = 0; i < array.sections.length; i++) {
+                if (buffer.get() == 0) {
+                    array.uniformValues[i] = buffer.getInt();
+                } else {
+                    array.sections[i] = elementSizeInBits == 16 ? dense16Handler.deserialize(buffer) : dense8Handler.deserialize(buffer);
+                    array.owned[i] = true;
+                }
+            }
+            return array;
+        }
+    }
+
+    public static class Factory implements TeraArray.Factory<TeraSectionedArray> {
+
+        @Override
+        public Class<TeraSectionedArray> getArrayClass() {
+            return TeraSectionedArray.class;
+        }
+
+        @Override
+        public SerializationHandler createSerializationHandler() {
+            return new SerializationHandler();
+        }
+
+        @Override
+        public TeraSectionedArray create() {
+            return new TeraSectionedArray();
+        }
+
+        @Override
+        public TeraSectionedArray create(int sizeX, int sizeY, int sizeZ) {
+            return new TeraSectionedArray(sizeX, sizeY, sizeZ, 16);
+        }
+    }
+
+}
@@ -18,16 +18,16 @@
 import org.terasology.engine.world.chunks.Chunks;
 import org.terasology.engine.world.chunks.blockdata.ExtraBlockDataManager;
 import org.terasology.engine.world.chunks.blockdata.TeraArray;
-import org.terasology.engine.world.chunks.blockdata.TeraDenseArray16Bit;
-import org.terasology.engine.world.chunks.blockdata.TeraDenseArray8Bit;
-import org.terasology.engine.world.chunks.blockdata.TeraSparseArray8Bit;
+import org.terasology.engine.world.chunks.blockdata.TeraSectionedArray;
 import org.terasology.engine.world.chunks.deflate.TeraDeflator;
 import org.terasology.engine.world.chunks.deflate.TeraStandardDeflator;
 import org.terasology.joml.geom.AABBf;
 import org.terasology.joml.geom.AABBfc;
 import org.terasology.protobuf.EntityData;
 
+import java.lang.ref.WeakReference;
 import java.text.DecimalFormat;
+import java.util.Arrays;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
@@ -54,9 +54,19 @@ public class ChunkImpl implements Chunk {
     private TeraArray lightData;
 
     private TeraArray blockData;
-    private volatile TeraArray blockDataSnapshot;
     private TeraArray[] extraData;
-    private volatile TeraArray[] extraDataSnapshots;
+    private volatile long version;
+    /**
+     * Whether the block data, or each extra data array, has been handed to a snapshot. A shared array is never written
+     * again: it is replaced by a copy on the next write, which is the only thing that clears its flag. Any number of
+     * snapshots, of any version, can therefore share arrays with each other and with the chunk.
+     */
+    private boolean blockDataShared;
+    private boolean[] extraDataShared;
+    /**
+     * The latest snapshot, held weakly only so that it can be handed out again while the chunk is unchanged.
+     */
+    private volatile WeakReference<ChunkSnapshot> snapshot = new WeakReference<>(null);
 
     private AABBf aabb = new AABBf();
 
@@ -74,7 +84,7 @@ public ChunkImpl(int x, int y, int z, BlockManager blockManager, ExtraBlockDataM
 
     public ChunkImpl(Vector3ic chunkPos, BlockManager blockManager, ExtraBlockDataManager extraDataManager) {
         this(chunkPos,
-            new TeraDenseArray16Bit(Chunks.SIZE_X, Chunks.SIZE_Y, Chunks.SIZE_Z),
+            new TeraSectionedArray(Chunks.SIZE_X, Chunks.SIZE_Y, Chunks.SIZE_Z, 16),
             extraDataManager.makeDataArrays(Chunks.SIZE_X, Chunks.SIZE_Y, Chunks.SIZE_Z),
             blockManager);
     }
@@ -83,9 +93,10 @@ public ChunkImpl(Vector3ic chunkPos, TeraArray blocks, TeraArray[] extra, BlockM
         this.chunkPos = new Vector3i(Preconditions.checkNotNull(chunkPos));
         this.blockData = Preconditions.checkNotNull(blocks);
         this.extraData = Preconditions.checkNotNull(extra);
-        sunlightData = new TeraSparseArray8Bit(getChunkSizeX(), getChunkSizeY(), getChunkSizeZ());
-        sunlightRegenData = new TeraSparseArray8Bit(getChunkSizeX(), getChunkSizeY(), getChunkSizeZ());
-        lightData = new TeraSparseArray8Bit(getChunkSizeX(), getChunkSizeY(), getChunkSizeZ());
+        this.extraDataShared = new boolean[extra.length];
+        sunlightData = new TeraSectionedArray(getChunkSizeX(), getChunkSizeY(), getChunkSizeZ(), 8);
+        sunlightRegenData = new TeraSectionedArray(getChunkSizeX(), getChunkSizeY(), getChunkSizeZ(), 8);
+        lightData = new TeraSectionedArray(getChunkSizeX(), getChunkSizeY(), getChunkSizeZ(), 8);
         dirty = true;
         this.blockManager = blockManager;
         region = new BlockRegion(
@@ -131,15 +142,48 @@ public final Block getBlock(int x, int y, int z) {
         return blockManager.getBlock(id);
     }
 
+    @Override
+    public short getBlockId(int x, int y, int z) {
+        return (short) blockData.get(x, y, z);
+    }
+
+    @Override
+    public Block getUniformBlock(int minY, int maxY) {
+        TeraArray blocks = blockData;
+        if (blocks instanceof TeraSectionedArray && ((TeraSectionedArray) blocks).isUniform(minY, maxY)) {
+            return blockManager.getBlock((short) blocks.get(0, minY, 0));
+        }
+        return null;
+    }
+
+    /**
+     * @return how many of the {@link TeraSectionedArray#SECTION_SIZE_Y} high sections of this chunk hold a single block, and so
+     *     take no memory for their blocks
+     */
+    public int getUniformSectionCount() {
+        TeraArray blocks = blockData;
+        if (blocks instanceof TeraSectionedArray) {
+            return ((TeraSectionedArray) blocks).getUniformSectionCount();
+        }
+        return 0;
+    }
+
     // This could be made to check for and clear extraData fields as appropriate,
     // but that could take an excessive amount of time,
     // so whatever sets a block to something extraData sensitive should also initialise the extra data.
     @Override
     public Block setBlock(int x, int y, int z, Block block) {
-        if (blockData == blockDataSnapshot) {
+        if (blockDataShared) {
+            if (blockData.get(x, y, z) == block.getId()) {
+                return block;
+            }
             blockData = blockData.copy();
+            blockDataShared = false;
         }
         int oldValue = blockData.set(x, y, z, block.getId());
+        if (oldValue != block.getId()) {
+            version++;
+        }
         return blockManager.getBlock((short) oldValue);
     }
 
@@ -183,10 +227,16 @@ public int getExtraData(int index, int x, int y, int z) {
 
     @Override
     public void setExtraData(int index, int x, int y, int z, int value) {
-        if (extraDataSnapshots != null && extraData[index] == extraDataSnapshots[index]) {
+        if (extraDataShared[index]) {
+            if (extraData[index].get(x, y, z) == value) {
+                return;
+            }
             extraData[index] = extraData[index].copy();
+            extraDataShared[index] = false;
+        }
+        if (extraData[index].set(x, y, z, value) != value) {
+            version++;
         }
-        extraData[index].set(x, y, z, value);
     }
 
     @Override
@@ -394,10 +444,9 @@ public void markReady() {
     public void prepareForReactivation() {
         if (disposed) {
             disposed = false;
-            sunlightData = new TeraDenseArray8Bit(getChunkSizeX(), getChunkSizeY(), getChunkSizeZ());
-            sunlightRegenData = new TeraDenseArray8Bit(getChunkSizeX(), getChunkSizeY(),
-                    getChunkSizeZ());
-            lightData = new TeraDenseArray8Bit(getChunkSizeX(), getChunkSizeY(), getChunkSizeZ());
+            sunlightData = new TeraSectionedArray(getChunkSizeX(), getChunkSizeY(), getChunkSizeZ(), 8);
+            sunlightRegenData = new TeraSectionedArray(getChunkSizeX(), getChunkSizeY(), getChunkSizeZ(), 8);
+            lightData = new TeraSectionedArray(getChunkSizeX(), getChunkSizeY(), getChunkSizeZ(), 8);
         }
     }
 
@@ -443,30 +492,34 @@ public ChunkBlockIterator getBlockIterator() {
 
     @Override
     public EntityData.ChunkStore.Builder encode() {
-        return ChunkSerializer.encode(chunkPos, blockData, extraData);
+        return createSnapshot().encode();
     }
 
     /**
-     * Calling this method results in a (cheap) snapshot to be taken of the current state of the chunk. This snapshot
-     * can then be obtained and rleased by calling {@link #encodeAndReleaseSnapshot()}.
+     * @return the number of changes made to the blocks and extra data of this chunk so far
      */
-    public void createSnapshot() {
-        this.blockDataSnapshot = this.blockData;
-        this.extraDataSnapshots = new TeraArray[extraData.length];
-        System.arraycopy(extraData, 0, extraDataSnapshots, 0, extraData.length);
+    public long getVersion() {
+        return version;
     }
 
     /**
-     * This method can only be called once after {@link #createSnapshot()} has been called. It can be called from a
-     * different thread than {@link #createSnapshot()}, but it must be made sure that neither method is still running
-     * when the other gets called.
+     * Takes a (cheap) snapshot of the current blocks and extra data of this chunk. The snapshot does not change when
+     * the chunk does, and can be read from any thread.
+     * <p>
+     * This must be called from the thread that changes the chunk, or while nothing changes it. If the chunk has not
+     * changed since the last snapshot, that snapshot is returned again.
      *
-     * @return an encoded version of the snapshot taken with {@link #createSnapshot()}.
+     * @return a snapshot of the current version of this chunk
      */
-    public EntityData.ChunkStore.Builder encodeAndReleaseSnapshot() {
-        EntityData.ChunkStore.Builder result = ChunkSerializer.encode(chunkPos, blockDataSnapshot, extraDataSnapshots);
-        this.blockDataSnapshot = null;
-        this.extraDataSnapshots = null;
-        return result;
+    public ChunkSnapshot createSnapshot() {
+        ChunkSnapshot current = snapshot.get();
+        long currentVersion = version;
+        if (current == null || current.getVersion() != currentVersion) {
+            current = new ChunkSnapshot(chunkPos, currentVersion, blockData, extraData.clone(), blockManager);
+            snapshot = new WeakReference<>(current);
+            blockDataShared = true;
+            Arrays.fill(extraDataShared, true);
+        }
+        return current;
     }
 }
@@ -4,7 +4,10 @@
 package org.terasology.engine.world.chunks.internal;
 
 import com.google.common.base.Objects;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import gnu.trove.set.TLongSet;
+import gnu.trove.set.hash.TLongHashSet;
 import org.joml.Vector3f;
 import org.joml.Vector3i;
 import org.joml.Vector3ic;
@@ -15,7 +18,7 @@
 import org.terasology.engine.world.chunks.ChunkRegionListener;
 import org.terasology.engine.world.chunks.Chunks;
 
-import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 
 public class ChunkRelevanceRegion {
@@ -26,12 +29,23 @@ public class ChunkRelevanceRegion {
     private BlockRegion currentRegion = new BlockRegion(BlockRegion.INVALID);
     private BlockRegion previousRegion = new BlockRegion(BlockRegion.INVALID);
     private ChunkRegionListener listener;
+    private final RelevanceGrid grid;
 
-    private Set<Vector3ic> relevantChunks = Sets.newLinkedHashSet();
+    private TLongSet relevantChunks = new TLongHashSet();
+    /** Chunks of the region that were needed but are not relevant yet, in the order they were first needed. */
+    private final Set<Vector3i> pendingChunks = Sets.newLinkedHashSet();
 
     public ChunkRelevanceRegion(EntityRef entity, Vector3ic relevanceDistance) {
+        this(entity, relevanceDistance, null);
+    }
+
+    /**
+     * @param grid the grid shared by all regions, which this region keeps its area and center in, or null
+     */
+    public ChunkRelevanceRegion(EntityRef entity, Vector3ic relevanceDistance, RelevanceGrid grid) {
         this.entity = entity;
         this.relevanceDistance.set(relevanceDistance);
+        this.grid = grid;
 
         LocationComponent loc = entity.getComponent(LocationComponent.class);
 
@@ -39,8 +53,7 @@ public ChunkRelevanceRegion(EntityRef entity, Vector3ic relevanceDistance) {
             dirty = false;
         } else {
             center.set(Chunks.toChunkPos(loc.getWorldPosition(new Vector3f()), new Vector3i()));
-            currentRegion = calculateRegion();
-            dirty = true;
+            moveTo(calculateRegion());
         }
     }
 
@@ -50,23 +63,38 @@ public Vector3i getCenter() {
 
     public void setRelevanceDistance(Vector3ic distance) {
         if (!distance.equals(this.relevanceDistance)) {
-            reviewRelevantChunks(distance);
             this.relevanceDistance.set(distance);
-            this.currentRegion = calculateRegion();
-            dirty = true;
+            moveTo(calculateRegion());
         }
     }
 
-    private void reviewRelevantChunks(Vector3ic distance) {
-        Vector3i extents = new Vector3i(distance.x() / 2, distance.y() / 2, distance.z() / 2);
-        BlockRegion retainRegion = new BlockRegion(center).expand(extents);
-        Iterator<Vector3ic> iter = relevantChunks.iterator();
-        while (iter.hasNext()) {
-            Vector3ic pos = iter.next();
-            if (!retainRegion.contains(pos)) {
-                sendChunkIrrelevant(pos);
-                iter.remove();
+    /**
+     * Replaces the area of the region. Only the slabs the region loses are checked for relevant chunks, and only the
+     * slabs it gains and loses are updated in the grid, so a region moving by one chunk touches a single slab of each.
+     */
+    private void moveTo(BlockRegion region) {
+        RelevanceGrid.forEachDifference(currentRegion, region, slab -> {
+            for (Vector3ic pos : slab) {
+                if (relevantChunks.remove(RelevanceGrid.key(pos))) {
+                    sendChunkIrrelevant(new Vector3i(pos));
+                }
             }
+        });
+        if (grid != null) {
+            grid.updateCoverage(currentRegion, region);
+            grid.updateCenter(this, region.isValid() ? center : null);
+        }
+        currentRegion = region;
+        dirty = true;
+    }
+
+    /**
+     * Removes the region from the grid it was created with.
+     */
+    public void dispose() {
+        if (grid != null) {
+            grid.updateCoverage(currentRegion, BlockRegion.INVALID);
+            grid.updateCenter(this, null);
         }
     }
 
@@ -97,10 +125,13 @@ public void update() {
         } else {
             Vector3i newCenter = calculateCenter();
             if (!newCenter.equals(center)) {
-                dirty = true;
                 center.set(newCenter);
-                currentRegion = calculateRegion();
-                reviewRelevantChunks(relevanceDistance);
+                moveTo(calculateRegion());
+            } else if (!currentRegion.isValid()) {
+                BlockRegion region = calculateRegion();
+                if (region.isValid()) {
+                    moveTo(region);
+                }
             }
         }
     }
@@ -109,7 +140,7 @@ private BlockRegion calculateRegion() {
         LocationComponent loc = entity.getComponent(LocationComponent.class);
         if (loc != null && !Float.isNaN(loc.getWorldPosition(new Vector3f()).x)) {
             Vector3i extents = new Vector3i(relevanceDistance.x / 2, relevanceDistance.y / 2, relevanceDistance.z / 2);
-            return new BlockRegion(Chunks.toChunkPos(loc.getWorldPosition(new Vector3f()), new Vector3i())).expand(extents);
+            return new BlockRegion(center).expand(extents);
         }
         return new BlockRegion(BlockRegion.INVALID);
     }
@@ -166,58 +197,43 @@ public int hashCode() {
      * chunks as relevant even when no light calculation has been performed yet.
      */
     public void checkIfChunkIsRelevant(Chunk chunk) {
-        if (currentRegion.contains(chunk.getPosition()) && !relevantChunks.contains(chunk.getPosition())) {
-            relevantChunks.add(chunk.getPosition());
+        if (currentRegion.contains(chunk.getPosition()) && relevantChunks.add(RelevanceGrid.key(chunk.getPosition()))) {
+            pendingChunks.remove(chunk.getPosition());
             sendChunkRelevant(chunk);
         }
     }
 
-    public Iterable<Vector3i> getNeededChunks() {
-        return NeededChunksIterator::new;
+    /**
+     * @return the chunks of the region that are not relevant yet: those it gained since it was last
+     *         {@link #setUpToDate() up to date}, and those it needed before that have not arrived, such as chunks that
+     *         failed to load or were unloaded while the region still covered them
+     */
+    public List<Vector3i> getNeededChunks() {
+        RelevanceGrid.forEachDifference(currentRegion, previousRegion, slab -> {
+            for (Vector3ic pos : slab) {
+                if (!relevantChunks.contains(RelevanceGrid.key(pos))) {
+                    pendingChunks.add(new Vector3i(pos));
+                }
+            }
+        });
+        pendingChunks.removeIf(pos -> !currentRegion.contains(pos) || relevantChunks.contains(RelevanceGrid.key(pos)));
+        return Lists.newArrayList(pendingChunks);
     }
 
-    public void chunkUnloaded(Vector3ic pos) {
-        if (relevantChunks.contains(pos)) {
-            relevantChunks.remove(pos);
-            sendChunkIrrelevant(pos);
-        }
+    /**
+     * @return whether chunks the region needed have not arrived yet, so they have to be asked for again even if the
+     *         region did not change
+     */
+    public boolean hasPendingChunks() {
+        return !pendingChunks.isEmpty();
     }
 
-    private class NeededChunksIterator implements Iterator<Vector3i> {
-        Vector3i nextChunkPos;
-        Iterator<Vector3ic> allPositions;
-
-        NeededChunksIterator() {
-            allPositions = currentRegion.iterator();
-            calculateNext();
-        }
-
-        @Override
-        public boolean hasNext() {
-            return nextChunkPos != null;
-        }
-
-        @Override
-        public Vector3i next() {
-            Vector3i result = nextChunkPos;
-            calculateNext();
-            return result;
-        }
-
-        @Override
-        public void remove() {
-            throw new UnsupportedOperationException();
-        }
-
-        private void calculateNext() {
-            nextChunkPos = null;
-            while (allPositions.hasNext()) {
-                Vector3ic regionPosition = allPositions.next();
-                if (!relevantChunks.contains(regionPosition)) {
-                    nextChunkPos = new Vector3i(regionPosition);
-                    return;
-                }
+    public void chunkUnloaded(Vector3ic pos) {
+        if (relevantChunks.remove(RelevanceGrid.key(pos))) {
+            if (currentRegion.contains(pos)) {
+                pendingChunks.add(new Vector3i(pos));
             }
+            sendChunkIrrelevant(pos);
         }
     }
 }
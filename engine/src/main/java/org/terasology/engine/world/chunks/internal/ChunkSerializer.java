@@ -11,6 +11,7 @@
 import org.terasology.engine.world.chunks.blockdata.ExtraBlockDataManager;
 import org.terasology.engine.world.chunks.blockdata.TeraArray;
 import org.terasology.engine.world.chunks.blockdata.TeraDenseArray16Bit;
+import org.terasology.engine.world.chunks.blockdata.TeraSectionedArray;
 import org.terasology.protobuf.EntityData;
 
 public final class ChunkSerializer {
@@ -48,9 +49,25 @@ public static Chunk decode(EntityData.ChunkStore message, BlockManager blockMana
 
     private static EntityData.RunLengthEncoding16 runLengthEncode16(TeraArray array) {
         EntityData.RunLengthEncoding16.Builder builder = EntityData.RunLengthEncoding16.newBuilder();
+        TeraSectionedArray sectioned = array instanceof TeraSectionedArray ? (TeraSectionedArray) array : null;
+        int sectionSize = array.getSizeX() * TeraSectionedArray.SECTION_SIZE_Y * array.getSizeZ();
         short lastItem = (short) array.get(0, 0, 0);
         int counter = 0;
         for (int y = 0; y < array.getSizeY(); ++y) {
+            if (sectioned != null && y % TeraSectionedArray.SECTION_SIZE_Y == 0
+                    && sectioned.isUniform(y, y + TeraSectionedArray.SECTION_SIZE_Y - 1)) {
+                // a uniform section continues or starts a single run
+                short item = (short) array.get(0, y, 0);
+                if (lastItem != item) {
+                    builder.addRunLengths(counter);
+                    builder.addValues(lastItem & 0xFFFF);
+                    lastItem = item;
+                    counter = 0;
+                }
+                counter += sectionSize;
+                y += TeraSectionedArray.SECTION_SIZE_Y - 1;
+                continue;
+            }
             for (int z = 0; z < array.getSizeZ(); ++z) {
                 for (int x = 0; x < array.getSizeX(); ++x) {
                     short item = (short) array.get(x, y, z);
@@ -72,7 +89,7 @@ private static EntityData.RunLengthEncoding16 runLengthEncode16(TeraArray array)
         return builder.build();
     }
 
-    private static TeraArray runLengthDecode(EntityData.RunLengthEncoding16 data) {
+    static TeraArray runLengthDecode(EntityData.RunLengthEncoding16 data) {
         Preconditions.checkState(data.getValuesCount() == data.getRunLengthsCount(), "Expected same number of values as runs");
         short[] decodedData = new short[Chunks.SIZE_X * Chunks.SIZE_Y * Chunks.SIZE_Z];
         int index = 0;
@@ -83,7 +100,7 @@ private static TeraArray runLengthDecode(EntityData.RunLengthEncoding16 data) {
                 decodedData[index++] = value;
             }
         }
-        return new TeraDenseArray16Bit(Chunks.SIZE_X, Chunks.SIZE_Y, Chunks.SIZE_Z, decodedData);
+        return new TeraSectionedArray(new TeraDenseArray16Bit(Chunks.SIZE_X, Chunks.SIZE_Y, Chunks.SIZE_Z, decodedData), 16);
     }
 
     /**
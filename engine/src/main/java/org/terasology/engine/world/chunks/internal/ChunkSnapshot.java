@@ -0,0 +1,75 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.world.chunks.internal;
+
+import org.joml.Vector3i;
+import org.joml.Vector3ic;
+import org.terasology.engine.world.block.Block;
+import org.terasology.engine.world.block.BlockManager;
+import org.terasology.engine.world.chunks.blockdata.TeraArray;
+import org.terasology.protobuf.EntityData;
+
+/**
+ * An immutable view of the blocks and extra data of a {@link ChunkImpl} at one version.
+ * <p>
+ * Taking a snapshot copies nothing: the snapshot shares the chunk's arrays, and the chunk copies an array before it
+ * next writes to it. A snapshot can therefore be read from any thread, for as long as needed, while the chunk keeps
+ * changing. Sunlight and light are not part of a snapshot.
+ *
+ * @see ChunkImpl#createSnapshot()
+ */
+public final class ChunkSnapshot {
+    private final Vector3ic chunkPos;
+    private final long version;
+    private final TeraArray blockData;
+    private final TeraArray[] extraData;
+    private final BlockManager blockManager;
+
+    private volatile EntityData.ChunkStore encoded;
+
+    ChunkSnapshot(Vector3ic chunkPos, long version, TeraArray blockData, TeraArray[] extraData, BlockManager blockManager) {
+        this.chunkPos = new Vector3i(chunkPos);
+        this.version = version;
+        this.blockData = blockData;
+        this.extraData = extraData;
+        this.blockManager = blockManager;
+    }
+
+    public Vector3ic getPosition() {
+        return chunkPos;
+    }
+
+    /**
+     * @return the version of the chunk this snapshot was taken at; higher versions are newer
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    public short getBlockId(int x, int y, int z) {
+        return (short) blockData.get(x, y, z);
+    }
+
+    public Block getBlock(int x, int y, int z) {
+        return blockManager.getBlock(getBlockId(x, y, z));
+    }
+
+    public int getExtraData(int index, int x, int y, int z) {
+        return extraData[index].get(x, y, z);
+    }
+
+    /**
+     * Encodes the snapshot for saving or sending. The encoding is done once per snapshot, so a chunk version sent to
+     * several clients, or both saved and sent, is only encoded once.
+     *
+     * @return a new builder holding the encoded snapshot
+     */
+    public EntityData.ChunkStore.Builder encode() {
+        EntityData.ChunkStore result = encoded;
+        if (result == null) {
+            result = ChunkSerializer.encode(chunkPos, blockData, extraData).build();
+            encoded = result;
+        }
+        return result.toBuilder();
+    }
+}
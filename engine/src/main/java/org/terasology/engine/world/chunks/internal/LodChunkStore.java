@@ -0,0 +1,268 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.world.chunks.internal;
+
+import gnu.trove.map.TObjectLongMap;
+import gnu.trove.map.hash.TObjectLongHashMap;
+import org.joml.Vector3i;
+import org.joml.Vector3ic;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.engine.utilities.FilesUtil;
+import org.terasology.engine.world.chunks.Chunk;
+import org.terasology.engine.world.chunks.blockdata.TeraArray;
+import org.terasology.protobuf.EntityData;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps the blocks of LOD chunks of one world on disk, so that they need not be derived or generated again in later
+ * sessions.
+ * <p>
+ * Every LOD chunk is stored in its own small file, run length encoded and compressed, under a directory per scale.
+ * Saving real chunks that changed {@link #invalidateChanged invalidates} the LOD chunks they contribute to.
+ * <p>
+ * All methods can be called from any thread.
+ */
+public class LodChunkStore {
+    private static final Logger logger = LoggerFactory.getLogger(LodChunkStore.class);
+
+    private static final String EXTENSION = ".lod";
+    private static final int DERIVED = 1;
+
+    private final Path directory;
+    private final AtomicLong invalidations = new AtomicLong();
+    // Held for reading while storing, and for writing while invalidating, so no outdated LOD chunk is stored.
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // The version each loaded real chunk was last saved at
+    private final TObjectLongMap<Vector3i> savedVersions = new TObjectLongHashMap<>();
+
+    public LodChunkStore(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * @param pos the position of the LOD chunk, in real chunks
+     * @param scale the log scale of the LOD chunk
+     * @return the stored LOD chunk, or null if there is none
+     */
+    public Entry load(Vector3ic pos, int scale) {
+        Path path = getPath(pos, scale);
+        try (InputStream in = new GZIPInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            boolean derived = in.read() == DERIVED;
+            EntityData.ChunkStore message = EntityData.ChunkStore.parseFrom(in);
+            return new Entry(ChunkSerializer.runLengthDecode(message.getBlockData()), derived);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            logger.warn("Failed to read LOD chunk {}", path, e);
+            return null;
+        }
+    }
+
+    /**
+     * Stores the blocks of a LOD chunk, unless real chunks were invalidated since the data it was made from was read.
+     *
+     * @param pos the position of the LOD chunk, in real chunks
+     * @param scale the log scale of the LOD chunk
+     * @param chunk the chunk holding the blocks of the LOD chunk
+     * @param derived whether the blocks were derived from real chunks rather than generated
+     * @param readAt the {@link #getInvalidationCount() invalidation count} before the data was read
+     */
+    public void store(Vector3ic pos, int scale, Chunk chunk, boolean derived, long readAt) {
+        Path path = getPath(pos, scale);
+        Path tempPath = path.resolveSibling(path.getFileName() + ".tmp" + Thread.currentThread().getId());
+        lock.readLock().lock();
+        try {
+            if (invalidations.get() != readAt) {
+                return;
+            }
+            Files.createDirectories(path.getParent());
+            try (OutputStream out = new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(tempPath)))) {
+                out.write(derived ? DERIVED : 0);
+                chunk.encode().clearExtraData().build().writeTo(out);
+            }
+            Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warn("Failed to store LOD chunk {}", path, e);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return a number that changes whenever real chunks are invalidated
+     */
+    public long getInvalidationCount() {
+        return invalidations.get();
+    }
+
+    /**
+     * Removes the LOD chunks that contain, or border on, the given real chunks.
+     *
+     * @param chunkPositions the positions of real chunks that changed
+     */
+    public void invalidate(Collection<? extends Vector3ic> chunkPositions) {
+        if (chunkPositions.isEmpty()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            invalidations.incrementAndGet();
+            for (int scale : getStoredScales()) {
+                deleteAround(chunkPositions, scale);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the LOD chunks around the saved real chunks that changed since they were last saved.
+     * <p>
+     * A chunk has changed unless it was last saved at the same version. The saved versions of unloaded chunks are
+     * forgotten afterwards, as a chunk counts its versions from scratch when it is loaded again.
+     *
+     * @param loadedVersions the version of each saved real chunk that is still loaded
+     * @param unloadedVersions the version of each saved real chunk that has been unloaded
+     */
+    public void invalidateChanged(Map<? extends Vector3ic, Long> loadedVersions,
+                                  Map<? extends Vector3ic, Long> unloadedVersions) {
+        List<Vector3ic> changed = new ArrayList<>();
+        synchronized (savedVersions) {
+            unloadedVersions.forEach((pos, version) -> {
+                Vector3i key = new Vector3i(pos);
+                boolean unchanged = savedVersions.containsKey(key) && savedVersions.get(key) == version;
+                savedVersions.remove(key);
+                if (!unchanged) {
+                    changed.add(pos);
+                }
+            });
+            loadedVersions.forEach((pos, version) -> {
+                Vector3i key = new Vector3i(pos);
+                boolean unchanged = savedVersions.containsKey(key) && savedVersions.get(key) == version;
+                savedVersions.put(key, version);
+                if (!unchanged) {
+                    changed.add(pos);
+                }
+            });
+        }
+        invalidate(changed);
+    }
+
+    /**
+     * Forgets the version a real chunk was last saved at, so that it counts as changed when it is saved next.
+     *
+     * @param chunkPos the position of the real chunk
+     */
+    public void forgetSavedVersion(Vector3ic chunkPos) {
+        synchronized (savedVersions) {
+            savedVersions.remove(new Vector3i(chunkPos));
+        }
+    }
+
+    private void deleteAround(Collection<? extends Vector3ic> chunkPositions, int scale) {
+        Set<Vector3i> lodPositions = new HashSet<>();
+        for (Vector3ic chunkPos : chunkPositions) {
+            for (int dx = -1; dx <= 1; dx++) {
+                for (int dy = -1; dy <= 1; dy++) {
+                    for (int dz = -1; dz <= 1; dz++) {
+                        lodPositions.add(new Vector3i(
+                                (chunkPos.x() + dx) >> scale << scale,
+                                (chunkPos.y() + dy) >> scale << scale,
+                                (chunkPos.z() + dz) >> scale << scale));
+                    }
+                }
+            }
+        }
+        for (Vector3i lodPos : lodPositions) {
+            try {
+                Files.deleteIfExists(getPath(lodPos, scale));
+            } catch (IOException e) {
+                logger.warn("Failed to invalidate LOD chunk {} at scale {}", lodPos, scale, e);
+            }
+        }
+    }
+
+    /**
+     * Removes all stored LOD chunks.
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            invalidations.incrementAndGet();
+            FilesUtil.recursiveDelete(directory);
+        } catch (IOException e) {
+            logger.error("Failed to delete the LOD chunks", e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Set<Integer> getStoredScales() {
+        Set<Integer> scales = new HashSet<>();
+        if (!Files.isDirectory(directory)) {
+            return scales;
+        }
+        try (Stream<Path> children = Files.list(directory)) {
+            children.forEach(child -> {
+                try {
+                    scales.add(Integer.parseInt(child.getFileName().toString()));
+                } catch (NumberFormatException ignored) {
+                    // not a scale directory
+                }
+            });
+        } catch (IOException e) {
+            logger.warn("Failed to list the LOD chunk scales", e);
+        }
+        return scales;
+    }
+
+    private Path getPath(Vector3ic pos, int scale) {
+        return directory.resolve(Integer.toString(scale)).resolve(pos.x() + "." + pos.y() + "." + pos.z() + EXTENSION);
+    }
+
+    /**
+     * A stored LOD chunk.
+     */
+    public static final class Entry {
+        private final TeraArray blocks;
+        private final boolean derived;
+
+        Entry(TeraArray blocks, boolean derived) {
+            this.blocks = blocks;
+            this.derived = derived;
+        }
+
+        public TeraArray getBlocks() {
+            return blocks;
+        }
+
+        /**
+         * @return whether the blocks were derived from real chunks, rather than generated
+         */
+        public boolean isDerived() {
+            return derived;
+        }
+    }
+}
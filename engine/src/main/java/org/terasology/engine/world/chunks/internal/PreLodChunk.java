@@ -8,6 +8,7 @@
 import org.terasology.engine.world.block.BlockRegion;
 import org.terasology.engine.world.chunks.Chunks;
 import org.terasology.engine.world.chunks.blockdata.ExtraBlockDataManager;
+import org.terasology.engine.world.chunks.blockdata.TeraArray;
 
 /**
  * A chunk that has a full set of data, but will be turned into
@@ -20,6 +21,16 @@ public PreLodChunk(Vector3i pos, BlockManager blockManager, ExtraBlockDataManage
         region = new BlockRegion(min, min.add(Chunks.CHUNK_SIZE, new Vector3i()));
     }
 
+    /**
+     * Creates a LOD chunk holding the given blocks, e.g. derived from real chunks or loaded from a
+     * {@link LodChunkStore}.
+     */
+    public PreLodChunk(Vector3i pos, TeraArray blocks, BlockManager blockManager, ExtraBlockDataManager extraDataManager) {
+        super(pos, blocks, extraDataManager.makeDataArrays(Chunks.SIZE_X, Chunks.SIZE_Y, Chunks.SIZE_Z), blockManager);
+        Vector3i min = Chunks.CHUNK_SIZE.sub(2, 4, 2, new Vector3i()).mul(pos).sub(1, 2, 1);
+        region = new BlockRegion(min, min.add(Chunks.CHUNK_SIZE, new Vector3i()));
+    }
+
     @Override
     public int getChunkWorldOffsetX() {
         return chunkPos.x() * (getChunkSizeX() - 2) - 1;
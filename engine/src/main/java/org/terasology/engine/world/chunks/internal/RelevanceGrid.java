@@ -0,0 +1,192 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.world.chunks.internal;
+
+import com.google.common.collect.Maps;
+import gnu.trove.map.TLongIntMap;
+import gnu.trove.map.hash.TLongIntHashMap;
+import org.joml.Vector3i;
+import org.joml.Vector3ic;
+import org.terasology.engine.world.block.BlockRegion;
+import org.terasology.engine.world.block.BlockRegionc;
+
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * The chunks covered by a set of {@link ChunkRelevanceRegion}s, and where the centers of those regions are.
+ * <p>
+ * Every region counts its area, expanded by the leeway, in a grid shared by all regions, and only adds and removes the
+ * slabs it gains and loses when it moves. Whether a chunk lies in any region is then a single lookup, whatever the
+ * number of regions.
+ * <p>
+ * The region centers are published as an immutable {@link Centers} snapshot with a version that changes whenever a
+ * center moves, so chunk priorities derived from it can be cached until the next move. The grid itself is updated and
+ * queried on the main thread; the snapshot may be read from any thread.
+ */
+public final class RelevanceGrid {
+    private static final long AXIS_MASK = 0x1FFFFF;
+
+    private final Vector3ic leeway;
+    private final TLongIntMap coverage = new TLongIntHashMap();
+    private final Map<ChunkRelevanceRegion, Vector3ic> centers = Maps.newLinkedHashMap();
+    private volatile Centers snapshot = new Centers(1, new int[0]);
+
+    /**
+     * @param leeway how far beyond each region, in chunks, chunks count as covered by it
+     */
+    public RelevanceGrid(Vector3ic leeway) {
+        this.leeway = new Vector3i(leeway);
+    }
+
+    /**
+     * @return whether the chunk lies in any region, or within the leeway of one
+     */
+    public boolean isCovered(Vector3ic chunkPos) {
+        return coverage.containsKey(key(chunkPos));
+    }
+
+    /**
+     * @return the number of chunks that lie in any region, or within the leeway of one
+     */
+    public int getCoveredCount() {
+        return coverage.size();
+    }
+
+    /**
+     * @return the region centers as of the last move of any of them
+     */
+    public Centers getCenters() {
+        return snapshot;
+    }
+
+    /**
+     * Moves the area a region counts in the grid, updating only the chunks in one of the two areas but not the other.
+     *
+     * @param from the area the region covered, or an invalid region if it covered none
+     * @param to the area the region covers now, or an invalid region if it covers none
+     */
+    void updateCoverage(BlockRegionc from, BlockRegionc to) {
+        BlockRegion expandedFrom = expand(from);
+        BlockRegion expandedTo = expand(to);
+        forEachDifference(expandedTo, expandedFrom, slab -> {
+            for (Vector3ic pos : slab) {
+                coverage.adjustOrPutValue(key(pos), 1, 1);
+            }
+        });
+        forEachDifference(expandedFrom, expandedTo, slab -> {
+            for (Vector3ic pos : slab) {
+                long key = key(pos);
+                if (coverage.adjustOrPutValue(key, -1, 0) <= 0) {
+                    coverage.remove(key);
+                }
+            }
+        });
+    }
+
+    /**
+     * @param center the new center of the region, or null if it no longer has one
+     */
+    void updateCenter(ChunkRelevanceRegion region, Vector3ic center) {
+        if (center != null) {
+            centers.put(region, new Vector3i(center));
+        } else if (centers.remove(region) == null) {
+            return;
+        }
+        int[] coordinates = new int[centers.size() * 3];
+        int i = 0;
+        for (Vector3ic pos : centers.values()) {
+            coordinates[i++] = pos.x();
+            coordinates[i++] = pos.y();
+            coordinates[i++] = pos.z();
+        }
+        int version = snapshot.version + 1;
+        snapshot = new Centers(version != 0 ? version : 1, coordinates);
+    }
+
+    private BlockRegion expand(BlockRegionc area) {
+        return area.isValid() ? new BlockRegion(area).expand(leeway) : new BlockRegion(BlockRegion.INVALID);
+    }
+
+    /**
+     * Splits the positions in one region but not another into at most six disjoint slabs. When a region moves by one
+     * chunk along an axis, the difference between its old and new area is a single slab one chunk thick.
+     *
+     * @param a the region to take positions from; nothing is passed on if it is invalid
+     * @param b the region whose positions to leave out; the whole of {@code a} is passed on if it is invalid
+     * @param action receives each slab
+     */
+    static void forEachDifference(BlockRegionc a, BlockRegionc b, Consumer<BlockRegionc> action) {
+        if (!a.isValid()) {
+            return;
+        }
+        if (!b.isValid() || b.maxX() < a.minX() || b.minX() > a.maxX() || b.maxY() < a.minY() || b.minY() > a.maxY()
+                || b.maxZ() < a.minZ() || b.minZ() > a.maxZ()) {
+            action.accept(a);
+            return;
+        }
+        if (a.minX() < b.minX()) {
+            action.accept(new BlockRegion(a.minX(), a.minY(), a.minZ(), b.minX() - 1, a.maxY(), a.maxZ()));
+        }
+        if (a.maxX() > b.maxX()) {
+            action.accept(new BlockRegion(b.maxX() + 1, a.minY(), a.minZ(), a.maxX(), a.maxY(), a.maxZ()));
+        }
+        int minX = Math.max(a.minX(), b.minX());
+        int maxX = Math.min(a.maxX(), b.maxX());
+        if (a.minY() < b.minY()) {
+            action.accept(new BlockRegion(minX, a.minY(), a.minZ(), maxX, b.minY() - 1, a.maxZ()));
+        }
+        if (a.maxY() > b.maxY()) {
+            action.accept(new BlockRegion(minX, b.maxY() + 1, a.minZ(), maxX, a.maxY(), a.maxZ()));
+        }
+        int minY = Math.max(a.minY(), b.minY());
+        int maxY = Math.min(a.maxY(), b.maxY());
+        if (a.minZ() < b.minZ()) {
+            action.accept(new BlockRegion(minX, minY, a.minZ(), maxX, maxY, b.minZ() - 1));
+        }
+        if (a.maxZ() > b.maxZ()) {
+            action.accept(new BlockRegion(minX, minY, b.maxZ() + 1, maxX, maxY, a.maxZ()));
+        }
+    }
+
+    /**
+     * Packs a chunk position into a long, with 21 bits per axis.
+     */
+    static long key(Vector3ic chunkPos) {
+        return (chunkPos.x() & AXIS_MASK) << 42 | (chunkPos.y() & AXIS_MASK) << 21 | (chunkPos.z() & AXIS_MASK);
+    }
+
+    /**
+     * The centers of all regions at one point in time.
+     */
+    public static final class Centers {
+        private final int version;
+        private final int[] coordinates;
+
+        private Centers(int version, int[] coordinates) {
+            this.version = version;
+            this.coordinates = coordinates;
+        }
+
+        /**
+         * @return a number that differs from the version of the previous snapshot and is never 0
+         */
+        public int getVersion() {
+            return version;
+        }
+
+        /**
+         * @return the grid distance from the chunk to the nearest region center, or {@link Integer#MAX_VALUE} if there
+         *         are no regions
+         */
+        public int score(Vector3ic chunkPos) {
+            int score = Integer.MAX_VALUE;
+            for (int i = 0; i < coordinates.length && score > 0; i += 3) {
+                int distance = Math.abs(chunkPos.x() - coordinates[i]) + Math.abs(chunkPos.y() - coordinates[i + 1])
+                        + Math.abs(chunkPos.z() - coordinates[i + 2]);
+                score = Math.min(score, distance);
+            }
+            return score;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.world.chunks.localChunkProvider;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import gnu.trove.list.TIntList;
+import gnu.trove.map.TShortObjectMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.engine.world.chunks.Chunk;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.DoubleSupplier;
+import java.util.function.Function;
+
+/**
+ * Finishes unloading chunks on a pool of workers, once the main thread has sent their {@link
+ * org.terasology.engine.world.chunks.event.BeforeChunkUnload} and deactivated their entities.
+ * <p>
+ * For each chunk, a worker gathers the positions of the blocks that need lifecycle events and serializes the chunk.
+ * The gathered positions are then handed back, and the main thread only sends the events for them.
+ * <p>
+ * How many chunks the main thread should unload per frame follows the memory pressure. Below {@link #LOW_PRESSURE} of
+ * the maximum heap in use, it is {@link #BASE_UNLOADS_PER_FRAME}. From there up to {@link #HIGH_PRESSURE}, it rises
+ * to {@link #MAX_UNLOADS_PER_FRAME}, so that unloading catches up with loading before memory runs out. The limit is
+ * lowered by the number of chunks still waiting for a worker, so chunks do not pile up in the queue.
+ */
+class ChunkUnloadPipeline {
+    static final int BASE_UNLOADS_PER_FRAME = 64;
+    static final int MAX_UNLOADS_PER_FRAME = 512;
+    static final double LOW_PRESSURE = 0.6;
+    static final double HIGH_PRESSURE = 0.9;
+
+    private static final Logger logger = LoggerFactory.getLogger(ChunkUnloadPipeline.class);
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private final int threads;
+    private final Function<Chunk, TShortObjectMap<TIntList>> blockScanner;
+    private final Consumer<Chunk> serializer;
+    private final DoubleSupplier memoryPressure;
+    private final Queue<TShortObjectMap<TIntList>> scannedBlocks = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private ExecutorService workers;
+
+    /**
+     * @param threads the number of workers
+     * @param blockScanner gathers the positions of the blocks of a chunk that need lifecycle events, by block id
+     * @param serializer serializes an unloaded chunk
+     */
+    ChunkUnloadPipeline(int threads, Function<Chunk, TShortObjectMap<TIntList>> blockScanner,
+                        Consumer<Chunk> serializer) {
+        this(threads, blockScanner, serializer, ChunkUnloadPipeline::heapPressure);
+    }
+
+    /**
+     * @param memoryPressure the fraction of the available memory that is in use
+     */
+    ChunkUnloadPipeline(int threads, Function<Chunk, TShortObjectMap<TIntList>> blockScanner,
+                        Consumer<Chunk> serializer, DoubleSupplier memoryPressure) {
+        this.threads = threads;
+        this.blockScanner = blockScanner;
+        this.serializer = serializer;
+        this.memoryPressure = memoryPressure;
+        this.workers = createWorkers();
+    }
+
+    /**
+     * @return how many chunks to unload this frame
+     */
+    int getUnloadLimit() {
+        double pressure = memoryPressure.getAsDouble();
+        int limit = BASE_UNLOADS_PER_FRAME;
+        if (pressure > LOW_PRESSURE) {
+            double scale = Math.min(1.0, (pressure - LOW_PRESSURE) / (HIGH_PRESSURE - LOW_PRESSURE));
+            limit += (int) (scale * (MAX_UNLOADS_PER_FRAME - BASE_UNLOADS_PER_FRAME));
+        }
+        return Math.max(0, limit - pending.get());
+    }
+
+    /**
+     * Hands a chunk to the workers. The chunk must already be removed from the world and deactivated.
+     */
+    void submit(Chunk chunk) {
+        pending.incrementAndGet();
+        try {
+            workers.execute(() -> process(chunk));
+        } catch (RejectedExecutionException e) {
+            pending.decrementAndGet();
+            logger.debug("Unload pipeline is shut down, dropping block deactivation of {}", chunk.getPosition());
+        }
+    }
+
+    /**
+     * Hands the blocks gathered from all chunks processed since the last call to the consumer, on the calling thread.
+     */
+    void drainScannedBlocks(Consumer<TShortObjectMap<TIntList>> consumer) {
+        TShortObjectMap<TIntList> blocks;
+        while ((blocks = scannedBlocks.poll()) != null) {
+            consumer.accept(blocks);
+        }
+    }
+
+    /**
+     * @return the number of submitted chunks that have not been processed yet
+     */
+    int getPendingCount() {
+        return pending.get();
+    }
+
+    /**
+     * Finishes processing the submitted chunks, then stops the workers.
+     */
+    void shutdown() {
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warn("Chunk unloading did not finish within {}s, {} chunks remain", SHUTDOWN_TIMEOUT_SECONDS,
+                        pending.get());
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Starts new workers if the pipeline has been shut down.
+     */
+    void restart() {
+        if (workers.isShutdown()) {
+            workers = createWorkers();
+        }
+    }
+
+    private void process(Chunk chunk) {
+        try {
+            scannedBlocks.add(blockScanner.apply(chunk));
+            serializer.accept(chunk);
+        } catch (RuntimeException e) {
+            logger.error("Failed to unload chunk {}", chunk.getPosition(), e);
+        } finally {
+            pending.decrementAndGet();
+        }
+    }
+
+    private ExecutorService createWorkers() {
+        return Executors.newFixedThreadPool(threads,
+                new ThreadFactoryBuilder().setNameFormat("Chunk-Unloader-%d").setDaemon(true).build());
+    }
+
+    private static double heapPressure() {
+        Runtime runtime = Runtime.getRuntime();
+        return (double) (runtime.totalMemory() - runtime.freeMemory()) / runtime.maxMemory();
+    }
+}
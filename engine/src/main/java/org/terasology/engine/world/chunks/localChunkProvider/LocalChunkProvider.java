@@ -3,7 +3,6 @@
 package org.terasology.engine.world.chunks.localChunkProvider;
 
 import com.google.common.collect.Iterators;
-import com.google.common.collect.Lists;
 import com.google.common.collect.Queues;
 import com.google.common.util.concurrent.ListenableFuture;
 import gnu.trove.list.TIntList;
@@ -23,7 +22,6 @@
 import org.terasology.engine.monitoring.chunk.ChunkMonitor;
 import org.terasology.engine.persistence.ChunkStore;
 import org.terasology.engine.persistence.StorageManager;
-import org.terasology.engine.utilities.concurrency.TaskMaster;
 import org.terasology.engine.world.BlockEntityRegistry;
 import org.terasology.engine.world.block.BeforeDeactivateBlocks;
 import org.terasology.engine.world.block.Block;
@@ -82,11 +80,11 @@
 public class LocalChunkProvider implements ChunkProvider {
 
     private static final Logger logger = LoggerFactory.getLogger(LocalChunkProvider.class);
-    private static final int UNLOAD_PER_FRAME = 64;
+    private static final int UNLOAD_THREADS = 4;
     private static final int UPDATE_PROCESSING_DEADLINE_MS = 24;
+    private static final int UNLOAD_PROCESSING_DEADLINE_MS = 8;
     private final EntityManager entityManager;
     private final BlockingQueue<Chunk> readyChunks = Queues.newLinkedBlockingQueue();
-    private final BlockingQueue<TShortObjectMap<TIntList>> deactivateBlocksQueue = Queues.newLinkedBlockingQueue();
     private final Map<Vector3ic, Chunk> chunkCache;
 
     private final Map<Vector3ic, List<EntityStore>> generateQueuedEntities = new ConcurrentHashMap<>();
@@ -97,7 +95,7 @@ public class LocalChunkProvider implements ChunkProvider {
     private final ExtraBlockDataManager extraDataManager;
     private final Config config;
     private ChunkProcessingPipeline loadingPipeline;
-    private TaskMaster<ChunkUnloadRequest> unloadRequestTaskMaster;
+    private final ChunkUnloadPipeline unloadPipeline;
     private EntityRef worldEntity = EntityRef.NULL;
     private BlockEntityRegistry registry;
 
@@ -112,7 +110,8 @@ public LocalChunkProvider(StorageManager storageManager, EntityManager entityMan
         this.blockManager = blockManager;
         this.extraDataManager = extraDataManager;
         this.config = config;
-        this.unloadRequestTaskMaster = TaskMaster.createFIFOTaskMaster("Chunk-Unloader", 4);
+        this.unloadPipeline = new ChunkUnloadPipeline(UNLOAD_THREADS, this::createBatchBlockEventMappings,
+                chunk -> storageManager.compressDeactivatedChunk(chunk.getPosition()));
         this.chunkCache = chunkCache;
         ChunkMonitor.fireChunkProviderInitialized(this);
     }
@@ -247,22 +246,24 @@ public void update() {
     }
 
     private void deactivateBlocks() {
-        List<TShortObjectMap<TIntList>> deactivatedBlockSets =
-            Lists.newArrayListWithExpectedSize(deactivateBlocksQueue.size());
-        deactivateBlocksQueue.drainTo(deactivatedBlockSets);
-        for (TShortObjectMap<TIntList> deactivatedBlockSet : deactivatedBlockSets) {
+        unloadPipeline.drainScannedBlocks(deactivatedBlockSet ->
             deactivatedBlockSet.forEachEntry((id, positions) -> {
                 if (positions.size() > 0) {
                     blockManager.getBlock(id).getEntity().send(new BeforeDeactivateBlocks(positions, registry));
                 }
                 return true;
-            });
-        }
+            }));
     }
 
     private void checkForUnload() {
         PerformanceMonitor.startActivity("Unloading irrelevant chunks");
+        int unloadLimit = unloadPipeline.getUnloadLimit();
+        if (unloadLimit == 0) {
+            PerformanceMonitor.endActivity();
+            return;
+        }
         int unloaded = 0;
+        long processingStartTime = System.currentTimeMillis();
         Iterator<Vector3ic> iterator = Iterators.concat(
             Iterators.transform(chunkCache.keySet().iterator(), v -> new Vector3i(v.x(), v.y(), v.z())),
             loadingPipeline.getProcessingPosition().iterator());
@@ -271,10 +272,15 @@ private void checkForUnload() {
             boolean keep = relevanceSystem.isChunkInRegions(pos); // TODO: move it to relevance system.
             if (!keep && unloadChunkInternal(pos)) {
                 iterator.remove();
-                if (++unloaded >= UNLOAD_PER_FRAME) {
+                if (++unloaded >= unloadLimit) {
+                    break;
+                }
+                long totalProcessingTime = System.currentTimeMillis() - processingStartTime;
+                if (totalProcessingTime > UNLOAD_PROCESSING_DEADLINE_MS) {
+                    logger.debug("Chunk unloading took too long this tick ({}/{}ms), stopped after {} chunks",
+                            totalProcessingTime, UNLOAD_PROCESSING_DEADLINE_MS, unloaded);
                     break;
                 }
-
             }
         }
         if (unloaded > 0) {
@@ -298,32 +304,22 @@ private boolean unloadChunkInternal(Vector3ic pos) {
         storageManager.deactivateChunk(chunk);
         chunk.dispose();
 
-        try {
-            unloadRequestTaskMaster.put(new ChunkUnloadRequest(chunk, this));
-        } catch (InterruptedException e) {
-            logger.error("Failed to enqueue unload request for {}", chunk.getPosition(), e);
-        }
+        unloadPipeline.submit(chunk);
 
         return true;
     }
 
-    void gatherBlockPositionsForDeactivate(Chunk chunk) {
-        try {
-            deactivateBlocksQueue.put(createBatchBlockEventMappings(chunk));
-        } catch (InterruptedException e) {
-            logger.error("Failed to queue deactivation of blocks for {}", chunk.getPosition());
-        }
-    }
-
     private TShortObjectMap<TIntList> createBatchBlockEventMappings(Chunk chunk) {
         TShortObjectMap<TIntList> batchBlockMap = new TShortObjectHashMap<>();
-        blockManager.listRegisteredBlocks().stream().filter(Block::isLifecycleEventsRequired).forEach(block ->
-            batchBlockMap.put(block.getId(), new TIntArrayList()));
-
         ChunkBlockIterator i = chunk.getBlockIterator();
         while (i.next()) {
-            if (i.getBlock().isLifecycleEventsRequired()) {
-                TIntList positionList = batchBlockMap.get(i.getBlock().getId());
+            Block block = i.getBlock();
+            if (block.isLifecycleEventsRequired()) {
+                TIntList positionList = batchBlockMap.get(block.getId());
+                if (positionList == null) {
+                    positionList = new TIntArrayList();
+                    batchBlockMap.put(block.getId(), positionList);
+                }
                 positionList.add(i.getBlockPos().x());
                 positionList.add(i.getBlockPos().y());
                 positionList.add(i.getBlockPos().z());
@@ -355,13 +351,13 @@ public Collection<Chunk> getAllChunks() {
     @Override
     public void restart() {
         loadingPipeline.restart();
-        unloadRequestTaskMaster.restart();
+        unloadPipeline.restart();
     }
 
     @Override
     public void shutdown() {
         loadingPipeline.shutdown();
-        unloadRequestTaskMaster.shutdown(new ChunkUnloadRequest(), true);
+        unloadPipeline.shutdown();
     }
 
     @Override
@@ -399,7 +395,7 @@ public boolean reloadChunk(Vector3ic coords) {
     public void purgeWorld() {
         ChunkMonitor.fireChunkProviderDisposed(this);
         loadingPipeline.shutdown();
-        unloadRequestTaskMaster.shutdown(new ChunkUnloadRequest(), true);
+        unloadPipeline.shutdown();
         getAllChunks().stream().filter(Chunk::isReady).forEach(chunk -> {
             worldEntity.send(new BeforeChunkUnload(chunk.getPosition()));
             storageManager.deactivateChunk(chunk);
@@ -422,7 +418,7 @@ public void purgeWorld() {
                 }, LightMerger::requiredChunks
             ))
             .addStage(ChunkTaskProvider.create("Chunk ready", readyChunks::add));
-        unloadRequestTaskMaster = TaskMaster.createFIFOTaskMaster("Chunk-Unloader", 8);
+        unloadPipeline.restart();
         ChunkMonitor.fireChunkProviderInitialized(this);
 
         for (ChunkRelevanceRegion chunkRelevanceRegion : relevanceSystem.getRegions()) {
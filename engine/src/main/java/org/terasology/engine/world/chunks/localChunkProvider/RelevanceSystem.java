@@ -3,6 +3,8 @@
 package org.terasology.engine.world.chunks.localChunkProvider;
 
 import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import org.joml.Vector3i;
 import org.joml.Vector3ic;
 import org.terasology.engine.entitySystem.entity.EntityRef;
@@ -22,16 +24,19 @@
 import org.terasology.engine.world.chunks.event.BeforeChunkUnload;
 import org.terasology.engine.world.chunks.event.OnChunkLoaded;
 import org.terasology.engine.world.chunks.internal.ChunkRelevanceRegion;
+import org.terasology.engine.world.chunks.internal.RelevanceGrid;
 import org.terasology.engine.world.chunks.pipeline.PositionFuture;
 import org.terasology.gestalt.entitysystem.event.ReceiveEvent;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
-import java.util.stream.StreamSupport;
 
 /**
  * RelevanceSystem loads, holds and unloads chunks around "players" (entity with {@link RelevanceRegionComponent} and
@@ -42,13 +47,22 @@
  * Client side multiplayer downloads and displays the chunks sent by the server.
  * <p>
  * It is uses {@link RelevanceRegionComponent} for determinate "view distance".
+ * <p>
+ * All regions share a {@link RelevanceGrid}, which counts the regions covering each chunk and publishes the region
+ * centers that chunk tasks are ordered by.
  */
 public class RelevanceSystem implements UpdateSubscriberSystem {
 
     private static final Vector3i UNLOAD_LEEWAY = new Vector3i(1, 1, 1);
     private final ReadWriteLock regionLock = new ReentrantReadWriteLock();
     private final Map<EntityRef, ChunkRelevanceRegion> regions = Maps.newHashMap();
+    private final RelevanceGrid grid = new RelevanceGrid(UNLOAD_LEEWAY);
     private final LocalChunkProvider chunkProvider;
+    /**
+     * The chunks asked for that have not been loaded yet, so they are not asked for again while on their way. Failed
+     * requests are dropped at the end of every update.
+     */
+    private final Map<Vector3ic, ListenableFuture<Chunk>> requests = Maps.newHashMap();
 
     public RelevanceSystem(LocalChunkProvider chunkProvider) {
         this.chunkProvider = chunkProvider;
@@ -75,6 +89,10 @@ public void onLostRelevanceRegion(BeforeDeactivateComponent event, EntityRef ent
 
     @ReceiveEvent(components = WorldComponent.class)
     public void onNewChunk(OnChunkLoaded chunkAvailable, EntityRef worldEntity) {
+        requests.remove(chunkAvailable.getChunkPos());
+        if (!grid.isCovered(chunkAvailable.getChunkPos())) {
+            return;
+        }
         for (ChunkRelevanceRegion region : regions.values()) {
             region.checkIfChunkIsRelevant(chunkProvider.getChunk(chunkAvailable.getChunkPos()));
         }
@@ -82,6 +100,10 @@ public void onNewChunk(OnChunkLoaded chunkAvailable, EntityRef worldEntity) {
 
     @ReceiveEvent(components = WorldComponent.class)
     public void onRemoveChunk(BeforeChunkUnload chunkUnloadEvent, EntityRef worldEntity) {
+        requests.remove(chunkUnloadEvent.getChunkPos());
+        if (!grid.isCovered(chunkUnloadEvent.getChunkPos())) {
+            return;
+        }
         for (ChunkRelevanceRegion region : regions.values()) {
             region.chunkUnloaded(chunkUnloadEvent.getChunkPos());
         }
@@ -113,7 +135,10 @@ public void updateRelevanceEntityDistance(EntityRef entity, Vector3ic distance)
     public void removeRelevanceEntity(EntityRef entity) {
         regionLock.writeLock().lock();
         try {
-            regions.remove(entity);
+            ChunkRelevanceRegion region = regions.remove(entity);
+            if (region != null) {
+                region.dispose();
+            }
         } finally {
             regionLock.writeLock().unlock();
         }
@@ -126,18 +151,44 @@ private void updateRelevance() {
         try (Activity activity = PerformanceMonitor.startActivity("Update relevance")) {
             for (ChunkRelevanceRegion chunkRelevanceRegion : regions.values()) {
                 chunkRelevanceRegion.update();
-                if (chunkRelevanceRegion.isDirty()) {
+                if (chunkRelevanceRegion.isDirty() || chunkRelevanceRegion.hasPendingChunks()) {
                     for (Vector3i pos : chunkRelevanceRegion.getNeededChunks()) {
                         Chunk chunk = chunkProvider.getChunk(pos);
                         if (chunk != null) {
                             chunkRelevanceRegion.checkIfChunkIsRelevant(chunk);
                         } else {
-                            chunkProvider.createOrLoadChunk(pos);
+                            requestChunk(pos);
                         }
                     }
                     chunkRelevanceRegion.setUpToDate();
                 }
             }
+            requests.values().removeIf(RelevanceSystem::hasFailed);
+        }
+    }
+
+    /**
+     * Asks the chunk provider for the chunk, unless it was asked already and the chunk is still on its way.
+     */
+    private void requestChunk(Vector3i pos) {
+        ListenableFuture<Chunk> request = requests.get(pos);
+        if (request == null || hasFailed(request)) {
+            requests.put(pos, chunkProvider.createOrLoadChunk(pos));
+        }
+    }
+
+    /**
+     * @return whether the request is done without providing the chunk, because loading it failed or was stopped
+     */
+    private static boolean hasFailed(Future<Chunk> request) {
+        if (!request.isDone()) {
+            return false;
+        }
+        try {
+            Futures.getDone(request);
+            return false;
+        } catch (ExecutionException | CancellationException e) {
+            return true;
         }
     }
 
@@ -165,29 +216,29 @@ public BlockRegionc addRelevanceEntity(EntityRef entity, Vector3ic distance, Chu
         } finally {
             regionLock.readLock().unlock();
         }
-        ChunkRelevanceRegion region = new ChunkRelevanceRegion(entity, distance);
+        ChunkRelevanceRegion region = new ChunkRelevanceRegion(entity, distance, grid);
         if (listener != null) {
             region.setListener(listener);
         }
         regionLock.writeLock().lock();
         try {
-            regions.put(entity, region);
+            ChunkRelevanceRegion previous = regions.put(entity, region);
+            if (previous != null) {
+                previous.dispose();
+            }
         } finally {
             regionLock.writeLock().unlock();
         }
 
-        StreamSupport.stream(region.getCurrentRegion().spliterator(), false)
-                .sorted(new PositionRelevanceComparator()) //<-- this is n^2 cost. not sure why this needs to be sorted like this.
-                .forEach(pos -> {
-                            Chunk chunk = chunkProvider.getChunk(pos);
-                            if (chunk != null) {
-                                region.checkIfChunkIsRelevant(chunk);
-                                // return Futures.immediateFuture(chunk);
-                            } else {
-                                chunkProvider.createOrLoadChunk(pos); // return this
-                            }
-                        }
-                );
+        for (Vector3i pos : sortByRelevance(region.getCurrentRegion())) {
+            Chunk chunk = chunkProvider.getChunk(pos);
+            if (chunk != null) {
+                region.checkIfChunkIsRelevant(chunk);
+                // return Futures.immediateFuture(chunk);
+            } else {
+                requestChunk(pos); // return this
+            }
+        }
         return new BlockRegion(region.getCurrentRegion());  // whenAllComplete
     }
 
@@ -198,12 +249,32 @@ public BlockRegionc addRelevanceEntity(EntityRef entity, Vector3ic distance, Chu
      * @return {@code true} if chunk in regions, otherwise {@code false}
      */
     public boolean isChunkInRegions(Vector3ic pos) {
-        for (ChunkRelevanceRegion region : regions.values()) {
-            if (new BlockRegion(region.getCurrentRegion()).expand(UNLOAD_LEEWAY).contains(pos)) {
-                return true;
-            }
+        return grid.isCovered(pos);
+    }
+
+    /**
+     * @return the positions of the area, nearest to any region center first
+     */
+    private Vector3i[] sortByRelevance(BlockRegionc area) {
+        if (!area.isValid()) {
+            return new Vector3i[0];
+        }
+        RelevanceGrid.Centers centers = grid.getCenters();
+        Vector3i[] positions = new Vector3i[area.volume()];
+        // Scores in the high bits and indices in the low bits, so that every position is scored once
+        long[] order = new long[positions.length];
+        int i = 0;
+        for (Vector3ic pos : area) {
+            positions[i] = new Vector3i(pos);
+            order[i] = (long) centers.score(pos) << 32 | i;
+            i++;
+        }
+        Arrays.sort(order);
+        Vector3i[] sorted = new Vector3i[positions.length];
+        for (i = 0; i < order.length; i++) {
+            sorted[i] = positions[(int) order[i]];
         }
-        return false;
+        return sorted;
     }
 
     /**
@@ -253,55 +324,20 @@ public void shutdown() {
         // ignore
     }
 
-    private int regionsDistanceScore(Vector3ic chunk) {
-        int score = Integer.MAX_VALUE;
-
-        regionLock.readLock().lock();
-        try {
-
-            for (ChunkRelevanceRegion region : regions.values()) {
-                int dist = (int) chunk.gridDistance(region.getCenter());
-                if (dist < score) {
-                    score = dist;
-                }
-                if (score == 0) {
-                    break;
-                }
-            }
-            return score;
-        } finally {
-            regionLock.readLock().unlock();
-        }
-    }
-
     /**
-     * Compare ChunkTasks by distance from region's centers.
+     * Compare ChunkTasks by distance from region's centers. The distance of each task is cached on the task until a
+     * region center moves.
      */
     private class ChunkTaskRelevanceComparator implements Comparator<Future<Chunk>> {
 
         @Override
         public int compare(Future<Chunk> o1, Future<Chunk> o2) {
-            return score((PositionFuture<?>) o1) - score((PositionFuture<?>) o2);
-        }
-
-        private int score(PositionFuture<?> task) {
-            return RelevanceSystem.this.regionsDistanceScore(task.getPosition());
-        }
-    }
-
-
-    /**
-     * Compare ChunkTasks by distance from region's centers.
-     */
-    private class PositionRelevanceComparator implements Comparator<Vector3ic> {
-
-        @Override
-        public int compare(Vector3ic o1, Vector3ic o2) {
-            return score(o1) - score(o2);
+            RelevanceGrid.Centers centers = grid.getCenters();
+            return Integer.compare(score((PositionFuture<?>) o1, centers), score((PositionFuture<?>) o2, centers));
         }
 
-        private int score(Vector3ic position) {
-            return RelevanceSystem.this.regionsDistanceScore(position);
+        private int score(PositionFuture<?> task, RelevanceGrid.Centers centers) {
+            return task.getPriority(centers.getVersion(), centers::score);
         }
     }
 }
@@ -117,6 +117,8 @@ private void onStageDone(PositionFuture<Chunk> future, ChunkProcessingInfo chunk
                             ? "Generation or Loading"
                             : chunkProcessingInfo.getChunkTaskProvider().getName();
             logger.error("ChunkTask at position {} and stage [{}] catch error: ", chunkProcessingInfo.getPosition(), stageName, e);
+            // forget the position, so the chunk can be asked for again
+            cleanup(chunkProcessingInfo);
             chunkProcessingInfo.getExternalFuture().setException(e);
         } catch (CancellationException ignored) {
         }
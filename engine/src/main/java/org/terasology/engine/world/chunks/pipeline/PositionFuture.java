@@ -7,9 +7,14 @@
 
 import java.util.concurrent.Callable;
 import java.util.concurrent.FutureTask;
+import java.util.function.ToIntFunction;
 
 public class PositionFuture<T> extends FutureTask<T> {
     private final Vector3ic position;
+    /**
+     * The version of the last priority in the high bits and the priority in the low bits, or 0 if none was computed.
+     */
+    private volatile long priority;
 
     public PositionFuture(Callable callable, Vector3ic position) {
         super(callable);
@@ -24,4 +29,21 @@ public PositionFuture(Runnable runnable, T result, Vector3ic position) {
     public Vector3ic getPosition() {
         return position;
     }
+
+    /**
+     * Returns the priority of this task for ordering it in a queue, computing it only when the ordering changed since
+     * it was last computed.
+     *
+     * @param version identifies the current ordering; must not be 0
+     * @param scorer computes the priority of a position under the current ordering
+     */
+    public int getPriority(int version, ToIntFunction<Vector3ic> scorer) {
+        long cached = priority;
+        if ((int) (cached >>> 32) == version) {
+            return (int) cached;
+        }
+        int score = scorer.applyAsInt(position);
+        priority = (long) version << 32 | (score & 0xFFFFFFFFL);
+        return score;
+    }
 }
@@ -91,6 +91,16 @@ public Map<Vector3ic, Block> setBlocks(Map<? extends Vector3ic, Block> blocks) {
         return base.setBlocks(blocks);
     }
 
+    @Override
+    public short[] getBlockIds(BlockRegionc region, short[] dest) {
+        return base.getBlockIds(region, dest);
+    }
+
+    @Override
+    public int setBlockIds(BlockRegionc region, short[] blockIds, short[] previousIds) {
+        return base.setBlockIds(region, blockIds, previousIds);
+    }
+
     @Override
     public Block getBlock(int x, int y, int z) {
         return base.getBlock(x, y, z);
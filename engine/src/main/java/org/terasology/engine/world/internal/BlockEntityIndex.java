@@ -0,0 +1,132 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.world.internal;
+
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.world.chunks.Chunks;
+
+/**
+ * Maps block positions to entities, partitioned by chunk.
+ * <p>
+ * Every chunk with at least one entity has its own partition, keyed by the packed position of the block within the
+ * chunk, so a lookup neither allocates nor hashes a vector and a whole chunk can be dropped at once. The partition of
+ * the last lookup is remembered, as lookups tend to stay within the same chunk.
+ * <p>
+ * Not thread safe; block entities are only used on the game thread.
+ */
+public final class BlockEntityIndex {
+    private static final int CHUNK_COORDINATE_BITS = 21;
+    private static final long CHUNK_COORDINATE_MASK = (1L << CHUNK_COORDINATE_BITS) - 1;
+
+    private final TLongObjectMap<TIntObjectMap<EntityRef>> partitions = new TLongObjectHashMap<>();
+    private long lastChunkKey;
+    private TIntObjectMap<EntityRef> lastPartition;
+    private int size;
+
+    /**
+     * @return the entity at the given block position, or null if there is none
+     */
+    public EntityRef get(int x, int y, int z) {
+        TIntObjectMap<EntityRef> partition = partition(Chunks.toChunkPosX(x), Chunks.toChunkPosY(y),
+                Chunks.toChunkPosZ(z), false);
+        return partition != null ? partition.get(blockKey(x, y, z)) : null;
+    }
+
+    /**
+     * @return the entity previously at the given block position, or null if there was none
+     */
+    public EntityRef put(int x, int y, int z, EntityRef entity) {
+        TIntObjectMap<EntityRef> partition = partition(Chunks.toChunkPosX(x), Chunks.toChunkPosY(y),
+                Chunks.toChunkPosZ(z), true);
+        EntityRef previous = partition.put(blockKey(x, y, z), entity);
+        if (previous == null) {
+            size++;
+        }
+        return previous;
+    }
+
+    /**
+     * Removes the entity at the given block position, but only if it is the given one.
+     *
+     * @return whether the entity was removed
+     */
+    public boolean remove(int x, int y, int z, EntityRef expected) {
+        int chunkX = Chunks.toChunkPosX(x);
+        int chunkY = Chunks.toChunkPosY(y);
+        int chunkZ = Chunks.toChunkPosZ(z);
+        TIntObjectMap<EntityRef> partition = partition(chunkX, chunkY, chunkZ, false);
+        if (partition == null) {
+            return false;
+        }
+        int blockKey = blockKey(x, y, z);
+        EntityRef current = partition.get(blockKey);
+        if (current == null || !current.equals(expected)) {
+            return false;
+        }
+        partition.remove(blockKey);
+        size--;
+        if (partition.isEmpty()) {
+            removeChunk(chunkX, chunkY, chunkZ);
+        }
+        return true;
+    }
+
+    /**
+     * Drops every entry of the given chunk.
+     *
+     * @return the number of entries dropped
+     */
+    public int removeChunk(int chunkX, int chunkY, int chunkZ) {
+        long chunkKey = chunkKey(chunkX, chunkY, chunkZ);
+        TIntObjectMap<EntityRef> partition = partitions.remove(chunkKey);
+        if (partition == null) {
+            return 0;
+        }
+        if (partition == lastPartition) {
+            lastPartition = null;
+        }
+        size -= partition.size();
+        return partition.size();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int chunkCount() {
+        return partitions.size();
+    }
+
+    private TIntObjectMap<EntityRef> partition(int chunkX, int chunkY, int chunkZ, boolean create) {
+        long chunkKey = chunkKey(chunkX, chunkY, chunkZ);
+        if (lastPartition != null && lastChunkKey == chunkKey) {
+            return lastPartition;
+        }
+        TIntObjectMap<EntityRef> partition = partitions.get(chunkKey);
+        if (partition == null) {
+            if (!create) {
+                return null;
+            }
+            partition = new TIntObjectHashMap<>();
+            partitions.put(chunkKey, partition);
+        }
+        lastChunkKey = chunkKey;
+        lastPartition = partition;
+        return partition;
+    }
+
+    private static long chunkKey(int chunkX, int chunkY, int chunkZ) {
+        return (chunkX & CHUNK_COORDINATE_MASK) << (2 * CHUNK_COORDINATE_BITS)
+                | (chunkY & CHUNK_COORDINATE_MASK) << CHUNK_COORDINATE_BITS
+                | (chunkZ & CHUNK_COORDINATE_MASK);
+    }
+
+    private static int blockKey(int x, int y, int z) {
+        return (Chunks.toRelativeX(x) << Chunks.POWER_Y | Chunks.toRelativeY(y)) << Chunks.POWER_Z
+                | Chunks.toRelativeZ(z);
+    }
+}
@@ -71,6 +71,20 @@ public Block getBlock(int blockX, int blockY, int blockZ) {
         return defaultBlock;
     }
 
+    @Override
+    public Block getUniformBlock(int minY, int maxY) {
+        if (blockRegion.contains(0, minY, 0) && blockRegion.contains(0, maxY, 0)) {
+            int index = relChunkIndex(0, minY, 0);
+            Chunk chunk = chunks[index];
+            if (chunk != null && index == relChunkIndex(0, maxY, 0)) {
+                return chunk.getUniformBlock(
+                        Chunks.toRelative(minY, chunkFilterSize.y),
+                        Chunks.toRelative(maxY, chunkFilterSize.y));
+            }
+        }
+        return null;
+    }
+
     @Override
     public byte getSunlight(float x, float y, float z) {
         return getSunlight(TeraMath.floorToInt(x + 0.5f), TeraMath.floorToInt(y + 0.5f), TeraMath.floorToInt(z + 0.5f));
@@ -8,6 +8,10 @@
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
+import gnu.trove.list.TIntList;
+import gnu.trove.list.array.TIntArrayList;
+import gnu.trove.set.TLongSet;
+import gnu.trove.set.hash.TLongHashSet;
 import org.joml.RoundingMode;
 import org.joml.Vector3f;
 import org.joml.Vector3fc;
@@ -37,10 +41,17 @@
 import org.terasology.engine.network.NetworkComponent;
 import org.terasology.engine.world.BlockEntityRegistry;
 import org.terasology.engine.world.OnChangedBlock;
+import org.terasology.engine.world.OnChangedBlocks;
+import org.terasology.engine.world.WorldComponent;
 import org.terasology.engine.world.block.Block;
 import org.terasology.engine.world.block.BlockComponent;
+import org.terasology.engine.world.block.BlockManager;
 import org.terasology.engine.world.block.BlockRegion;
+import org.terasology.engine.world.block.BlockRegionc;
 import org.terasology.engine.world.block.regions.BlockRegionComponent;
+import org.terasology.engine.world.chunks.Chunks;
+import org.terasology.engine.world.chunks.event.BeforeChunkUnload;
+import org.terasology.engine.world.chunks.event.OnChunkLoaded;
 import org.terasology.gestalt.entitysystem.component.Component;
 import org.terasology.gestalt.entitysystem.event.ReceiveEvent;
 import org.terasology.reflection.metadata.FieldMetadata;
@@ -59,19 +70,30 @@ public class EntityAwareWorldProvider extends AbstractWorldProviderDecorator
         ImmutableSet.of(NetworkComponent.class, BlockComponent.class, LocationComponent.class);
 
     private final EngineEntityManager entityManager;
+    private final BlockManager blockManager;
 
-    // TODO: Perhaps a better datastructure for spatial lookups
-    // TODO: Or perhaps a build in indexing system for entities
-    private final Map<Vector3ic, EntityRef> blockEntityLookup = Maps.newHashMap();
+    private final BlockEntityIndex blockEntityLookup = new BlockEntityIndex();
 
-    private final Map<Vector3ic, EntityRef> blockRegionLookup = Maps.newHashMap();
+    private final BlockEntityIndex blockRegionLookup = new BlockEntityIndex();
     private final Map<EntityRef, BlockRegion> blockRegions = Maps.newHashMap();
 
-    private final Set<EntityRef> temporaryBlockEntities = Sets.newLinkedHashSet();
+    /**
+     * Chunks that were unloaded since the last update, and are not loaded again.
+     */
+    private final Set<Vector3ic> unloadedChunks = Sets.newHashSet();
+
+    /**
+     * Temporary block entities are cleaned up together at the next update. The list may still hold entities that
+     * stopped being temporary since; only those whose id is in the set are cleaned up.
+     */
+    private final TLongSet temporaryBlockEntityIds = new TLongHashSet();
+    private List<EntityRef> temporaryBlockEntities = Lists.newArrayList();
+    private List<EntityRef> temporaryBlockEntityBatch = Lists.newArrayList();
 
     public EntityAwareWorldProvider(WorldProviderCore base, Context context) {
         super(base);
         entityManager = (EngineEntityManager) context.get(EntityManager.class);
+        blockManager = context.get(BlockManager.class);
         context.get(ComponentSystemManager.class).register(getTime());
     }
 
@@ -106,12 +128,8 @@ public Block setBlock(Vector3ic pos, Block type) {
         if (GameThread.isCurrentThread()) {
             EntityRef blockEntity = getBlockEntityAt(pos);
             Block oldType = super.setBlock(pos, type);
-            final Set<Class<? extends Component>> retainComponents =
-                    Optional.ofNullable(blockEntity.getComponent(RetainComponentsComponent.class))
-                            .map(retainComponentsComponent -> retainComponentsComponent.components)
-                            .orElse(Collections.emptySet());
             if (oldType != null) {
-                updateBlockEntity(blockEntity, pos, oldType, type, false, retainComponents);
+                updateBlockEntity(blockEntity, pos, oldType, type, false, retainedComponents(blockEntity));
             }
             return oldType;
         }
@@ -130,13 +148,8 @@ public Map<Vector3ic, Block> setBlocks(Map<? extends Vector3ic, Block> blocks) {
             for (Vector3ic vec : oldBlocks.keySet()) {
                 if (oldBlocks.get(vec) != null) {
                     EntityRef blockEntity = getBlockEntityAt(vec);
-
-                    // check for components to be retained when updating the block entity
-                    final Set<Class<? extends Component>> retainComponents =
-                            Optional.ofNullable(blockEntity.getComponent(RetainComponentsComponent.class))
-                                    .map(retainComponentsComponent -> retainComponentsComponent.components)
-                                    .orElse(Collections.emptySet());
-                    updateBlockEntity(blockEntity, vec, oldBlocks.get(vec), blocks.get(vec), false, retainComponents);
+                    updateBlockEntity(blockEntity, vec, oldBlocks.get(vec), blocks.get(vec), false,
+                            retainedComponents(blockEntity));
                 }
             }
             return oldBlocks;
@@ -144,6 +157,64 @@ public Map<Vector3ic, Block> setBlocks(Map<? extends Vector3ic, Block> blocks) {
         return null;
     }
 
+    /**
+     * Unlike {@link #setBlocks}, does not create an entity for every changed block. Block entities that already exist
+     * are updated as usual, and blocks that become keep active blocks get their entity now; both are sent an
+     * {@link OnChangedBlock}. The other changed blocks are reported together in a single {@link OnChangedBlocks} to the
+     * world entity, and to the block region entities covering them in an {@link OnChangedBlock} each.
+     */
+    @Override
+    public int setBlockIds(BlockRegionc region, short[] blockIds, short[] previousIds) {
+        if (!GameThread.isCurrentThread()) {
+            return 0;
+        }
+        short[] oldIds = (previousIds != null) ? previousIds : new short[region.volume()];
+        int changed = super.setBlockIds(region, blockIds, oldIds);
+        if (changed == 0) {
+            return 0;
+        }
+        short unloadedId = blockManager.getBlock(BlockManager.UNLOADED_ID).getId();
+        Vector3i pos = new Vector3i();
+        TIntList changedWithoutEntity = new TIntArrayList();
+        int index = 0;
+        for (int x = region.minX(); x <= region.maxX(); x++) {
+            for (int y = region.minY(); y <= region.maxY(); y++) {
+                for (int z = region.minZ(); z <= region.maxZ(); z++, index++) {
+                    if (oldIds[index] == blockIds[index] || oldIds[index] == unloadedId) {
+                        continue;
+                    }
+                    Block oldType = blockManager.getBlock(oldIds[index]);
+                    Block type = blockManager.getBlock(blockIds[index]);
+                    if (oldType == type) {
+                        continue;
+                    }
+                    pos.set(x, y, z);
+                    EntityRef blockEntity = blockEntityLookup.get(x, y, z);
+                    if (blockEntity != null) {
+                        updateBlockEntity(blockEntity, pos, oldType, type, false, retainedComponents(blockEntity));
+                        continue;
+                    }
+                    OnChangedBlock changedEvent = new OnChangedBlock(pos, type, oldType);
+                    EntityRef regionEntity = blockRegionLookup.get(x, y, z);
+                    if (regionEntity != null) {
+                        regionEntity.send(changedEvent);
+                    }
+                    if (type.isKeepActive()) {
+                        createBlockEntity(pos, type).send(changedEvent);
+                    } else {
+                        changedWithoutEntity.add(x);
+                        changedWithoutEntity.add(y);
+                        changedWithoutEntity.add(z);
+                    }
+                }
+            }
+        }
+        if (!changedWithoutEntity.isEmpty()) {
+            getWorldEntity().send(new OnChangedBlocks(changedWithoutEntity));
+        }
+        return changed;
+    }
+
     @Override
     @SafeVarargs
     public final Block setBlockRetainComponent(Vector3ic position, Block type, Class<? extends Component>... components) {
@@ -158,12 +229,21 @@ public final Block setBlockRetainComponent(Vector3ic position, Block type, Class
         return null;
     }
 
+    /**
+     * @return the components to be retained when updating the given block entity
+     */
+    private static Set<Class<? extends Component>> retainedComponents(EntityRef blockEntity) {
+        return Optional.ofNullable(blockEntity.getComponent(RetainComponentsComponent.class))
+                .map(retainComponentsComponent -> retainComponentsComponent.components)
+                .orElse(Collections.emptySet());
+    }
+
     private void updateBlockEntity(EntityRef blockEntity, Vector3ic pos, Block oldType, Block type,
                                    boolean forceEntityUpdate, Set<Class<? extends Component>> retainComponents) {
         if (type.isKeepActive()) {
-            temporaryBlockEntities.remove(blockEntity);
+            removeTemporaryBlockEntity(blockEntity);
         } else if (oldType.isKeepActive() && isTemporaryBlock(blockEntity, type)) {
-            temporaryBlockEntities.add(blockEntity);
+            addTemporaryBlockEntity(blockEntity);
         }
         if (forceEntityUpdate
                 || !(Objects.equal(oldType.getBlockFamily(), type.getBlockFamily())
@@ -172,7 +252,7 @@ private void updateBlockEntity(EntityRef blockEntity, Vector3ic pos, Block oldTy
         }
 
         OnChangedBlock changedEvent = new OnChangedBlock(pos, type, oldType);
-        EntityRef regionEntity = blockRegionLookup.get(pos);
+        EntityRef regionEntity = blockRegionLookup.get(pos.x(), pos.y(), pos.z());
         if (regionEntity != null) {
             regionEntity.send(changedEvent);
         }
@@ -183,8 +263,8 @@ private void updateBlockEntity(EntityRef blockEntity, Vector3ic pos, Block oldTy
     public EntityRef setPermanentBlockEntity(Vector3ic blockPosition, EntityRef blockEntity) {
         if (GameThread.isCurrentThread()) {
             EntityRef oldEntity = getExistingBlockEntityAt(blockPosition);
-            blockEntityLookup.put(new Vector3i(blockPosition), blockEntity);
-            temporaryBlockEntities.remove(blockEntity);
+            blockEntityLookup.put(blockPosition.x(), blockPosition.y(), blockPosition.z(), blockEntity);
+            removeTemporaryBlockEntity(blockEntity);
             return oldEntity;
         }
         logger.error("Attempted to set block entity off-thread");
@@ -194,7 +274,7 @@ public EntityRef setPermanentBlockEntity(Vector3ic blockPosition, EntityRef bloc
     @Override
     public EntityRef getExistingBlockEntityAt(Vector3ic blockPosition) {
         if (GameThread.isCurrentThread()) {
-            EntityRef result = blockEntityLookup.get(blockPosition);
+            EntityRef result = blockEntityLookup.get(blockPosition.x(), blockPosition.y(), blockPosition.z());
             return (result == null) ? EntityRef.NULL : result;
         }
         logger.error("Attempted to get block entity off-thread");
@@ -347,19 +427,19 @@ private EntityRef createBlockEntity(Vector3ic blockPosition, Block block) {
         EntityRef blockEntity;
         if (isTemporary) {
             blockEntity = builder.buildWithoutLifecycleEvents();
-            temporaryBlockEntities.add(blockEntity);
+            addTemporaryBlockEntity(blockEntity);
         } else {
             blockEntity = builder.build();
         }
 
-        blockEntityLookup.put(new Vector3i(blockPosition), blockEntity);
+        blockEntityLookup.put(blockPosition.x(), blockPosition.y(), blockPosition.z(), blockEntity);
         return blockEntity;
     }
 
     @Override
     public EntityRef getExistingEntityAt(Vector3ic blockPosition) {
         if (GameThread.isCurrentThread()) {
-            EntityRef result = blockRegionLookup.get(blockPosition);
+            EntityRef result = blockRegionLookup.get(blockPosition.x(), blockPosition.y(), blockPosition.z());
             if (result == null) {
                 return getExistingBlockEntityAt(blockPosition);
             }
@@ -386,8 +466,8 @@ public EntityRef getEntityAt(Vector3ic blockPosition) {
     @Override
     public boolean hasPermanentBlockEntity(Vector3ic blockPos) {
         if (GameThread.isCurrentThread()) {
-            EntityRef blockEntity = blockEntityLookup.get(blockPos);
-            return blockEntity != null && !temporaryBlockEntities.contains(blockEntity);
+            EntityRef blockEntity = blockEntityLookup.get(blockPos.x(), blockPos.y(), blockPos.z());
+            return blockEntity != null && !temporaryBlockEntityIds.contains(blockEntity.getId());
         }
         logger.error("Attempted check whether a block entity is permanent, off thread");
         return false;
@@ -396,7 +476,8 @@ public boolean hasPermanentBlockEntity(Vector3ic blockPos) {
     @ReceiveEvent(components = BlockComponent.class)
     public void onActivateBlock(OnActivatedComponent event, EntityRef entity) {
         BlockComponent block = entity.getComponent(BlockComponent.class);
-        EntityRef oldEntity = blockEntityLookup.put(block.getPosition(new Vector3i()), entity);
+        Vector3ic position = block.getPosition();
+        EntityRef oldEntity = blockEntityLookup.put(position.x(), position.y(), position.z(), entity);
         // If this is a client, then an existing block entity may exist. Destroy it.
         if (oldEntity != null && !Objects.equal(oldEntity, entity)) {
             oldEntity.destroy();
@@ -406,8 +487,35 @@ public void onActivateBlock(OnActivatedComponent event, EntityRef entity) {
     @ReceiveEvent(components = BlockComponent.class)
     public void onDeactivateBlock(BeforeDeactivateComponent event, EntityRef entity) {
         BlockComponent block = entity.getComponent(BlockComponent.class);
-        if (blockEntityLookup.get(block.getPosition()) == entity) {
-            blockEntityLookup.remove(block.getPosition());
+        Vector3ic position = block.getPosition();
+        blockEntityLookup.remove(position.x(), position.y(), position.z(), entity);
+    }
+
+    /**
+     * Marks the chunk for removal from the lookups. The block entities of the chunk are only deactivated after this
+     * event, and may still be looked up until then, so the partitions are dropped at the next update.
+     */
+    @ReceiveEvent(components = WorldComponent.class)
+    public void onChunkUnload(BeforeChunkUnload event, EntityRef worldEntity) {
+        unloadedChunks.add(new Vector3i(event.getChunkPos()));
+    }
+
+    /**
+     * Puts the positions of the chunk that are covered by a still active block region back into the region lookup.
+     */
+    @ReceiveEvent(components = WorldComponent.class)
+    public void onChunkLoaded(OnChunkLoaded event, EntityRef worldEntity) {
+        Vector3ic chunkPos = event.getChunkPos();
+        unloadedChunks.remove(chunkPos);
+        BlockRegion chunkRegion = new BlockRegion(chunkPos.x() << Chunks.POWER_X, chunkPos.y() << Chunks.POWER_Y,
+                chunkPos.z() << Chunks.POWER_Z).setSize(Chunks.CHUNK_SIZE);
+        BlockRegion overlap = new BlockRegion(BlockRegion.INVALID);
+        for (Map.Entry<EntityRef, BlockRegion> entry : blockRegions.entrySet()) {
+            if (entry.getValue().intersect(chunkRegion, overlap).isPresent()) {
+                for (Vector3ic pos : overlap) {
+                    blockRegionLookup.put(pos.x(), pos.y(), pos.z(), entry.getKey());
+                }
+            }
         }
     }
 
@@ -416,7 +524,7 @@ public void onBlockRegionActivated(OnActivatedComponent event, EntityRef entity)
         BlockRegionComponent regionComp = entity.getComponent(BlockRegionComponent.class);
         blockRegions.put(entity, regionComp.region);
         for (Vector3ic pos : regionComp.region) {
-            blockRegionLookup.put(new Vector3i(pos), entity);
+            blockRegionLookup.put(pos.x(), pos.y(), pos.z(), entity);
         }
     }
 
@@ -424,12 +532,12 @@ public void onBlockRegionActivated(OnActivatedComponent event, EntityRef entity)
     public void onBlockRegionChanged(OnChangedComponent event, EntityRef entity) {
         BlockRegion oldRegion = blockRegions.get(entity);
         for (Vector3ic pos : oldRegion) {
-            blockRegionLookup.remove(pos);
+            blockRegionLookup.remove(pos.x(), pos.y(), pos.z(), entity);
         }
         BlockRegionComponent regionComp = entity.getComponent(BlockRegionComponent.class);
         blockRegions.put(entity, regionComp.region);
         for (Vector3ic pos : regionComp.region) {
-            blockRegionLookup.put(new Vector3i(pos), entity);
+            blockRegionLookup.put(pos.x(), pos.y(), pos.z(), entity);
         }
     }
 
@@ -437,22 +545,62 @@ public void onBlockRegionChanged(OnChangedComponent event, EntityRef entity) {
     public void onBlockRegionDeactivated(BeforeDeactivateComponent event, EntityRef entity) {
         BlockRegion oldRegion = blockRegions.get(entity);
         for (Vector3ic pos : oldRegion) {
-            blockRegionLookup.remove(pos);
+            blockRegionLookup.remove(pos.x(), pos.y(), pos.z(), entity);
         }
         blockRegions.remove(entity);
     }
 
     @Override
     public void update(float delta) {
+        dropUnloadedChunks();
         PerformanceMonitor.startActivity("Temp Blocks Cleanup");
-        List<EntityRef> toRemove = Lists.newArrayList(temporaryBlockEntities);
-        temporaryBlockEntities.clear();
-        toRemove.forEach(this::cleanUpTemporaryEntity);
+        // cleaning up can make further block entities temporary, which are left for the next update
+        List<EntityRef> batch = temporaryBlockEntities;
+        temporaryBlockEntities = temporaryBlockEntityBatch;
+        temporaryBlockEntityBatch = batch;
+        int count = 0;
+        for (EntityRef entity : batch) {
+            if (temporaryBlockEntityIds.remove(entity.getId())) {
+                batch.set(count++, entity);
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            cleanUpTemporaryEntity(batch.get(i));
+        }
+        batch.clear();
         PerformanceMonitor.endActivity();
     }
 
+    /**
+     * Drops both lookups of the chunks unloaded since the last update. Their permanent block entities are deactivated
+     * by now, so this only drops entities that are already destroyed and the positions of block regions that extend
+     * into the chunk.
+     */
+    private void dropUnloadedChunks() {
+        for (Vector3ic chunkPos : unloadedChunks) {
+            blockEntityLookup.removeChunk(chunkPos.x(), chunkPos.y(), chunkPos.z());
+            blockRegionLookup.removeChunk(chunkPos.x(), chunkPos.y(), chunkPos.z());
+        }
+        unloadedChunks.clear();
+    }
+
+    private void addTemporaryBlockEntity(EntityRef entity) {
+        if (temporaryBlockEntityIds.add(entity.getId())) {
+            temporaryBlockEntities.add(entity);
+        }
+    }
+
+    private void removeTemporaryBlockEntity(EntityRef entity) {
+        temporaryBlockEntityIds.remove(entity.getId());
+    }
+
     private void cleanUpTemporaryEntity(EntityRef entity) {
         Prefab prefab = entity.getParentPrefab();
+        BlockComponent blockComponent = entity.getComponent(BlockComponent.class);
+        if (blockComponent != null) {
+            Vector3ic position = blockComponent.getPosition();
+            blockEntityLookup.remove(position.x(), position.y(), position.z(), entity);
+        }
 
         for (Component comp : entity.iterateComponents()) {
             //TODO: should this also check for components listed in `RetainComponentsComponent`?
@@ -489,8 +637,9 @@ private void cleanUpTemporaryEntity(EntityRef entity) {
 
     @Override
     public void onEntityComponentAdded(EntityRef entity, Class<? extends Component> component) {
-        if (temporaryBlockEntities.contains(entity) && entityManager.getComponentLibrary().getMetadata(component).isForceBlockActive()) {
-            temporaryBlockEntities.remove(entity);
+        if (temporaryBlockEntityIds.contains(entity.getId())
+                && entityManager.getComponentLibrary().getMetadata(component).isForceBlockActive()) {
+            removeTemporaryBlockEntity(entity);
             if (!entity.hasComponent(NetworkComponent.class)) {
                 entity.addComponent(new NetworkComponent());
             }
@@ -509,7 +658,7 @@ public void onEntityComponentRemoved(EntityRef entity, Class<? extends Component
                 Vector3ic blockPosition = blockComp.getPosition();
                 Block block = getBlock(blockPosition.x(), blockPosition.y(), blockPosition.z());
                 if (isTemporaryBlock(entity, block, component)) {
-                    temporaryBlockEntities.add(entity);
+                    addTemporaryBlockEntity(entity);
                 }
             }
         }
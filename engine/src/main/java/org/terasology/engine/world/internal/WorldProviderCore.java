@@ -2,6 +2,7 @@
 // SPDX-License-Identifier: Apache-2.0
 package org.terasology.engine.world.internal;
 
+import com.google.common.base.Preconditions;
 import com.google.common.collect.Maps;
 import org.joml.Vector3ic;
 import org.terasology.engine.entitySystem.entity.EntityRef;
@@ -113,6 +114,43 @@ default Map<Vector3ic, Block> setBlocks(Map<? extends Vector3ic, Block> blocks)
         return resultMap;
     }
 
+    /**
+     * Reads the ids of all blocks in a region at once.
+     * <p>
+     * The ids are stored in the order in which the region iterates its positions: z changes fastest, then y, then x.
+     * Blocks in chunks that are not loaded read as the unloaded block.
+     *
+     * @param region the blocks to read
+     * @param dest receives the block ids, must hold at least {@link BlockRegionc#volume()} values
+     * @return dest
+     */
+    default short[] getBlockIds(BlockRegionc region, short[] dest) {
+        Preconditions.checkArgument(dest.length >= region.volume(), "Destination too small for region");
+        int index = 0;
+        for (int x = region.minX(); x <= region.maxX(); x++) {
+            for (int y = region.minY(); y <= region.maxY(); y++) {
+                for (int z = region.minZ(); z <= region.maxZ(); z++) {
+                    dest[index++] = getBlock(x, y, z).getId();
+                }
+            }
+        }
+        return dest;
+    }
+
+    /**
+     * Places the blocks with the given ids in a region at once.
+     * <p>
+     * The ids are in the order of {@link #getBlockIds(BlockRegionc, short[])}. Blocks in chunks that are not loaded are
+     * left alone. Listeners are notified through {@link WorldChangeListener#onBlocksChanged} once per chunk.
+     *
+     * @param region the blocks to place
+     * @param blockIds the ids of the blocks to place
+     * @param previousIds if not null, receives the ids of the blocks that were replaced, or of the unloaded block
+     *                    where a chunk was not loaded
+     * @return the number of blocks that changed
+     */
+    int setBlockIds(BlockRegionc region, short[] blockIds, short[] previousIds);
+
     /**
      * Returns the block at the given position.
      *
@@ -3,6 +3,7 @@
 
 package org.terasology.engine.world.internal;
 
+import com.google.common.base.Preconditions;
 import com.google.common.base.Predicate;
 import com.google.common.collect.FluentIterable;
 import com.google.common.collect.Lists;
@@ -16,6 +17,7 @@
 import org.terasology.engine.world.WorldChangeListener;
 import org.terasology.engine.world.WorldComponent;
 import org.terasology.engine.world.block.Block;
+import org.terasology.engine.world.block.BlockManager;
 import org.terasology.engine.world.block.BlockRegion;
 import org.terasology.engine.world.block.BlockRegionc;
 import org.terasology.engine.world.chunks.Chunk;
@@ -36,10 +38,13 @@
 import org.terasology.engine.world.time.WorldTime;
 import org.terasology.engine.world.time.WorldTimeImpl;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -54,6 +59,7 @@ public class WorldProviderCoreImpl implements WorldProviderCore {
     private ChunkProvider chunkProvider;
     private WorldTime worldTime;
     private EntityManager entityManager;
+    private BlockManager blockManager;
 
     private final List<WorldChangeListener> listeners = Lists.newArrayList();
 
@@ -70,6 +76,7 @@ public WorldProviderCoreImpl(String title, String seed, long time, SimpleUri wor
         this.chunkProvider = chunkProvider;
         this.unloadedBlock = unloadedBlock;
         this.entityManager = context.get(EntityManager.class);
+        this.blockManager = context.get(BlockManager.class);
         context.put(ChunkProvider.class, chunkProvider);
 
         this.worldTime = new WorldTimeImpl();
@@ -181,12 +188,7 @@ public Block setBlock(Vector3ic worldPos, Block type) {
             Vector3i blockPos = Chunks.toRelative(worldPos, new Vector3i());
             Block oldBlockType = chunk.setBlock(blockPos, type);
             if (oldBlockType != type) {
-                BlockChange oldChange = blockChanges.get(worldPos);
-                if (oldChange == null) {
-                    blockChanges.put(new Vector3i(worldPos), new BlockChange(worldPos, oldBlockType, type));
-                } else {
-                    oldChange.setTo(type);
-                }
+                recordChange(worldPos, oldBlockType, type);
                 setDirtyChunksNear(worldPos);
                 notifyBlockChanged(worldPos, type, oldBlockType);
             }
@@ -202,7 +204,7 @@ public Map<Vector3ic, Block> setBlocks(Map<? extends Vector3ic, Block> blocks) {
          * Hint: This method has a benchmark available in the BenchmarkScreen, The screen can be opened ingame via the
          * command "showSCreen BenchmarkScreen".
          */
-        Set<BlockChange> changedBlocks = new HashSet<>();
+        Map<Vector3i, ChunkChanges> changesByChunk = new LinkedHashMap<>();
         Map<Vector3ic, Block> result = new HashMap<>(blocks.size());
 
         Vector3i chunkPos = new Vector3i();
@@ -214,17 +216,11 @@ public Map<Vector3ic, Block> setBlocks(Map<? extends Vector3ic, Block> blocks) {
 
             if (chunk != null) {
                 Block type = entry.getValue();
-               Chunks.toRelative(worldPos, relativePos);
+                Chunks.toRelative(worldPos, relativePos);
                 Block oldBlockType = chunk.setBlock(relativePos, type);
                 if (oldBlockType != type) {
-                    BlockChange oldChange = blockChanges.get(worldPos);
-                    if (oldChange == null) {
-                        blockChanges.put(new Vector3i(worldPos), new BlockChange(worldPos, oldBlockType, type));
-                    } else {
-                        oldChange.setTo(type);
-                    }
-                    setDirtyChunksNear(worldPos);
-                    changedBlocks.add(new BlockChange(worldPos, oldBlockType, type));
+                    recordChange(worldPos, oldBlockType, type);
+                    changesOf(changesByChunk, chunkPos).add(worldPos, oldBlockType, type);
                 }
                 result.put(worldPos, oldBlockType);
             } else {
@@ -232,11 +228,154 @@ public Map<Vector3ic, Block> setBlocks(Map<? extends Vector3ic, Block> blocks) {
             }
         }
 
-        for (BlockChange change : changedBlocks) {
-            notifyBlockChanged(change.getPosition(), change.getTo(), change.getFrom());
+        commitChanges(changesByChunk);
+        return result;
+    }
+
+    @Override
+    public short[] getBlockIds(BlockRegionc region, short[] dest) {
+        Preconditions.checkArgument(dest.length >= region.volume(), "Destination too small for region");
+        short unloadedId = unloadedBlock.getId();
+        BlockRegion part = new BlockRegion(BlockRegion.INVALID);
+        for (Vector3ic chunkPos : Chunks.toChunkRegion(region, new BlockRegion(BlockRegion.INVALID))) {
+            Chunk chunk = chunkProvider.getChunk(chunkPos);
+            chunkPart(region, chunkPos, part);
+            for (int x = part.minX(); x <= part.maxX(); x++) {
+                for (int y = part.minY(); y <= part.maxY(); y++) {
+                    int index = indexOf(region, x, y, part.minZ());
+                    if (chunk == null) {
+                        Arrays.fill(dest, index, index + part.getSizeZ(), unloadedId);
+                        continue;
+                    }
+                    int relativeX = Chunks.toRelativeX(x);
+                    int relativeY = Chunks.toRelativeY(y);
+                    for (int z = part.minZ(); z <= part.maxZ(); z++) {
+                        dest[index++] = chunk.getBlockId(relativeX, relativeY, Chunks.toRelativeZ(z));
+                    }
+                }
+            }
         }
+        return dest;
+    }
 
-        return result;
+    @Override
+    public int setBlockIds(BlockRegionc region, short[] blockIds, short[] previousIds) {
+        Preconditions.checkArgument(blockIds.length >= region.volume(), "Too few block ids for region");
+        Preconditions.checkArgument(previousIds == null || previousIds.length >= region.volume(),
+                "Previous ids too small for region");
+        Map<Vector3i, ChunkChanges> changesByChunk = new LinkedHashMap<>();
+        short unloadedId = unloadedBlock.getId();
+        BlockRegion part = new BlockRegion(BlockRegion.INVALID);
+        Vector3i worldPos = new Vector3i();
+        int changed = 0;
+        for (Vector3ic chunkPos : Chunks.toChunkRegion(region, new BlockRegion(BlockRegion.INVALID))) {
+            Chunk chunk = chunkProvider.getChunk(chunkPos);
+            chunkPart(region, chunkPos, part);
+            ChunkChanges chunkChanges = null;
+            for (int x = part.minX(); x <= part.maxX(); x++) {
+                for (int y = part.minY(); y <= part.maxY(); y++) {
+                    int index = indexOf(region, x, y, part.minZ());
+                    if (chunk == null) {
+                        if (previousIds != null) {
+                            Arrays.fill(previousIds, index, index + part.getSizeZ(), unloadedId);
+                        }
+                        continue;
+                    }
+                    int relativeX = Chunks.toRelativeX(x);
+                    int relativeY = Chunks.toRelativeY(y);
+                    for (int z = part.minZ(); z <= part.maxZ(); z++, index++) {
+                        int relativeZ = Chunks.toRelativeZ(z);
+                        short oldId = chunk.getBlockId(relativeX, relativeY, relativeZ);
+                        if (previousIds != null) {
+                            previousIds[index] = oldId;
+                        }
+                        if (oldId == blockIds[index]) {
+                            continue;
+                        }
+                        Block type = blockManager.getBlock(blockIds[index]);
+                        Block oldBlockType = chunk.setBlock(relativeX, relativeY, relativeZ, type);
+                        if (oldBlockType == type) {
+                            continue;
+                        }
+                        worldPos.set(x, y, z);
+                        recordChange(worldPos, oldBlockType, type);
+                        if (chunkChanges == null) {
+                            chunkChanges = changesOf(changesByChunk, chunkPos);
+                        }
+                        chunkChanges.add(worldPos, oldBlockType, type);
+                        changed++;
+                    }
+                }
+            }
+        }
+        commitChanges(changesByChunk);
+        return changed;
+    }
+
+    /**
+     * @return the index of the given position in an array holding the blocks of the region, see
+     *         {@link WorldProviderCore#getBlockIds(BlockRegionc, short[])}
+     */
+    private static int indexOf(BlockRegionc region, int x, int y, int z) {
+        return ((x - region.minX()) * region.getSizeY() + (y - region.minY())) * region.getSizeZ()
+                + (z - region.minZ());
+    }
+
+    /**
+     * Sets dest to the part of the region that lies within the given chunk.
+     */
+    private static BlockRegion chunkPart(BlockRegionc region, Vector3ic chunkPos, BlockRegion dest) {
+        return dest.set(
+                Math.max(region.minX(), chunkPos.x() << Chunks.POWER_X),
+                Math.max(region.minY(), chunkPos.y() << Chunks.POWER_Y),
+                Math.max(region.minZ(), chunkPos.z() << Chunks.POWER_Z),
+                Math.min(region.maxX(), ((chunkPos.x() + 1) << Chunks.POWER_X) - 1),
+                Math.min(region.maxY(), ((chunkPos.y() + 1) << Chunks.POWER_Y) - 1),
+                Math.min(region.maxZ(), ((chunkPos.z() + 1) << Chunks.POWER_Z) - 1));
+    }
+
+    private static ChunkChanges changesOf(Map<Vector3i, ChunkChanges> changesByChunk, Vector3ic chunkPos) {
+        ChunkChanges chunkChanges = changesByChunk.get(chunkPos);
+        if (chunkChanges == null) {
+            chunkChanges = new ChunkChanges();
+            changesByChunk.put(new Vector3i(chunkPos), chunkChanges);
+        }
+        return chunkChanges;
+    }
+
+    /**
+     * Remembers a change for the next propagation, merging it with an earlier change of the same block.
+     */
+    private void recordChange(Vector3ic worldPos, Block oldType, Block type) {
+        BlockChange oldChange = blockChanges.get(worldPos);
+        if (oldChange == null) {
+            blockChanges.put(new Vector3i(worldPos), new BlockChange(worldPos, oldType, type));
+        } else {
+            oldChange.setTo(type);
+        }
+    }
+
+    /**
+     * Marks every chunk containing or bordering one of the changes as dirty, each chunk once, then notifies the
+     * listeners once per changed chunk.
+     */
+    private void commitChanges(Map<Vector3i, ChunkChanges> changesByChunk) {
+        Set<Vector3i> dirtied = new HashSet<>();
+        BlockRegion chunkRegion = new BlockRegion(BlockRegion.INVALID);
+        for (ChunkChanges chunkChanges : changesByChunk.values()) {
+            BlockRegion bounds = chunkChanges.bounds.expand(1, 1, 1);
+            for (Vector3ic pos : Chunks.toChunkRegion(bounds, chunkRegion)) {
+                if (dirtied.add(new Vector3i(pos))) {
+                    Chunk dirtiedChunk = chunkProvider.getChunk(pos);
+                    if (dirtiedChunk != null) {
+                        dirtiedChunk.setDirty(true);
+                    }
+                }
+            }
+        }
+        for (Map.Entry<Vector3i, ChunkChanges> entry : changesByChunk.entrySet()) {
+            notifyBlocksChanged(entry.getKey(), entry.getValue().changes);
+        }
     }
 
     private void setDirtyChunksNear(Vector3ic worldPos) {
@@ -259,6 +398,14 @@ private void notifyBlockChanged(Vector3ic pos, Block type, Block oldType) {
         }
     }
 
+    private void notifyBlocksChanged(Vector3ic chunkPos, List<BlockChange> changes) {
+        synchronized (listeners) {
+            for (WorldChangeListener listener : listeners) {
+                listener.onBlocksChanged(chunkPos, changes);
+            }
+        }
+    }
+
     private void notifyExtraDataChanged(int index, Vector3ic pos, int newData, int oldData) {
         // TODO: Change to match block , if those changes are made.
         synchronized (listeners) {
@@ -354,4 +501,17 @@ public Collection<BlockRegionc> getRelevantRegions() {
 
         return FluentIterable.from(chunks).filter(isReady).transform(Chunk::getRegion).toList();
     }
+
+    /**
+     * The blocks a bulk change changed in a single chunk.
+     */
+    private static final class ChunkChanges {
+        private final List<BlockChange> changes = new ArrayList<>();
+        private final BlockRegion bounds = new BlockRegion(BlockRegion.INVALID);
+
+        void add(Vector3ic worldPos, Block oldType, Block type) {
+            changes.add(new BlockChange(worldPos, oldType, type));
+            bounds.union(worldPos);
+        }
+    }
 }
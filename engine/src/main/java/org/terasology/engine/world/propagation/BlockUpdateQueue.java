@@ -0,0 +1,198 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.world.propagation;
+
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
+import org.joml.Vector3i;
+import org.joml.Vector3ic;
+import org.terasology.engine.world.chunks.Chunks;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.function.Consumer;
+
+/**
+ * A work queue of block positions that still have to be updated, such as the blocks next to a mass edit.
+ * <p>
+ * Every chunk with queued positions has a bitset with one bit per block, so a position queued several times is only
+ * processed once and the queue takes no memory per position. Positions are processed chunk by chunk, in the order the
+ * chunks were first queued, so that the world is read with good locality. Positions queued while processing are
+ * processed in the same pass, which lets changes propagate until they settle.
+ * <p>
+ * Not thread safe.
+ */
+public final class BlockUpdateQueue {
+    private static final int BLOCKS_PER_CHUNK = 1 << (Chunks.POWER_X + Chunks.POWER_Y + Chunks.POWER_Z);
+    private static final int WORDS_PER_CHUNK = BLOCKS_PER_CHUNK / Long.SIZE;
+    private static final int CHUNK_COORDINATE_BITS = 21;
+    private static final long CHUNK_COORDINATE_MASK = (1L << CHUNK_COORDINATE_BITS) - 1;
+    /** How many positions are processed between two looks at the clock. */
+    private static final int CLOCK_INTERVAL = 64;
+    private static final int MAX_SPARE_BITSETS = 8;
+
+    private final TLongObjectMap<DirtyChunk> dirtyChunks = new TLongObjectHashMap<>();
+    private final Deque<DirtyChunk> chunkQueue = new ArrayDeque<>();
+    private final Deque<long[]> spareBitsets = new ArrayDeque<>();
+    private final Vector3i current = new Vector3i();
+    private int size;
+
+    /**
+     * Queues the given position, unless it is already queued.
+     *
+     * @return whether the position was not queued yet
+     */
+    public boolean add(int x, int y, int z) {
+        int chunkX = Chunks.toChunkPosX(x);
+        int chunkY = Chunks.toChunkPosY(y);
+        int chunkZ = Chunks.toChunkPosZ(z);
+        long chunkKey = chunkKey(chunkX, chunkY, chunkZ);
+        DirtyChunk chunk = dirtyChunks.get(chunkKey);
+        if (chunk == null) {
+            long[] bits = spareBitsets.poll();
+            chunk = new DirtyChunk(chunkX, chunkY, chunkZ, bits != null ? bits : new long[WORDS_PER_CHUNK]);
+            dirtyChunks.put(chunkKey, chunk);
+            chunkQueue.add(chunk);
+        }
+        int index = blockIndex(x, y, z);
+        int word = index >>> 6;
+        long mask = 1L << index;
+        if ((chunk.bits[word] & mask) != 0) {
+            return false;
+        }
+        chunk.bits[word] |= mask;
+        chunk.firstWord = Math.min(chunk.firstWord, word);
+        chunk.count++;
+        size++;
+        return true;
+    }
+
+    public boolean add(Vector3ic pos) {
+        return add(pos.x(), pos.y(), pos.z());
+    }
+
+    public boolean contains(int x, int y, int z) {
+        DirtyChunk chunk = dirtyChunks.get(chunkKey(Chunks.toChunkPosX(x), Chunks.toChunkPosY(y),
+                Chunks.toChunkPosZ(z)));
+        if (chunk == null) {
+            return false;
+        }
+        int index = blockIndex(x, y, z);
+        return (chunk.bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Removes the next queued position.
+     *
+     * @param dest receives the position
+     * @return false if the queue was empty, in which case dest is left alone
+     */
+    public boolean poll(Vector3i dest) {
+        DirtyChunk chunk = chunkQueue.peek();
+        if (chunk == null) {
+            return false;
+        }
+        while (chunk.bits[chunk.firstWord] == 0) {
+            chunk.firstWord++;
+        }
+        long word = chunk.bits[chunk.firstWord];
+        int index = chunk.firstWord << 6 | Long.numberOfTrailingZeros(word);
+        chunk.bits[chunk.firstWord] = word & (word - 1);
+        chunk.count--;
+        size--;
+        dest.set(
+                chunk.chunkX << Chunks.POWER_X | index >>> (Chunks.POWER_Y + Chunks.POWER_Z),
+                chunk.chunkY << Chunks.POWER_Y | (index >>> Chunks.POWER_Z) & Chunks.INNER_CHUNK_POS_FILTER_Y,
+                chunk.chunkZ << Chunks.POWER_Z | index & Chunks.INNER_CHUNK_POS_FILTER_Z);
+        if (chunk.count == 0) {
+            chunkQueue.poll();
+            release(chunk);
+        }
+        return true;
+    }
+
+    /**
+     * Passes queued positions to the consumer until the queue is empty or the time budget is used up, in which case
+     * the remaining positions stay queued for the next call. At least one position is processed per call.
+     *
+     * @param consumer receives every position; the vector is reused, and the consumer may queue new positions
+     * @param budgetNanos the time this call may take
+     * @return the number of positions processed
+     */
+    public int process(Consumer<Vector3ic> consumer, long budgetNanos) {
+        long deadline = System.nanoTime() + budgetNanos;
+        int processed = 0;
+        while (poll(current)) {
+            consumer.accept(current);
+            processed++;
+            if (processed % CLOCK_INTERVAL == 0 && System.nanoTime() - deadline > 0) {
+                break;
+            }
+        }
+        return processed;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return the number of chunks with queued positions
+     */
+    public int chunkCount() {
+        return dirtyChunks.size();
+    }
+
+    public void clear() {
+        for (DirtyChunk chunk : chunkQueue) {
+            Arrays.fill(chunk.bits, 0);
+            if (spareBitsets.size() < MAX_SPARE_BITSETS) {
+                spareBitsets.add(chunk.bits);
+            }
+        }
+        chunkQueue.clear();
+        dirtyChunks.clear();
+        size = 0;
+    }
+
+    private void release(DirtyChunk chunk) {
+        dirtyChunks.remove(chunkKey(chunk.chunkX, chunk.chunkY, chunk.chunkZ));
+        // the bitset is empty again, as every bit was cleared when it was polled
+        if (spareBitsets.size() < MAX_SPARE_BITSETS) {
+            spareBitsets.add(chunk.bits);
+        }
+    }
+
+    private static long chunkKey(int chunkX, int chunkY, int chunkZ) {
+        return (chunkX & CHUNK_COORDINATE_MASK) << (2 * CHUNK_COORDINATE_BITS)
+                | (chunkY & CHUNK_COORDINATE_MASK) << CHUNK_COORDINATE_BITS
+                | (chunkZ & CHUNK_COORDINATE_MASK);
+    }
+
+    private static int blockIndex(int x, int y, int z) {
+        return (Chunks.toRelativeX(x) << Chunks.POWER_Y | Chunks.toRelativeY(y)) << Chunks.POWER_Z
+                | Chunks.toRelativeZ(z);
+    }
+
+    private static final class DirtyChunk {
+        private final int chunkX;
+        private final int chunkY;
+        private final int chunkZ;
+        private final long[] bits;
+        /** No bit is set before this word. */
+        private int firstWord;
+        private int count;
+
+        DirtyChunk(int chunkX, int chunkY, int chunkZ, long[] bits) {
+            this.chunkX = chunkX;
+            this.chunkY = chunkY;
+            this.chunkZ = chunkZ;
+            this.bits = bits;
+        }
+    }
+}
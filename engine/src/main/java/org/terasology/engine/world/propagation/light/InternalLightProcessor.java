@@ -8,6 +8,7 @@
 import org.terasology.engine.world.block.Block;
 import org.terasology.engine.world.chunks.Chunk;
 import org.terasology.engine.world.chunks.Chunks;
+import org.terasology.engine.world.chunks.blockdata.TeraSectionedArray;
 import org.terasology.engine.world.propagation.BatchPropagator;
 import org.terasology.engine.world.propagation.PropagationRules;
 import org.terasology.engine.world.propagation.SingleChunkView;
@@ -43,13 +44,20 @@ public static void generateInternalLighting(Chunk chunk, int scale) {
     private static void populateLight(Chunk chunk, int scale) {
         BatchPropagator lightPropagator = new StandardBatchPropagator(LIGHT_RULES, new SingleChunkView(LIGHT_RULES, chunk), scale);
         Vector3i pos = new Vector3i();
-        for (int x = 0; x < Chunks.SIZE_X; x++) {
-            for (int z = 0; z < Chunks.SIZE_Z; z++) {
-                for (int y = 0; y < Chunks.SIZE_Y; y++) {
-                    Block block = chunk.getBlock(x, y, z);
-                    if (block.getLuminance() > 0) {
-                        chunk.setLight(x, y, z, block.getLuminance());
-                        lightPropagator.propagateFrom(pos.set(x, y, z), block.getLuminance());
+        for (int minY = 0; minY < Chunks.SIZE_Y; minY += TeraSectionedArray.SECTION_SIZE_Y) {
+            int maxY = minY + TeraSectionedArray.SECTION_SIZE_Y;
+            Block uniform = chunk.getUniformBlock(minY, maxY - 1);
+            if (uniform != null && uniform.getLuminance() == 0) {
+                continue;
+            }
+            for (int x = 0; x < Chunks.SIZE_X; x++) {
+                for (int z = 0; z < Chunks.SIZE_Z; z++) {
+                    for (int y = minY; y < maxY; y++) {
+                        Block block = chunk.getBlock(x, y, z);
+                        if (block.getLuminance() > 0) {
+                            chunk.setLight(x, y, z, block.getLuminance());
+                            lightPropagator.propagateFrom(pos.set(x, y, z), block.getLuminance());
+                        }
                     }
                 }
             }
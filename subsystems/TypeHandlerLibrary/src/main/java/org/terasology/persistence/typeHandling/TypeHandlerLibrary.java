@@ -3,7 +3,6 @@
 
 package org.terasology.persistence.typeHandling;
 
-import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import org.reflections.Reflections;
 import org.slf4j.Logger;
@@ -38,11 +37,17 @@
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * A library of type handlers. This is used for the construction of class metadata. This library should be initialised
  * by adding a number of base type handlers, describing how to serialize each supported type. It will then produce
  * serializers for classes (through their ClassMetadata) on request.
+ * <p>
+ * Type handlers and serializers may be requested from any thread. Resolved handlers are memoized, with an additional
+ * cache keyed directly by {@link Class} so that lookups for plain classes such as primitives, vectors or entity
+ * references do not have to build a {@link TypeInfo}. Adding type handlers, factories or instance creators clears
+ * the memoized handlers, and is expected to happen during setup rather than concurrently with lookups.
  */
 public class TypeHandlerLibrary {
     private static final Logger logger = LoggerFactory.getLogger(TypeHandlerLibrary.class);
@@ -54,10 +59,11 @@ public class TypeHandlerLibrary {
      */
     private final ThreadLocal<Map<TypeInfo<?>, FutureTypeHandler<?>>> futureTypeHandlers = new ThreadLocal<>();
     private final SerializationSandbox sandbox;
-    private final List<TypeHandlerFactory> typeHandlerFactories = Lists.newArrayList();
-    private final Map<Type, InstanceCreator<?>> instanceCreators = Maps.newHashMap();
-    private final Map<TypeInfo<?>, TypeHandler<?>> typeHandlerCache = Maps.newHashMap();
-    private final Map<ClassMetadata<?, ?>, Serializer> serializerMap = Maps.newHashMap();
+    private final List<TypeHandlerFactory> typeHandlerFactories = new CopyOnWriteArrayList<>();
+    private final Map<Type, InstanceCreator<?>> instanceCreators = Maps.newConcurrentMap();
+    private final Map<TypeInfo<?>, TypeHandler<?>> typeHandlerCache = Maps.newConcurrentMap();
+    private final Map<Class<?>, TypeHandler<?>> classTypeHandlerCache = Maps.newConcurrentMap();
+    private final Map<ClassMetadata<?, ?>, Serializer> serializerMap = Maps.newConcurrentMap();
 
     protected TypeHandlerLibrary(SerializationSandbox sandbox) {
         this.sandbox = sandbox;
@@ -127,7 +133,10 @@ public Serializer getSerializerFor(ClassMetadata<?, ?> type) {
         if (serializer == null) {
             Map<FieldMetadata<?, ?>, TypeHandler> fieldHandlerMap = getFieldHandlerMap(type);
             serializer = new Serializer(type, fieldHandlerMap);
-            serializerMap.put(type, serializer);
+            Serializer existing = serializerMap.putIfAbsent(type, serializer);
+            if (existing != null) {
+                serializer = existing;
+            }
         }
         return serializer;
     }
@@ -138,6 +147,7 @@ public Serializer getSerializerFor(ClassMetadata<?, ?> type) {
      */
     public void addTypeHandlerFactory(TypeHandlerFactory typeHandlerFactory) {
         typeHandlerFactories.add(typeHandlerFactory);
+        clearCaches();
     }
 
     /**
@@ -197,6 +207,16 @@ public <T> void addInstanceCreator(Class<T> typeClass, InstanceCreator<T> instan
      */
     public <T> void addInstanceCreator(TypeInfo<T> typeInfo, InstanceCreator<T> instanceCreator) {
         instanceCreators.put(typeInfo.getType(), instanceCreator);
+        clearCaches();
+    }
+
+    /**
+     * Forgets all memoized type handlers and serializers, so that they are resolved again with the current factories.
+     */
+    private void clearCaches() {
+        typeHandlerCache.clear();
+        classTypeHandlerCache.clear();
+        serializerMap.clear();
     }
 
     /**
@@ -211,6 +231,12 @@ public <T> void addInstanceCreator(TypeInfo<T> typeInfo, InstanceCreator<T> inst
      */
     @SuppressWarnings("unchecked")
     public Optional<TypeHandler<?>> getTypeHandler(Type type) {
+        if (type instanceof Class) {
+            TypeHandler<?> cached = classTypeHandlerCache.get(type);
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+        }
         TypeInfo typeInfo = TypeInfo.of(type);
         return (Optional<TypeHandler<?>>) getTypeHandler(typeInfo);
     }
@@ -226,7 +252,12 @@ public Optional<TypeHandler<?>> getTypeHandler(Type type) {
      * @param <T> The type for which to retrieve the {@link TypeHandler}.
      * @return The {@link TypeHandler} for the specified type, if available.
      */
+    @SuppressWarnings("unchecked")
     public <T> Optional<TypeHandler<T>> getTypeHandler(Class<T> typeClass) {
+        TypeHandler<T> cached = (TypeHandler<T>) classTypeHandlerCache.get(typeClass);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
         return getTypeHandler(TypeInfo.of(typeClass));
     }
 
@@ -243,12 +274,13 @@ public <T> Optional<TypeHandler<T>> getTypeHandler(Class<T> typeClass) {
      */
     @SuppressWarnings("unchecked")
     public <T> Optional<TypeHandler<T>> getTypeHandler(TypeInfo<T> type) {
-        TypeHandlerContext context = new TypeHandlerContext(this, sandbox);
-
-        if (typeHandlerCache.containsKey(type)) {
-            return Optional.of((TypeHandler<T>) typeHandlerCache.get(type));
+        TypeHandler<T> cached = (TypeHandler<T>) typeHandlerCache.get(type);
+        if (cached != null) {
+            return Optional.of(cached);
         }
 
+        TypeHandlerContext context = new TypeHandlerContext(this, sandbox);
+
         Map<TypeInfo<?>, FutureTypeHandler<?>> futures = futureTypeHandlers.get();
         boolean cleanupFutureTypeHandlers = false;
 
@@ -280,7 +312,14 @@ public <T> Optional<TypeHandler<T>> getTypeHandler(TypeInfo<T> type) {
                         continue;
                     }
 
-                    typeHandlerCache.put(type, handler);
+                    // Another thread may have resolved the same type concurrently; agree on a single instance
+                    TypeHandler<T> existing = (TypeHandler<T>) typeHandlerCache.putIfAbsent(type, handler);
+                    if (existing != null) {
+                        handler = existing;
+                    }
+                    if (type.getType() instanceof Class) {
+                        classTypeHandlerCache.putIfAbsent((Class<?>) type.getType(), handler);
+                    }
                     future.typeHandler = handler;
 
                     return Optional.of(handler);
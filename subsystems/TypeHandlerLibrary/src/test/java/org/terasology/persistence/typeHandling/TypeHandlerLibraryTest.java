@@ -8,6 +8,7 @@
 import org.terasology.persistence.typeHandling.coreTypes.CollectionTypeHandler;
 import org.terasology.persistence.typeHandling.coreTypes.EnumTypeHandler;
 import org.terasology.persistence.typeHandling.coreTypes.GenericMapTypeHandler;
+import org.terasology.persistence.typeHandling.coreTypes.IntTypeHandler;
 import org.terasology.persistence.typeHandling.coreTypes.ObjectFieldMapTypeHandler;
 import org.terasology.persistence.typeHandling.coreTypes.RuntimeDelegatingTypeHandler;
 import org.terasology.persistence.typeHandling.coreTypes.StringMapTypeHandler;
@@ -18,7 +19,15 @@
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
-
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class TypeHandlerLibraryTest {
@@ -88,6 +97,41 @@ void testGetBaseTypeHandler() {
         assertTrue(handler instanceof RuntimeDelegatingTypeHandler);
     }
 
+    @Test
+    void testConcurrentLookupsAgreeOnHandler() throws Exception {
+        TypeHandlerLibrary library = new TypeHandlerLibrary(
+                new Reflections(TypeHandlerLibraryTest.class.getClassLoader()));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<TypeHandler<AMappedContainer>>> lookups = IntStream.range(0, 64)
+                    .mapToObj(i -> (Callable<TypeHandler<AMappedContainer>>)
+                            () -> library.getTypeHandler(AMappedContainer.class).get())
+                    .collect(Collectors.toList());
+            List<Future<TypeHandler<AMappedContainer>>> results = executor.invokeAll(lookups);
+
+            TypeHandler<AMappedContainer> expected = library.getTypeHandler(AMappedContainer.class).get();
+            assertTrue(expected instanceof ObjectFieldMapTypeHandler);
+            for (Future<TypeHandler<AMappedContainer>> result : results) {
+                assertSame(expected, result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testAddingHandlerReplacesCachedHandler() {
+        TypeHandlerLibrary library = new TypeHandlerLibrary(
+                new Reflections(TypeHandlerLibraryTest.class.getClassLoader()));
+        TypeHandler<Integer> original = library.getTypeHandler(Integer.class).get();
+
+        IntTypeHandler replacement = new IntTypeHandler();
+        library.addTypeHandler(Integer.class, replacement);
+
+        assertNotSame(original, library.getTypeHandler(Integer.class).get());
+        assertSame(replacement, library.getTypeHandler(Integer.class).get());
+    }
+
     private enum AnEnum { }
 
     @MappedContainer